@@ -0,0 +1,53 @@
+package com.example.api_server.common.concurrent;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 크기와 대기열이 제한된 실행기 생성 유틸리티
+ * 타이밍 휠 스레드처럼 막히면 안 되는 스레드에서 DB 작업을 넘길 때 사용하며,
+ * 대기열이 가득 차면 RejectedExecutionException을 던지므로 호출 측이 재시도 등으로 처리해야 함
+ */
+public final class BoundedExecutors {
+
+    private BoundedExecutors() {
+    }
+
+    /**
+     * 고정 크기 데몬 스레드 풀 생성
+     *
+     * @param namePrefix 스레드 이름 접두사 (뒤에 일련번호가 붙음)
+     * @param threads 스레드 수
+     * @param queueCapacity 대기열 크기 (넘으면 RejectedExecutionException)
+     */
+    public static ExecutorService newFixed(String namePrefix, int threads, int queueCapacity) {
+        AtomicLong sequence = new AtomicLong();
+        int size = Math.max(1, threads);
+        return new ThreadPoolExecutor(size, size, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, namePrefix + sequence.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 실행기 종료 (진행 중인 작업을 timeoutMillis까지 기다린 뒤 남은 작업은 인터럽트)
+     */
+    public static void shutdown(ExecutorService executor, long timeoutMillis) {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
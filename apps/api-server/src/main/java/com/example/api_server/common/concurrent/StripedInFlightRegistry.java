@@ -0,0 +1,89 @@
+package com.example.api_server.common.concurrent;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 진행 중인 작업 레지스트리 (키 해시로 나눈 스트라이프별 락)
+ * 같은 키의 작업을 한 노드 안에서 하나만 실행하고, 나중에 온 요청은 먼저 시작한 작업의 결과를 함께 받도록 함
+ *
+ * - 키 해시로 스트라이프를 고르고, 스트라이프마다 락과 맵을 따로 두어 서로 다른 키끼리는 대부분 경합하지 않음
+ * - 락은 등록/조회/해제 동안만 잡으므로 작업 실행 시간과 무관하게 짧음
+ *
+ * @param <K> 작업 키 타입
+ * @param <V> 작업 결과 타입
+ */
+public final class StripedInFlightRegistry<K, V> {
+
+    private final ReentrantLock[] locks;
+    private final Map<K, CompletableFuture<V>>[] inFlight;
+    private final int mask;
+
+    /**
+     * @param stripes 스트라이프 수 (2의 거듭제곱으로 올림)
+     */
+    @SuppressWarnings("unchecked")
+    public StripedInFlightRegistry(int stripes) {
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.locks = new ReentrantLock[size];
+        this.inFlight = new Map[size];
+        for (int i = 0; i < size; i++) {
+            locks[i] = new ReentrantLock();
+            inFlight[i] = new HashMap<>();
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * 키에 진행 중인 작업이 없으면 owner를 등록
+     *
+     * @return 이미 진행 중인 작업의 future (없어서 owner를 등록했으면 null)
+     */
+    public CompletableFuture<V> registerIfAbsent(K key, CompletableFuture<V> owner) {
+        int stripe = stripe(key);
+        ReentrantLock lock = locks[stripe];
+        lock.lock();
+        try {
+            return inFlight[stripe].putIfAbsent(key, owner);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 작업 완료 후 등록 해제 (owner가 등록한 작업일 때만)
+     */
+    public void remove(K key, CompletableFuture<V> owner) {
+        int stripe = stripe(key);
+        ReentrantLock lock = locks[stripe];
+        lock.lock();
+        try {
+            inFlight[stripe].remove(key, owner);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 진행 중인 작업 수
+     */
+    public int size() {
+        int size = 0;
+        for (int i = 0; i < locks.length; i++) {
+            locks[i].lock();
+            try {
+                size += inFlight[i].size();
+            } finally {
+                locks[i].unlock();
+            }
+        }
+        return size;
+    }
+
+    private int stripe(K key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.api_server.common.concurrent;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가상 스레드 실행기 생성 유틸리티
+ * 빌드 대상은 Java 17이므로 Java 21 API(Thread.ofVirtual, Executors.newThreadPerTaskExecutor)를 리플렉션으로 호출하고,
+ * 가상 스레드를 지원하지 않는 런타임에서는 데몬 플랫폼 스레드를 쓰는 캐시 스레드 풀로 대체
+ */
+@Slf4j
+public final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * 작업마다 새 가상 스레드를 만드는 실행기 생성 (미지원 런타임이면 캐시 스레드 풀)
+     * 동시 실행 수 제한이 없으므로 호출 측에서 벌크헤드 등으로 제한해야 함
+     *
+     * @param namePrefix 스레드 이름 접두사 (뒤에 일련번호가 붙음)
+     */
+    public static ExecutorService newPerTaskExecutor(String namePrefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> ofVirtual = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            builder = ofVirtual.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            ThreadFactory factory = (ThreadFactory) Class.forName("java.lang.Thread$Builder")
+                    .getMethod("factory").invoke(builder);
+            Method newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return (ExecutorService) newThreadPerTaskExecutor.invoke(null, factory);
+        } catch (ReflectiveOperationException e) {
+            log.info("Virtual threads not available on Java {}, falling back to platform threads - prefix: {}",
+                    Runtime.version().feature(), namePrefix);
+            return Executors.newCachedThreadPool(daemonThreadFactory(namePrefix));
+        }
+    }
+
+    /**
+     * 현재 런타임이 가상 스레드를 지원하는지 여부
+     */
+    public static boolean isSupported() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static ThreadFactory daemonThreadFactory(String namePrefix) {
+        AtomicLong sequence = new AtomicLong();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + sequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
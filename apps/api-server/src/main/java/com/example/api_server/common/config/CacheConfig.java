@@ -0,0 +1,15 @@
+package com.example.api_server.common.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 캐시 설정
+ * 캐시 인터셉터를 트랜잭션 인터셉터보다 바깥에 두어, 캐시 히트 시에는 트랜잭션(DB 커넥션)을 열지 않도록 함
+ * 캐시 종류/크기/TTL은 application.yml의 spring.cache.* 설정을 따름
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+}
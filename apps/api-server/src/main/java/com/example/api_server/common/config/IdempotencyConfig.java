@@ -0,0 +1,35 @@
+package com.example.api_server.common.config;
+
+import com.example.api_server.common.idempotency.IdempotencyFilter;
+import com.example.api_server.common.idempotency.IdempotencyStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Idempotency-Key 설정
+ * 주문 생성(POST /api/orders, /api/orders/batch)과 결제 승인(POST /api/payments/approve) 앞단에 IdempotencyFilter를 등록
+ * 비동기 결제 승인 응답을 보관하기 위해 ASYNC 디스패치에도 적용
+ */
+@Configuration
+public class IdempotencyConfig {
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(
+            IdempotencyStore idempotencyStore,
+            ObjectMapper objectMapper,
+            @Value("${app.idempotency.wait-timeout:15s}") Duration waitTimeout,
+            @Value("${app.idempotency.stripes:64}") int stripes) {
+        FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(
+                new IdempotencyFilter(idempotencyStore, objectMapper, waitTimeout, stripes));
+        registration.addUrlPatterns("/api/orders", "/api/orders/*", "/api/payments/*");
+        registration.setDispatcherTypes(DispatcherType.REQUEST, DispatcherType.ASYNC);
+        registration.setAsyncSupported(true);
+        return registration;
+    }
+}
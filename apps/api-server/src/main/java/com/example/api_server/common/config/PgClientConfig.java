@@ -0,0 +1,48 @@
+package com.example.api_server.common.config;
+
+import com.example.api_server.payment.client.AimdConcurrencyLimiter;
+import com.example.api_server.payment.client.MockPgClient;
+import com.example.api_server.payment.client.PgCircuitBreaker;
+import com.example.api_server.payment.client.PgClient;
+import com.example.api_server.payment.client.ResilientPgClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * PG 클라이언트 설정
+ * 실제 PG 연동 구현체(MockPgClient)를 서킷 브레이커와 적응형 동시 호출 한도로 감싼 클라이언트를 기본(PgClient) 빈으로 등록
+ */
+@Configuration
+public class PgClientConfig {
+
+    @Bean
+    @Primary
+    public PgClient resilientPgClient(
+            MockPgClient delegate,
+            MeterRegistry meterRegistry,
+            @Value("${app.payment.pg.circuit-breaker.window-size:50}") int windowSize,
+            @Value("${app.payment.pg.circuit-breaker.minimum-calls:20}") int minimumCalls,
+            @Value("${app.payment.pg.circuit-breaker.failure-rate-threshold:50}") int failureRateThreshold,
+            @Value("${app.payment.pg.circuit-breaker.open-duration:10s}") Duration openDuration,
+            @Value("${app.payment.pg.circuit-breaker.half-open-calls:5}") int halfOpenCalls,
+            @Value("${app.payment.pg.circuit-breaker.slow-call-threshold:2s}") Duration slowCallThreshold,
+            @Value("${app.payment.pg.circuit-breaker.failure-codes:PG_SYSTEM_ERROR,PG_UNAVAILABLE,PG_TIMEOUT}") Set<String> failureCodes,
+            @Value("${app.payment.pg.limiter.initial-limit:20}") int initialLimit,
+            @Value("${app.payment.pg.limiter.min-limit:4}") int minLimit,
+            @Value("${app.payment.pg.max-concurrent-calls:64}") int maxLimit,
+            @Value("${app.payment.pg.limiter.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${app.payment.pg.limiter.latency-tolerance:2.0}") double latencyTolerance,
+            @Value("${app.payment.pg.limiter.probe-interval:1000}") int probeInterval) {
+        PgCircuitBreaker circuitBreaker = new PgCircuitBreaker(
+                windowSize, minimumCalls, failureRateThreshold, openDuration, halfOpenCalls);
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(
+                initialLimit, minLimit, maxLimit, backoffRatio, latencyTolerance, probeInterval);
+        return new ResilientPgClient(delegate, circuitBreaker, limiter, failureCodes, slowCallThreshold, meterRegistry);
+    }
+}
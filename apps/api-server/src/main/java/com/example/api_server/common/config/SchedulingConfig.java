@@ -0,0 +1,13 @@
+package com.example.api_server.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * 재고 원장 반영 등 주기 작업(@Scheduled)을 활성화
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,32 @@
+package com.example.api_server.common.config;
+
+import com.example.api_server.common.concurrent.VirtualThreads;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * 가상 스레드 실행 프로파일(virtual-threads) 확인
+ * spring.threads.virtual.enabled는 Java 21 미만 런타임에서 경고 없이 무시되므로, 플랫폼 스레드로 동작하게 되면 기동 시 알림
+ *
+ * 가상 스레드 고정(pinning) 점검 결과
+ * - synchronized 구간(SnowflakeOrderIdGenerator, PgCircuitBreaker, AimdConcurrencyLimiter)은 I/O 없이 짧게 끝나므로 고정 영향 없음
+ * - PG 호출과 JDBC 호출은 synchronized 밖에서 수행되며, HikariCP와 MySQL Connector/J 9.x는 내부 잠금이 ReentrantLock 기반
+ * - 고정 발생 여부는 JFR jdk.VirtualThreadPinned 이벤트(./gradlew bootRun -Pjfr, 20ms 이상)로 확인
+ */
+@Slf4j
+@Configuration
+@Profile("virtual-threads")
+public class VirtualThreadsConfig {
+
+    @PostConstruct
+    void checkRuntime() {
+        if (VirtualThreads.isSupported()) {
+            log.info("Virtual threads enabled for request handling and PG calls - java: {}", Runtime.version().feature());
+        } else {
+            log.warn("virtual-threads profile is active but Java {} has no virtual threads, running on platform threads",
+                    Runtime.version().feature());
+        }
+    }
+}
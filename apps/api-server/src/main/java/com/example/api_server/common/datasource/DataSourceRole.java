@@ -0,0 +1,9 @@
+package com.example.api_server.common.datasource;
+
+/**
+ * 라우팅 대상 데이터소스
+ */
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,35 @@
+package com.example.api_server.common.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 데이터소스 라우팅 지정
+ * 읽기 전용 트랜잭션이라도 방금 쓴 데이터를 읽어야 하는 구간은 주 DB로 고정
+ * 트랜잭션의 첫 쿼리 전에 지정해야 하며, 이미 커넥션을 얻은 트랜잭션에는 영향 없음
+ */
+public final class DataSourceRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+    private DataSourceRouting() {
+    }
+
+    /**
+     * action 안에서 얻는 커넥션을 모두 주 DB로 고정
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        if (isPrimaryForced()) {
+            return action.get();
+        }
+        PRIMARY_FORCED.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            PRIMARY_FORCED.remove();
+        }
+    }
+
+    public static boolean isPrimaryForced() {
+        return PRIMARY_FORCED.get() != null;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.api_server.common.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 최근 쓰기 추적 (read-your-writes)
+ * 사용자/주문 단위로 쓰기 시각을 window 동안 기억하고, 그 사이의 읽기는 복제 지연과 무관하게 주 DB에서 수행
+ * 복제본 라우팅(app.datasource.replica.enabled)이 꺼져 있으면 아무것도 기억하지 않음
+ */
+@Component
+public class RecentWriteTracker {
+
+    private final Cache<String, Boolean> recentWrites;
+
+    @Autowired
+    public RecentWriteTracker(
+            @Value("${app.datasource.replica.enabled:false}") boolean enabled,
+            @Value("${app.datasource.replica.read-your-writes-window:2s}") Duration window) {
+        this(enabled, window, Ticker.systemTicker());
+    }
+
+    RecentWriteTracker(boolean enabled, Duration window, Ticker ticker) {
+        this.recentWrites = enabled
+                ? Caffeine.newBuilder().expireAfterWrite(window).ticker(ticker).build()
+                : null;
+    }
+
+    public static String userKey(Long userId) {
+        return "user:" + userId;
+    }
+
+    public static String orderKey(String orderId) {
+        return "order:" + orderId;
+    }
+
+    /**
+     * 쓰기 기록 (window 동안 해당 키의 읽기를 주 DB로 고정)
+     */
+    public void markWritten(String... keys) {
+        if (recentWrites == null) {
+            return;
+        }
+        for (String key : keys) {
+            recentWrites.put(key, Boolean.TRUE);
+        }
+    }
+
+    public boolean isRecentlyWritten(String key) {
+        return recentWrites != null && recentWrites.getIfPresent(key) != null;
+    }
+
+    /**
+     * 읽기 수행: 최근에 쓴 키면 주 DB, 아니면 라우팅 규칙(읽기 전용 → 복제본)을 따름
+     */
+    public <T> T read(String key, Supplier<T> action) {
+        return isRecentlyWritten(key) ? DataSourceRouting.onPrimary(action) : action.get();
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.api_server.common.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * 복제본 지연 감시
+ * 주기적으로 복제 지연을 측정해 max-lag 이하일 때만 복제본 읽기를 허용
+ * 측정 실패(복제본 장애), 복제 중단, 지연 초과 시 읽기 전용 트랜잭션도 주 DB로 보냄
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final ReplicaLagProbe probe;
+    private final Duration maxLag;
+
+    private volatile boolean replicaUsable;
+    private volatile Duration lastLag;
+
+    public ReplicaLagMonitor(ReplicaLagProbe probe, Duration maxLag) {
+        this.probe = probe;
+        this.maxLag = maxLag;
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    /**
+     * @return 마지막으로 측정한 지연 (측정 실패 또는 복제 중단이면 null)
+     */
+    public Duration getLastLag() {
+        return lastLag;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval-ms:1000}")
+    public void check() {
+        Duration lag;
+        try {
+            lag = probe.measure();
+        } catch (SQLException | RuntimeException e) {
+            log.warn("Failed to measure replica lag - {}", e.getMessage());
+            lag = null;
+        }
+        lastLag = lag;
+
+        boolean usable = lag != null && lag.compareTo(maxLag) <= 0;
+        if (usable != replicaUsable) {
+            if (usable) {
+                log.info("Replica reads enabled - lag: {}ms", lag.toMillis());
+            } else {
+                log.warn("Replica reads routed to primary - lag: {}, maxLag: {}ms",
+                        lag == null ? "unknown" : lag.toMillis() + "ms", maxLag.toMillis());
+            }
+        }
+        replicaUsable = usable;
+    }
+
+    /**
+     * 복제 지연 측정
+     */
+    @FunctionalInterface
+    public interface ReplicaLagProbe {
+
+        /**
+         * @return 복제 지연 (복제가 중단되었으면 null)
+         */
+        Duration measure() throws SQLException;
+
+        /**
+         * 복제본 DB 종류에 맞는 측정 방식
+         * - MySQL: SHOW REPLICA STATUS의 Seconds_Behind_Source (복제 설정이 없는 독립 인스턴스면 지연 0)
+         * - 그 외(H2 등 복제 없음): 연결 가능 여부만 확인하고 지연 0
+         */
+        static ReplicaLagProbe forDataSource(DataSource replica) {
+            return () -> {
+                try (Connection connection = replica.getConnection()) {
+                    String product = connection.getMetaData().getDatabaseProductName();
+                    if (!"MySQL".equalsIgnoreCase(product)) {
+                        return Duration.ZERO;
+                    }
+                    try (Statement statement = connection.createStatement();
+                         ResultSet status = statement.executeQuery("SHOW REPLICA STATUS")) {
+                        if (!status.next()) {
+                            return Duration.ZERO;
+                        }
+                        long seconds = status.getLong("Seconds_Behind_Source");
+                        return status.wasNull() ? null : Duration.ofSeconds(seconds);
+                    }
+                }
+            };
+        }
+    }
+}
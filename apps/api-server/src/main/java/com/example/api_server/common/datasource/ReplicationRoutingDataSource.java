@@ -0,0 +1,67 @@
+package com.example.api_server.common.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 주/복제본 라우팅 데이터소스
+ * 읽기 전용 트랜잭션은 복제본, 그 외(쓰기 트랜잭션, 트랜잭션 밖 호출)는 주 DB로 보냄
+ * 복제본이라도 다음 경우는 주 DB로 보냄
+ * - DataSourceRouting.onPrimary 구간 (최근 쓰기 읽기 등)
+ * - 복제 지연이 max-lag를 넘었거나 복제본 상태를 알 수 없을 때
+ *
+ * 트랜잭션 시작 시점에는 읽기 전용 여부가 아직 설정되지 않으므로 반드시 LazyConnectionDataSourceProxy로 감싸
+ * 첫 쿼리 시점에 대상을 결정해야 함
+ * 라우팅 결과는 datasource.routing 카운터(target, reason 태그)로 기록
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor lagMonitor;
+
+    private final Counter writes;
+    private final Counter replicaReads;
+    private final Counter pinnedReads;
+    private final Counter lagFallbacks;
+
+    public ReplicationRoutingDataSource(DataSource primary, DataSource replica,
+                                        ReplicaLagMonitor lagMonitor, MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.writes = routingCounter(meterRegistry, DataSourceRole.PRIMARY, "write");
+        this.replicaReads = routingCounter(meterRegistry, DataSourceRole.REPLICA, "read");
+        this.pinnedReads = routingCounter(meterRegistry, DataSourceRole.PRIMARY, "read_your_writes");
+        this.lagFallbacks = routingCounter(meterRegistry, DataSourceRole.PRIMARY, "replica_lag");
+        setTargetDataSources(Map.of(DataSourceRole.PRIMARY, primary, DataSourceRole.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            writes.increment();
+            return DataSourceRole.PRIMARY;
+        }
+        if (DataSourceRouting.isPrimaryForced()) {
+            pinnedReads.increment();
+            return DataSourceRole.PRIMARY;
+        }
+        if (!lagMonitor.isReplicaUsable()) {
+            lagFallbacks.increment();
+            return DataSourceRole.PRIMARY;
+        }
+        replicaReads.increment();
+        return DataSourceRole.REPLICA;
+    }
+
+    private static Counter routingCounter(MeterRegistry meterRegistry, DataSourceRole target, String reason) {
+        return Counter.builder("datasource.routing")
+                .description("Connections acquired per routing target")
+                .tag("target", target.name().toLowerCase())
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.api_server.common.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서(키셋) 기반 페이지 응답 DTO
+ * 다음 페이지는 nextCursor 값을 그대로 다시 전달하여 조회
+ */
+@Getter
+@Builder
+public class CursorPageResponse<T> {
+
+    /**
+     * 현재 페이지 항목
+     */
+    private final List<T> items;
+
+    /**
+     * 다음 페이지 조회용 커서 (마지막 페이지면 null)
+     */
+    private final String nextCursor;
+
+    /**
+     * 다음 페이지 존재 여부
+     */
+    private final boolean hasNext;
+
+    public static <T> CursorPageResponse<T> of(List<T> items, String nextCursor) {
+        return CursorPageResponse.<T>builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasNext(nextCursor != null)
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package com.example.api_server.common.exception;
 
 import com.example.api_server.common.dto.ErrorResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -37,7 +38,9 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler({
             OrderNotPayableException.class,
-            PaymentAlreadyApprovedException.class
+            PaymentAlreadyApprovedException.class,
+            PaymentInProgressException.class,
+            StockConflictException.class
     })
     public ResponseEntity<ErrorResponse> handleConflictException(BusinessException ex) {
         log.warn("Conflict Exception: {}", ex.getMessage());
@@ -53,7 +56,9 @@ public class GlobalExceptionHandler {
             OutOfStockException.class,
             QuantityInvalidException.class,
             AmountMismatchException.class,
-            PgApprovalFailedException.class
+            PgApprovalFailedException.class,
+            InvalidCursorException.class,
+            InvalidOrderBatchException.class
     })
     public ResponseEntity<ErrorResponse> handleBadRequestException(BusinessException ex) {
         log.warn("Bad Request Exception: {}", ex.getMessage());
@@ -61,6 +66,38 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
+    /**
+     * 503 SERVICE UNAVAILABLE 예외 처리 (외부 연동 과부하)
+     */
+    @ExceptionHandler(PgBulkheadFullException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailableException(BusinessException ex) {
+        log.warn("Service Unavailable Exception: {}", ex.getMessage());
+        ErrorResponse errorResponse = ErrorResponse.of(ex.getErrorCode(), ex.getMessage(), ex.getDetail());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
+    /**
+     * 503 SERVICE UNAVAILABLE 예외 처리 (외부 연동 장애, 다시 시도할 수 있는 시각을 Retry-After로 전달)
+     */
+    @ExceptionHandler(PgUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handlePgUnavailableException(PgUnavailableException ex) {
+        log.warn("Service Unavailable Exception: {}", ex.getMessage());
+        ErrorResponse errorResponse = ErrorResponse.of(ex.getErrorCode(), ex.getMessage(), ex.getDetail());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
+    /**
+     * 504 GATEWAY TIMEOUT 예외 처리 (외부 연동 응답 지연)
+     */
+    @ExceptionHandler(PgTimeoutException.class)
+    public ResponseEntity<ErrorResponse> handleGatewayTimeoutException(BusinessException ex) {
+        log.warn("Gateway Timeout Exception: {}", ex.getMessage());
+        ErrorResponse errorResponse = ErrorResponse.of(ex.getErrorCode(), ex.getMessage(), ex.getDetail());
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(errorResponse);
+    }
+
     /**
      * Validation 예외 처리 (Bean Validation)
      */
@@ -0,0 +1,15 @@
+package com.example.api_server.common.exception;
+
+/**
+ * 같은 Idempotency-Key의 요청이 아직 처리 중일 때 발생하는 예외 (다른 노드에서 처리 중이거나 대기 시간 초과)
+ * HTTP Status: 409 CONFLICT (IdempotencyFilter가 직접 응답)
+ */
+public class IdempotencyKeyInUseException extends BusinessException {
+
+    private static final String ERROR_CODE = "IDEMPOTENCY_KEY_IN_USE";
+    private static final String DEFAULT_MESSAGE = "같은 멱등 키의 요청을 처리 중입니다. 잠시 후 다시 시도해 주세요.";
+
+    public IdempotencyKeyInUseException(String idempotencyKey) {
+        super(ERROR_CODE, DEFAULT_MESSAGE, "Idempotency-Key: " + idempotencyKey);
+    }
+}
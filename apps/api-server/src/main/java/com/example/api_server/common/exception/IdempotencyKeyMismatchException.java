@@ -0,0 +1,15 @@
+package com.example.api_server.common.exception;
+
+/**
+ * Idempotency-Key가 다른 요청(메서드/경로/본문)에 이미 사용되었을 때 발생하는 예외
+ * HTTP Status: 422 UNPROCESSABLE CONTENT (IdempotencyFilter가 직접 응답)
+ */
+public class IdempotencyKeyMismatchException extends BusinessException {
+
+    private static final String ERROR_CODE = "IDEMPOTENCY_KEY_MISMATCH";
+    private static final String DEFAULT_MESSAGE = "다른 요청에 사용된 멱등 키입니다.";
+
+    public IdempotencyKeyMismatchException(String idempotencyKey, String fingerprint) {
+        super(ERROR_CODE, DEFAULT_MESSAGE, "Idempotency-Key: " + idempotencyKey + ", Previous request: " + fingerprint);
+    }
+}
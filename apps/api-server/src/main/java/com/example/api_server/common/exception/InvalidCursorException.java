@@ -0,0 +1,19 @@
+package com.example.api_server.common.exception;
+
+/**
+ * 페이지 커서를 해석할 수 없을 때 발생하는 예외
+ * HTTP Status: 400 BAD REQUEST
+ */
+public class InvalidCursorException extends BusinessException {
+
+    private static final String ERROR_CODE = "INVALID_CURSOR";
+    private static final String DEFAULT_MESSAGE = "유효하지 않은 페이지 커서입니다.";
+
+    public InvalidCursorException() {
+        super(ERROR_CODE, DEFAULT_MESSAGE);
+    }
+
+    public InvalidCursorException(String cursor) {
+        super(ERROR_CODE, DEFAULT_MESSAGE, "Cursor: " + cursor);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.api_server.common.exception;
+
+/**
+ * Idempotency-Key 헤더 값이 비어 있거나 너무 길 때 발생하는 예외
+ * HTTP Status: 400 BAD REQUEST (IdempotencyFilter가 직접 응답)
+ */
+public class InvalidIdempotencyKeyException extends BusinessException {
+
+    private static final String ERROR_CODE = "INVALID_IDEMPOTENCY_KEY";
+    private static final String DEFAULT_MESSAGE = "유효하지 않은 멱등 키입니다.";
+
+    public InvalidIdempotencyKeyException(int maxLength) {
+        super(ERROR_CODE, DEFAULT_MESSAGE, "Idempotency-Key must be 1~" + maxLength + " characters");
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.api_server.common.exception;
+
+/**
+ * 일괄 주문 요청 본문을 처리할 수 없을 때 발생하는 예외 (주문 배열이 아니거나 최대 건수 초과)
+ * HTTP Status: 400 BAD REQUEST
+ */
+public class InvalidOrderBatchException extends BusinessException {
+
+    private static final String ERROR_CODE = "INVALID_ORDER_BATCH";
+    private static final String DEFAULT_MESSAGE = "유효하지 않은 일괄 주문 요청입니다.";
+
+    public InvalidOrderBatchException(String detail) {
+        super(ERROR_CODE, DEFAULT_MESSAGE, detail);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.api_server.common.exception;
+
+/**
+ * 같은 주문의 결제 승인이 진행 중이거나 결과 확인 중일 때 발생하는 예외
+ * HTTP Status: 409 CONFLICT
+ */
+public class PaymentInProgressException extends BusinessException {
+
+    private static final String ERROR_CODE = "PAYMENT_IN_PROGRESS";
+    private static final String DEFAULT_MESSAGE = "결제 승인이 진행 중입니다. 잠시 후 결제 결과를 확인해 주세요.";
+
+    public PaymentInProgressException() {
+        super(ERROR_CODE, DEFAULT_MESSAGE);
+    }
+
+    public PaymentInProgressException(String orderId) {
+        super(ERROR_CODE, DEFAULT_MESSAGE, "Order ID: " + orderId);
+    }
+}
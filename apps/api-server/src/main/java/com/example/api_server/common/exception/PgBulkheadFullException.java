@@ -0,0 +1,20 @@
+package com.example.api_server.common.exception;
+
+/**
+ * 동시에 진행 중인 PG 호출이 한도에 도달해 요청을 거절할 때 발생하는 예외
+ * PG를 호출하지 않았으므로 결제는 기록되지 않으며 다시 시도할 수 있음
+ * HTTP Status: 503 SERVICE UNAVAILABLE
+ */
+public class PgBulkheadFullException extends BusinessException {
+
+    private static final String ERROR_CODE = "PG_BUSY";
+    private static final String DEFAULT_MESSAGE = "결제 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.";
+
+    public PgBulkheadFullException() {
+        super(ERROR_CODE, DEFAULT_MESSAGE);
+    }
+
+    public PgBulkheadFullException(int maxConcurrentCalls) {
+        super(ERROR_CODE, DEFAULT_MESSAGE, "Max concurrent PG calls: " + maxConcurrentCalls);
+    }
+}
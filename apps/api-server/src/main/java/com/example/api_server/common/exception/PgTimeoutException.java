@@ -0,0 +1,20 @@
+package com.example.api_server.common.exception;
+
+/**
+ * PG 승인 응답이 제한 시간 안에 오지 않았을 때 발생하는 예외
+ * 승인 여부를 알 수 없으므로 결제는 REQUESTED로 남고 복구 스케줄러가 PG 결과를 조회해 마감
+ * HTTP Status: 504 GATEWAY TIMEOUT
+ */
+public class PgTimeoutException extends BusinessException {
+
+    private static final String ERROR_CODE = "PG_TIMEOUT";
+    private static final String DEFAULT_MESSAGE = "PG 응답이 지연되고 있습니다. 잠시 후 결제 결과를 확인해 주세요.";
+
+    public PgTimeoutException() {
+        super(ERROR_CODE, DEFAULT_MESSAGE);
+    }
+
+    public PgTimeoutException(String orderId, long timeoutMillis) {
+        super(ERROR_CODE, DEFAULT_MESSAGE, String.format("Order ID: %s, Timeout: %dms", orderId, timeoutMillis));
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.api_server.common.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * PG 장애로 서킷 브레이커가 열려 결제 승인을 거절할 때 발생하는 예외
+ * PG를 호출하지 않았으므로 결제는 기록되지 않으며, retryAfterSeconds 뒤에 다시 시도할 수 있음
+ * HTTP Status: 503 SERVICE UNAVAILABLE (Retry-After 헤더 포함)
+ */
+@Getter
+public class PgUnavailableException extends BusinessException {
+
+    private static final String ERROR_CODE = "PG_UNAVAILABLE";
+    private static final String DEFAULT_MESSAGE = "PG 장애로 결제 승인을 일시 중단했습니다. 잠시 후 다시 시도해 주세요.";
+
+    private final long retryAfterSeconds;
+
+    public PgUnavailableException(Duration retryAfter) {
+        this(Math.max(1, (retryAfter.toMillis() + 999) / 1000));
+    }
+
+    private PgUnavailableException(long retryAfterSeconds) {
+        super(ERROR_CODE, DEFAULT_MESSAGE, "Retry after: " + retryAfterSeconds + "s");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.api_server.common.exception;
+
+/**
+ * 재고 차감 중 다른 요청과 충돌했을 때 발생하는 예외 (낙관적 락 버전 불일치)
+ * HTTP Status: 409 CONFLICT
+ */
+public class StockConflictException extends BusinessException {
+
+    private static final String ERROR_CODE = "STOCK_CONFLICT";
+    private static final String DEFAULT_MESSAGE = "재고 변경이 충돌했습니다. 다시 시도해 주세요.";
+
+    public StockConflictException() {
+        super(ERROR_CODE, DEFAULT_MESSAGE);
+    }
+
+    public StockConflictException(Long productId) {
+        super(ERROR_CODE, DEFAULT_MESSAGE, "Product ID: " + productId);
+    }
+}
@@ -0,0 +1,313 @@
+package com.example.api_server.common.idempotency;
+
+import com.example.api_server.common.concurrent.StripedInFlightRegistry;
+import com.example.api_server.common.dto.ErrorResponse;
+import com.example.api_server.common.exception.BusinessException;
+import com.example.api_server.common.exception.IdempotencyKeyInUseException;
+import com.example.api_server.common.exception.IdempotencyKeyMismatchException;
+import com.example.api_server.common.exception.InvalidIdempotencyKeyException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Idempotency-Key 필터 (주문 생성, 일괄 주문 생성, 결제 승인 앞단, IdempotencyConfig에서 등록)
+ * 모바일 클라이언트가 타임아웃 후 같은 Idempotency-Key로 재시도하면, 다시 실행하지 않고 처음 응답을 재전송함
+ *
+ * - Idempotency-Key 헤더가 있는 POST 요청만 처리하고, 없으면 그대로 통과
+ * - 최근 완료된 키는 노드 로컬 캐시에서, 그 외에는 idempotency_keys 테이블에서 찾음 (IdempotencyStore)
+ * - 같은 노드에서 같은 키의 요청이 진행 중이면 새로 실행하지 않고 먼저 온 요청의 결과를 wait-timeout까지 기다림
+ * - 다른 노드에서 진행 중이거나 대기 시간을 넘으면 409 IDEMPOTENCY_KEY_IN_USE
+ * - 요청 지문은 메서드, 경로, 본문의 SHA-256 해시이며, 같은 키를 다른 요청(경로나 본문이 다름)에 쓰면 422 IDEMPOTENCY_KEY_MISMATCH
+ * - 인증된 호출자면 키를 호출자별로 구분하여 보관 (다른 호출자가 같은 키를 보내도 서로의 응답을 재전송하지 않음)
+ * - 업무상 확정된 결과(2xx, 에러 코드가 있는 검증/도메인 4xx)만 보관하고, 그 외(5xx, 408/429, 예외)는 선점을 해제하여 재시도 시 다시 실행
+ * - 4xx라도 잠시 뒤 재시도하면 결과가 달라지는 에러 코드(결제 진행 중, 재고 변경 충돌, PG 장애/과부하/지연)는 보관하지 않음
+ * - 재전송한 응답에는 Idempotent-Replayed: true 헤더를 붙임
+ * - 비동기 응답(결제 승인)은 ASYNC 디스패치에서 응답이 완성된 뒤 보관
+ */
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    public static final int MAX_KEY_LENGTH = 255;
+
+    /**
+     * 저장소 키 앞에 붙이는 호출자 해시 길이 (idempotency_keys.idempotency_key는 이 길이 + 1 + MAX_KEY_LENGTH까지 저장)
+     */
+    private static final int CALLER_SCOPE_LENGTH = 32;
+
+    private static final String EXECUTION_ATTRIBUTE = IdempotencyFilter.class.getName() + ".EXECUTION";
+
+    /**
+     * 재시도하면 결과가 달라질 수 있는 에러 코드 (상태 코드와 관계없이 보관하지 않음)
+     * PaymentInProgressException, StockConflictException, PgUnavailableException, PgBulkheadFullException, PgTimeoutException
+     */
+    private static final Set<String> RETRYABLE_ERROR_CODES = Set.of(
+            "PAYMENT_IN_PROGRESS", "STOCK_CONFLICT", "PG_UNAVAILABLE", "PG_BUSY", "PG_TIMEOUT");
+
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+    private final long waitTimeoutNanos;
+
+    /**
+     * 진행 중인 키: 완료되면 보관한 응답, 보관하지 않았으면 empty로 완료
+     */
+    private final StripedInFlightRegistry<String, Optional<StoredResponse>> inFlight;
+
+    public IdempotencyFilter(IdempotencyStore store, ObjectMapper objectMapper, Duration waitTimeout, int stripes) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.waitTimeoutNanos = waitTimeout.toNanos();
+        this.inFlight = new StripedInFlightRegistry<>(stripes);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod()) || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null;
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Execution execution = (Execution) request.getAttribute(EXECUTION_ATTRIBUTE);
+        if (execution == null) {
+            String key = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+            BufferedBodyRequest buffered = new BufferedBodyRequest(request);
+            request = buffered;
+            String fingerprint = request.getMethod() + " " + request.getRequestURI() + " " + sha256(buffered.getBody());
+            try {
+                execution = begin(key, scopedKey(request, key), fingerprint, response);
+            } catch (IdempotencyKeyInUseException e) {
+                writeError(response, HttpStatus.CONFLICT, e);
+                return;
+            } catch (IdempotencyKeyMismatchException e) {
+                writeError(response, HttpStatus.UNPROCESSABLE_CONTENT, e);
+                return;
+            } catch (InvalidIdempotencyKeyException e) {
+                writeError(response, HttpStatus.BAD_REQUEST, e);
+                return;
+            }
+            if (execution == null) {
+                return;
+            }
+            request.setAttribute(EXECUTION_ATTRIBUTE, execution);
+        }
+
+        boolean completed = false;
+        try {
+            chain.doFilter(request, execution.response());
+            completed = true;
+        } finally {
+            // 비동기 처리가 시작되었으면 ASYNC 디스패치에서 응답이 완성된 뒤 마무리
+            if (!completed || !isAsyncStarted(request)) {
+                finish(execution, completed);
+            }
+        }
+    }
+
+    /**
+     * 키 확인 후 실행할 요청이면 Execution을, 보관된 응답을 재전송했으면 null을 반환
+     *
+     * @param header Idempotency-Key 헤더 값
+     * @param key 저장소 키 (호출자 범위 포함)
+     */
+    private Execution begin(String header, String key, String fingerprint, HttpServletResponse response)
+            throws IOException {
+        if (header.isBlank() || header.length() > MAX_KEY_LENGTH) {
+            throw new InvalidIdempotencyKeyException(MAX_KEY_LENGTH);
+        }
+        while (true) {
+            Optional<StoredResponse> recent = store.findRecent(key);
+            if (recent.isPresent()) {
+                replay(response, key, fingerprint, recent.get());
+                return null;
+            }
+
+            CompletableFuture<Optional<StoredResponse>> owner = new CompletableFuture<>();
+            CompletableFuture<Optional<StoredResponse>> running = inFlight.registerIfAbsent(key, owner);
+            if (running != null) {
+                Optional<StoredResponse> result = await(key, running);
+                if (result.isPresent()) {
+                    replay(response, key, fingerprint, result.get());
+                    return null;
+                }
+                // 먼저 온 요청이 응답을 보관하지 않고 끝남 (5xx 등): 이 요청이 다시 실행
+                continue;
+            }
+
+            Optional<StoredResponse> stored;
+            try {
+                stored = store.claim(key, fingerprint);
+            } catch (RuntimeException e) {
+                owner.complete(Optional.empty());
+                inFlight.remove(key, owner);
+                throw e;
+            }
+            if (stored.isEmpty()) {
+                return new Execution(key, fingerprint, owner, new ContentCachingResponseWrapper(response));
+            }
+            owner.complete(stored);
+            inFlight.remove(key, owner);
+            replay(response, key, fingerprint, stored.get());
+            return null;
+        }
+    }
+
+    private Optional<StoredResponse> await(String key, CompletableFuture<Optional<StoredResponse>> running) {
+        try {
+            return running.get(waitTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new IdempotencyKeyInUseException(key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyInUseException(key);
+        } catch (ExecutionException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 응답 보관(또는 선점 해제) 후 대기 중인 요청을 깨우고 응답 본문을 내보냄
+     */
+    private void finish(Execution execution, boolean completed) throws IOException {
+        ContentCachingResponseWrapper wrapper = execution.response();
+        Optional<StoredResponse> outcome = Optional.empty();
+        try {
+            if (completed && isFinal(wrapper)) {
+                StoredResponse response = new StoredResponse(execution.fingerprint(), wrapper.getStatus(),
+                        wrapper.getContentType(), wrapper.getContentAsByteArray());
+                store.complete(execution.key(), response);
+                outcome = Optional.of(response);
+            } else {
+                store.release(execution.key());
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to store idempotent response - key: {}", execution.key(), e);
+            releaseQuietly(execution.key());
+        } finally {
+            execution.owner().complete(outcome);
+            inFlight.remove(execution.key(), execution.owner());
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    /**
+     * 재시도해도 같은 결과가 나올 응답인지
+     * 2xx와 GlobalExceptionHandler가 에러 코드를 붙인 검증/도메인 4xx(재시도 가능한 코드 제외)만 확정으로 봄
+     */
+    private boolean isFinal(ContentCachingResponseWrapper response) {
+        HttpStatus status = HttpStatus.resolve(response.getStatus());
+        if (status == null) {
+            return false;
+        }
+        if (status.is2xxSuccessful()) {
+            return true;
+        }
+        if (!status.is4xxClientError() || status == HttpStatus.REQUEST_TIMEOUT
+                || status == HttpStatus.TOO_MANY_REQUESTS) {
+            return false;
+        }
+        return errorCode(response.getContentAsByteArray())
+                .filter(code -> !RETRYABLE_ERROR_CODES.contains(code))
+                .isPresent();
+    }
+
+    private Optional<String> errorCode(byte[] body) {
+        if (body.length == 0) {
+            return Optional.empty();
+        }
+        try {
+            JsonNode code = objectMapper.readTree(body).get("code");
+            return code == null || !code.isTextual() ? Optional.empty() : Optional.of(code.asText());
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 저장소 키: 인증된 호출자면 호출자 이름의 해시를 앞에 붙여 호출자별로 구분
+     */
+    private static String scopedKey(HttpServletRequest request, String key) {
+        Principal caller = request.getUserPrincipal();
+        if (caller == null) {
+            return key;
+        }
+        return sha256(caller.getName().getBytes(StandardCharsets.UTF_8)).substring(0, CALLER_SCOPE_LENGTH) + ":" + key;
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private void releaseQuietly(String key) {
+        try {
+            store.release(key);
+        } catch (RuntimeException e) {
+            log.warn("Failed to release idempotency key, it stays locked until processing-timeout - key: {}", key, e);
+        }
+    }
+
+    private void replay(HttpServletResponse response, String key, String fingerprint, StoredResponse stored)
+            throws IOException {
+        if (!stored.fingerprint().equals(fingerprint)) {
+            throw new IdempotencyKeyMismatchException(key, stored.fingerprint());
+        }
+        log.debug("Replaying idempotent response - key: {}, status: {}", key, stored.status());
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, BusinessException ex) throws IOException {
+        log.warn("Idempotency Exception: {}", ex.getMessage());
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(),
+                ErrorResponse.of(ex.getErrorCode(), ex.getMessage(), ex.getDetail()));
+    }
+
+    /**
+     * 이 노드에서 키를 선점하고 실행 중인 요청
+     */
+    private record Execution(String key, String fingerprint, CompletableFuture<Optional<StoredResponse>> owner,
+                             ContentCachingResponseWrapper response) {
+    }
+}
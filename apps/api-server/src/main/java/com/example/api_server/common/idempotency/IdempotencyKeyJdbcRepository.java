@@ -0,0 +1,121 @@
+package com.example.api_server.common.idempotency;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Idempotency-Key 기록용 JDBC 리포지토리 (idempotency_keys)
+ * 키 선점은 PK 충돌로 판단하므로 여러 노드가 같은 키를 동시에 받아도 한 노드만 선점함
+ */
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyKeyJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 처리 중 행 INSERT (키 선점)
+     *
+     * @return 선점했으면 true, 이미 행이 있으면 false
+     */
+    public boolean insertProcessing(String key, String fingerprint, LocalDateTime now, LocalDateTime expiresAt) {
+        try {
+            jdbcTemplate.update(
+                    "INSERT INTO idempotency_keys (idempotency_key, request_fingerprint, created_at, expires_at) "
+                            + "VALUES (?, ?, ?, ?)",
+                    key, fingerprint, Timestamp.valueOf(now), Timestamp.valueOf(expiresAt));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    public Optional<IdempotencyKeyRow> findByKey(String key) {
+        List<IdempotencyKeyRow> rows = jdbcTemplate.query(
+                "SELECT request_fingerprint, status_code, content_type, response_body, expires_at "
+                        + "FROM idempotency_keys WHERE idempotency_key = ?",
+                (rs, rowNum) -> {
+                    int statusCode = rs.getInt("status_code");
+                    StoredResponse response = rs.wasNull() ? null : new StoredResponse(
+                            rs.getString("request_fingerprint"), statusCode,
+                            rs.getString("content_type"), rs.getBytes("response_body"));
+                    return new IdempotencyKeyRow(rs.getString("request_fingerprint"), response,
+                            rs.getTimestamp("expires_at").toLocalDateTime());
+                },
+                key);
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * 처리 완료: 응답과 보관 만료 시각 기록
+     */
+    public void complete(String key, StoredResponse response, LocalDateTime expiresAt) {
+        jdbcTemplate.update(
+                "UPDATE idempotency_keys SET status_code = ?, content_type = ?, response_body = ?, expires_at = ? "
+                        + "WHERE idempotency_key = ?",
+                response.status(), response.contentType(), response.body(), Timestamp.valueOf(expiresAt), key);
+    }
+
+    /**
+     * 처리 중 행 삭제 (응답을 보관하지 않고 선점만 해제)
+     */
+    public void deleteProcessing(String key) {
+        jdbcTemplate.update("DELETE FROM idempotency_keys WHERE idempotency_key = ? AND status_code IS NULL", key);
+    }
+
+    /**
+     * 만료된 행이면 삭제
+     */
+    public void deleteIfExpired(String key, LocalDateTime now) {
+        jdbcTemplate.update("DELETE FROM idempotency_keys WHERE idempotency_key = ? AND expires_at <= ?",
+                key, Timestamp.valueOf(now));
+    }
+
+    /**
+     * 만료된 행을 오래된 순으로 최대 limit건 삭제
+     *
+     * @return 삭제한 행 수
+     */
+    public int deleteExpired(LocalDateTime now, int limit) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        List<String> keys = jdbcTemplate.queryForList(
+                "SELECT idempotency_key FROM idempotency_keys WHERE expires_at <= ? ORDER BY expires_at LIMIT ?",
+                String.class, timestamp, limit);
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        int[][] counts = jdbcTemplate.batchUpdate(
+                "DELETE FROM idempotency_keys WHERE idempotency_key = ? AND expires_at <= ?",
+                keys,
+                keys.size(),
+                (ps, key) -> {
+                    ps.setString(1, key);
+                    ps.setTimestamp(2, timestamp);
+                });
+        int deleted = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                // 드라이버가 건수를 알려주지 않으면(SUCCESS_NO_INFO) 삭제된 것으로 봄
+                deleted += count < 0 ? 1 : count;
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * @param response 처리 중이면 null
+     */
+    public record IdempotencyKeyRow(String fingerprint, StoredResponse response, LocalDateTime expiresAt) {
+
+        public boolean isExpired(LocalDateTime now) {
+            return !expiresAt.isAfter(now);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.api_server.common.idempotency;
+
+import com.example.api_server.common.exception.IdempotencyKeyInUseException;
+import com.example.api_server.common.exception.IdempotencyKeyMismatchException;
+import com.example.api_server.common.idempotency.IdempotencyKeyJdbcRepository.IdempotencyKeyRow;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Idempotency-Key 응답 저장소
+ * 노드 로컬 캐시(최근 완료된 응답)를 먼저 보고, 없으면 idempotency_keys 테이블로 키를 선점/조회함
+ *
+ * - 선점: 처리 중 행(status_code NULL)을 processing-timeout 만료로 INSERT, 이미 있으면 완료 응답을 돌려주거나 처리 중 예외
+ * - 완료: 응답을 기록하고 만료를 ttl로 연장, 로컬 캐시에도 넣음
+ * - 해제: 보관하지 않을 응답(5xx 등)이면 처리 중 행을 지워 같은 키로 다시 시도할 수 있게 함
+ * - 처리 도중 프로세스가 죽어 남은 처리 중 행은 processing-timeout 이후 다시 선점 가능
+ * - 만료된 행은 cleanup-interval-ms마다 cleanup-batch-size건씩 삭제
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    private final IdempotencyKeyJdbcRepository repository;
+    private final Cache<String, StoredResponse> recent;
+    private final Duration ttl;
+    private final Duration processingTimeout;
+    private final int cleanupBatchSize;
+    private final Clock clock;
+
+    @Autowired
+    public IdempotencyStore(IdempotencyKeyJdbcRepository repository,
+                            @Value("${app.idempotency.ttl:24h}") Duration ttl,
+                            @Value("${app.idempotency.processing-timeout:1m}") Duration processingTimeout,
+                            @Value("${app.idempotency.memory.maximum-size:10000}") long memoryMaximumSize,
+                            @Value("${app.idempotency.memory.expire-after-write:10m}") Duration memoryExpireAfterWrite,
+                            @Value("${app.idempotency.cleanup-batch-size:1000}") int cleanupBatchSize) {
+        this(repository, ttl, processingTimeout, memoryMaximumSize, memoryExpireAfterWrite, cleanupBatchSize,
+                Clock.systemDefaultZone());
+    }
+
+    IdempotencyStore(IdempotencyKeyJdbcRepository repository,
+                     Duration ttl,
+                     Duration processingTimeout,
+                     long memoryMaximumSize,
+                     Duration memoryExpireAfterWrite,
+                     int cleanupBatchSize,
+                     Clock clock) {
+        this.repository = repository;
+        this.ttl = ttl;
+        this.processingTimeout = processingTimeout;
+        this.cleanupBatchSize = cleanupBatchSize;
+        this.clock = clock;
+        // 로컬 캐시가 DB 보관 기간보다 오래 응답을 재전송하지 않도록 ttl 이하로 제한
+        this.recent = Caffeine.newBuilder()
+                .maximumSize(memoryMaximumSize)
+                .expireAfterWrite(memoryExpireAfterWrite.compareTo(ttl) < 0 ? memoryExpireAfterWrite : ttl)
+                .build();
+    }
+
+    /**
+     * 로컬 캐시에서 완료된 응답 조회 (DB 조회 없음)
+     */
+    public Optional<StoredResponse> findRecent(String key) {
+        return Optional.ofNullable(recent.getIfPresent(key));
+    }
+
+    /**
+     * 키 선점
+     *
+     * @param key Idempotency-Key (인증된 호출자면 호출자 범위 포함)
+     * @param fingerprint 요청 메서드, 경로, 본문 해시
+     * @return 이미 완료된 키면 보관된 응답, 선점했으면 empty
+     * @throws IdempotencyKeyInUseException 다른 노드에서 같은 키를 처리 중인 경우
+     * @throws IdempotencyKeyMismatchException 다른 요청에 사용된 키인 경우
+     */
+    public Optional<StoredResponse> claim(String key, String fingerprint) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (repository.insertProcessing(key, fingerprint, now, now.plus(processingTimeout))) {
+            return Optional.empty();
+        }
+
+        Optional<IdempotencyKeyRow> existing = repository.findByKey(key);
+        if (existing.isEmpty() || existing.get().isExpired(now)) {
+            // 그 사이 해제되었거나 만료된 행(처리 중 장애, 보관 기간 경과)은 지우고 다시 선점
+            repository.deleteIfExpired(key, now);
+            if (repository.insertProcessing(key, fingerprint, now, now.plus(processingTimeout))) {
+                return Optional.empty();
+            }
+            throw new IdempotencyKeyInUseException(key);
+        }
+
+        IdempotencyKeyRow row = existing.get();
+        if (!row.fingerprint().equals(fingerprint)) {
+            throw new IdempotencyKeyMismatchException(key, row.fingerprint());
+        }
+        if (row.response() == null) {
+            throw new IdempotencyKeyInUseException(key);
+        }
+        recent.put(key, row.response());
+        return Optional.of(row.response());
+    }
+
+    /**
+     * 처리 완료: 응답 보관 (ttl 동안 같은 키의 요청에 재전송)
+     */
+    public void complete(String key, StoredResponse response) {
+        repository.complete(key, response, LocalDateTime.now(clock).plus(ttl));
+        recent.put(key, response);
+    }
+
+    /**
+     * 선점 해제: 응답을 보관하지 않고 같은 키로 다시 처리할 수 있게 함
+     */
+    public void release(String key) {
+        repository.deleteProcessing(key);
+    }
+
+    /**
+     * 만료된 키 정리
+     */
+    @Scheduled(fixedDelayString = "${app.idempotency.cleanup-interval-ms:60000}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = repository.deleteExpired(now, cleanupBatchSize);
+            purged += deleted;
+        } while (deleted >= cleanupBatchSize);
+        if (purged > 0) {
+            log.info("Expired idempotency keys purged - count: {}", purged);
+        }
+    }
+}
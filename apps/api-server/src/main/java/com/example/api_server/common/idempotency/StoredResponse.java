@@ -0,0 +1,12 @@
+package com.example.api_server.common.idempotency;
+
+/**
+ * Idempotency-Key로 보관한 응답 (같은 키의 요청에 그대로 재전송)
+ *
+ * @param fingerprint 처음 요청의 메서드와 경로 (예: "POST /api/orders")
+ * @param status HTTP 상태 코드
+ * @param contentType 응답 Content-Type (없으면 null)
+ * @param body 응답 본문
+ */
+public record StoredResponse(String fingerprint, int status, String contentType, byte[] body) {
+}
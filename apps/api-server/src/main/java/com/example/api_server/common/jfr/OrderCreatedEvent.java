@@ -0,0 +1,56 @@
+package com.example.api_server.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 주문 생성 JFR 이벤트 (주문 생성 요청 처리 시간, 커밋 제외)
+ * 기본 비활성, jfr/order-payment.jfc 프로파일로 활성화
+ */
+@Name("com.example.api_server.OrderCreated")
+@Label("Order Created")
+@Category({"Order Payment", "Order"})
+@Description("주문 생성 처리")
+@StackTrace(false)
+@Enabled(false)
+public class OrderCreatedEvent extends Event {
+
+    @Label("Order ID")
+    private String orderId;
+
+    @Label("User ID")
+    private long userId;
+
+    @Label("Product ID")
+    private long productId;
+
+    @Label("Quantity")
+    private int quantity;
+
+    @Label("Total Amount")
+    private long totalAmount;
+
+    public static OrderCreatedEvent start() {
+        OrderCreatedEvent event = new OrderCreatedEvent();
+        event.begin();
+        return event;
+    }
+
+    public void finish(String orderId, Long userId, Long productId, Integer quantity, Long totalAmount) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.orderId = orderId;
+        this.userId = userId == null ? 0L : userId;
+        this.productId = productId == null ? 0L : productId;
+        this.quantity = quantity == null ? 0 : quantity;
+        this.totalAmount = totalAmount == null ? 0L : totalAmount;
+        commit();
+    }
+}
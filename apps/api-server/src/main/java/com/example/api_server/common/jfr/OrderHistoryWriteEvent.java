@@ -0,0 +1,59 @@
+package com.example.api_server.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 주문 이력 일괄 기록 JFR 이벤트 (JDBC batch 한 번, 재시도마다 별도 이벤트)
+ * 기본 비활성, jfr/order-payment.jfc 프로파일로 활성화
+ */
+@Name("com.example.api_server.OrderHistoryWrite")
+@Label("Order History Write")
+@Category({"Order Payment", "Order"})
+@Description("주문 이력 JDBC batch 기록")
+@StackTrace(false)
+@Enabled(false)
+public class OrderHistoryWriteEvent extends Event {
+
+    @Label("Rows")
+    private int rows;
+
+    @Label("Attempt")
+    private int attempt;
+
+    @Label("Success")
+    private boolean success;
+
+    @Label("Error")
+    private String error;
+
+    public static OrderHistoryWriteEvent start(int rows, int attempt) {
+        OrderHistoryWriteEvent event = new OrderHistoryWriteEvent();
+        event.rows = rows;
+        event.attempt = attempt;
+        event.begin();
+        return event;
+    }
+
+    public void succeeded() {
+        end();
+        if (shouldCommit()) {
+            success = true;
+            commit();
+        }
+    }
+
+    public void failed(Throwable error) {
+        end();
+        if (shouldCommit()) {
+            success = false;
+            this.error = error.getClass().getName();
+            commit();
+        }
+    }
+}
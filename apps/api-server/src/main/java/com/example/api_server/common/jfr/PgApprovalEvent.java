@@ -0,0 +1,68 @@
+package com.example.api_server.common.jfr;
+
+import com.example.api_server.common.metrics.StageMetrics;
+import com.example.api_server.payment.client.PgApprovalResult;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * PG 승인 호출 JFR 이벤트 (이벤트 duration이 호출 지연)
+ * PgClient 구현체마다 기록하므로 client로 구간을 구분
+ * (ResilientPgClient는 서킷/동시 호출 한도 판단을 포함, MockPgClient는 PG 응답만)
+ * 기본 비활성, jfr/order-payment.jfc 프로파일로 활성화
+ */
+@Name("com.example.api_server.PgApproval")
+@Label("PG Approval")
+@Category({"Order Payment", "Payment"})
+@Description("PG 승인 요청")
+@StackTrace(false)
+@Enabled(false)
+public class PgApprovalEvent extends Event {
+
+    @Label("Client")
+    private String client;
+
+    @Label("Order ID")
+    private String orderId;
+
+    @Label("Amount")
+    private long amount;
+
+    @Label("Success")
+    private boolean success;
+
+    @Label("Result Code")
+    private String resultCode;
+
+    public static PgApprovalEvent start(String client, String orderId, Long amount) {
+        PgApprovalEvent event = new PgApprovalEvent();
+        event.client = client;
+        event.orderId = orderId;
+        event.amount = amount == null ? 0L : amount;
+        event.begin();
+        return event;
+    }
+
+    public void finish(PgApprovalResult result) {
+        end();
+        if (shouldCommit()) {
+            success = result.isSuccess();
+            resultCode = result.getResultCode();
+            commit();
+        }
+    }
+
+    public void failed(Throwable error) {
+        end();
+        if (shouldCommit()) {
+            success = false;
+            resultCode = StageMetrics.outcomeOf(error);
+            commit();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.api_server.common.jfr;
+
+import com.example.api_server.common.metrics.StageMetrics;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 재고 확인 JFR 이벤트
+ * - order: 주문 생성 시 판매 가능 여부/재고 검증
+ * - confirm: 결제 승인 후 재고 예약 확정 (예약 만료 시 재차감)
+ * 기본 비활성, jfr/order-payment.jfc 프로파일로 활성화
+ */
+@Name("com.example.api_server.StockCheck")
+@Label("Stock Check")
+@Category({"Order Payment", "Stock"})
+@Description("재고 검증 및 예약 확정")
+@StackTrace(false)
+@Enabled(false)
+public class StockCheckEvent extends Event {
+
+    public static final String ORDER = "order";
+    public static final String CONFIRM = "confirm";
+
+    @Label("Phase")
+    private String phase;
+
+    @Label("Product ID")
+    private long productId;
+
+    @Label("Requested Quantity")
+    private int requestedQuantity;
+
+    @Label("Passed")
+    private boolean passed;
+
+    @Label("Error Code")
+    private String errorCode;
+
+    public static StockCheckEvent start(String phase, Long productId, Integer requestedQuantity) {
+        StockCheckEvent event = new StockCheckEvent();
+        event.phase = phase;
+        event.productId = productId == null ? 0L : productId;
+        event.requestedQuantity = requestedQuantity == null ? 0 : requestedQuantity;
+        event.begin();
+        return event;
+    }
+
+    public void passed() {
+        end();
+        if (shouldCommit()) {
+            passed = true;
+            commit();
+        }
+    }
+
+    public void failed(Throwable error) {
+        end();
+        if (shouldCommit()) {
+            passed = false;
+            errorCode = StageMetrics.outcomeOf(error);
+            commit();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.api_server.common.jpa;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * pooled 최적화 시퀀스 ID 생성
+ * 시퀀스 값 하나로 allocation size만큼의 ID 블록을 확보하므로 INSERT마다 DB를 왕복하지 않고,
+ * IDENTITY와 달리 INSERT 전에 ID가 정해져 Hibernate JDBC batch INSERT가 가능함
+ * 시퀀스를 지원하지 않는 DB(MySQL)에서는 같은 이름의 테이블로 hi/lo 블록을 관리
+ *
+ * @see PooledSequenceGenerator
+ */
+@IdGeneratorType(PooledSequenceGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface PooledSequence {
+
+    /**
+     * 시퀀스(또는 대체 테이블) 이름
+     */
+    String name();
+}
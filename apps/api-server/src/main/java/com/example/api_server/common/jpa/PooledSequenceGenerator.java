@@ -0,0 +1,42 @@
+package com.example.api_server.common.jpa;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.generator.GeneratorCreationContext;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+
+import java.util.Properties;
+
+/**
+ * @PooledSequence ID 생성기
+ * allocation size는 엔티티마다 고정하지 않고 Hibernate 설정(ALLOCATION_SIZE_SETTING, app.jpa.id-allocation-size)에서 읽음
+ * 운영 DB의 시퀀스 증가값(INCREMENT BY)은 allocation size와 같아야 함
+ */
+public class PooledSequenceGenerator extends SequenceStyleGenerator {
+
+    /**
+     * allocation size Hibernate 설정 키 (JpaConfig가 app.jpa.id-allocation-size 값으로 채움)
+     */
+    public static final String ALLOCATION_SIZE_SETTING = "app.jpa.id_allocation_size";
+
+    public static final int DEFAULT_ALLOCATION_SIZE = 50;
+
+    private final String sequenceName;
+
+    public PooledSequenceGenerator(PooledSequence config) {
+        this.sequenceName = config.name();
+    }
+
+    @Override
+    public void configure(GeneratorCreationContext creationContext, Properties parameters) throws MappingException {
+        int allocationSize = creationContext.getServiceRegistry()
+                .requireService(ConfigurationService.class)
+                .getSetting(ALLOCATION_SIZE_SETTING, StandardConverters.INTEGER, DEFAULT_ALLOCATION_SIZE);
+        parameters.setProperty(SEQUENCE_PARAM, sequenceName);
+        parameters.setProperty(INCREMENT_PARAM, String.valueOf(allocationSize));
+        parameters.setProperty(OPT_PARAM, StandardOptimizerDescriptor.POOLED.getExternalName());
+        super.configure(creationContext, parameters);
+    }
+}
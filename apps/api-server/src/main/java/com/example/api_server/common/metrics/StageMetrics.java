@@ -0,0 +1,124 @@
+package com.example.api_server.common.metrics;
+
+import com.example.api_server.common.exception.BusinessException;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 처리 흐름의 단계별 지연 타이머
+ * 흐름마다 "{flow}.stage" Timer 하나를 두고 stage, outcome 태그로 단계와 결과를 구분
+ * - outcome: success | BusinessException 에러 코드 | INTERNAL_SERVER_ERROR (pg_call은 PG 시스템 오류 코드 또는 PG_DECLINED)
+ * - 백분위는 application.yml의 management.metrics.distribution.percentiles로 설정
+ *   (조회: GET /actuator/metrics/order.create.stage.percentile?tag=stage:order_insert&tag=phi:0.99)
+ */
+@Component
+public class StageMetrics {
+
+    public static final String ORDER_CREATE = "order.create";
+    public static final String PAYMENT_APPROVE = "payment.approve";
+
+    public static final String SUCCESS = "success";
+
+    /**
+     * 처리되지 않은 예외의 outcome (GlobalExceptionHandler의 에러 코드와 동일)
+     */
+    public static final String UNEXPECTED_ERROR = "INTERNAL_SERVER_ERROR";
+
+    /**
+     * 커밋 단계에서 롤백되었거나 결과를 알 수 없는 경우의 outcome
+     */
+    public static final String COMMIT_FAILED = "COMMIT_FAILED";
+
+    public static final String COMMIT_STAGE = "commit";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Meter.MeterProvider<Timer>> timers = new ConcurrentHashMap<>();
+
+    public StageMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * action 실행 시간을 기록하고 결과를 반환 (예외가 나면 그 에러 코드로 기록 후 다시 던짐)
+     */
+    public <T> T record(String flow, String stage, Supplier<T> action) {
+        long start = System.nanoTime();
+        try {
+            T result = action.get();
+            record(flow, stage, start, SUCCESS);
+            return result;
+        } catch (RuntimeException e) {
+            record(flow, stage, start, outcomeOf(e));
+            throw e;
+        }
+    }
+
+    public void record(String flow, String stage, Runnable action) {
+        record(flow, stage, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * @param startNanos System.nanoTime()으로 잰 단계 시작 시각
+     */
+    public void record(String flow, String stage, long startNanos, String outcome) {
+        timers.computeIfAbsent(flow, this::timer)
+                .withTags("stage", stage, "outcome", outcome)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 현재 트랜잭션의 커밋(flush 포함) 시간을 commit 단계로 기록
+     * 커밋 직전부터 완료까지 측정하며, 트랜잭션이 없거나 커밋 전에 롤백되면 기록하지 않음
+     */
+    public void recordCommit(String flow) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean committing;
+            private long start;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                committing = true;
+                start = System.nanoTime();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (committing) {
+                    record(flow, COMMIT_STAGE, start, status == STATUS_COMMITTED ? SUCCESS : COMMIT_FAILED);
+                }
+            }
+        });
+    }
+
+    /**
+     * 예외의 outcome 태그 값
+     */
+    public static String outcomeOf(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof BusinessException businessException
+                ? businessException.getErrorCode()
+                : UNEXPECTED_ERROR;
+    }
+
+    private Meter.MeterProvider<Timer> timer(String flow) {
+        return Timer.builder(flow + ".stage")
+                .description("Latency of each " + flow + " stage")
+                .withRegistry(meterRegistry);
+    }
+}
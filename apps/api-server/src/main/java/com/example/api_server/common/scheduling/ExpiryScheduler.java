@@ -0,0 +1,189 @@
+package com.example.api_server.common.scheduling;
+
+import com.example.api_server.common.concurrent.BoundedExecutors;
+import com.example.api_server.common.datasource.DataSourceRouting;
+import com.example.api_server.common.scheduling.HashedTimingWheel.Timeout;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * ID별 만료 스케줄러 (재고 예약 만료, 결제 대기 주문 만료)
+ * 항목마다 DB를 폴링하지 않고 해시드 타이밍 휠에 만료 시각을 등록하여, 틱마다 만료된 ID만 모아 batchSize건씩 만료 처리기에 전달함
+ *
+ * - 등록/취소는 트랜잭션 커밋 후에 반영하여 롤백된 항목이 휠에 남지 않도록 함 (트랜잭션 밖이면 즉시 반영)
+ * - 같은 ID를 다시 등록하면 이전 만료 시각은 취소됨
+ * - 휠은 메모리에만 있으므로 기동 시 rebuild로 만료 대상 조회 결과를 주 DB에서 읽어 재구성
+ * - 만료 처리는 휠 스레드를 막지 않도록 크기와 대기열이 제한된 작업 스레드에서 묶음별로 수행
+ *   (대기열이 가득 차거나 만료 처리기가 실패하면 retryDelay 후에 다시 만료시킴)
+ *
+ * @param <K> 항목 ID 타입
+ */
+@Slf4j
+public final class ExpiryScheduler<K> {
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5_000;
+
+    private final String name;
+    private final int batchSize;
+    private final Duration retryDelay;
+    private final Clock clock;
+    private final Consumer<List<K>> expireAction;
+    private final ExecutorService worker;
+    private final HashedTimingWheel<K> wheel;
+    private final Map<K, Timeout<K>> timeouts = new ConcurrentHashMap<>();
+
+    /**
+     * @param name 스케줄러 이름 (휠 스레드 이름, 작업 스레드 이름 접두사 "{name}-worker-")
+     * @param batchSize 만료 처리기 한 번에 전달하는 최대 ID 수
+     * @param retryDelay 대기열이 가득 차거나 만료 처리기가 실패했을 때 다시 만료시키기까지의 시간
+     * @param workers 만료 처리 작업 스레드 수
+     * @param queueCapacity 만료 처리 대기열 크기 (묶음 단위)
+     * @param expireAction 만료 처리기 (작업 스레드에서 호출, 예외를 던지면 그 묶음을 재시도)
+     */
+    public ExpiryScheduler(String name, Duration tickDuration, int wheelSize, int batchSize, Duration retryDelay,
+                           int workers, int queueCapacity, Clock clock, Consumer<List<K>> expireAction) {
+        this.name = name;
+        this.batchSize = Math.max(1, batchSize);
+        this.retryDelay = retryDelay;
+        this.clock = clock;
+        this.expireAction = expireAction;
+        this.worker = BoundedExecutors.newFixed(name + "-worker-", workers, queueCapacity);
+        this.wheel = new HashedTimingWheel<>(name, tickDuration, wheelSize, this::onExpired);
+        this.wheel.start();
+    }
+
+    /**
+     * 만료 대상 조회 결과로 휠 재구성 (이미 만료 시각이 지난 항목은 다음 틱에 만료)
+     * 복제 지연으로 최근 항목을 빠뜨리지 않도록 주 DB에서 읽기 전용 트랜잭션으로 조회
+     *
+     * @param transactionTemplate 조회에 사용할 트랜잭션 템플릿 (읽기 전용으로 복사해 사용)
+     * @param query 만료 대상 스트림 조회 (트랜잭션 안에서 호출)
+     * @return 등록한 항목 수
+     */
+    public <T> int rebuild(TransactionTemplate transactionTemplate, Supplier<Stream<T>> query,
+                           Function<T, K> idOf, Function<T, LocalDateTime> expiresAtOf) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnly.setReadOnly(true);
+        Integer restored = DataSourceRouting.onPrimary(() -> readOnly.execute(status -> {
+            int count = 0;
+            try (Stream<T> pending = query.get()) {
+                for (T item : (Iterable<T>) pending::iterator) {
+                    schedule(idOf.apply(item), expiresAtOf.apply(item));
+                    count++;
+                }
+            }
+            return count;
+        }));
+        return restored == null ? 0 : restored;
+    }
+
+    /**
+     * 트랜잭션 커밋 후 만료 등록
+     */
+    public void scheduleAfterCommit(K id, LocalDateTime expiresAt) {
+        afterCommit(() -> schedule(id, expiresAt));
+    }
+
+    /**
+     * 트랜잭션 커밋 후 retryDelay 뒤에 다시 만료시키도록 등록 (만료 처리기가 이번에는 만료시키지 않은 항목)
+     */
+    public void retryAfterCommit(Collection<K> ids) {
+        List<K> copied = List.copyOf(ids);
+        afterCommit(() -> copied.forEach(id -> schedule(id, LocalDateTime.now(clock).plus(retryDelay))));
+    }
+
+    /**
+     * 트랜잭션 커밋 후 만료 취소
+     */
+    public void cancelAfterCommit(K id) {
+        afterCommit(() -> cancel(id));
+    }
+
+    /**
+     * 만료 대기 중인 항목 수
+     */
+    public int pendingCount() {
+        return wheel.pendingCount();
+    }
+
+    public void shutdown() {
+        wheel.close();
+        BoundedExecutors.shutdown(worker, SHUTDOWN_TIMEOUT_MILLIS);
+    }
+
+    private void schedule(K id, LocalDateTime expiresAt) {
+        Timeout<K> timeout = wheel.schedule(id, Duration.between(LocalDateTime.now(clock), expiresAt));
+        Timeout<K> previous = timeouts.put(id, timeout);
+        if (previous != null) {
+            previous.cancel();
+        }
+    }
+
+    private void cancel(K id) {
+        Timeout<K> timeout = timeouts.remove(id);
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    /**
+     * 타이밍 휠 스레드에서 호출: 만료된 ID를 batchSize건씩 작업 스레드로 넘기고, 대기열이 가득 차면 재시도 등록
+     */
+    private void onExpired(List<K> ids) {
+        ids.forEach(id -> timeouts.computeIfPresent(id, (key, timeout) -> timeout.isExpired() ? null : timeout));
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<K> batch = List.copyOf(ids.subList(from, Math.min(ids.size(), from + batchSize)));
+            try {
+                worker.execute(() -> expire(batch));
+            } catch (RejectedExecutionException e) {
+                log.warn("Expiry queue is full, retrying in {} - scheduler: {}, count: {}", retryDelay, name, batch.size());
+                retryLater(batch);
+            }
+        }
+    }
+
+    /**
+     * 작업 스레드에서 호출: 한 묶음을 만료 처리기에 전달하고 실패하면 재시도 등록
+     */
+    private void expire(List<K> batch) {
+        try {
+            expireAction.accept(batch);
+        } catch (RuntimeException e) {
+            log.error("Failed to expire, retrying in {} - scheduler: {}, count: {}", retryDelay, name, batch.size(), e);
+            retryLater(batch);
+        }
+    }
+
+    private void retryLater(List<K> ids) {
+        ids.forEach(id -> timeouts.computeIfAbsent(id, key -> wheel.schedule(key, retryDelay)));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
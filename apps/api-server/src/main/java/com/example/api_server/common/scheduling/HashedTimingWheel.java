@@ -0,0 +1,317 @@
+package com.example.api_server.common.scheduling;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 해시드 타이밍 휠
+ * 만료 시각이 있는 항목을 대량으로 보관하고, 틱마다 현재 버킷 하나만 검사하여 만료된 항목을 일괄 전달함
+ *
+ * - 등록/취소는 락 없는 큐에 넣기만 하므로 O(1)이며, 버킷 반영은 휠 스레드가 틱마다 수행
+ * - 휠 한 바퀴(tickDuration * wheelSize)보다 먼 항목은 남은 바퀴 수(rounds)를 두어 같은 버킷에 보관
+ * - 만료 정밀도는 tickDuration 단위이며, 만료 시각보다 늦게 전달될 수는 있어도 일찍 전달되지는 않음
+ * - 만료 처리기는 휠 스레드에서 호출되므로 오래 걸리는 작업은 처리기 안에서 별도로 분리해야 함
+ *
+ * @param <T> 만료 시 전달할 항목 타입
+ */
+@Slf4j
+public final class HashedTimingWheel<T> implements AutoCloseable {
+
+    /**
+     * 한 틱에 버킷으로 옮기는 최대 신규 항목 수 (등록 폭주 시 틱 지연 방지)
+     */
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    private final String name;
+    private final long tickNanos;
+    private final Bucket<T>[] wheel;
+    private final int mask;
+    private final Consumer<List<T>> expiryHandler;
+
+    private final Queue<Timeout<T>> newTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout<T>> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicLong expiredCount = new AtomicLong();
+
+    private final Thread worker;
+    private final long startNanos;
+    private volatile boolean running;
+    private long tick;
+
+    /**
+     * @param name 휠 스레드 이름
+     * @param tickDuration 틱 간격 (만료 정밀도)
+     * @param wheelSize 버킷 수 (2의 거듭제곱으로 올림)
+     * @param expiryHandler 한 틱에 만료된 항목들을 받는 처리기
+     */
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(String name, Duration tickDuration, int wheelSize, Consumer<List<T>> expiryHandler) {
+        if (tickDuration.isNegative() || tickDuration.isZero()) {
+            throw new IllegalArgumentException("tickDuration은 0보다 커야 합니다.");
+        }
+        this.name = name;
+        this.tickNanos = tickDuration.toNanos();
+        int size = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket<>();
+        }
+        this.mask = size - 1;
+        this.expiryHandler = expiryHandler;
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * 휠 스레드 시작 (시작 전에 등록된 항목도 생성 시각 기준으로 만료됨)
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker.start();
+    }
+
+    /**
+     * 항목 등록
+     *
+     * @param item 만료 시 전달할 항목
+     * @param delay 지금부터 만료까지의 시간 (0 이하면 다음 틱에 만료)
+     * @return 취소에 사용할 핸들
+     */
+    public Timeout<T> schedule(T item, Duration delay) {
+        long delayNanos = Math.max(0L, delay.toNanos());
+        long deadline = System.nanoTime() - startNanos + delayNanos;
+        Timeout<T> timeout = new Timeout<>(this, item, deadline);
+        pending.incrementAndGet();
+        newTimeouts.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * 만료 대기 중인 항목 수 (취소된 항목 제외)
+     */
+    public int pendingCount() {
+        return pending.get();
+    }
+
+    /**
+     * 지금까지 만료 처리기로 전달된 항목 수
+     */
+    public long expiredCount() {
+        return expiredCount.get();
+    }
+
+    /**
+     * 휠 스레드 종료 (대기 중인 항목은 전달하지 않음)
+     */
+    @Override
+    public synchronized void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        worker.interrupt();
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        while (running) {
+            long deadline = waitForNextTick();
+            if (deadline < 0) {
+                break;
+            }
+            Bucket<T> bucket = wheel[(int) (tick & mask)];
+            processCancelled();
+            transferNewTimeouts();
+
+            List<T> expired = bucket.expire(deadline);
+            if (!expired.isEmpty()) {
+                pending.addAndGet(-expired.size());
+                expiredCount.addAndGet(expired.size());
+                try {
+                    expiryHandler.accept(expired);
+                } catch (RuntimeException e) {
+                    log.error("Timing wheel expiry handler failed - wheel: {}, items: {}", name, expired.size(), e);
+                }
+            }
+            tick++;
+        }
+    }
+
+    /**
+     * 다음 틱 시각까지 대기
+     *
+     * @return 이번 틱의 기준 시각(시작 기준 상대 나노초), 종료 요청 시 -1
+     */
+    private long waitForNextTick() {
+        long deadline = tickNanos * (tick + 1);
+        while (true) {
+            long current = System.nanoTime() - startNanos;
+            long sleepNanos = deadline - current;
+            if (sleepNanos <= 0) {
+                return current;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(sleepNanos);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    return -1;
+                }
+            }
+        }
+    }
+
+    private void transferNewTimeouts() {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            Timeout<T> timeout = newTimeouts.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.state.get() != Timeout.ST_INIT) {
+                continue;
+            }
+            long calculated = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (calculated - tick) / wheel.length;
+            // 이미 지난 항목은 현재 틱 버킷에 넣어 바로 만료시킴
+            long ticks = Math.max(calculated, tick);
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    private void processCancelled() {
+        Timeout<T> timeout;
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    /**
+     * 등록된 항목의 핸들
+     */
+    public static final class Timeout<T> {
+
+        private static final int ST_INIT = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+
+        private final HashedTimingWheel<T> timer;
+        private final T item;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(ST_INIT);
+
+        // 휠 스레드에서만 접근
+        private long remainingRounds;
+        private Timeout<T> next;
+        private Timeout<T> prev;
+        private Bucket<T> bucket;
+
+        private Timeout(HashedTimingWheel<T> timer, T item, long deadline) {
+            this.timer = timer;
+            this.item = item;
+            this.deadline = deadline;
+        }
+
+        public T item() {
+            return item;
+        }
+
+        /**
+         * 만료 전이면 취소
+         *
+         * @return 이번 호출로 취소되었으면 true (이미 만료/취소된 경우 false)
+         */
+        public boolean cancel() {
+            if (!state.compareAndSet(ST_INIT, ST_CANCELLED)) {
+                return false;
+            }
+            timer.pending.decrementAndGet();
+            timer.cancelledTimeouts.add(this);
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return state.get() == ST_CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state.get() == ST_EXPIRED;
+        }
+    }
+
+    /**
+     * 버킷: Timeout 이중 연결 리스트 (취소 시 O(1) 제거)
+     */
+    private static final class Bucket<T> {
+
+        private Timeout<T> head;
+        private Timeout<T> tail;
+
+        void add(Timeout<T> timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        List<T> expire(long deadline) {
+            List<T> expired = new ArrayList<>();
+            Timeout<T> timeout = head;
+            while (timeout != null) {
+                Timeout<T> next = timeout.next;
+                if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else if (timeout.remainingRounds > 0) {
+                    timeout.remainingRounds--;
+                } else if (timeout.deadline <= deadline) {
+                    remove(timeout);
+                    if (timeout.state.compareAndSet(Timeout.ST_INIT, Timeout.ST_EXPIRED)) {
+                        expired.add(timeout.item);
+                    }
+                }
+                timeout = next;
+            }
+            return expired;
+        }
+
+        void remove(Timeout<T> timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            } else {
+                tail = timeout.prev;
+            }
+            timeout.next = null;
+            timeout.prev = null;
+            timeout.bucket = null;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.api_server.order.cache;
+
+import com.example.api_server.order.domain.Order;
+import com.example.api_server.order.domain.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 스냅샷 (주문 캐시에 저장하는 불변 값)
+ * 엔티티는 영속성 컨텍스트에 묶여 있어 여러 요청이 공유할 수 없으므로 필드 값만 복사해 둠
+ */
+public record OrderSnapshot(
+        String orderId,
+        Long userId,
+        Long productId,
+        Integer quantity,
+        Long totalAmount,
+        OrderStatus status,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+    public static OrderSnapshot from(Order order) {
+        return new OrderSnapshot(
+                order.getOrderId(),
+                order.getUserId(),
+                order.getProductId(),
+                order.getQuantity(),
+                order.getTotalAmount(),
+                order.getStatus(),
+                order.getCreatedAt(),
+                order.getUpdatedAt());
+    }
+
+    /**
+     * 상태만 바꾼 스냅샷 (엔티티를 거치지 않는 일괄 상태 전이 반영용)
+     */
+    public OrderSnapshot withStatus(OrderStatus status, LocalDateTime updatedAt) {
+        return new OrderSnapshot(orderId, userId, productId, quantity, totalAmount, status, createdAt, updatedAt);
+    }
+
+    public boolean isPendingPayment() {
+        return status == OrderStatus.PENDING_PAYMENT;
+    }
+
+    /**
+     * 같은 주문의 두 스냅샷 중 더 최신 상태
+     * 결제 대기에서 벗어난 상태는 다시 결제 대기로 돌아가지 않으므로 우선하고,
+     * 같은 단계끼리는 나중에 수정된 쪽을 선택 (같으면 나중에 들어온 candidate)
+     */
+    public static OrderSnapshot latest(OrderSnapshot current, OrderSnapshot candidate) {
+        if (current.isPendingPayment() != candidate.isPendingPayment()) {
+            return current.isPendingPayment() ? candidate : current;
+        }
+        if (current.updatedAt() != null && candidate.updatedAt() != null
+                && current.updatedAt().isAfter(candidate.updatedAt())) {
+            return current;
+        }
+        return candidate;
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.api_server.order.cache;
+
+import com.example.api_server.order.domain.Order;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * 주문 스냅샷 캐시 (read-through, 노드 로컬)
+ * 주문 생성, 결제 결과 반영(PAID / PAYMENT_FAILED), 만료(EXPIRED) 시 커밋 후 새 상태로 갱신하므로,
+ * 주문이 자주 조회되는 생성 직후 몇 초~몇 분 동안은 DB 조회 없이 방금 쓴 상태를 읽음
+ * 다른 노드에서 바뀐 상태는 expire-after-write가 지나야 반영되므로 상태 전이의 최종 검증은 DB에서 수행해야 함
+ * 히트/미스/축출 통계는 cache.* 메트릭(cache=orders)으로 노출
+ */
+@Component
+public class OrderSnapshotCache {
+
+    public static final String CACHE_NAME = "orders";
+
+    private final Cache<String, OrderSnapshot> snapshots;
+
+    public OrderSnapshotCache(
+            @Value("${app.order.cache.maximum-size:10000}") long maximumSize,
+            @Value("${app.order.cache.expire-after-write:2m}") Duration expireAfterWrite,
+            MeterRegistry meterRegistry) {
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, snapshots, CACHE_NAME);
+    }
+
+    public Optional<OrderSnapshot> get(String orderId) {
+        return Optional.ofNullable(snapshots.getIfPresent(orderId));
+    }
+
+    /**
+     * 스냅샷 저장
+     * 이미 더 최신 상태가 있으면 유지 (미스 후 읽은 값이 그 사이 반영된 결제 결과를 덮어쓰지 않도록)
+     */
+    public void put(OrderSnapshot snapshot) {
+        snapshots.asMap().merge(snapshot.orderId(), snapshot, OrderSnapshot::latest);
+    }
+
+    /**
+     * 주문 변경 반영
+     * 트랜잭션 안이면 커밋 후에(롤백되면 반영하지 않음), 아니면 즉시 저장
+     * 스냅샷은 커밋 시점(flush 후)의 엔티티 값으로 만듦
+     */
+    public void putAfterCommit(Order order) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    put(OrderSnapshot.from(order));
+                }
+            });
+        } else {
+            put(OrderSnapshot.from(order));
+        }
+    }
+
+    /**
+     * 일괄 상태 전이 반영 (커밋 후, 트랜잭션 밖이면 즉시)
+     */
+    public void putAllAfterCommit(Collection<OrderSnapshot> snapshots) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    snapshots.forEach(OrderSnapshotCache.this::put);
+                }
+            });
+        } else {
+            snapshots.forEach(this::put);
+        }
+    }
+
+    public void evict(String orderId) {
+        snapshots.invalidate(orderId);
+    }
+}
@@ -1,21 +1,30 @@
 package com.example.api_server.order.controller;
 
+import com.example.api_server.order.dto.BatchCreateOrderResponse;
 import com.example.api_server.order.dto.CreateOrderRequest;
 import com.example.api_server.order.dto.CreateOrderResponse;
+import com.example.api_server.order.dto.OrderResponse;
+import com.example.api_server.order.service.OrderBatchService;
 import com.example.api_server.order.service.OrderService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 /**
  * 주문 컨트롤러
- * 주문 생성 API를 제공
+ * 주문 생성/일괄 생성/조회 API를 제공
  */
 @Slf4j
 @RestController
@@ -24,6 +33,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderBatchService orderBatchService;
 
     /**
      * 주문 생성
@@ -42,4 +52,33 @@ public class OrderController {
         log.info("Order created successfully - orderId: {}", response.getOrderId());
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
+
+    /**
+     * 주문 일괄 생성
+     * POST /api/orders/batch
+     * 본문(CreateOrderRequest 배열)은 @RequestBody로 바인딩하지 않고 스트리밍 파서로 읽음
+     *
+     * @param body 주문 생성 요청 JSON 배열
+     * @return 항목별 결과 (일부 항목이 실패해도 200 OK, 본문이 배열이 아니거나 최대 건수를 넘으면 400)
+     */
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BatchCreateOrderResponse> createOrders(InputStream body) throws IOException {
+        BatchCreateOrderResponse response = orderBatchService.createOrders(body);
+
+        log.info("POST /api/orders/batch - requested: {}, created: {}, failed: {}",
+                response.getRequested(), response.getCreated(), response.getFailed());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 주문 조회
+     * GET /api/orders/{orderId}
+     *
+     * @param orderId 주문 ID
+     * @return 주문 조회 응답 (없으면 404)
+     */
+    @GetMapping("/{orderId}")
+    public ResponseEntity<OrderResponse> getOrder(@PathVariable String orderId) {
+        return ResponseEntity.ok(orderService.getOrder(orderId));
+    }
 }
@@ -0,0 +1,36 @@
+package com.example.api_server.order.controller;
+
+import com.example.api_server.common.dto.CursorPageResponse;
+import com.example.api_server.order.dto.OrderSummaryResponse;
+import com.example.api_server.order.service.OrderService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 사용자 주문 컨트롤러
+ * 사용자별 주문 목록("내 주문") API를 제공
+ */
+@RestController
+@RequestMapping("/api/users/{userId}/orders")
+@RequiredArgsConstructor
+public class UserOrderController {
+
+    private final OrderService orderService;
+
+    /**
+     * 사용자 주문 목록 키셋 페이지 조회 (최신순)
+     * GET /api/users/{userId}/orders?after={nextCursor}&limit={N}
+     */
+    @GetMapping
+    public ResponseEntity<CursorPageResponse<OrderSummaryResponse>> getUserOrders(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(orderService.getUserOrders(userId, after, limit));
+    }
+}
@@ -6,7 +6,11 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_user_id_created_at_order_id",
+                columnList = "user_id, created_at desc, order_id desc, product_id, quantity, total_amount, status"),
+        @Index(name = "idx_orders_status_created_at", columnList = "status, created_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -80,4 +84,8 @@ public class Order {
     public boolean isPaid() {
         return this.status == OrderStatus.PAID;
     }
+
+    public boolean isExpired() {
+        return this.status == OrderStatus.EXPIRED;
+    }
 }
\ No newline at end of file
@@ -3,5 +3,6 @@ package com.example.api_server.order.domain;
 public enum OrderEventType {
     ORDER_CREATED,
     PAYMENT_APPROVED,
-    PAYMENT_FAILED
+    PAYMENT_FAILED,
+    ORDER_EXPIRED
 }
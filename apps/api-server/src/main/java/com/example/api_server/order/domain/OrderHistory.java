@@ -7,7 +7,9 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "order_histories")
+@Table(name = "order_histories", indexes = {
+        @Index(name = "idx_order_histories_order_id_created_at", columnList = "order_id, created_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -27,10 +29,26 @@ public class OrderHistory {
     @Column(nullable = false, length = 30)
     private OrderEventType eventType;
 
+    /**
+     * 이전 형식 payload (JSON 문자열, payloadCodec이 없는 행에만 존재)
+     */
     @Lob
     @Column(columnDefinition = "TEXT")
     private String payloadJson;
 
+    /**
+     * payload 인코딩 방식과 버전
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private PayloadCodec payloadCodec;
+
+    /**
+     * payloadCodec으로 인코딩한 payload
+     */
+    @Column(length = 2048)
+    private byte[] payload;
+
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
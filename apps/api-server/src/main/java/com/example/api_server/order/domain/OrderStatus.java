@@ -3,5 +3,6 @@ package com.example.api_server.order.domain;
 public enum OrderStatus {
     PENDING_PAYMENT,
     PAID,
-    PAYMENT_FAILED
+    PAYMENT_FAILED,
+    EXPIRED
 }
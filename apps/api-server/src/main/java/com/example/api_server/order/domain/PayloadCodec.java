@@ -0,0 +1,17 @@
+package com.example.api_server.order.domain;
+
+/**
+ * 주문 이력 payload 인코딩 방식과 버전
+ * 행마다 기록하여 인코딩 방식을 바꾸거나 이전 방식으로 되돌려도 기존 행을 그대로 읽을 수 있도록 함
+ * (값이 없는 행은 payload_json 컬럼에 JSON 문자열로 저장된 이전 형식)
+ */
+public enum PayloadCodec {
+    /**
+     * UTF-8 JSON 바이트
+     */
+    JSON_V1,
+    /**
+     * CBOR (RFC 8949)
+     */
+    CBOR_V1
+}
@@ -0,0 +1,45 @@
+package com.example.api_server.order.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 일괄 주문 생성 응답 DTO
+ * 항목별 결과는 요청 배열 순서와 같음
+ */
+@Getter
+@Builder
+public class BatchCreateOrderResponse {
+
+    /**
+     * 요청 항목 수
+     */
+    private final int requested;
+
+    /**
+     * 생성된 주문 수
+     */
+    private final int created;
+
+    /**
+     * 실패한 항목 수
+     */
+    private final int failed;
+
+    /**
+     * 항목별 결과
+     */
+    private final List<BatchOrderResult> results;
+
+    public static BatchCreateOrderResponse of(List<BatchOrderResult> results) {
+        int created = (int) results.stream().filter(BatchOrderResult::isCreated).count();
+        return BatchCreateOrderResponse.builder()
+                .requested(results.size())
+                .created(created)
+                .failed(results.size() - created)
+                .results(results)
+                .build();
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.api_server.order.dto;
+
+/**
+ * 일괄 주문 생성 항목
+ *
+ * @param index 요청 배열 내 위치 (0부터)
+ * @param request 주문 생성 요청
+ */
+public record BatchOrderItem(int index, CreateOrderRequest request) {
+}
@@ -0,0 +1,96 @@
+package com.example.api_server.order.dto;
+
+import com.example.api_server.common.exception.BusinessException;
+import com.example.api_server.order.domain.OrderStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 일괄 주문 생성 항목별 결과 DTO
+ * 성공하면 주문 정보를, 실패하면 에러 코드/메시지를 담음
+ */
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchOrderResult {
+
+    /**
+     * 요청 배열 내 위치 (0부터)
+     */
+    private final int index;
+
+    /**
+     * 생성 성공 여부
+     */
+    private final boolean created;
+
+    /**
+     * 주문 ID (성공 시)
+     */
+    private final String orderId;
+
+    /**
+     * 상품 ID
+     */
+    private final Long productId;
+
+    /**
+     * 주문 수량
+     */
+    private final Integer quantity;
+
+    /**
+     * 총 금액 (성공 시)
+     */
+    private final Long totalAmount;
+
+    /**
+     * 주문 상태 (성공 시)
+     */
+    private final OrderStatus status;
+
+    /**
+     * 에러 코드 (실패 시, 예: OUT_OF_STOCK, VALIDATION_FAILED)
+     */
+    private final String errorCode;
+
+    /**
+     * 에러 메시지 (실패 시)
+     */
+    private final String message;
+
+    /**
+     * 추가 상세 정보 (실패 시, 선택적)
+     */
+    private final String detail;
+
+    public static BatchOrderResult created(int index, CreateOrderResponse order) {
+        return BatchOrderResult.builder()
+                .index(index)
+                .created(true)
+                .orderId(order.getOrderId())
+                .productId(order.getProductId())
+                .quantity(order.getQuantity())
+                .totalAmount(order.getTotalAmount())
+                .status(order.getStatus())
+                .build();
+    }
+
+    public static BatchOrderResult failed(BatchOrderItem item, BusinessException ex) {
+        return failed(item.index(), item.request(), ex.getErrorCode(), ex.getMessage(), ex.getDetail());
+    }
+
+    public static BatchOrderResult failed(int index, CreateOrderRequest request,
+                                          String errorCode, String message, String detail) {
+        return BatchOrderResult.builder()
+                .index(index)
+                .created(false)
+                .productId(request == null ? null : request.getProductId())
+                .quantity(request == null ? null : request.getQuantity())
+                .errorCode(errorCode)
+                .message(message)
+                .detail(detail)
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.api_server.order.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 만료 이력 payload (ORDER_EXPIRED)
+ *
+ * @param reason 만료 사유 (결제 기한 초과: PAYMENT_TIMEOUT)
+ * @param expiredAt 만료 전이 시각
+ */
+public record OrderExpiredPayload(String reason, LocalDateTime expiredAt) {
+
+    public static final String PAYMENT_TIMEOUT = "PAYMENT_TIMEOUT";
+
+    public static OrderExpiredPayload paymentTimeout(LocalDateTime expiredAt) {
+        return new OrderExpiredPayload(PAYMENT_TIMEOUT, expiredAt);
+    }
+}
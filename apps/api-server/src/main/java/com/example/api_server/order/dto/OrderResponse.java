@@ -0,0 +1,69 @@
+package com.example.api_server.order.dto;
+
+import com.example.api_server.order.cache.OrderSnapshot;
+import com.example.api_server.order.domain.OrderStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 조회 응답 DTO
+ */
+@Getter
+@Builder
+public class OrderResponse {
+
+    /**
+     * 주문 ID
+     */
+    private final String orderId;
+
+    /**
+     * 사용자 ID
+     */
+    private final Long userId;
+
+    /**
+     * 상품 ID
+     */
+    private final Long productId;
+
+    /**
+     * 주문 수량
+     */
+    private final Integer quantity;
+
+    /**
+     * 총 금액 (할인 가격 × 수량)
+     */
+    private final Long totalAmount;
+
+    /**
+     * 주문 상태
+     */
+    private final OrderStatus status;
+
+    /**
+     * 주문 시각
+     */
+    private final LocalDateTime createdAt;
+
+    /**
+     * 마지막 상태 변경 시각
+     */
+    private final LocalDateTime updatedAt;
+
+    public static OrderResponse from(OrderSnapshot order) {
+        return OrderResponse.builder()
+                .orderId(order.orderId())
+                .userId(order.userId())
+                .productId(order.productId())
+                .quantity(order.quantity())
+                .totalAmount(order.totalAmount())
+                .status(order.status())
+                .createdAt(order.createdAt())
+                .updatedAt(order.updatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.api_server.order.dto;
+
+import com.example.api_server.order.domain.OrderStatus;
+import com.example.api_server.order.repository.OrderRepository.OrderSummary;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 주문 목록 항목 응답 DTO
+ */
+@Getter
+@Builder
+public class OrderSummaryResponse {
+
+    /**
+     * 주문 ID
+     */
+    private final String orderId;
+
+    /**
+     * 상품 ID
+     */
+    private final Long productId;
+
+    /**
+     * 주문 수량
+     */
+    private final Integer quantity;
+
+    /**
+     * 총 금액
+     */
+    private final Long totalAmount;
+
+    /**
+     * 주문 상태
+     */
+    private final OrderStatus status;
+
+    /**
+     * 주문 시각
+     */
+    private final LocalDateTime createdAt;
+
+    public static OrderSummaryResponse from(OrderSummary order) {
+        return OrderSummaryResponse.builder()
+                .orderId(order.getOrderId())
+                .productId(order.getProductId())
+                .quantity(order.getQuantity())
+                .totalAmount(order.getTotalAmount())
+                .status(order.getStatus())
+                .createdAt(order.getCreatedAt())
+                .build();
+    }
+}
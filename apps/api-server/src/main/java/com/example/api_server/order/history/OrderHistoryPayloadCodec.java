@@ -0,0 +1,109 @@
+package com.example.api_server.order.history;
+
+import com.example.api_server.order.domain.OrderHistory;
+import com.example.api_server.order.domain.PayloadCodec;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 주문 이력 payload 코덱
+ * payload를 설정된 방식(app.order.history.payload-codec, 기본 CBOR_V1)으로 인코딩하고,
+ * 행에 기록된 방식에 따라 API 응답용 JSON 문자열로 되돌림
+ *
+ * CBOR는 JSON과 같은 데이터 모델의 바이너리 형식이라 스키마 없이 그대로 JSON으로 변환할 수 있으며,
+ * 숫자/길이 정보를 바이너리로 담아 JSON 문자열보다 작고 TEXT LOB 대신 VARBINARY 컬럼에 저장됨
+ */
+@Component
+public class OrderHistoryPayloadCodec {
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper cborMapper;
+    private final PayloadCodec writeCodec;
+
+    @Autowired
+    public OrderHistoryPayloadCodec(ObjectMapper objectMapper,
+                                    @Value("${app.order.history.payload-codec:CBOR_V1}") PayloadCodec writeCodec) {
+        this.jsonMapper = objectMapper;
+        // JSON ObjectMapper의 모듈/설정(JavaTimeModule 등)을 그대로 쓰는 CBOR 매퍼
+        this.cborMapper = objectMapper.copyWith(new CBORFactory());
+        this.writeCodec = writeCodec;
+    }
+
+    /**
+     * 설정된 방식으로 payload 인코딩
+     */
+    public EncodedPayload encode(Object payload) {
+        return encode(payload, writeCodec);
+    }
+
+    public EncodedPayload encode(Object payload, PayloadCodec codec) {
+        try {
+            byte[] bytes = switch (codec) {
+                case JSON_V1 -> jsonMapper.writeValueAsBytes(payload);
+                case CBOR_V1 -> cborMapper.writeValueAsBytes(payload);
+            };
+            return new EncodedPayload(codec, bytes);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("주문 이력 payload를 인코딩할 수 없습니다. codec: " + codec, e);
+        }
+    }
+
+    /**
+     * 주문 이력 payload를 JSON 문자열로 변환 (이전 형식 행은 저장된 JSON 그대로)
+     */
+    public String toJson(OrderHistory history) {
+        return toJson(history.getPayloadCodec(), history.getPayload(), history.getPayloadJson());
+    }
+
+    /**
+     * payload를 JSON 문자열로 변환
+     *
+     * @param codec 행에 기록된 인코딩 방식 (없으면 이전 형식)
+     * @param payload 인코딩된 payload
+     * @param legacyJson 이전 형식 payload
+     */
+    public String toJson(PayloadCodec codec, byte[] payload, String legacyJson) {
+        if (codec == null) {
+            return legacyJson;
+        }
+        return switch (codec) {
+            case JSON_V1 -> new String(payload, StandardCharsets.UTF_8);
+            case CBOR_V1 -> {
+                try {
+                    yield jsonMapper.writeValueAsString(cborMapper.readTree(payload));
+                } catch (IOException e) {
+                    throw new UncheckedIOException("주문 이력 payload를 해석할 수 없습니다. codec: " + codec, e);
+                }
+            }
+        };
+    }
+
+    /**
+     * 이전 형식(JSON 문자열) payload를 설정된 방식으로 다시 인코딩
+     */
+    public EncodedPayload reencodeLegacyJson(String legacyJson) {
+        try {
+            return encode(jsonMapper.readTree(legacyJson));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("이전 형식 주문 이력 payload를 해석할 수 없습니다.", e);
+        }
+    }
+
+    public PayloadCodec writeCodec() {
+        return writeCodec;
+    }
+
+    /**
+     * 인코딩된 payload
+     */
+    public record EncodedPayload(PayloadCodec codec, byte[] bytes) {
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.api_server.order.history;
+
+import com.example.api_server.order.history.OrderHistoryPayloadCodec.EncodedPayload;
+import com.example.api_server.order.repository.OrderHistoryJdbcRepository;
+import com.example.api_server.order.repository.OrderHistoryJdbcRepository.LegacyPayload;
+import com.example.api_server.order.repository.OrderHistoryJdbcRepository.MigratedPayload;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 주문 이력 payload 마이그레이션 도구
+ * 이전 형식(payload_json TEXT) 이력을 설정된 코덱으로 다시 인코딩해 payload 컬럼으로 옮기고 payload_json을 비움
+ *
+ * - app.order.history.payload-migration.enabled=true로 기동하면 애플리케이션 시작 후 한 번 실행
+ * - ID 순 키셋 페이지네이션으로 batch-size건씩 처리하므로 중단 후 다시 실행해도 남은 행부터 이어서 처리
+ * - 해석할 수 없는 payload는 로그만 남기고 이전 형식 그대로 둠 (읽기 시 그대로 반환됨)
+ */
+@Slf4j
+@Component
+public class OrderHistoryPayloadMigrator {
+
+    private final OrderHistoryJdbcRepository orderHistoryJdbcRepository;
+    private final OrderHistoryPayloadCodec payloadCodec;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public OrderHistoryPayloadMigrator(OrderHistoryJdbcRepository orderHistoryJdbcRepository,
+                                       OrderHistoryPayloadCodec payloadCodec,
+                                       @Value("${app.order.history.payload-migration.enabled:false}") boolean enabled,
+                                       @Value("${app.order.history.payload-migration.batch-size:1000}") int batchSize) {
+        this.orderHistoryJdbcRepository = orderHistoryJdbcRepository;
+        this.payloadCodec = payloadCodec;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateOnStartup() {
+        if (enabled) {
+            migrate();
+        }
+    }
+
+    /**
+     * 이전 형식 이력을 모두 변환
+     *
+     * @return 변환된 행 수
+     */
+    public long migrate() {
+        log.info("Order history payload migration started - codec: {}, batchSize: {}",
+                payloadCodec.writeCodec(), batchSize);
+        long migrated = 0;
+        long skipped = 0;
+        long lastId = 0;
+        while (true) {
+            List<LegacyPayload> legacyPayloads = orderHistoryJdbcRepository.findLegacyPayloads(lastId, batchSize);
+            if (legacyPayloads.isEmpty()) {
+                break;
+            }
+            List<MigratedPayload> payloads = new ArrayList<>(legacyPayloads.size());
+            for (LegacyPayload legacy : legacyPayloads) {
+                try {
+                    EncodedPayload encoded = payloadCodec.reencodeLegacyJson(legacy.payloadJson());
+                    payloads.add(new MigratedPayload(legacy.id(), encoded.codec(), encoded.bytes()));
+                } catch (IllegalArgumentException e) {
+                    skipped++;
+                    log.warn("Skipping unreadable order history payload - id: {}", legacy.id(), e);
+                }
+            }
+            if (!payloads.isEmpty()) {
+                migrated += orderHistoryJdbcRepository.updatePayloads(payloads);
+            }
+            lastId = legacyPayloads.get(legacyPayloads.size() - 1).id();
+        }
+        log.info("Order history payload migration finished - migrated: {}, skipped: {}", migrated, skipped);
+        return migrated;
+    }
+}
@@ -0,0 +1,286 @@
+package com.example.api_server.order.history;
+
+import com.example.api_server.common.jfr.OrderHistoryWriteEvent;
+import com.example.api_server.order.domain.OrderEventType;
+import com.example.api_server.order.history.OrderHistoryPayloadCodec.EncodedPayload;
+import com.example.api_server.order.repository.OrderHistoryJdbcRepository;
+import com.example.api_server.order.repository.OrderHistoryJdbcRepository.OrderHistoryRow;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 주문 이력 기록기 (write-behind)
+ * 주문/결제 트랜잭션 안에서 주문 이력을 INSERT하지 않고, 커밋 후 큐에 넣어 백그라운드 스레드가 JDBC batch로 일괄 기록함
+ *
+ * - payload는 호출 시점에 인코딩하고 createdAt도 호출 시각으로 기록 (기록 시각이 아닌 이벤트 시각)
+ * - 트랜잭션 안에서 호출되면 커밋 후에만 큐에 넣으므로 롤백된 이벤트는 기록되지 않음
+ * - batch-size건이 모이거나 flush-interval이 지나면 기록
+ * - 큐가 가득 차면 enqueue-timeout만큼 기다리고, 그래도 자리가 없으면 호출 스레드에서 직접 기록 (유실 대신 지연)
+ * - 종료 시 새 이벤트는 호출 스레드에서 직접 기록하고, 큐에 남은 이벤트는 모두 기록한 뒤 종료
+ * - 기록에 실패한 batch는 max-attempts까지 다시 시도하고, 그래도 실패하면 로그를 남기고 버림
+ */
+@Slf4j
+@Component
+public class OrderHistoryRecorder {
+
+    private static final long RETRY_BACKOFF_MILLIS = 200;
+
+    /**
+     * 기록 스레드가 종료 여부를 확인하는 최대 간격 (flush-interval이 길어도 종료가 늦어지지 않도록)
+     */
+    private static final long SHUTDOWN_CHECK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final OrderHistoryJdbcRepository orderHistoryJdbcRepository;
+    private final OrderHistoryPayloadCodec payloadCodec;
+    private final BlockingQueue<OrderHistoryRow> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long enqueueTimeoutNanos;
+    private final int maxAttempts;
+    private final Clock clock;
+    private final Thread writer;
+
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile boolean running;
+
+    @Autowired
+    public OrderHistoryRecorder(OrderHistoryJdbcRepository orderHistoryJdbcRepository,
+                                OrderHistoryPayloadCodec payloadCodec,
+                                @Value("${app.order.history.queue-capacity:10000}") int queueCapacity,
+                                @Value("${app.order.history.batch-size:500}") int batchSize,
+                                @Value("${app.order.history.flush-interval:100ms}") Duration flushInterval,
+                                @Value("${app.order.history.enqueue-timeout:50ms}") Duration enqueueTimeout,
+                                @Value("${app.order.history.max-attempts:3}") int maxAttempts) {
+        this(orderHistoryJdbcRepository, payloadCodec, queueCapacity, batchSize, flushInterval, enqueueTimeout,
+                maxAttempts, Clock.systemDefaultZone());
+    }
+
+    OrderHistoryRecorder(OrderHistoryJdbcRepository orderHistoryJdbcRepository,
+                         OrderHistoryPayloadCodec payloadCodec,
+                         int queueCapacity,
+                         int batchSize,
+                         Duration flushInterval,
+                         Duration enqueueTimeout,
+                         int maxAttempts,
+                         Clock clock) {
+        this.orderHistoryJdbcRepository = orderHistoryJdbcRepository;
+        this.payloadCodec = payloadCodec;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.enqueueTimeoutNanos = enqueueTimeout.toNanos();
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.clock = clock;
+        this.writer = new Thread(this::run, "order-history-writer");
+        this.writer.setDaemon(true);
+    }
+
+    @PostConstruct
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        writer.start();
+    }
+
+    /**
+     * 주문 이력 기록 요청
+     * 트랜잭션 안이면 커밋 후에, 아니면 즉시 기록 큐에 넣음
+     *
+     * @param orderId 주문 ID
+     * @param eventType 이벤트 타입
+     * @param payload 인코딩할 payload (OrderHistoryPayloadCodec)
+     */
+    public void record(String orderId, OrderEventType eventType, Object payload) {
+        EncodedPayload encoded = encode(payload);
+        OrderHistoryRow row = new OrderHistoryRow(orderId, eventType, encoded.codec(), encoded.bytes(),
+                LocalDateTime.now(clock));
+        afterCommit(() -> enqueue(row));
+        log.debug("Order history queued - orderId: {}, eventType: {}", orderId, eventType);
+    }
+
+    /**
+     * 여러 주문의 같은 이벤트 이력을 한 번에 기록 요청 (주문 만료 등 일괄 상태 전이)
+     * payload는 한 번만 인코딩해 모든 행이 공유하고, 트랜잭션 안이면 커밋 후에 모두 기록 큐에 넣음
+     *
+     * @param orderIds 주문 ID 목록
+     * @param eventType 이벤트 타입
+     * @param payload 인코딩할 payload (OrderHistoryPayloadCodec)
+     */
+    public void recordAll(Collection<String> orderIds, OrderEventType eventType, Object payload) {
+        if (orderIds.isEmpty()) {
+            return;
+        }
+        EncodedPayload encoded = encode(payload);
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<OrderHistoryRow> rows = orderIds.stream()
+                .map(orderId -> new OrderHistoryRow(orderId, eventType, encoded.codec(), encoded.bytes(), now))
+                .toList();
+        afterCommit(() -> rows.forEach(this::enqueue));
+        log.debug("Order histories queued - count: {}, eventType: {}", rows.size(), eventType);
+    }
+
+    /**
+     * 기록 대기 중인 이력 수
+     */
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * 지금까지 기록한 이력 수
+     */
+    public long writtenCount() {
+        return written.get();
+    }
+
+    /**
+     * 재시도 후에도 기록하지 못해 버린 이력 수
+     */
+    public long droppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * 기록 스레드 종료: 큐에 남은 이력을 모두 기록한 뒤 종료
+     */
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (!running) {
+            return;
+        }
+        // 기록 스레드는 SHUTDOWN_CHECK_NANOS마다 종료 여부를 확인 (JDBC 호출 중 인터럽트하지 않음)
+        running = false;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 기록 스레드가 끝난 뒤 들어온 이력까지 마저 기록
+        drainRemaining();
+        log.info("Order history recorder stopped - written: {}, dropped: {}", written.get(), dropped.get());
+    }
+
+    private EncodedPayload encode(Object payload) {
+        try {
+            return payloadCodec.encode(payload);
+        } catch (IllegalArgumentException e) {
+            log.error("Failed to serialize order history payload", e);
+            throw new RuntimeException("주문 이력 기록 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void enqueue(OrderHistoryRow row) {
+        if (running) {
+            try {
+                if (queue.offer(row, enqueueTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                    return;
+                }
+                log.warn("Order history queue full, writing on caller thread - orderId: {}", row.orderId());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        write(List.of(row));
+    }
+
+    private void run() {
+        List<OrderHistoryRow> batch = new ArrayList<>(batchSize);
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (running) {
+            try {
+                long wait = Math.min(SHUTDOWN_CHECK_NANOS, Math.max(0L, deadline - System.nanoTime()));
+                OrderHistoryRow row = queue.poll(wait, TimeUnit.NANOSECONDS);
+                if (row != null) {
+                    batch.add(row);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+            } catch (InterruptedException e) {
+                log.warn("Order history writer interrupted, continuing until shutdown");
+            }
+            if (batch.size() >= batchSize || (!batch.isEmpty() && System.nanoTime() >= deadline)) {
+                write(batch);
+                batch.clear();
+            }
+            if (System.nanoTime() >= deadline) {
+                deadline = System.nanoTime() + flushIntervalNanos;
+            }
+        }
+        queue.drainTo(batch);
+        writeInBatches(batch);
+    }
+
+    private void drainRemaining() {
+        List<OrderHistoryRow> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        writeInBatches(remaining);
+    }
+
+    private void writeInBatches(List<OrderHistoryRow> rows) {
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            write(rows.subList(from, Math.min(rows.size(), from + batchSize)));
+        }
+    }
+
+    private void write(List<OrderHistoryRow> rows) {
+        for (int attempt = 1; ; attempt++) {
+            OrderHistoryWriteEvent event = OrderHistoryWriteEvent.start(rows.size(), attempt);
+            try {
+                orderHistoryJdbcRepository.insertAll(rows);
+                event.succeeded();
+                written.addAndGet(rows.size());
+                return;
+            } catch (RuntimeException e) {
+                event.failed(e);
+                if (attempt >= maxAttempts) {
+                    dropped.addAndGet(rows.size());
+                    log.error("Failed to write order histories, dropping batch - size: {}, first orderId: {}",
+                            rows.size(), rows.get(0).orderId(), e);
+                    return;
+                }
+                log.warn("Failed to write order histories, retrying - size: {}, attempt: {}", rows.size(), attempt, e);
+                sleepBeforeRetry(attempt);
+            }
+        }
+    }
+
+    private void sleepBeforeRetry(int attempt) {
+        try {
+            Thread.sleep(RETRY_BACKOFF_MILLIS * attempt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
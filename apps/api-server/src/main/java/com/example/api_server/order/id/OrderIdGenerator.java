@@ -0,0 +1,15 @@
+package com.example.api_server.order.id;
+
+/**
+ * 주문 ID 생성기
+ * 여러 노드에서 동시에 호출해도 충돌하지 않는 주문 ID를 생성
+ */
+public interface OrderIdGenerator {
+
+    /**
+     * 새 주문 ID 생성
+     *
+     * @return ORD-로 시작하는 주문 ID
+     */
+    String nextId();
+}
@@ -0,0 +1,109 @@
+package com.example.api_server.order.id;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * Snowflake 방식 주문 ID 생성기
+ * 형식: ORD-yyyyMMdd-NNNNNNNNNNNNNNN (날짜 + 15자리 10진수)
+ *
+ * 15자리 본문은 [하루 중 경과 밀리초 27비트 | 노드 ID 10비트 | 시퀀스 12비트]를 10진수로 0을 채워 기록하므로
+ * - 노드 ID(app.order.id.node-id, 0 ~ 1023)가 노드마다 다르면 노드 간에 충돌하지 않음
+ * - 한 노드에서 밀리초당 4,096개까지 생성하며, 초과하면 다음 밀리초를 미리 사용함
+ * - 문자열 순서가 생성 순서와 같음
+ * - 시스템 시계가 뒤로 가면 마지막으로 사용한 시각을 계속 사용하여 중복을 막음
+ *
+ * 날짜 접두사는 하루 단위로 캐시하고, 재사용 버퍼에 직접 기록하여 호출당 결과 문자열 하나만 할당함
+ */
+@Component
+public class SnowflakeOrderIdGenerator implements OrderIdGenerator {
+
+    public static final int NODE_ID_BITS = 10;
+    public static final int SEQUENCE_BITS = 12;
+    public static final long MAX_NODE_ID = (1L << NODE_ID_BITS) - 1;
+
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+    private static final int BODY_DIGITS = 15;
+
+    // "ORD-yyyyMMdd-" 13자 + 본문 15자
+    private static final int PREFIX_LENGTH = 13;
+    private static final int ID_LENGTH = PREFIX_LENGTH + BODY_DIGITS;
+
+    private final long nodeId;
+    private final Clock clock;
+    private final ZoneId zone;
+    private final char[] buffer = new char[ID_LENGTH];
+
+    private long lastTimestamp = -1L;
+    private long sequence;
+    private long dayStartMillis = Long.MAX_VALUE;
+    private long dayEndMillis = Long.MIN_VALUE;
+
+    @Autowired
+    public SnowflakeOrderIdGenerator(@Value("${app.order.id.node-id:0}") long nodeId) {
+        this(nodeId, Clock.systemDefaultZone());
+    }
+
+    SnowflakeOrderIdGenerator(long nodeId, Clock clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID는 0 ~ " + MAX_NODE_ID + " 범위여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+        this.zone = clock.getZone();
+        "ORD-".getChars(0, 4, buffer, 0);
+        buffer[PREFIX_LENGTH - 1] = '-';
+    }
+
+    @Override
+    public synchronized String nextId() {
+        long timestamp = nextTimestamp();
+        if (timestamp < dayStartMillis || timestamp >= dayEndMillis) {
+            updateDayPrefix(timestamp);
+        }
+
+        long body = ((timestamp - dayStartMillis) << (NODE_ID_BITS + SEQUENCE_BITS))
+                | (nodeId << SEQUENCE_BITS)
+                | sequence;
+        for (int i = ID_LENGTH - 1; i >= PREFIX_LENGTH; i--) {
+            buffer[i] = (char) ('0' + body % 10);
+            body /= 10;
+        }
+        return new String(buffer);
+    }
+
+    /**
+     * 이번 ID에 사용할 시각(밀리초) 결정 및 시퀀스 증가
+     */
+    private long nextTimestamp() {
+        long now = clock.millis();
+        if (now > lastTimestamp) {
+            lastTimestamp = now;
+            sequence = 0;
+        } else if (++sequence > MAX_SEQUENCE) {
+            // 같은 밀리초(또는 시계가 뒤로 간 경우)에 시퀀스를 다 쓰면 다음 밀리초를 미리 사용
+            lastTimestamp++;
+            sequence = 0;
+        }
+        return lastTimestamp;
+    }
+
+    private void updateDayPrefix(long timestamp) {
+        LocalDate date = Instant.ofEpochMilli(timestamp).atZone(zone).toLocalDate();
+        dayStartMillis = date.atStartOfDay(zone).toInstant().toEpochMilli();
+        // 서머타임으로 하루가 25시간이어도 27비트(약 37시간) 안에 들어감
+        dayEndMillis = date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+
+        int value = date.getYear() * 10_000 + date.getMonthValue() * 100 + date.getDayOfMonth();
+        for (int i = PREFIX_LENGTH - 2; i >= 4; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
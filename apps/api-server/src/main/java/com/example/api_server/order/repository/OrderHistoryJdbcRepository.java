@@ -0,0 +1,92 @@
+package com.example.api_server.order.repository;
+
+import com.example.api_server.order.domain.OrderEventType;
+import com.example.api_server.order.domain.PayloadCodec;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 이력 일괄 기록용 JDBC 리포지토리
+ * OrderHistory는 IDENTITY 키라 JPA로는 한 건씩 INSERT하므로, 엔티티를 거치지 않고 JDBC batch로 기록
+ * (MySQL은 rewriteBatchedStatements=true면 여러 행 INSERT 한 문장으로 전송됨)
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderHistoryJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 주문 이력 일괄 기록 (JDBC batch)
+     */
+    public void insertAll(List<OrderHistoryRow> rows) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO order_histories (order_id, event_type, payload_codec, payload, created_at) "
+                        + "VALUES (?, ?, ?, ?, ?)",
+                rows,
+                rows.size(),
+                (ps, row) -> {
+                    ps.setString(1, row.orderId());
+                    ps.setString(2, row.eventType().name());
+                    ps.setString(3, row.payloadCodec().name());
+                    ps.setBytes(4, row.payload());
+                    ps.setTimestamp(5, Timestamp.valueOf(row.createdAt()));
+                });
+    }
+
+    /**
+     * 이전 형식(payload_json) 이력을 ID 순으로 조회
+     *
+     * @param afterId 이 ID 이후부터 조회 (키셋 페이지네이션)
+     * @param limit 최대 조회 건수
+     */
+    public List<LegacyPayload> findLegacyPayloads(long afterId, int limit) {
+        return jdbcTemplate.query(
+                "SELECT id, payload_json FROM order_histories "
+                        + "WHERE id > ? AND payload_codec IS NULL AND payload_json IS NOT NULL ORDER BY id LIMIT ?",
+                (rs, rowNum) -> new LegacyPayload(rs.getLong("id"), rs.getString("payload_json")),
+                afterId, limit);
+    }
+
+    /**
+     * 다시 인코딩한 payload 일괄 반영 (JDBC batch)
+     * 그 사이 다른 작업이 먼저 변환한 행은 건너뜀
+     *
+     * @return 반영된 행 수
+     */
+    public int updatePayloads(List<MigratedPayload> payloads) {
+        int[][] counts = jdbcTemplate.batchUpdate(
+                "UPDATE order_histories SET payload_codec = ?, payload = ?, payload_json = NULL "
+                        + "WHERE id = ? AND payload_codec IS NULL",
+                payloads,
+                payloads.size(),
+                (ps, payload) -> {
+                    ps.setString(1, payload.payloadCodec().name());
+                    ps.setBytes(2, payload.payload());
+                    ps.setLong(3, payload.id());
+                });
+        int updated = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                // 드라이버가 건수를 알려주지 않으면(SUCCESS_NO_INFO) 반영된 것으로 봄
+                updated += count < 0 ? 1 : count;
+            }
+        }
+        return updated;
+    }
+
+    public record OrderHistoryRow(String orderId, OrderEventType eventType, PayloadCodec payloadCodec,
+                                  byte[] payload, LocalDateTime createdAt) {
+    }
+
+    public record LegacyPayload(long id, String payloadJson) {
+    }
+
+    public record MigratedPayload(long id, PayloadCodec payloadCodec, byte[] payload) {
+    }
+}
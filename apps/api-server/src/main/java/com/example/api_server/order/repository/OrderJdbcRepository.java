@@ -0,0 +1,43 @@
+package com.example.api_server.order.repository;
+
+import com.example.api_server.order.domain.Order;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * 주문 일괄 기록용 JDBC 리포지토리
+ * Order는 주문 ID를 식별자로 직접 지정하므로 JPA save는 건마다 SELECT 후 INSERT함
+ * 일괄 주문 생성 시에는 새 주문임이 확실하므로 엔티티를 거치지 않고 JDBC batch로 기록
+ * (MySQL은 rewriteBatchedStatements=true면 여러 행 INSERT 한 문장으로 전송됨)
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 주문 일괄 기록 (JDBC batch, createdAt/updatedAt이 채워진 주문이어야 함)
+     */
+    public void insertAll(List<Order> orders) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO orders (order_id, user_id, product_id, quantity, total_amount, status, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                orders,
+                orders.size(),
+                (ps, order) -> {
+                    ps.setString(1, order.getOrderId());
+                    ps.setLong(2, order.getUserId());
+                    ps.setLong(3, order.getProductId());
+                    ps.setInt(4, order.getQuantity());
+                    ps.setLong(5, order.getTotalAmount());
+                    ps.setString(6, order.getStatus().name());
+                    ps.setTimestamp(7, Timestamp.valueOf(order.getCreatedAt()));
+                    ps.setTimestamp(8, Timestamp.valueOf(order.getUpdatedAt()));
+                });
+    }
+}
@@ -1,9 +1,117 @@
 package com.example.api_server.order.repository;
 
 import com.example.api_server.order.domain.Order;
+import com.example.api_server.order.domain.OrderStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
 public interface OrderRepository extends JpaRepository<Order, String> {
-}
\ No newline at end of file
+
+    /**
+     * 사용자 주문 목록 첫 페이지 (최신순)
+     * (user_id, created_at desc, order_id desc, ...) 커버링 인덱스를 정렬 없이 순서대로 읽고, 엔티티 대신 목록 항목만 조회
+     * 정렬에 userId를 포함해야 H2도 인덱스 순서를 그대로 사용함 (조건이 userId 하나라 결과 순서는 같음)
+     */
+    @Query("select o.orderId as orderId, o.productId as productId, o.quantity as quantity, "
+            + "o.totalAmount as totalAmount, o.status as status, o.createdAt as createdAt "
+            + "from Order o where o.userId = :userId "
+            + "order by o.userId, o.createdAt desc, o.orderId desc")
+    List<OrderSummary> findUserOrders(@Param("userId") Long userId, Limit limit);
+
+    /**
+     * 사용자 주문 목록 다음 페이지 (키셋: 커서 (createdAt, orderId)보다 이전 주문을 최신순으로)
+     * OFFSET 없이 인덱스에서 커서 위치부터 읽으므로 페이지 깊이와 무관하게 비용이 일정
+     * createdAt <= 커서 조건을 따로 두어 인덱스 탐색 범위가 커서 위치에서 시작하도록 함
+     */
+    @Query("select o.orderId as orderId, o.productId as productId, o.quantity as quantity, "
+            + "o.totalAmount as totalAmount, o.status as status, o.createdAt as createdAt "
+            + "from Order o where o.userId = :userId "
+            + "and o.createdAt <= :createdAt and (o.createdAt < :createdAt or o.orderId < :orderId) "
+            + "order by o.userId, o.createdAt desc, o.orderId desc")
+    List<OrderSummary> findUserOrdersBefore(@Param("userId") Long userId,
+                                            @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("orderId") String orderId,
+                                            Limit limit);
+
+    /**
+     * 지정한 상태의 주문 ID와 생성 시각을 스트리밍 조회
+     * (기동 시 만료 휠 재구성용, (status, created_at) 인덱스 범위 스캔, 트랜잭션 안에서 사용하고 반드시 close 해야 함)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select o.orderId as orderId, o.createdAt as createdAt from Order o where o.status = :status")
+    Stream<PendingOrder> streamByStatus(@Param("status") OrderStatus status);
+
+    /**
+     * 지정한 주문 중 현재 상태가 status인 주문을 비관적 락으로 조회
+     * 만료 전이 전에 대상 행을 잠가, 여러 노드가 같은 주문을 동시에 만료시켜도 한 노드만 전이하도록 함
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from Order o where o.orderId in :orderIds and o.status = :status")
+    List<Order> findAllByIdAndStatusForUpdate(@Param("orderIds") Collection<String> orderIds,
+                                              @Param("status") OrderStatus status);
+
+    /**
+     * 주문 ID로 비관적 락 조회
+     * 결제 요청 기록 전에 주문 행을 잠가, 같은 주문의 만료 전이와 직렬화함
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from Order o where o.orderId = :orderId")
+    Optional<Order> findByIdForUpdate(@Param("orderId") String orderId);
+
+    /**
+     * 조건부 일괄 상태 전이 (단일 UPDATE 문)
+     * 현재 상태가 from인 주문만 to로 바꾸며, 영향받은 행 수를 반환
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update Order o set o.status = :to, o.updatedAt = :now "
+            + "where o.orderId in :orderIds and o.status = :from")
+    int transitStatus(@Param("orderIds") Collection<String> orderIds,
+                      @Param("from") OrderStatus from,
+                      @Param("to") OrderStatus to,
+                      @Param("now") LocalDateTime now);
+
+    /**
+     * 만료 대기 주문 (주문 ID와 생성 시각만 조회)
+     */
+    interface PendingOrder {
+        String getOrderId();
+
+        LocalDateTime getCreatedAt();
+    }
+
+    /**
+     * 사용자 주문 목록 항목 (커버링 인덱스 컬럼만 조회)
+     */
+    interface OrderSummary {
+        String getOrderId();
+
+        Long getProductId();
+
+        Integer getQuantity();
+
+        Long getTotalAmount();
+
+        OrderStatus getStatus();
+
+        LocalDateTime getCreatedAt();
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.api_server.order.service;
+
+import com.example.api_server.common.exception.BusinessException;
+import com.example.api_server.common.exception.InvalidOrderBatchException;
+import com.example.api_server.order.dto.BatchCreateOrderResponse;
+import com.example.api_server.order.dto.BatchOrderItem;
+import com.example.api_server.order.dto.BatchOrderResult;
+import com.example.api_server.order.dto.CreateOrderRequest;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 일괄 주문 생성 서비스 (POST /api/orders/batch)
+ * TV 주문 데스크, 콜센터 등 제휴 채널이 몰아서 보내는 주문을 한 요청으로 받아 항목별 결과를 반환
+ *
+ * - 요청 본문은 스트리밍 파서로 항목 하나씩 읽으므로 본문 전체나 JSON 트리를 메모리에 올리지 않음
+ * - 주문을 만들기 전에 본문 전체를 읽어, 배열이 아니거나 max-items를 넘으면 아무것도 만들지 않고 400 응답
+ * - Bean Validation에 실패한 항목은 VALIDATION_FAILED 결과로 남기고 나머지만 처리
+ * - chunk-size건씩 하나의 트랜잭션으로 처리 (OrderService.createOrders)
+ * - 청크 처리 중 동시 주문으로 재고가 부족해지는 등 청크 전체가 롤백되면 그 청크만 항목별 주문 생성으로 다시 처리
+ * - 예상하지 못한 예외(DB 오류 등)도 청크/항목 단위로 잡아 INTERNAL_SERVER_ERROR 결과로 남김
+ *   (앞 청크가 이미 커밋된 뒤 500으로 끝나면 클라이언트가 어떤 주문이 만들어졌는지 알 수 없으므로, 항상 항목별 결과를 반환)
+ */
+@Slf4j
+@Service
+public class OrderBatchService {
+
+    private static final String INTERNAL_ERROR_CODE = "INTERNAL_SERVER_ERROR";
+    private static final String INTERNAL_ERROR_MESSAGE = "서버 내부 오류가 발생했습니다.";
+
+    private final OrderService orderService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int maxItems;
+    private final int chunkSize;
+
+    public OrderBatchService(OrderService orderService,
+                             ObjectMapper objectMapper,
+                             Validator validator,
+                             @Value("${app.order.batch.max-items:1000}") int maxItems,
+                             @Value("${app.order.batch.chunk-size:100}") int chunkSize) {
+        this.orderService = orderService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.maxItems = maxItems;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * 주문 일괄 생성
+     *
+     * @param body 주문 생성 요청(CreateOrderRequest) JSON 배열
+     * @return 항목별 결과 (요청 배열 순서)
+     * @throws InvalidOrderBatchException 본문이 주문 배열이 아니거나 max-items를 넘는 경우
+     */
+    public BatchCreateOrderResponse createOrders(InputStream body) throws IOException {
+        List<CreateOrderRequest> requests = read(body);
+        BatchOrderResult[] results = new BatchOrderResult[requests.size()];
+
+        List<BatchOrderItem> chunk = new ArrayList<>(chunkSize);
+        for (int index = 0; index < requests.size(); index++) {
+            CreateOrderRequest request = requests.get(index);
+            String violation = validate(request);
+            if (violation != null) {
+                results[index] = BatchOrderResult.failed(index, request, "VALIDATION_FAILED", violation, null);
+                continue;
+            }
+            chunk.add(new BatchOrderItem(index, request));
+            if (chunk.size() == chunkSize) {
+                process(chunk, results);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            process(chunk, results);
+        }
+
+        return BatchCreateOrderResponse.of(Arrays.asList(results));
+    }
+
+    /**
+     * 요청 본문을 항목 단위로 스트리밍 파싱
+     */
+    private List<CreateOrderRequest> read(InputStream body) throws IOException {
+        List<CreateOrderRequest> requests = new ArrayList<>();
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new InvalidOrderBatchException("Request body must be a JSON array");
+            }
+            for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                if (token == null) {
+                    throw new InvalidOrderBatchException("Unexpected end of JSON array");
+                }
+                if (requests.size() >= maxItems) {
+                    throw new InvalidOrderBatchException("Max items: " + maxItems);
+                }
+                requests.add(token == JsonToken.VALUE_NULL ? null : objectMapper.readValue(parser, CreateOrderRequest.class));
+            }
+        } catch (JsonProcessingException e) {
+            throw new InvalidOrderBatchException(e.getOriginalMessage());
+        }
+        return requests;
+    }
+
+    /**
+     * Bean Validation (GlobalExceptionHandler와 같은 형식의 메시지, 통과하면 null)
+     */
+    private String validate(CreateOrderRequest request) {
+        if (request == null) {
+            return "주문 항목이 비어 있습니다.";
+        }
+        Set<ConstraintViolation<CreateOrderRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private void process(List<BatchOrderItem> chunk, BatchOrderResult[] results) {
+        try {
+            for (BatchOrderResult result : orderService.createOrders(chunk)) {
+                results[result.getIndex()] = result;
+            }
+        } catch (RuntimeException e) {
+            if (e instanceof BusinessException) {
+                log.warn("Order batch chunk rolled back, retrying item by item - items: {}, reason: {}",
+                        chunk.size(), e.getMessage());
+            } else {
+                log.error("Order batch chunk failed unexpectedly, retrying item by item - items: {}", chunk.size(), e);
+            }
+            for (BatchOrderItem item : chunk) {
+                results[item.index()] = createOne(item);
+            }
+        }
+    }
+
+    private BatchOrderResult createOne(BatchOrderItem item) {
+        try {
+            return BatchOrderResult.created(item.index(), orderService.createOrder(item.request()));
+        } catch (BusinessException e) {
+            return BatchOrderResult.failed(item, e);
+        } catch (RuntimeException e) {
+            log.error("Order batch item failed unexpectedly - index: {}", item.index(), e);
+            return BatchOrderResult.failed(item.index(), item.request(),
+                    INTERNAL_ERROR_CODE, INTERNAL_ERROR_MESSAGE, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.api_server.order.service;
+
+import com.example.api_server.common.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 사용자 주문 목록 키셋 커서 (이전 페이지 마지막 주문의 createdAt, orderId)
+ * 클라이언트가 구조에 의존하지 않도록 "createdAt|orderId"를 URL-safe Base64로 인코딩해 전달
+ */
+record OrderCursor(LocalDateTime createdAt, String orderId) {
+
+    private static final char SEPARATOR = '|';
+
+    String encode() {
+        String raw = createdAt + String.valueOf(SEPARATOR) + orderId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws InvalidCursorException 인코딩 형식이 맞지 않는 경우
+     */
+    static OrderCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator <= 0 || separator == raw.length() - 1) {
+                throw new InvalidCursorException(cursor);
+            }
+            return new OrderCursor(LocalDateTime.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
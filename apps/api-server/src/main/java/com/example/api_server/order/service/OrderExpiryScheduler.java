@@ -0,0 +1,112 @@
+package com.example.api_server.order.service;
+
+import com.example.api_server.common.scheduling.ExpiryScheduler;
+import com.example.api_server.order.domain.OrderStatus;
+import com.example.api_server.order.repository.OrderRepository;
+import com.example.api_server.order.repository.OrderRepository.PendingOrder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 결제 대기 주문 만료 스케줄러
+ * 결제 기한(생성 시각 + ttl)을 ExpiryScheduler에 등록하여, 기한이 지난 주문을 batch-size건씩 OrdersExpiredEvent로 전달함
+ * (OrderService가 조건부 UPDATE 한 번으로 EXPIRED 전이)
+ *
+ * - 결제 결과로 주문이 마감되어도 휠에서 취소하지 않음 (만료 시 PENDING_PAYMENT 조건에 걸리지 않아 무시됨)
+ * - 결제가 진행 중이라 만료시키지 않은 주문은 retry-delay 후 다시 확인 (PG 호출 전 거절로 결제 요청이 지워지면 그때 만료)
+ * - 기동 시 PENDING_PAYMENT 주문을 (status, created_at) 인덱스 범위 스캔 한 번으로 읽어 재구성
+ *   (다른 노드에서 생성된 주문도 함께 등록되며, 만료 전이는 행 잠금으로 한 노드만 수행)
+ */
+@Slf4j
+@Component
+public class OrderExpiryScheduler {
+
+    private final OrderRepository orderRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+    private final Clock clock;
+    private final ExpiryScheduler<String> scheduler;
+
+    @Autowired
+    public OrderExpiryScheduler(OrderRepository orderRepository,
+                                ApplicationEventPublisher eventPublisher,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${app.order.expiry.ttl:30m}") Duration ttl,
+                                @Value("${app.order.expiry.tick-duration:1s}") Duration tickDuration,
+                                @Value("${app.order.expiry.wheel-size:512}") int wheelSize,
+                                @Value("${app.order.expiry.batch-size:500}") int batchSize,
+                                @Value("${app.order.expiry.retry-delay:5s}") Duration retryDelay,
+                                @Value("${app.order.expiry.workers:2}") int workers,
+                                @Value("${app.order.expiry.queue-capacity:256}") int queueCapacity) {
+        this(orderRepository, eventPublisher, transactionTemplate, ttl, tickDuration, wheelSize, batchSize, retryDelay,
+                workers, queueCapacity, Clock.systemDefaultZone());
+    }
+
+    OrderExpiryScheduler(OrderRepository orderRepository,
+                         ApplicationEventPublisher eventPublisher,
+                         TransactionTemplate transactionTemplate,
+                         Duration ttl,
+                         Duration tickDuration,
+                         int wheelSize,
+                         int batchSize,
+                         Duration retryDelay,
+                         int workers,
+                         int queueCapacity,
+                         Clock clock) {
+        this.orderRepository = orderRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.scheduler = new ExpiryScheduler<>("order-expiry", tickDuration, wheelSize, batchSize, retryDelay,
+                workers, queueCapacity, clock, orderIds -> eventPublisher.publishEvent(new OrdersExpiredEvent(orderIds)));
+    }
+
+    /**
+     * 기동 시 PENDING_PAYMENT 주문으로 타이밍 휠 재구성 (이미 기한이 지난 주문은 다음 틱에 만료)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        int restored = scheduler.rebuild(transactionTemplate,
+                () -> orderRepository.streamByStatus(OrderStatus.PENDING_PAYMENT),
+                PendingOrder::getOrderId, order -> order.getCreatedAt().plus(ttl));
+        log.info("Order expiry wheel rebuilt - pendingOrders: {}", restored);
+    }
+
+    /**
+     * 트랜잭션 커밋 후 결제 기한 등록 (지금부터 ttl, 트랜잭션 밖이면 즉시 등록)
+     */
+    public void scheduleAfterCommit(String orderId) {
+        scheduler.scheduleAfterCommit(orderId, LocalDateTime.now(clock).plus(ttl));
+    }
+
+    /**
+     * 트랜잭션 커밋 후 retry-delay 뒤에 만료 여부를 다시 확인하도록 등록 (결제 진행 중이라 만료를 미룬 주문)
+     */
+    public void recheckAfterCommit(Collection<String> orderIds) {
+        scheduler.retryAfterCommit(orderIds);
+    }
+
+    /**
+     * 만료 대기 중인 주문 수
+     */
+    public int pendingCount() {
+        return scheduler.pendingCount();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.api_server.order.service;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 주문 만료 거부권
+ * 다른 도메인(결제)이 만료시키면 안 되는 주문을 알려 주는 확장 지점으로, 주문 도메인이 그 도메인에 의존하지 않도록 함
+ * OrderService.expire가 만료 대상 주문 행을 잠근 뒤 같은 트랜잭션에서 호출함
+ */
+public interface OrderExpiryVeto {
+
+    /**
+     * 지금 만료시키면 안 되는 주문 ID (retry-delay 후 다시 확인)
+     *
+     * @param orderIds 잠근 PENDING_PAYMENT 주문 ID
+     */
+    Set<String> vetoedOrderIds(Collection<String> orderIds);
+}
@@ -1,27 +1,52 @@
 package com.example.api_server.order.service;
 
+import com.example.api_server.common.datasource.RecentWriteTracker;
+import com.example.api_server.common.dto.CursorPageResponse;
+import com.example.api_server.common.exception.BusinessException;
 import com.example.api_server.common.exception.OrderNotFoundException;
+import com.example.api_server.common.exception.OutOfStockException;
+import com.example.api_server.common.exception.ProductNotAvailableException;
+import com.example.api_server.common.exception.ProductNotFoundException;
 import com.example.api_server.common.exception.QuantityInvalidException;
+import com.example.api_server.common.jfr.OrderCreatedEvent;
+import com.example.api_server.common.jfr.StockCheckEvent;
+import com.example.api_server.common.metrics.StageMetrics;
+import com.example.api_server.order.cache.OrderSnapshot;
+import com.example.api_server.order.cache.OrderSnapshotCache;
 import com.example.api_server.order.domain.Order;
 import com.example.api_server.order.domain.OrderEventType;
-import com.example.api_server.order.domain.OrderHistory;
 import com.example.api_server.order.domain.OrderStatus;
+import com.example.api_server.order.dto.BatchOrderItem;
+import com.example.api_server.order.dto.BatchOrderResult;
 import com.example.api_server.order.dto.CreateOrderRequest;
 import com.example.api_server.order.dto.CreateOrderResponse;
-import com.example.api_server.order.repository.OrderHistoryRepository;
+import com.example.api_server.order.dto.OrderExpiredPayload;
+import com.example.api_server.order.dto.OrderResponse;
+import com.example.api_server.order.dto.OrderSummaryResponse;
+import com.example.api_server.order.history.OrderHistoryRecorder;
+import com.example.api_server.order.id.OrderIdGenerator;
+import com.example.api_server.order.repository.OrderJdbcRepository;
 import com.example.api_server.order.repository.OrderRepository;
-import com.example.api_server.product.domain.Product;
+import com.example.api_server.order.repository.OrderRepository.OrderSummary;
+import com.example.api_server.product.cache.ProductSnapshot;
 import com.example.api_server.product.service.ProductService;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.api_server.reservation.service.StockReservationService;
+import com.example.api_server.reservation.service.StockReservationService.ReservationItem;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.util.Random;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * 주문 서비스
@@ -33,10 +58,22 @@ import java.util.Random;
 @Transactional
 public class OrderService {
 
+    /**
+     * 사용자 주문 목록 페이지 최대 크기
+     */
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final OrderRepository orderRepository;
-    private final OrderHistoryRepository orderHistoryRepository;
+    private final OrderJdbcRepository orderJdbcRepository;
     private final ProductService productService;
-    private final ObjectMapper objectMapper;
+    private final StockReservationService stockReservationService;
+    private final OrderIdGenerator orderIdGenerator;
+    private final OrderHistoryRecorder orderHistoryRecorder;
+    private final StageMetrics stageMetrics;
+    private final RecentWriteTracker recentWriteTracker;
+    private final OrderSnapshotCache orderSnapshotCache;
+    private final OrderExpiryScheduler orderExpiryScheduler;
+    private final OrderExpiryVeto orderExpiryVeto;
 
     /**
      * 주문 생성
@@ -48,24 +85,46 @@ public class OrderService {
         log.info("Creating order - userId: {}, productId: {}, quantity: {}",
                 request.getUserId(), request.getProductId(), request.getQuantity());
 
+        OrderCreatedEvent event = OrderCreatedEvent.start();
+        long start = System.nanoTime();
+        try {
+            CreateOrderResponse response = doCreateOrder(request);
+            stageMetrics.record(StageMetrics.ORDER_CREATE, "total", start, StageMetrics.SUCCESS);
+            event.finish(response.getOrderId(), response.getUserId(), response.getProductId(),
+                    response.getQuantity(), response.getTotalAmount());
+            return response;
+        } catch (RuntimeException e) {
+            stageMetrics.record(StageMetrics.ORDER_CREATE, "total", start, StageMetrics.outcomeOf(e));
+            throw e;
+        }
+    }
+
+    /**
+     * 주문 생성 단계 (단계마다 order.create.stage 타이머에 기록, 커밋은 commit 단계로 기록)
+     */
+    private CreateOrderResponse doCreateOrder(CreateOrderRequest request) {
+        String flow = StageMetrics.ORDER_CREATE;
+        stageMetrics.recordCommit(flow);
+
         // 1. 수량 검증
-        validateQuantity(request.getQuantity());
+        stageMetrics.record(flow, "quantity_validation", () -> validateQuantity(request.getQuantity()));
 
         // 2. 상품 조회 및 검증
-        Product product = productService.getProductOrThrow(request.getProductId());
-        productService.validateProductAvailability(product);
-        productService.validateStockAvailability(product, request.getQuantity());
-
-        // TODO: 재고 차감은 결제 승인 성공 시점(PaymentService)에 처리
-        //       현재는 재고 검증만 수행하고 실제 차감은 하지 않음
+        ProductSnapshot product = stageMetrics.record(flow, "product_lookup",
+                () -> productService.getProductSnapshot(request.getProductId()));
+        stageMetrics.record(flow, "stock_check", () -> checkStock(product, request.getQuantity()));
 
         // 3. 총 금액 계산
-        Long totalAmount = product.getDiscountPrice() * request.getQuantity();
+        Long totalAmount = product.discountPrice() * request.getQuantity();
 
         // 4. 주문 ID 생성
-        String orderId = generateOrderId();
+        String orderId = stageMetrics.record(flow, "order_id", orderIdGenerator::nextId);
+
+        // 5. 재고 예약 (TTL 동안 재고를 잡아 두고, 결제 승인 시 확정 / 결제 실패·만료 시 해제)
+        stageMetrics.record(flow, "stock_reservation",
+                () -> stockReservationService.reserve(orderId, request.getProductId(), request.getQuantity()));
 
-        // 5. 주문 생성
+        // 6. 주문 생성
         Order order = Order.builder()
                 .orderId(orderId)
                 .userId(request.getUserId())
@@ -74,25 +133,130 @@ public class OrderService {
                 .totalAmount(totalAmount)
                 .status(OrderStatus.PENDING_PAYMENT)
                 .build();
-        orderRepository.save(order);
+        stageMetrics.record(flow, "order_insert", () -> orderRepository.save(order));
+        orderSnapshotCache.putAfterCommit(order);
+        orderExpiryScheduler.scheduleAfterCommit(orderId);
 
-        // 6. 주문 이력 기록
-        recordOrderHistory(orderId, OrderEventType.ORDER_CREATED, request);
+        // 7. 주문 이력 기록 (payload 직렬화 후 커밋 시 큐에 넣고 백그라운드에서 일괄 기록)
+        stageMetrics.record(flow, "history_record",
+                () -> orderHistoryRecorder.record(orderId, OrderEventType.ORDER_CREATED, request));
+
+        // 8. 직후 조회(결제 승인 등)가 복제 지연으로 주문을 못 찾지 않도록 주 DB 읽기 고정
+        recentWriteTracker.markWritten(
+                RecentWriteTracker.orderKey(orderId), RecentWriteTracker.userKey(request.getUserId()));
 
         log.info("Order created successfully - orderId: {}", orderId);
 
-        return CreateOrderResponse.builder()
-                .orderId(order.getOrderId())
-                .userId(order.getUserId())
-                .productId(order.getProductId())
-                .quantity(order.getQuantity())
-                .totalAmount(order.getTotalAmount())
-                .status(order.getStatus())
-                .build();
+        return toResponse(order);
+    }
+
+    /**
+     * 주문 일괄 생성 (POST /api/orders/batch의 한 청크를 하나의 트랜잭션으로 처리)
+     * - 상품은 중복 없는 ID로 한 번에 조회하고, 상품별 가용 재고를 요청 순서대로 배정하여 부족한 항목만 실패 처리
+     * - 재고는 상품별 합산 수량으로 한 번씩 차감하고, 주문/재고 예약은 JDBC batch로 기록
+     * - 항목 검증 실패는 결과로만 남기고 예외를 던지지 않음 (ProductService 경유 예외는 트랜잭션을 롤백 전용으로 만들기 때문)
+     * - 배정 후 차감 시점에 동시 주문으로 재고가 부족해지면 예외로 청크 전체가 롤백되므로,
+     *   호출 측(OrderBatchService)이 해당 청크를 항목별로 다시 처리
+     *
+     * @param items Bean Validation을 통과한 주문 생성 항목
+     * @return 항목별 결과 (items 순서)
+     */
+    public List<BatchOrderResult> createOrders(List<BatchOrderItem> items) {
+        Map<Long, ProductSnapshot> products = productService.getProducts(
+                items.stream().map(item -> item.request().getProductId()).toList());
+        Map<Long, Integer> remainingStock = new HashMap<>();
+
+        List<BatchOrderResult> results = new ArrayList<>(items.size());
+        List<Order> orders = new ArrayList<>(items.size());
+        List<ReservationItem> reservations = new ArrayList<>(items.size());
+        Set<String> writtenKeys = new LinkedHashSet<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (BatchOrderItem item : items) {
+            CreateOrderRequest request = item.request();
+            try {
+                ProductSnapshot product = allocateStock(request, products, remainingStock);
+
+                Order order = Order.builder()
+                        .orderId(orderIdGenerator.nextId())
+                        .userId(request.getUserId())
+                        .productId(request.getProductId())
+                        .quantity(request.getQuantity())
+                        .totalAmount(product.discountPrice() * request.getQuantity())
+                        .status(OrderStatus.PENDING_PAYMENT)
+                        .createdAt(now)
+                        .updatedAt(now)
+                        .build();
+                orders.add(order);
+                reservations.add(new ReservationItem(order.getOrderId(), order.getProductId(), order.getQuantity()));
+                orderSnapshotCache.putAfterCommit(order);
+                orderExpiryScheduler.scheduleAfterCommit(order.getOrderId());
+                orderHistoryRecorder.record(order.getOrderId(), OrderEventType.ORDER_CREATED, request);
+                writtenKeys.add(RecentWriteTracker.orderKey(order.getOrderId()));
+                writtenKeys.add(RecentWriteTracker.userKey(order.getUserId()));
+                results.add(BatchOrderResult.created(item.index(), toResponse(order)));
+            } catch (BusinessException e) {
+                results.add(BatchOrderResult.failed(item, e));
+            }
+        }
+
+        if (!orders.isEmpty()) {
+            stockReservationService.reserveAll(reservations);
+            orderJdbcRepository.insertAll(orders);
+            recentWriteTracker.markWritten(writtenKeys.toArray(String[]::new));
+        }
+
+        log.info("Orders created in batch - requested: {}, created: {}, products: {}",
+                items.size(), orders.size(), products.size());
+        return results;
+    }
+
+    /**
+     * 결제 기한이 지난 주문 일괄 만료 (OrderExpiryScheduler가 타이밍 휠 틱마다 batch-size건씩 전달)
+     * 아직 PENDING_PAYMENT인 주문만 비관적 락으로 잠근 뒤 조건부 UPDATE 한 번으로 EXPIRED 전이하고,
+     * ORDER_EXPIRED 이력은 커밋 후 한 번에 기록 큐에 넣음
+     * - 결제 결과가 이미 반영된 주문, 다른 노드가 먼저 만료시킨 주문은 잠금 조회에서 빠짐
+     * - OrderExpiryVeto가 거부한 주문(결제 진행 중 등)은 만료시키지 않고 retry-delay 후 다시 확인
+     *   (결제 요청 기록도 주문 행을 잠그므로 둘은 직렬화되고, EXPIRED 주문은 더 이상 결제 결과로 바뀌지 않음)
+     * - 재고는 재고 예약 TTL에 따라 StockReservationService가 따로 되돌림
+     * 실패하면 예외가 스케줄러로 전달되어 retry-delay 후 재시도
+     */
+    @EventListener
+    public void expire(OrdersExpiredEvent event) {
+        List<Order> locked = orderRepository.findAllByIdAndStatusForUpdate(
+                event.orderIds(), OrderStatus.PENDING_PAYMENT);
+        Set<String> vetoed = locked.isEmpty() ? Set.of() : orderExpiryVeto.vetoedOrderIds(
+                locked.stream().map(Order::getOrderId).toList());
+        if (!vetoed.isEmpty()) {
+            orderExpiryScheduler.recheckAfterCommit(vetoed);
+        }
+        List<Order> orders = locked.stream().filter(order -> !vetoed.contains(order.getOrderId())).toList();
+        if (orders.isEmpty()) {
+            log.debug("No orders to expire - candidates: {}", event.orderIds().size());
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<String> orderIds = orders.stream().map(Order::getOrderId).toList();
+        int expired = orderRepository.transitStatus(orderIds, OrderStatus.PENDING_PAYMENT, OrderStatus.EXPIRED, now);
+
+        orderSnapshotCache.putAllAfterCommit(orders.stream()
+                .map(order -> OrderSnapshot.from(order).withStatus(OrderStatus.EXPIRED, now))
+                .toList());
+        orderHistoryRecorder.recordAll(orderIds, OrderEventType.ORDER_EXPIRED, OrderExpiredPayload.paymentTimeout(now));
+        Set<String> writtenKeys = new LinkedHashSet<>();
+        for (Order order : orders) {
+            writtenKeys.add(RecentWriteTracker.orderKey(order.getOrderId()));
+            writtenKeys.add(RecentWriteTracker.userKey(order.getUserId()));
+        }
+        recentWriteTracker.markWritten(writtenKeys.toArray(String[]::new));
+
+        log.info("Orders expired - candidates: {}, expired: {}, vetoed: {}",
+                event.orderIds().size(), expired, vetoed.size());
     }
 
     /**
      * 주문 조회 (없으면 예외 발생)
+     * 단독 호출 시 복제본에서 읽되, 최근에 생성/변경된 주문이면 주 DB에서 읽음
      *
      * @param orderId 주문 ID
      * @return 주문 엔티티
@@ -100,45 +264,143 @@ public class OrderService {
      */
     @Transactional(readOnly = true)
     public Order getOrderOrThrow(String orderId) {
-        return orderRepository.findById(orderId)
+        return recentWriteTracker.read(RecentWriteTracker.orderKey(orderId), () -> orderRepository.findById(orderId))
                 .orElseThrow(() -> new OrderNotFoundException(orderId));
     }
 
     /**
-     * 수량 검증
+     * 주문 잠금 조회 (없으면 예외 발생)
+     * 호출한 트랜잭션이 끝날 때까지 주 DB의 주문 행을 잠가 만료 전이와 직렬화함 (결제 요청 기록용)
+     *
+     * @param orderId 주문 ID
+     * @return 주문 엔티티
+     * @throws OrderNotFoundException 주문을 찾을 수 없는 경우
      */
-    private void validateQuantity(Integer quantity) {
-        if (quantity == null || quantity <= 0) {
-            throw new QuantityInvalidException(quantity);
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Order getOrderForUpdate(String orderId) {
+        return orderRepository.findByIdForUpdate(orderId)
+                .orElseThrow(() -> new OrderNotFoundException(orderId));
+    }
+
+    /**
+     * 주문 조회 (GET /api/orders/{orderId})
+     *
+     * @param orderId 주문 ID
+     * @return 주문 조회 응답
+     * @throws OrderNotFoundException 주문을 찾을 수 없는 경우
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public OrderResponse getOrder(String orderId) {
+        return OrderResponse.from(getOrderSnapshot(orderId));
+    }
+
+    /**
+     * 주문 스냅샷 조회 (주문 캐시 read-through)
+     * 캐시 히트면 트랜잭션(DB 커넥션) 없이 반환하고, 미스면 getOrderOrThrow와 같은 규칙으로 읽어 캐시에 채움
+     * 읽기 전용 값이므로 상태를 바꿔야 하면 getOrderOrThrow로 엔티티를 조회해야 함
+     *
+     * @param orderId 주문 ID
+     * @return 주문 스냅샷
+     * @throws OrderNotFoundException 주문을 찾을 수 없는 경우
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public OrderSnapshot getOrderSnapshot(String orderId) {
+        return orderSnapshotCache.get(orderId).orElseGet(() -> {
+            OrderSnapshot snapshot = OrderSnapshot.from(getOrderOrThrow(orderId));
+            orderSnapshotCache.put(snapshot);
+            return snapshot;
+        });
+    }
+
+    /**
+     * 사용자 주문 목록 키셋 페이지 조회 (최신순)
+     * (createdAt, orderId) 커서 이후의 주문만 커버링 인덱스에서 읽으므로 페이지 깊이와 무관하게 비용이 일정
+     * 단독 호출 시 복제본에서 읽되, 해당 사용자가 최근에 주문/결제했으면 주 DB에서 읽음
+     *
+     * @param userId 사용자 ID
+     * @param after 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param limit 페이지 크기 (1 ~ MAX_PAGE_SIZE로 보정)
+     * @return 주문 목록 페이지
+     * @throws com.example.api_server.common.exception.InvalidCursorException 커서를 해석할 수 없는 경우
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<OrderSummaryResponse> getUserOrders(Long userId, String after, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        OrderCursor cursor = after == null ? null : OrderCursor.decode(after);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Limit fetch = Limit.of(pageSize + 1);
+        List<OrderSummary> orders = recentWriteTracker.read(RecentWriteTracker.userKey(userId), () -> cursor == null
+                ? orderRepository.findUserOrders(userId, fetch)
+                : orderRepository.findUserOrdersBefore(userId, cursor.createdAt(), cursor.orderId(), fetch));
+
+        boolean hasNext = orders.size() > pageSize;
+        List<OrderSummaryResponse> items = orders.stream()
+                .limit(pageSize)
+                .map(OrderSummaryResponse::from)
+                .toList();
+        String nextCursor = null;
+        if (hasNext) {
+            OrderSummaryResponse last = items.get(items.size() - 1);
+            nextCursor = new OrderCursor(last.getCreatedAt(), last.getOrderId()).encode();
         }
+        return CursorPageResponse.of(items, nextCursor);
     }
 
     /**
-     * 주문 ID 생성
-     * 형식: ORD-YYYYMMDD-NNNN
+     * 일괄 주문 항목 검증 및 재고 배정 (상품별 남은 재고에서 요청 수량을 차감해 둠)
      */
-    private String generateOrderId() {
-        String datePart = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        String randomPart = String.format("%04d", new Random().nextInt(10000));
-        return String.format("ORD-%s-%s", datePart, randomPart);
+    private ProductSnapshot allocateStock(CreateOrderRequest request, Map<Long, ProductSnapshot> products,
+                                          Map<Long, Integer> remainingStock) {
+        validateQuantity(request.getQuantity());
+        ProductSnapshot product = products.get(request.getProductId());
+        if (product == null) {
+            throw new ProductNotFoundException(request.getProductId());
+        }
+        if (!product.isAvailable()) {
+            throw new ProductNotAvailableException(product.productId());
+        }
+        int remaining = remainingStock.computeIfAbsent(product.productId(),
+                productId -> productService.getAvailableStock(product));
+        if (remaining < request.getQuantity()) {
+            throw new OutOfStockException(request.getQuantity(), remaining);
+        }
+        remainingStock.put(product.productId(), remaining - request.getQuantity());
+        return product;
+    }
+
+    private static CreateOrderResponse toResponse(Order order) {
+        return CreateOrderResponse.builder()
+                .orderId(order.getOrderId())
+                .userId(order.getUserId())
+                .productId(order.getProductId())
+                .quantity(order.getQuantity())
+                .totalAmount(order.getTotalAmount())
+                .status(order.getStatus())
+                .build();
     }
 
     /**
-     * 주문 이력 기록
+     * 상품 판매 가능 여부 및 재고 검증 (StockCheck JFR 이벤트 기록)
      */
-    private void recordOrderHistory(String orderId, OrderEventType eventType, Object payload) {
+    private void checkStock(ProductSnapshot product, Integer quantity) {
+        StockCheckEvent event = StockCheckEvent.start(StockCheckEvent.ORDER, product.productId(), quantity);
         try {
-            String payloadJson = objectMapper.writeValueAsString(payload);
-            OrderHistory history = OrderHistory.builder()
-                    .orderId(orderId)
-                    .eventType(eventType)
-                    .payloadJson(payloadJson)
-                    .build();
-            orderHistoryRepository.save(history);
-            log.debug("Order history recorded - orderId: {}, eventType: {}", orderId, eventType);
-        } catch (JsonProcessingException e) {
-            log.error("Failed to serialize order history payload", e);
-            throw new RuntimeException("주문 이력 기록 중 오류가 발생했습니다.", e);
+            productService.validateProductAvailability(product);
+            productService.validateStockAvailability(product, quantity);
+            event.passed();
+        } catch (RuntimeException e) {
+            event.failed(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 수량 검증
+     */
+    private void validateQuantity(Integer quantity) {
+        if (quantity == null || quantity <= 0) {
+            throw new QuantityInvalidException(quantity);
         }
     }
 }
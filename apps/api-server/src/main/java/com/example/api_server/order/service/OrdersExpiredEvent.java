@@ -0,0 +1,11 @@
+package com.example.api_server.order.service;
+
+import java.util.List;
+
+/**
+ * 타이밍 휠의 한 틱에서 결제 기한이 지난 주문 목록 (최대 app.order.expiry.batch-size건)
+ *
+ * @param orderIds 결제 기한이 지난 주문 ID
+ */
+public record OrdersExpiredEvent(List<String> orderIds) {
+}
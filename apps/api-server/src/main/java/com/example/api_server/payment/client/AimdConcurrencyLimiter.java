@@ -0,0 +1,115 @@
+package com.example.api_server.payment.client;
+
+/**
+ * 적응형 동시 호출 한도 (AIMD)
+ * 관측한 응답 시간으로 PG가 감당할 수 있는 동시 호출 수를 추정하여 한도를 조절함
+ *
+ * - 기준 응답 시간: 약 probeInterval건에 걸친 장기 평균 (지수 이동 평균)
+ * - 혼잡 판단: 최근 약 10건의 단기 평균이 기준의 latencyTolerance배를 넘거나 호출이 실패한 경우
+ *   (개별 응답이 아닌 평균끼리 비교하므로 300ms ~ 3s처럼 응답 시간 편차가 큰 PG에서도 정상 응답을 혼잡으로 보지 않음)
+ * - 혼잡이면 한도를 backoffRatio배로 줄이되, 한 윈도(줄인 뒤 한도만큼의 호출이 끝날 때까지, 약 한 RTT)에 한 번만 줄임
+ *   (같은 혼잡 구간에 동시에 진행 중이던 호출들의 신호가 겹쳐 한도가 최소로 떨어지지 않도록)
+ * - 혼잡이 아니고 한도의 절반 이상을 쓰고 있었으면 한도를 1 늘림 (additive increase, 한가할 때는 늘리지 않음)
+ * - 한도에 도달하면 기다리지 않고 거절
+ */
+public final class AimdConcurrencyLimiter {
+
+    /**
+     * 단기 평균 응답 시간의 표본 수
+     */
+    private static final int SHORT_WINDOW = 10;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    private final int probeInterval;
+
+    private volatile int limit;
+    private volatile int inFlight;
+    private double shortRttNanos;
+    private double longRttNanos;
+    private long samples;
+    private int samplesSinceDecrease = Integer.MAX_VALUE;
+
+    /**
+     * @param initialLimit 초기 한도
+     * @param minLimit 최소 한도
+     * @param maxLimit 최대 한도
+     * @param backoffRatio 감소 시 곱하는 비율 (0 < ratio < 1)
+     * @param latencyTolerance 기준 응답 시간 대비 혼잡으로 보는 배율 (> 1)
+     * @param probeInterval 기준 응답 시간(장기 평균)의 표본 수
+     */
+    public AimdConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                  double backoffRatio, double latencyTolerance, int probeInterval) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("1 <= minLimit <= maxLimit 이어야 합니다.");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1 || latencyTolerance <= 1) {
+            throw new IllegalArgumentException("0 < backoffRatio < 1, latencyTolerance > 1 이어야 합니다.");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyTolerance = latencyTolerance;
+        this.probeInterval = Math.max(1, probeInterval);
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * 호출 허용 여부 (허용했으면 호출 후 반드시 onSample을 호출해야 함)
+     */
+    public synchronized boolean tryAcquire() {
+        if (inFlight >= limit) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * 호출 결과 반영 및 허가 반납
+     *
+     * @param rttNanos 호출 소요 시간
+     * @param dropped 실패(예외, PG 시스템 오류) 여부
+     */
+    public synchronized void onSample(long rttNanos, boolean dropped) {
+        int utilised = inFlight;
+        inFlight--;
+
+        if (!dropped) {
+            updateRtt(rttNanos);
+        }
+        if (samplesSinceDecrease < Integer.MAX_VALUE) {
+            samplesSinceDecrease++;
+        }
+
+        boolean congested = dropped || shortRttNanos > longRttNanos * latencyTolerance;
+        if (congested) {
+            if (samplesSinceDecrease >= limit) {
+                limit = Math.max(minLimit, (int) (limit * backoffRatio));
+                samplesSinceDecrease = 0;
+            }
+        } else if (utilised * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * 단기/장기 평균 응답 시간 갱신
+     * 표본이 윈도보다 적은 동안은 누적 평균을 써서 초기 몇 건에 기준이 치우치지 않도록 함
+     */
+    private void updateRtt(long rttNanos) {
+        samples++;
+        shortRttNanos += (rttNanos - shortRttNanos) / Math.min(samples, SHORT_WINDOW);
+        longRttNanos += (rttNanos - longRttNanos) / Math.min(samples, probeInterval);
+    }
+}
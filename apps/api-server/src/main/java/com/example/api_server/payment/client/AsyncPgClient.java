@@ -0,0 +1,117 @@
+package com.example.api_server.payment.client;
+
+import com.example.api_server.common.concurrent.VirtualThreads;
+import com.example.api_server.common.exception.PgBulkheadFullException;
+import com.example.api_server.common.exception.PgTimeoutException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 비동기 PG 클라이언트
+ * PgClient의 동기 호출을 가상 스레드에서 실행하고, 호출별 제한 시간과 동시 호출 수 제한(벌크헤드)을 적용함
+ *
+ * - 벌크헤드: 진행 중인 PG 호출이 max-concurrent-calls에 도달하면 기다리지 않고 PgBulkheadFullException으로 즉시 거절
+ * - 제한 시간: timeout 안에 응답이 없으면 PgTimeoutException으로 완료하고 호출 스레드를 인터럽트
+ *   (PG 측 승인 여부는 알 수 없으므로 호출 측이 결과 조회로 마감해야 함)
+ * - 반환된 future는 CompletionException으로 감싸지 않은 원래 예외로 완료됨
+ */
+@Slf4j
+@Component
+public class AsyncPgClient {
+
+    private final PgClient pgClient;
+    private final ExecutorService executor;
+    private final Semaphore bulkhead;
+    private final int maxConcurrentCalls;
+    private final long timeoutMillis;
+
+    @Autowired
+    public AsyncPgClient(PgClient pgClient,
+                         @Value("${app.payment.pg.timeout:3s}") Duration timeout,
+                         @Value("${app.payment.pg.max-concurrent-calls:64}") int maxConcurrentCalls) {
+        this(pgClient, VirtualThreads.newPerTaskExecutor("pg-call-"), timeout, maxConcurrentCalls);
+    }
+
+    AsyncPgClient(PgClient pgClient, ExecutorService executor, Duration timeout, int maxConcurrentCalls) {
+        this.pgClient = pgClient;
+        this.executor = executor;
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    /**
+     * PG사에 비동기로 결제 승인 요청
+     *
+     * @param paymentKey PG사에서 발급한 결제 키
+     * @param orderId 주문 ID
+     * @param amount 결제 금액
+     * @return PG 승인 결과 future (PgBulkheadFullException, PgTimeoutException 또는 PG 호출 예외로 실패할 수 있음)
+     */
+    public CompletableFuture<PgApprovalResult> approveAsync(String paymentKey, String orderId, Long amount) {
+        if (!bulkhead.tryAcquire()) {
+            log.warn("PG bulkhead full, rejecting approval - orderId: {}, maxConcurrentCalls: {}", orderId, maxConcurrentCalls);
+            return CompletableFuture.failedFuture(new PgBulkheadFullException(maxConcurrentCalls));
+        }
+
+        CompletableFuture<PgApprovalResult> result = new CompletableFuture<>();
+        AtomicBoolean started = new AtomicBoolean();
+        Future<?> call;
+        try {
+            call = executor.submit(() -> {
+                if (!started.compareAndSet(false, true)) {
+                    return; // 시작 전에 제한 시간이 지나 허가가 이미 반납됨
+                }
+                PgApprovalResult pgResult;
+                try {
+                    pgResult = pgClient.approve(paymentKey, orderId, amount);
+                } catch (Throwable t) {
+                    bulkhead.release();
+                    result.completeExceptionally(t);
+                    return;
+                }
+                // 후속 처리(결과 반영)가 이 스레드에서 이어지므로 허가를 먼저 반납
+                bulkhead.release();
+                result.complete(pgResult);
+            });
+        } catch (RuntimeException e) {
+            bulkhead.release();
+            return CompletableFuture.failedFuture(e);
+        }
+
+        CompletableFuture.delayedExecutor(timeoutMillis, TimeUnit.MILLISECONDS).execute(() -> {
+            if (result.completeExceptionally(new PgTimeoutException(orderId, timeoutMillis))) {
+                log.warn("PG approval timed out - orderId: {}, timeout: {}ms", orderId, timeoutMillis);
+                if (started.compareAndSet(false, true)) {
+                    bulkhead.release();
+                }
+                // 진행 중인 호출은 인터럽트에 응답해 끝날 때 허가를 반납
+                call.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 현재 사용 가능한 동시 호출 허가 수
+     */
+    public int availablePermits() {
+        return bulkhead.availablePermits();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -1,8 +1,13 @@
 package com.example.api_server.payment.client;
 
+import com.example.api_server.common.jfr.PgApprovalEvent;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Mock PG 클라이언트 구현체
  * 실제 PG사 연동 대신 시뮬레이션을 제공
@@ -11,6 +16,11 @@ import org.springframework.stereotype.Component;
 @Component
 public class MockPgClient implements PgClient {
 
+    /**
+     * 승인 결과 기록 (결과 조회 시뮬레이션용, 주문 ID 기준)
+     */
+    private final Map<String, PgApprovalResult> approvals = new ConcurrentHashMap<>();
+
     /**
      * Mock PG 승인 처리
      * - paymentKey가 "FAIL"로 시작하면 실패 반환
@@ -19,6 +29,23 @@ public class MockPgClient implements PgClient {
      */
     @Override
     public PgApprovalResult approve(String paymentKey, String orderId, Long amount) {
+        PgApprovalEvent event = PgApprovalEvent.start(MockPgClient.class.getSimpleName(), orderId, amount);
+        PgApprovalResult result = evaluate(paymentKey, orderId, amount);
+        approvals.put(orderId, result);
+        event.finish(result);
+        return result;
+    }
+
+    /**
+     * Mock PG 결과 조회: 이 인스턴스가 처리한 승인 결과를 반환
+     */
+    @Override
+    public Optional<PgApprovalResult> inquire(String paymentKey, String orderId) {
+        log.info("MockPgClient.inquire called - paymentKey: {}, orderId: {}", paymentKey, orderId);
+        return Optional.ofNullable(approvals.get(orderId));
+    }
+
+    private PgApprovalResult evaluate(String paymentKey, String orderId, Long amount) {
         log.info("MockPgClient.approve called - paymentKey: {}, orderId: {}, amount: {}",
                 paymentKey, orderId, amount);
 
@@ -0,0 +1,164 @@
+package com.example.api_server.payment.client;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * PG 서킷 브레이커
+ * 최근 windowSize건의 호출 결과(실패/느린 호출 포함)를 원형 버퍼로 집계하여 실패율이 임계치를 넘으면 회로를 열고,
+ * 열린 동안에는 PG를 호출하지 않고 즉시 거절함
+ *
+ * - CLOSED: 모든 호출 허용, 최소 호출 수(minimumCalls) 이상 쌓인 뒤 실패율이 임계치 이상이면 OPEN
+ * - OPEN: openDuration 동안 모든 호출 거절, 경과 후 첫 요청 시 HALF_OPEN
+ * - HALF_OPEN: halfOpenCalls건만 시험 호출 허용, 하나라도 실패하면 다시 OPEN, 모두 성공하면 CLOSED
+ */
+public final class PgCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final boolean[] window;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier nanoClock;
+
+    private volatile State state = State.CLOSED;
+    private int position;
+    private int recorded;
+    private int failures;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    /**
+     * @param windowSize 실패율을 계산할 최근 호출 수
+     * @param minimumCalls 실패율을 판단하기 시작하는 최소 호출 수
+     * @param failureRateThreshold 회로를 여는 실패율 (%)
+     * @param openDuration 회로를 연 뒤 시험 호출을 허용하기까지의 시간
+     * @param halfOpenCalls HALF_OPEN에서 허용하는 시험 호출 수
+     */
+    public PgCircuitBreaker(int windowSize, int minimumCalls, int failureRateThreshold,
+                            Duration openDuration, int halfOpenCalls) {
+        this(windowSize, minimumCalls, failureRateThreshold, openDuration, halfOpenCalls, System::nanoTime);
+    }
+
+    PgCircuitBreaker(int windowSize, int minimumCalls, int failureRateThreshold,
+                     Duration openDuration, int halfOpenCalls, LongSupplier nanoClock) {
+        if (windowSize < 1 || minimumCalls < 1 || halfOpenCalls < 1) {
+            throw new IllegalArgumentException("windowSize, minimumCalls, halfOpenCalls는 1 이상이어야 합니다.");
+        }
+        this.window = new boolean[windowSize];
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 호출 허용 여부 (허용했으면 호출 후 반드시 onSuccess/onFailure/release 중 하나를 호출해야 함)
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < openNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            halfOpenPermits = halfOpenCalls;
+            halfOpenSuccesses = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits == 0) {
+                return false;
+            }
+            halfOpenPermits--;
+        }
+        return true;
+    }
+
+    /**
+     * 허가를 받았지만 호출하지 않은 경우 허가 반납 (결과로 집계하지 않음)
+     */
+    public synchronized void release() {
+        if (state == State.HALF_OPEN && halfOpenPermits < halfOpenCalls - halfOpenSuccesses) {
+            halfOpenPermits++;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++halfOpenSuccesses >= halfOpenCalls) {
+                close();
+            }
+            return;
+        }
+        if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        if (state == State.CLOSED) {
+            record(true);
+            if (recorded >= minimumCalls && failures * 100 >= failureRateThreshold * recorded) {
+                open();
+            }
+        }
+        // OPEN 중에 도착한 늦은 결과는 무시
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * 회로가 열린 뒤 시험 호출을 허용하기까지 남은 시간 (OPEN이 아니면 0)
+     */
+    public synchronized Duration getRemainingOpenDuration() {
+        if (state != State.OPEN) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos(Math.max(0, openNanos - (nanoClock.getAsLong() - openedAt)));
+    }
+
+    /**
+     * 현재 윈도우의 실패율 (%), 집계된 호출이 없으면 0
+     */
+    public synchronized float getFailureRate() {
+        return recorded == 0 ? 0f : failures * 100f / recorded;
+    }
+
+    private void record(boolean failure) {
+        if (recorded == window.length) {
+            if (window[position]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        window[position] = failure;
+        if (failure) {
+            failures++;
+        }
+        position = (position + 1) % window.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = nanoClock.getAsLong();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        position = 0;
+        recorded = 0;
+        failures = 0;
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.api_server.payment.client;
 
+import java.util.Optional;
+
 /**
  * PG(Payment Gateway) 연동 클라이언트 인터페이스
  * 외부 PG사와의 통신을 담당
@@ -15,4 +17,14 @@ public interface PgClient {
      * @return PG 승인 결과
      */
     PgApprovalResult approve(String paymentKey, String orderId, Long amount);
-}
\ No newline at end of file
+
+    /**
+     * PG사에 결제 승인 결과를 조회
+     * 승인 요청 후 결과를 받지 못한 결제(REQUESTED 상태로 남은 결제)를 복구할 때 사용
+     *
+     * @param paymentKey PG사에서 발급한 결제 키
+     * @param orderId 주문 ID
+     * @return PG 승인 결과 (PG사에 승인 요청 기록이 없으면 empty)
+     */
+    Optional<PgApprovalResult> inquire(String paymentKey, String orderId);
+}
@@ -0,0 +1,159 @@
+package com.example.api_server.payment.client;
+
+import com.example.api_server.common.exception.PgBulkheadFullException;
+import com.example.api_server.common.exception.PgUnavailableException;
+import com.example.api_server.common.jfr.PgApprovalEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+/**
+ * 장애 격리 PG 클라이언트 (PgClient 데코레이터)
+ * PG가 느려지거나 장애가 나면 모든 결제 승인이 제한 시간까지 기다리다 실패하여 지연이 API 전체로 번지므로,
+ * 서킷 브레이커로 빠르게 실패시키고 적응형 동시 호출 한도로 PG에 보내는 부하를 조절함
+ *
+ * - 실패 판정: 호출 예외, 시스템 오류 결과 코드(failureCodes), slowCallThreshold보다 느린 호출
+ *   (유효하지 않은 결제 키 등 업무 거절은 PG 정상 응답이므로 실패로 보지 않음)
+ * - 회로가 열려 있으면 PG를 호출하지 않고 PgUnavailableException으로 즉시 실패 (회로가 다시 시험 호출을 허용할 때까지의 시간을 함께 전달)
+ * - 동시 호출 한도에 도달하면 PG를 호출하지 않고 PgBulkheadFullException으로 즉시 실패
+ * - 결과 조회(inquire)는 서킷 브레이커만 적용 (복구 스케줄러가 낮은 빈도로 호출)
+ *
+ * 메트릭: pg.circuit.state(0=CLOSED, 1=OPEN, 2=HALF_OPEN), pg.circuit.failure.rate,
+ * pg.concurrency.limit, pg.concurrency.in.flight, pg.calls.rejected(reason=circuit_open|limit)
+ */
+@Slf4j
+public class ResilientPgClient implements PgClient {
+
+    private final PgClient delegate;
+    private final PgCircuitBreaker circuitBreaker;
+    private final AimdConcurrencyLimiter limiter;
+    private final Set<String> failureCodes;
+    private final long slowCallNanos;
+    private final LongSupplier nanoClock;
+
+    private final Counter circuitOpenRejections;
+    private final Counter limitRejections;
+
+    public ResilientPgClient(PgClient delegate, PgCircuitBreaker circuitBreaker, AimdConcurrencyLimiter limiter,
+                             Set<String> failureCodes, Duration slowCallThreshold, MeterRegistry meterRegistry) {
+        this(delegate, circuitBreaker, limiter, failureCodes, slowCallThreshold, meterRegistry, System::nanoTime);
+    }
+
+    ResilientPgClient(PgClient delegate, PgCircuitBreaker circuitBreaker, AimdConcurrencyLimiter limiter,
+                      Set<String> failureCodes, Duration slowCallThreshold, MeterRegistry meterRegistry,
+                      LongSupplier nanoClock) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+        this.limiter = limiter;
+        this.failureCodes = Set.copyOf(failureCodes);
+        this.slowCallNanos = slowCallThreshold.toNanos();
+        this.nanoClock = nanoClock;
+
+        Gauge.builder("pg.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("PG circuit breaker state (0=CLOSED, 1=OPEN, 2=HALF_OPEN)")
+                .register(meterRegistry);
+        Gauge.builder("pg.circuit.failure.rate", circuitBreaker, PgCircuitBreaker::getFailureRate)
+                .description("PG call failure rate in the sliding window (%)")
+                .register(meterRegistry);
+        Gauge.builder("pg.concurrency.limit", limiter, AimdConcurrencyLimiter::getLimit)
+                .description("Adaptive PG concurrency limit")
+                .register(meterRegistry);
+        Gauge.builder("pg.concurrency.in.flight", limiter, AimdConcurrencyLimiter::getInFlight)
+                .description("PG calls in flight")
+                .register(meterRegistry);
+        this.circuitOpenRejections = Counter.builder("pg.calls.rejected").tag("reason", "circuit_open")
+                .register(meterRegistry);
+        this.limitRejections = Counter.builder("pg.calls.rejected").tag("reason", "limit")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public PgApprovalResult approve(String paymentKey, String orderId, Long amount) {
+        PgApprovalEvent event = PgApprovalEvent.start(ResilientPgClient.class.getSimpleName(), orderId, amount);
+        try {
+            PgApprovalResult result = approveThroughGuards(paymentKey, orderId, amount);
+            event.finish(result);
+            return result;
+        } catch (RuntimeException e) {
+            event.failed(e);
+            throw e;
+        }
+    }
+
+    private PgApprovalResult approveThroughGuards(String paymentKey, String orderId, Long amount) {
+        acquireCircuit(orderId);
+        if (!limiter.tryAcquire()) {
+            circuitBreaker.release();
+            limitRejections.increment();
+            log.warn("PG concurrency limit reached, rejecting approval - orderId: {}, limit: {}",
+                    orderId, limiter.getLimit());
+            throw new PgBulkheadFullException(limiter.getLimit());
+        }
+
+        long start = nanoClock.getAsLong();
+        boolean failed = true;
+        try {
+            PgApprovalResult result = delegate.approve(paymentKey, orderId, amount);
+            failed = isSystemFailure(result);
+            return result;
+        } finally {
+            long elapsed = nanoClock.getAsLong() - start;
+            limiter.onSample(elapsed, failed);
+            recordOutcome(failed || elapsed > slowCallNanos);
+        }
+    }
+
+    @Override
+    public Optional<PgApprovalResult> inquire(String paymentKey, String orderId) {
+        acquireCircuit(orderId);
+        long start = nanoClock.getAsLong();
+        boolean failed = true;
+        try {
+            Optional<PgApprovalResult> result = delegate.inquire(paymentKey, orderId);
+            failed = result.map(this::isSystemFailure).orElse(false);
+            return result;
+        } finally {
+            recordOutcome(failed || nanoClock.getAsLong() - start > slowCallNanos);
+        }
+    }
+
+    public PgCircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    public int getConcurrencyLimit() {
+        return limiter.getLimit();
+    }
+
+    private void acquireCircuit(String orderId) {
+        if (!circuitBreaker.tryAcquire()) {
+            circuitOpenRejections.increment();
+            log.warn("PG circuit open, failing fast - orderId: {}", orderId);
+            throw new PgUnavailableException(circuitBreaker.getRemainingOpenDuration());
+        }
+    }
+
+    private boolean isSystemFailure(PgApprovalResult result) {
+        return !result.isSuccess() && failureCodes.contains(result.getResultCode());
+    }
+
+    private void recordOutcome(boolean failure) {
+        PgCircuitBreaker.State before = circuitBreaker.getState();
+        if (failure) {
+            circuitBreaker.onFailure();
+        } else {
+            circuitBreaker.onSuccess();
+        }
+        PgCircuitBreaker.State after = circuitBreaker.getState();
+        if (before != after) {
+            log.warn("PG circuit state changed - {} -> {}, failureRate: {}%", before, after,
+                    circuitBreaker.getFailureRate());
+        }
+    }
+}
@@ -12,6 +12,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 결제 컨트롤러
  * 결제 승인 API를 제공
@@ -27,19 +29,21 @@ public class PaymentController {
     /**
      * 결제 승인
      * POST /api/payments/approve
+     * PG 응답을 기다리는 동안 서블릿 스레드를 반납하고, PG 호출 스레드에서 응답을 완료함
      *
      * @param request 결제 승인 요청
      * @return 결제 승인 응답 (200 OK)
      */
     @PostMapping("/approve")
-    public ResponseEntity<ApprovePaymentResponse> approvePayment(@Valid @RequestBody ApprovePaymentRequest request) {
+    public CompletableFuture<ResponseEntity<ApprovePaymentResponse>> approvePayment(@Valid @RequestBody ApprovePaymentRequest request) {
         log.info("POST /api/payments/approve - orderId: {}, paymentKey: {}, amount: {}",
                 request.getOrderId(), request.getPaymentKey(), request.getAmount());
 
-        ApprovePaymentResponse response = paymentService.approvePayment(request);
-
-        log.info("Payment approved successfully - orderId: {}, paymentId: {}, paymentStatus: {}",
-                response.getOrderId(), response.getPaymentId(), response.getPaymentStatus());
-        return ResponseEntity.ok(response);
+        return paymentService.approvePaymentAsync(request)
+                .thenApply(response -> {
+                    log.info("Payment approved successfully - orderId: {}, paymentId: {}, paymentStatus: {}",
+                            response.getOrderId(), response.getPaymentId(), response.getPaymentStatus());
+                    return ResponseEntity.ok(response);
+                });
     }
 }
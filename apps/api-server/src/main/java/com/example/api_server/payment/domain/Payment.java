@@ -1,5 +1,6 @@
 package com.example.api_server.payment.domain;
 
+import com.example.api_server.common.jpa.PooledSequence;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
@@ -7,7 +8,11 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "payments")
+@Table(name = "payments", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_payments_order_id", columnNames = "order_id")
+}, indexes = {
+        @Index(name = "idx_payments_status_created_at", columnList = "status, created_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -15,7 +20,7 @@ import java.time.LocalDateTime;
 public class Payment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence(name = "payments_seq")
     private Long id;
 
     @NotNull
@@ -72,4 +77,8 @@ public class Payment {
     public boolean isApproved() {
         return this.status == PaymentStatus.APPROVED;
     }
+
+    public boolean isRequested() {
+        return this.status == PaymentStatus.REQUESTED;
+    }
 }
@@ -1,12 +1,44 @@
 package com.example.api_server.payment.repository;
 
 import com.example.api_server.payment.domain.Payment;
+import com.example.api_server.payment.domain.PaymentStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
     Optional<Payment> findByOrderId(String orderId);
-}
\ No newline at end of file
+
+    /**
+     * 비관적 쓰기 락(SELECT ... FOR UPDATE)으로 결제 조회
+     * PG 결과 반영과 복구 스케줄러가 같은 결제를 동시에 반영하지 않도록 사용
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000"))
+    @Query("select p from Payment p where p.id = :id")
+    Optional<Payment> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 지정한 주문 중 해당 상태의 결제가 있는 주문 ID (결제 진행 중인 주문의 만료 거부용)
+     */
+    @Query("select p.orderId from Payment p where p.status = :status and p.orderId in :orderIds")
+    List<String> findOrderIdsByStatusAndOrderIdIn(@Param("status") PaymentStatus status,
+                                                  @Param("orderIds") Collection<String> orderIds);
+
+    /**
+     * 특정 시각 이전에 생성되어 아직 해당 상태인 결제를 오래된 순으로 조회 (REQUESTED 복구용)
+     */
+    List<Payment> findByStatusAndCreatedAtBeforeOrderByCreatedAtAsc(PaymentStatus status, LocalDateTime createdAt, Limit limit);
+}
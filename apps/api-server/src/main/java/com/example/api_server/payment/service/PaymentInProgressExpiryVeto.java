@@ -0,0 +1,27 @@
+package com.example.api_server.payment.service;
+
+import com.example.api_server.order.service.OrderExpiryVeto;
+import com.example.api_server.payment.domain.PaymentStatus;
+import com.example.api_server.payment.repository.PaymentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 결제가 진행 중(REQUESTED 결제가 있는)인 주문의 만료 거부
+ * PG 결과로 마감될 주문이므로 만료시키지 않음 (PG 호출 전 거절로 결제 요청이 지워지면 다음 확인 때 만료)
+ * 결제 요청 기록도 주문 행을 잠그므로, 주문 행을 잠근 뒤 조회하면 먼저 커밋된 결제 요청을 놓치지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class PaymentInProgressExpiryVeto implements OrderExpiryVeto {
+
+    private final PaymentRepository paymentRepository;
+
+    @Override
+    public Set<String> vetoedOrderIds(Collection<String> orderIds) {
+        return Set.copyOf(paymentRepository.findOrderIdsByStatusAndOrderIdIn(PaymentStatus.REQUESTED, orderIds));
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.api_server.payment.service;
+
+import com.example.api_server.payment.domain.Payment;
+import com.example.api_server.payment.domain.PaymentStatus;
+import com.example.api_server.payment.repository.PaymentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * REQUESTED 결제 복구 스케줄러
+ * PG 호출 도중 장애(프로세스 종료, 네트워크 오류 등)로 결과를 반영하지 못한 결제를 주기적으로 찾아 PG 결과를 조회해 마감
+ *
+ * stale-after는 PG 호출 최대 소요 시간보다 충분히 길어야 함
+ * (진행 중인 승인을 복구가 먼저 "기록 없음"으로 마감하지 않도록)
+ */
+@Slf4j
+@Component
+public class PaymentRecoveryScheduler {
+
+    private final PaymentRepository paymentRepository;
+    private final PaymentService paymentService;
+    private final Duration staleAfter;
+    private final int batchSize;
+
+    public PaymentRecoveryScheduler(PaymentRepository paymentRepository,
+                                    PaymentService paymentService,
+                                    @Value("${app.payment.recovery.stale-after:5m}") Duration staleAfter,
+                                    @Value("${app.payment.recovery.batch-size:100}") int batchSize) {
+        this.paymentRepository = paymentRepository;
+        this.paymentService = paymentService;
+        this.staleAfter = staleAfter;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * stale-after보다 오래 REQUESTED에 머문 결제를 오래된 순으로 batch-size건씩 복구
+     * 한 건이 실패해도(PG 조회 실패 등) 나머지는 계속 처리하고, 실패한 건은 다음 주기에 재시도
+     */
+    @Scheduled(fixedDelayString = "${app.payment.recovery.interval-ms:30000}")
+    public void recoverStalePayments() {
+        LocalDateTime threshold = LocalDateTime.now().minus(staleAfter);
+        List<Payment> stalePayments = paymentRepository.findByStatusAndCreatedAtBeforeOrderByCreatedAtAsc(
+                PaymentStatus.REQUESTED, threshold, Limit.of(batchSize));
+        if (stalePayments.isEmpty()) {
+            return;
+        }
+
+        int recovered = 0;
+        for (Payment payment : stalePayments) {
+            try {
+                paymentService.recoverPayment(payment);
+                recovered++;
+            } catch (RuntimeException e) {
+                log.error("Failed to recover REQUESTED payment - paymentId: {}, orderId: {}",
+                        payment.getId(), payment.getOrderId(), e);
+            }
+        }
+        log.info("REQUESTED payment recovery finished - candidates: {}, recovered: {}", stalePayments.size(), recovered);
+    }
+}
@@ -1,14 +1,26 @@
 package com.example.api_server.payment.service;
 
+import com.example.api_server.common.concurrent.StripedInFlightRegistry;
+import com.example.api_server.common.datasource.RecentWriteTracker;
 import com.example.api_server.common.exception.AmountMismatchException;
 import com.example.api_server.common.exception.OrderNotPayableException;
+import com.example.api_server.common.exception.OutOfStockException;
 import com.example.api_server.common.exception.PaymentAlreadyApprovedException;
+import com.example.api_server.common.exception.PaymentInProgressException;
+import com.example.api_server.common.exception.PgBulkheadFullException;
+import com.example.api_server.common.exception.PgTimeoutException;
+import com.example.api_server.common.exception.PgUnavailableException;
+import com.example.api_server.common.jfr.StockCheckEvent;
+import com.example.api_server.common.metrics.StageMetrics;
+import com.example.api_server.order.cache.OrderSnapshot;
+import com.example.api_server.order.cache.OrderSnapshotCache;
 import com.example.api_server.order.domain.Order;
 import com.example.api_server.order.domain.OrderEventType;
-import com.example.api_server.order.domain.OrderHistory;
-import com.example.api_server.order.repository.OrderHistoryRepository;
+import com.example.api_server.order.domain.OrderStatus;
+import com.example.api_server.order.history.OrderHistoryRecorder;
 import com.example.api_server.order.repository.OrderRepository;
 import com.example.api_server.order.service.OrderService;
+import com.example.api_server.payment.client.AsyncPgClient;
 import com.example.api_server.payment.client.PgApprovalResult;
 import com.example.api_server.payment.client.PgClient;
 import com.example.api_server.payment.domain.Payment;
@@ -16,80 +28,380 @@ import com.example.api_server.payment.domain.PaymentStatus;
 import com.example.api_server.payment.dto.ApprovePaymentRequest;
 import com.example.api_server.payment.dto.ApprovePaymentResponse;
 import com.example.api_server.payment.repository.PaymentRepository;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.api_server.reservation.service.StockReservationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 
 /**
  * 결제 서비스
  * 결제 승인 및 관리 로직을 담당
+ *
+ * PG 호출(수백 ms ~ 수 초) 동안 DB 커넥션과 주문 행을 붙잡지 않도록 결제 승인을 세 단계로 나눔
+ * 1. 짧은 트랜잭션: 주문/중복/금액 검증 후 REQUESTED 결제 기록
+ * 2. 트랜잭션 없이 PG 승인 요청
+ * 3. 짧은 트랜잭션: PG 결과(APPROVED/DECLINED)와 주문 상태 반영
+ * 2단계 도중 장애로 REQUESTED에 남은 결제는 PaymentRecoveryScheduler가 PG 결과를 조회해 3단계를 수행
+ *
+ * approvePaymentAsync는 2·3단계를 AsyncPgClient(가상 스레드, 제한 시간, 벌크헤드)로 수행하여 호출 스레드를 점유하지 않음
+ *
+ * 같은 주문의 동시 승인 요청은 PG를 한 번만 호출함
+ * - 노드 안: 진행 중인 승인 레지스트리(주문 ID 해시 스트라이프 락)로 나중 요청이 먼저 시작한 승인의 결과를 함께 받음
+ * - 노드 간: payments.order_id 유니크 제약으로 한 요청만 REQUESTED를 기록하고, 나머지는 진행 중(409)으로 응답
+ * - 마감 후 같은 결제 키로 다시 요청하면 PG 호출 없이 기존 결과를 반환
+ *
+ * 단계별 지연은 payment.approve.stage 타이머에 기록 (payment_request, pg_call, complete_payment, total)
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class PaymentService {
 
+    /**
+     * PG 승인 후 재고 확정에 실패해 결제를 거절로 마감할 때의 결과 코드
+     */
+    public static final String STOCK_EXHAUSTED_CODE = "STOCK_EXHAUSTED";
+
+    /**
+     * PG사에 승인 요청 기록이 없어 복구 시 거절로 마감할 때의 결과 코드
+     */
+    public static final String PG_NO_RECORD_CODE = "PG_NO_RECORD";
+
+    /**
+     * PG 승인 거절의 pg_call outcome (카드사/PG 결과 코드는 종류가 많아 메트릭 태그로 쓰지 않음)
+     */
+    public static final String PG_DECLINED_OUTCOME = "PG_DECLINED";
+
+    /**
+     * 그대로 pg_call outcome으로 남기는 PG 시스템 오류 결과 코드 (app.payment.pg.circuit-breaker.failure-codes 기본값)
+     */
+    private static final Set<String> PG_SYSTEM_ERROR_CODES = Set.of("PG_SYSTEM_ERROR", "PG_UNAVAILABLE", "PG_TIMEOUT");
+
+    /**
+     * 진행 중인 결제 승인 레지스트리의 스트라이프 수
+     */
+    private static final int IN_FLIGHT_STRIPES = 64;
+
     private final PaymentRepository paymentRepository;
     private final OrderRepository orderRepository;
-    private final OrderHistoryRepository orderHistoryRepository;
     private final OrderService orderService;
+    private final StockReservationService stockReservationService;
     private final PgClient pgClient;
-    private final ObjectMapper objectMapper;
+    private final AsyncPgClient asyncPgClient;
+    private final OrderHistoryRecorder orderHistoryRecorder;
+    private final TransactionTemplate transactionTemplate;
+    private final StageMetrics stageMetrics;
+    private final RecentWriteTracker recentWriteTracker;
+    private final OrderSnapshotCache orderSnapshotCache;
+
+    /**
+     * 이 노드에서 진행 중인 결제 승인 (주문 ID + 결제 키 + 금액 기준)
+     */
+    private final StripedInFlightRegistry<ApprovalKey, ApprovePaymentResponse> inFlightApprovals =
+            new StripedInFlightRegistry<>(IN_FLIGHT_STRIPES);
 
     /**
      * 결제 승인
+     * 같은 승인 요청(주문, 결제 키, 금액)이 이 노드에서 이미 진행 중이면 PG를 다시 호출하지 않고 그 결과를 함께 받음
      *
      * @param request 결제 승인 요청
      * @return 결제 승인 응답
      */
     public ApprovePaymentResponse approvePayment(ApprovePaymentRequest request) {
+        return stageMetrics.record(StageMetrics.PAYMENT_APPROVE, "total", () -> {
+            CompletableFuture<ApprovePaymentResponse> approval = deduplicate(request,
+                    () -> CompletableFuture.completedFuture(approveOnce(request)));
+            try {
+                return approval.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        });
+    }
+
+    /**
+     * 결제 승인 (비동기)
+     * 1단계는 호출 스레드에서 수행하고, PG 호출과 결과 반영은 PG 호출 스레드에서 이어서 수행하므로
+     * 호출 스레드(서블릿 스레드)는 PG 응답을 기다리지 않음
+     * 같은 승인 요청(주문, 결제 키, 금액)이 이 노드에서 이미 진행 중이면 PG를 다시 호출하지 않고 그 결과를 함께 받음
+     *
+     * @param request 결제 승인 요청
+     * @return 결제 승인 응답 future (BusinessException 등 원래 예외로 실패)
+     */
+    public CompletableFuture<ApprovePaymentResponse> approvePaymentAsync(ApprovePaymentRequest request) {
+        long start = System.nanoTime();
+        CompletableFuture<ApprovePaymentResponse> approval =
+                deduplicate(request, () -> approveOnceAsync(request));
+        approval.whenComplete((response, error) -> stageMetrics.record(StageMetrics.PAYMENT_APPROVE, "total", start,
+                error == null ? StageMetrics.SUCCESS : StageMetrics.outcomeOf(error)));
+        return approval;
+    }
+
+    private ApprovePaymentResponse approveOnce(ApprovePaymentRequest request) {
         log.info("Approving payment - orderId: {}, paymentKey: {}, amount: {}",
                 request.getOrderId(), request.getPaymentKey(), request.getAmount());
 
-        // 1. 주문 조회
-        Order order = orderService.getOrderOrThrow(request.getOrderId());
+        // 1. 결제 요청 기록 (주문 상태/중복 결제/금액 검증 후 REQUESTED 결제 저장)
+        RecordedPayment recorded = stageMetrics.record(StageMetrics.PAYMENT_APPROVE, "payment_request",
+                () -> recordPaymentRequest(request));
+        if (recorded.completed()) {
+            return currentResult(recorded.paymentId());
+        }
+        Long paymentId = recorded.paymentId();
+
+        // 2. PG사 승인 요청 (트랜잭션 밖에서 호출)
+        PgApprovalResult pgResult;
+        long pgCallStart = System.nanoTime();
+        try {
+            pgResult = pgClient.approve(
+                    request.getPaymentKey(),
+                    request.getOrderId(),
+                    request.getAmount()
+            );
+        } catch (RuntimeException e) {
+            stageMetrics.record(StageMetrics.PAYMENT_APPROVE, "pg_call", pgCallStart, StageMetrics.outcomeOf(e));
+            throw handlePgCallError(request.getOrderId(), paymentId, e);
+        }
+        stageMetrics.record(StageMetrics.PAYMENT_APPROVE, "pg_call", pgCallStart, pgOutcome(pgResult));
+
+        // 3. PG 결과 반영
+        ApprovePaymentResponse response = stageMetrics.record(StageMetrics.PAYMENT_APPROVE, "complete_payment",
+                () -> completePayment(paymentId, pgResult));
+
+        log.info("Payment approval completed - orderId: {}, paymentStatus: {}, orderStatus: {}",
+                request.getOrderId(), response.getPaymentStatus(), response.getOrderStatus());
+
+        return response;
+    }
+
+    private CompletableFuture<ApprovePaymentResponse> approveOnceAsync(ApprovePaymentRequest request) {
+        log.info("Approving payment asynchronously - orderId: {}, paymentKey: {}, amount: {}",
+                request.getOrderId(), request.getPaymentKey(), request.getAmount());
+
+        // 1. 결제 요청 기록 (주문 상태/중복 결제/금액 검증 후 REQUESTED 결제 저장)
+        RecordedPayment recorded = stageMetrics.record(StageMetrics.PAYMENT_APPROVE, "payment_request",
+                () -> recordPaymentRequest(request));
+        if (recorded.completed()) {
+            return CompletableFuture.completedFuture(currentResult(recorded.paymentId()));
+        }
+        Long paymentId = recorded.paymentId();
+
+        // 2. PG사 승인 요청 (가상 스레드, 제한 시간/벌크헤드 적용) → 3. PG 결과 반영
+        CompletableFuture<ApprovePaymentResponse> response = new CompletableFuture<>();
+        long pgCallStart = System.nanoTime();
+        asyncPgClient.approveAsync(request.getPaymentKey(), request.getOrderId(), request.getAmount())
+                .whenComplete((pgResult, error) -> {
+                    try {
+                        if (error != null) {
+                            stageMetrics.record(StageMetrics.PAYMENT_APPROVE, "pg_call", pgCallStart,
+                                    StageMetrics.outcomeOf(error));
+                            response.completeExceptionally(handlePgCallError(request.getOrderId(), paymentId, error));
+                            return;
+                        }
+                        stageMetrics.record(StageMetrics.PAYMENT_APPROVE, "pg_call", pgCallStart, pgOutcome(pgResult));
+                        ApprovePaymentResponse completed = stageMetrics.record(StageMetrics.PAYMENT_APPROVE,
+                                "complete_payment", () -> completePayment(paymentId, pgResult));
+                        log.info("Payment approval completed - orderId: {}, paymentStatus: {}, orderStatus: {}",
+                                request.getOrderId(), completed.getPaymentStatus(), completed.getOrderStatus());
+                        response.complete(completed);
+                    } catch (Throwable t) {
+                        response.completeExceptionally(t);
+                    }
+                });
+        return response;
+    }
+
+    /**
+     * 같은 승인 요청의 중복 제거
+     * 이 노드에서 주문 ID, 결제 키, 금액이 모두 같은 승인이 진행 중이 아니면 approval을 실행해 등록하고, 있으면 그 승인의 결과를 공유함
+     * 결제 키나 금액이 다른 요청은 합류하지 않고 직접 승인을 시도하여 결제 키 중복/금액 검증에서 거절됨
+     * (노드 간 중복은 payments.order_id 유니크 제약으로 막음)
+     *
+     * @return 승인 결과 future (원래 예외로 실패)
+     */
+    private CompletableFuture<ApprovePaymentResponse> deduplicate(
+            ApprovePaymentRequest request, Supplier<CompletableFuture<ApprovePaymentResponse>> approval) {
+        ApprovalKey key = new ApprovalKey(request.getOrderId(), request.getPaymentKey(), request.getAmount());
+        CompletableFuture<ApprovePaymentResponse> owner = new CompletableFuture<>();
+        CompletableFuture<ApprovePaymentResponse> inFlight = inFlightApprovals.registerIfAbsent(key, owner);
+        if (inFlight != null) {
+            log.info("Joining in-flight payment approval - orderId: {}", key.orderId());
+            return inFlight.copy();
+        }
+        owner.whenComplete((response, error) -> inFlightApprovals.remove(key, owner));
+
+        CompletableFuture<ApprovePaymentResponse> result;
+        try {
+            result = approval.get();
+        } catch (RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        result.whenComplete((response, error) -> {
+            if (error != null) {
+                owner.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error);
+            } else {
+                owner.complete(response);
+            }
+        });
+        return owner.copy();
+    }
+
+    /**
+     * PG 승인 결과 반영 (결제 승인 3단계)
+     * 결제 행을 잠근 뒤 아직 REQUESTED일 때만 반영하므로, 복구 스케줄러와 동시에 반영되어도 한 번만 처리됨
+     * PG 승인 성공 후 재고 확정에 실패하면 결제를 거절(STOCK_EXHAUSTED)로 마감하고 OutOfStockException을 다시 던짐
+     *
+     * @param paymentId REQUESTED 상태로 기록된 결제 ID
+     * @param pgResult PG 승인 결과
+     * @return 결제 승인 응답 (이미 반영된 결제면 현재 상태)
+     * @throws OutOfStockException PG 승인은 성공했지만 재고가 소진된 경우 (PG 승인 취소 필요)
+     */
+    public ApprovePaymentResponse completePayment(Long paymentId, PgApprovalResult pgResult) {
+        try {
+            return transactionTemplate.execute(status -> applyPgResult(paymentId, pgResult));
+        } catch (OutOfStockException e) {
+            log.error("Stock exhausted after PG approval, declining payment (PG cancellation required) - paymentId: {}",
+                    paymentId);
+            transactionTemplate.execute(status -> applyPgResult(paymentId,
+                    PgApprovalResult.failure(STOCK_EXHAUSTED_CODE, "결제 승인 후 재고가 소진되었습니다.")));
+            throw e;
+        }
+    }
+
+    /**
+     * REQUESTED 상태로 남은 결제 복구
+     * PG사에 승인 결과를 조회해 반영하고, PG사에 기록이 없으면 승인 요청이 도달하지 않은 것으로 보고 거절로 마감
+     *
+     * @param payment REQUESTED 상태의 결제
+     */
+    public void recoverPayment(Payment payment) {
+        PgApprovalResult pgResult = pgClient.inquire(payment.getPaymentKey(), payment.getOrderId())
+                .orElseGet(() -> PgApprovalResult.failure(PG_NO_RECORD_CODE, "PG사에 승인 요청 기록이 없습니다."));
+        log.warn("Recovering REQUESTED payment - paymentId: {}, orderId: {}, pgSuccess: {}",
+                payment.getId(), payment.getOrderId(), pgResult.isSuccess());
+        completePayment(payment.getId(), pgResult);
+    }
+
+    /**
+     * PG 호출 실패 처리
+     * - 벌크헤드/동시 호출 한도 거절, 서킷 오픈: PG를 호출하지 않았으므로 REQUESTED 결제를 지워 다시 시도할 수 있게 함
+     * - 제한 시간 초과/호출 오류: 승인 여부를 알 수 없으므로 REQUESTED로 남겨 복구 스케줄러가 마감
+     *
+     * @return 호출 측에 전달할 예외
+     */
+    private RuntimeException handlePgCallError(String orderId, Long paymentId, Throwable error) {
+        if (error instanceof PgBulkheadFullException || error instanceof PgUnavailableException) {
+            transactionTemplate.execute(status -> {
+                paymentRepository.findByIdForUpdate(paymentId)
+                        .filter(Payment::isRequested)
+                        .ifPresent(paymentRepository::delete);
+                return null;
+            });
+            return (RuntimeException) error;
+        }
+        if (error instanceof PgTimeoutException timeout) {
+            log.error("PG approval timed out, leaving payment REQUESTED for recovery - orderId: {}, paymentId: {}",
+                    orderId, paymentId);
+            return timeout;
+        }
+        log.error("PG approval call failed, leaving payment REQUESTED for recovery - orderId: {}, paymentId: {}",
+                orderId, paymentId, error);
+        return new PaymentInProgressException(orderId);
+    }
+
+    /**
+     * 결제 요청 기록 (결제 승인 1단계)
+     * 다른 노드가 같은 주문의 결제를 먼저 기록해 유니크 제약에 걸리면 진행 중으로 응답
+     *
+     * @return 저장된 REQUESTED 결제 (같은 결제 키로 이미 마감된 결제가 있으면 그 결제)
+     */
+    private RecordedPayment recordPaymentRequest(ApprovePaymentRequest request) {
+        try {
+            return transactionTemplate.execute(status -> requestPayment(request));
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Concurrent payment request lost the race - orderId: {}", request.getOrderId());
+            throw new PaymentInProgressException(request.getOrderId());
+        }
+    }
+
+    private RecordedPayment requestPayment(ApprovePaymentRequest request) {
+        // 1. 같은 결제 키로 이미 마감된 결제면 그 결과를 그대로 반환 (중복 승인 요청 재처리)
+        Optional<Payment> existing = paymentRepository.findByOrderId(request.getOrderId());
+        if (existing.isPresent() && isCompletedReplay(existing.get(), request)) {
+            log.info("Replaying completed payment - orderId: {}, paymentId: {}",
+                    request.getOrderId(), existing.get().getId());
+            return new RecordedPayment(existing.get().getId(), true);
+        }
 
-        // 2. 주문 상태 검증 (PENDING_PAYMENT만 결제 가능)
+        // 2. 주문 잠금 조회 (주 DB, 커밋까지 주문 행을 잠가 만료 전이와 직렬화하므로 노드 로컬 주문 캐시는 쓰지 않음)
+        Order order = orderService.getOrderForUpdate(request.getOrderId());
+
+        // 3. 주문 상태 검증 (PENDING_PAYMENT만 결제 가능)
         validateOrderPayable(order);
 
-        // 3. 중복 결제 검증
-        validatePaymentNotExists(request.getOrderId());
+        // 4. 중복 결제 검증
+        existing.ifPresent(payment -> validatePaymentNotExists(request.getOrderId(), payment));
 
-        // 4. 금액 검증
+        // 5. 금액 검증
         validateAmount(request.getAmount(), order.getTotalAmount());
 
-        // 5. PG사 승인 요청
-        PgApprovalResult pgResult = pgClient.approve(
-                request.getPaymentKey(),
-                request.getOrderId(),
-                request.getAmount()
-        );
+        // 6. Payment 엔티티 생성 (REQUESTED)
+        Payment payment = Payment.builder()
+                .orderId(order.getOrderId())
+                .paymentKey(request.getPaymentKey())
+                .amount(request.getAmount())
+                .status(PaymentStatus.REQUESTED)
+                .build();
+        return new RecordedPayment(paymentRepository.save(payment).getId(), false);
+    }
+
+    /**
+     * 현재 결제 결과 조회
+     */
+    private ApprovePaymentResponse currentResult(Long paymentId) {
+        return transactionTemplate.execute(status -> {
+            Payment payment = paymentRepository.findById(paymentId)
+                    .orElseThrow(() -> new IllegalStateException("결제를 찾을 수 없습니다. Payment ID: " + paymentId));
+            OrderSnapshot order = orderService.getOrderSnapshot(payment.getOrderId());
+            return toResponse(order.orderId(), order.status(), payment);
+        });
+    }
+
+    /**
+     * PG 결과 반영 (결제 승인 3단계 트랜잭션 본문)
+     */
+    private ApprovePaymentResponse applyPgResult(Long paymentId, PgApprovalResult pgResult) {
+        Payment payment = paymentRepository.findByIdForUpdate(paymentId)
+                .orElseThrow(() -> new IllegalStateException("결제를 찾을 수 없습니다. Payment ID: " + paymentId));
+        Order order = orderService.getOrderOrThrow(payment.getOrderId());
+
+        if (!payment.isRequested()) {
+            log.info("Payment already completed - paymentId: {}, status: {}", paymentId, payment.getStatus());
+            return toResponse(order.getOrderId(), order.getStatus(), payment);
+        }
 
-        Payment payment;
         if (pgResult.isSuccess()) {
             // PG 승인 성공
-            payment = handlePgSuccess(order, request, pgResult);
+            payment = handlePgSuccess(order, payment, pgResult);
         } else {
             // PG 승인 실패
-            payment = handlePgFailure(order, request, pgResult);
+            payment = handlePgFailure(order, payment, pgResult);
         }
-
-        log.info("Payment approval completed - orderId: {}, paymentStatus: {}, orderStatus: {}",
-                request.getOrderId(), payment.getStatus(), order.getStatus());
-
-        return ApprovePaymentResponse.builder()
-                .orderId(order.getOrderId())
-                .paymentId(payment.getId())
-                .paymentKey(payment.getPaymentKey())
-                .amount(payment.getAmount())
-                .paymentStatus(payment.getStatus())
-                .orderStatus(order.getStatus())
-                .approvedAt(payment.getCreatedAt())
-                .build();
+        recentWriteTracker.markWritten(
+                RecentWriteTracker.orderKey(order.getOrderId()), RecentWriteTracker.userKey(order.getUserId()));
+        return toResponse(order.getOrderId(), order.getStatus(), payment);
     }
 
     /**
@@ -104,12 +416,22 @@ public class PaymentService {
     /**
      * 이미 결제가 존재하는지 검증
      */
-    private void validatePaymentNotExists(String orderId) {
-        paymentRepository.findByOrderId(orderId).ifPresent(payment -> {
-            if (payment.isApproved()) {
-                throw new PaymentAlreadyApprovedException(orderId);
-            }
-        });
+    private void validatePaymentNotExists(String orderId, Payment payment) {
+        if (payment.isApproved()) {
+            throw new PaymentAlreadyApprovedException(orderId);
+        }
+        if (payment.isRequested()) {
+            throw new PaymentInProgressException(orderId);
+        }
+    }
+
+    /**
+     * 같은 결제 키로 요청되어 이미 마감(APPROVED/DECLINED)된 결제인지
+     */
+    private boolean isCompletedReplay(Payment payment, ApprovePaymentRequest request) {
+        return !payment.isRequested()
+                && payment.getPaymentKey().equals(request.getPaymentKey())
+                && payment.getAmount().equals(request.getAmount());
     }
 
     /**
@@ -124,36 +446,31 @@ public class PaymentService {
     /**
      * PG 승인 성공 처리
      */
-    private Payment handlePgSuccess(Order order, ApprovePaymentRequest request, PgApprovalResult pgResult) {
+    private Payment handlePgSuccess(Order order, Payment payment, PgApprovalResult pgResult) {
         log.info("PG approval succeeded - orderId: {}", order.getOrderId());
 
-        // TODO: [재고 차감 로직 추가 필요]
-        //       1. ProductRepository에서 상품 조회
-        //       2. product.decreaseStock(order.getQuantity()) 호출
-        //       3. productRepository.save(product)로 재고 차감 저장
-        //       4. 재고 부족 시 OutOfStockException 발생 처리
-        //       5. 유닛 테스트 추가:
-        //          - 결제 성공 시 재고 차감 확인
-        //          - 결제 실패 시 재고 변동 없음 확인
-        //          - 동시성 테스트 (낙관적 락 또는 비관적 락 고려)
-
-        // 1. Payment 엔티티 생성 (APPROVED)
-        Payment payment = Payment.builder()
-                .orderId(order.getOrderId())
-                .paymentKey(request.getPaymentKey())
-                .amount(request.getAmount())
-                .status(PaymentStatus.APPROVED)
-                .pgResultCode(pgResult.getResultCode())
-                .pgResultMessage(pgResult.getResultMessage())
-                .build();
+        // 1. 재고 예약 확정 (예약이 만료되었으면 재고를 다시 차감, 그 사이 소진되었으면 OutOfStockException)
+        StockCheckEvent stockCheck =
+                StockCheckEvent.start(StockCheckEvent.CONFIRM, order.getProductId(), order.getQuantity());
+        try {
+            stockReservationService.confirm(order.getOrderId(), order.getProductId(), order.getQuantity());
+            stockCheck.passed();
+        } catch (RuntimeException e) {
+            stockCheck.failed(e);
+            throw e;
+        }
+
+        // 2. Payment 상태 변경 (APPROVED)
+        payment.approve(pgResult.getResultCode(), pgResult.getResultMessage());
         payment = paymentRepository.save(payment);
 
-        // 2. Order 상태 변경 (PAID)
+        // 3. Order 상태 변경 (PAID, 커밋 후 주문 캐시 갱신)
         order.markAsPaid();
         orderRepository.save(order);
+        orderSnapshotCache.putAfterCommit(order);
 
-        // 3. OrderHistory 기록 (PAYMENT_APPROVED)
-        recordOrderHistory(order.getOrderId(), OrderEventType.PAYMENT_APPROVED, request);
+        // 4. OrderHistory 기록 (PAYMENT_APPROVED, 커밋 후 백그라운드에서 일괄 기록)
+        orderHistoryRecorder.record(order.getOrderId(), OrderEventType.PAYMENT_APPROVED, historyPayload(payment));
 
         return payment;
     }
@@ -161,47 +478,75 @@ public class PaymentService {
     /**
      * PG 승인 실패 처리
      */
-    private Payment handlePgFailure(Order order, ApprovePaymentRequest request, PgApprovalResult pgResult) {
+    private Payment handlePgFailure(Order order, Payment payment, PgApprovalResult pgResult) {
         log.warn("PG approval failed - orderId: {}, pgCode: {}, pgMessage: {}",
                 order.getOrderId(), pgResult.getResultCode(), pgResult.getResultMessage());
 
-        // 1. Payment 엔티티 생성 (DECLINED)
-        Payment payment = Payment.builder()
-                .orderId(order.getOrderId())
-                .paymentKey(request.getPaymentKey())
-                .amount(request.getAmount())
-                .status(PaymentStatus.DECLINED)
-                .pgResultCode(pgResult.getResultCode())
-                .pgResultMessage(pgResult.getResultMessage())
-                .build();
+        // 1. 재고 예약 해제
+        stockReservationService.release(order.getOrderId());
+
+        // 2. Payment 상태 변경 (DECLINED)
+        payment.decline(pgResult.getResultCode(), pgResult.getResultMessage());
         payment = paymentRepository.save(payment);
 
-        // 2. Order 상태 변경 (PAYMENT_FAILED)
+        // 3. Order 상태 변경 (PAYMENT_FAILED, 커밋 후 주문 캐시 갱신)
         order.markAsPaymentFailed();
         orderRepository.save(order);
+        orderSnapshotCache.putAfterCommit(order);
 
-        // 3. OrderHistory 기록 (PAYMENT_FAILED)
-        recordOrderHistory(order.getOrderId(), OrderEventType.PAYMENT_FAILED, request);
+        // 4. OrderHistory 기록 (PAYMENT_FAILED, 커밋 후 백그라운드에서 일괄 기록)
+        orderHistoryRecorder.record(order.getOrderId(), OrderEventType.PAYMENT_FAILED, historyPayload(payment));
 
         return payment;
     }
 
     /**
-     * 주문 이력 기록
+     * 주문 이력 payload (결제 승인 요청과 같은 형태)
      */
-    private void recordOrderHistory(String orderId, OrderEventType eventType, Object payload) {
-        try {
-            String payloadJson = objectMapper.writeValueAsString(payload);
-            OrderHistory history = OrderHistory.builder()
-                    .orderId(orderId)
-                    .eventType(eventType)
-                    .payloadJson(payloadJson)
-                    .build();
-            orderHistoryRepository.save(history);
-            log.debug("Order history recorded - orderId: {}, eventType: {}", orderId, eventType);
-        } catch (JsonProcessingException e) {
-            log.error("Failed to serialize order history payload", e);
-            throw new RuntimeException("주문 이력 기록 중 오류가 발생했습니다.", e);
+    private ApprovePaymentRequest historyPayload(Payment payment) {
+        return ApprovePaymentRequest.builder()
+                .orderId(payment.getOrderId())
+                .paymentKey(payment.getPaymentKey())
+                .amount(payment.getAmount())
+                .build();
+    }
+
+    /**
+     * PG 호출 단계 outcome (태그 값이 늘어나지 않도록 success, PG 시스템 오류 코드, PG_DECLINED 중 하나)
+     */
+    private static String pgOutcome(PgApprovalResult pgResult) {
+        if (pgResult.isSuccess()) {
+            return StageMetrics.SUCCESS;
         }
+        return PG_SYSTEM_ERROR_CODES.contains(pgResult.getResultCode())
+                ? pgResult.getResultCode()
+                : PG_DECLINED_OUTCOME;
+    }
+
+    private ApprovePaymentResponse toResponse(String orderId, OrderStatus orderStatus, Payment payment) {
+        return ApprovePaymentResponse.builder()
+                .orderId(orderId)
+                .paymentId(payment.getId())
+                .paymentKey(payment.getPaymentKey())
+                .amount(payment.getAmount())
+                .paymentStatus(payment.getStatus())
+                .orderStatus(orderStatus)
+                .approvedAt(payment.getCreatedAt())
+                .build();
+    }
+
+    /**
+     * 결제 승인 1단계 결과
+     *
+     * @param paymentId 결제 ID
+     * @param completed 같은 결제 키로 이미 마감된 결제를 찾아 PG 호출이 필요 없는지 여부
+     */
+    private record RecordedPayment(Long paymentId, boolean completed) {
+    }
+
+    /**
+     * 진행 중인 결제 승인 식별자 (모두 같아야 같은 승인 요청으로 보고 결과를 공유함)
+     */
+    private record ApprovalKey(String orderId, String paymentKey, Long amount) {
     }
 }
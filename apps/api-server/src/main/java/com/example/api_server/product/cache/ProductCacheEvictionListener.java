@@ -0,0 +1,25 @@
+package com.example.api_server.product.cache;
+
+import com.example.api_server.product.domain.Product;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 엔티티 변경 감지 리스너
+ * JPA로 상품이 저장/변경/삭제되면 캐시를 무효화
+ * (벌크 UPDATE 쿼리는 리스너를 거치지 않으므로 호출 측에서 직접 ProductCacheInvalidator를 사용해야 함)
+ */
+@RequiredArgsConstructor
+public class ProductCacheEvictionListener {
+
+    private final ProductCacheInvalidator productCacheInvalidator;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Product product) {
+        productCacheInvalidator.invalidate(product.getProductId());
+    }
+}
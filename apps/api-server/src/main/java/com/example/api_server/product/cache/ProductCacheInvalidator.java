@@ -0,0 +1,60 @@
+package com.example.api_server.product.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 상품 캐시 무효화 처리
+ * 상품이 변경되면(재고 차감, 판매 상태 변경 등) 해당 상품과 전체 목록 캐시를 제거
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCacheInvalidator {
+
+    private final CacheManager cacheManager;
+
+    /**
+     * 상품 캐시 무효화
+     * 즉시 제거하고, 트랜잭션 안이라면 완료 후 한 번 더 제거하여
+     * 커밋 전에 다른 요청이 이전 값으로 캐시를 다시 채우는 경우를 막음
+     *
+     * @param productId 상품 ID
+     */
+    public void invalidate(Long productId) {
+        evict(productId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(productId);
+                }
+            });
+        }
+    }
+
+    private void evict(Long productId) {
+        if (productId != null) {
+            evictKey(ProductCacheNames.PRODUCT, productId);
+            evictKey(ProductCacheNames.PRODUCT_DETAIL, productId);
+        }
+        Cache catalog = cacheManager.getCache(ProductCacheNames.PRODUCT_CATALOG);
+        if (catalog != null) {
+            catalog.clear();
+        }
+        log.debug("Product cache invalidated - productId: {}", productId);
+    }
+
+    private void evictKey(String cacheName, Long productId) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(productId);
+        }
+    }
+}
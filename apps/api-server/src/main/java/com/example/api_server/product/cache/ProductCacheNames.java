@@ -0,0 +1,25 @@
+package com.example.api_server.product.cache;
+
+/**
+ * 상품 카탈로그 캐시 이름
+ */
+public final class ProductCacheNames {
+
+    /**
+     * 상품 스냅샷 캐시 (key: productId, 값: 불변 ProductSnapshot)
+     */
+    public static final String PRODUCT = "products";
+
+    /**
+     * 상품 상세 응답 캐시 (key: productId)
+     */
+    public static final String PRODUCT_DETAIL = "productDetails";
+
+    /**
+     * 전체 상품 목록 응답 캐시 (단일 key)
+     */
+    public static final String PRODUCT_CATALOG = "productCatalog";
+
+    private ProductCacheNames() {
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.api_server.product.cache;
+
+import com.example.api_server.product.domain.Product;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품 스냅샷 (상품 캐시에 저장하는 불변 값)
+ * 엔티티는 영속성 컨텍스트에서 분리된 뒤에도 변경 가능하고 여러 요청이 공유할 수 없으므로 필드 값만 복사해 둠
+ * 주문 생성은 가격/판매 여부/재고를 이 스냅샷으로 검증하고, 실제 재고 차감은 DB(또는 재고 원장) 기준으로 수행
+ */
+public record ProductSnapshot(
+        Long productId,
+        String name,
+        Long basePrice,
+        Long discountPrice,
+        Integer availableStock,
+        Boolean available,
+        LocalDateTime createdAt) {
+
+    public static ProductSnapshot from(Product product) {
+        return new ProductSnapshot(
+                product.getProductId(),
+                product.getName(),
+                product.getBasePrice(),
+                product.getDiscountPrice(),
+                product.getAvailableStock(),
+                product.getAvailable(),
+                product.getCreatedAt());
+    }
+
+    /**
+     * 판매 가능 여부 (Product.isAvailable과 같은 규칙)
+     */
+    public boolean isAvailable() {
+        return available && availableStock > 0;
+    }
+
+    public boolean hasEnoughStock(int quantity) {
+        return availableStock >= quantity;
+    }
+}
@@ -1,10 +1,13 @@
 package com.example.api_server.product.controller;
 
+import com.example.api_server.common.dto.CursorPageResponse;
 import com.example.api_server.product.dto.ProductResponse;
 import com.example.api_server.product.service.ProductService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -20,6 +23,39 @@ public class ProductController {
         return ResponseEntity.ok(productService.getAllProducts());
     }
 
+    /**
+     * 상품 목록 키셋 페이지 조회
+     * GET /api/products?after={productId}&limit={N}
+     */
+    @GetMapping(params = "limit")
+    public ResponseEntity<CursorPageResponse<ProductResponse>> getProductPage(
+            @RequestParam(required = false) Long after,
+            @RequestParam int limit) {
+        return ResponseEntity.ok(productService.getProductPage(after, limit));
+    }
+
+    /**
+     * 상품 목록 키셋 페이지 조회 (limit 생략 시 기본 페이지 크기)
+     * GET /api/products?after={productId}
+     */
+    @GetMapping(params = {"after", "!limit"})
+    public ResponseEntity<CursorPageResponse<ProductResponse>> getProductPageWithDefaultLimit(
+            @RequestParam Long after) {
+        return ResponseEntity.ok(productService.getProductPage(after, ProductService.DEFAULT_PAGE_SIZE));
+    }
+
+    /**
+     * 전체 상품 스트리밍 내보내기
+     * GET /api/products/export
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportProducts() {
+        StreamingResponseBody body = productService::exportProducts;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
     @GetMapping("/{productId}")
     public ResponseEntity<ProductResponse> getProduct(@PathVariable Long productId) {
         return ResponseEntity.ok(productService.getProduct(productId));
@@ -1,5 +1,7 @@
 package com.example.api_server.product.domain;
 
+import com.example.api_server.common.jpa.PooledSequence;
+import com.example.api_server.product.cache.ProductCacheEvictionListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -9,6 +11,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "products")
+@EntityListeners(ProductCacheEvictionListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -16,7 +19,7 @@ import java.time.LocalDateTime;
 public class Product {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence(name = "products_seq")
     private Long productId;
 
     @NotNull
@@ -40,6 +43,18 @@ public class Product {
     @Column(nullable = false)
     private Boolean available;
 
+    /**
+     * 낙관적 락 버전 (재고 차감 전략이 optimistic일 때 동시 수정 감지에 사용)
+     */
+    @Version
+    private Long version;
+
+    /**
+     * 인메모리 재고 원장(HotStockLedger)이 마지막으로 DB에 반영한 시각
+     * 원장이 이 상품의 재고를 소유하는 동안에만 값이 있으며, 정상 종료 시 null로 되돌림
+     */
+    private LocalDateTime stockSyncedAt;
+
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
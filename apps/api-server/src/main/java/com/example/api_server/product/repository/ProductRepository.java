@@ -1,9 +1,70 @@
 package com.example.api_server.product.repository;
 
 import com.example.api_server.product.domain.Product;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
-}
\ No newline at end of file
+
+    /**
+     * 키셋 페이지 조회: productId가 커서보다 큰 상품을 productId 오름차순으로 limit건 조회
+     */
+    List<Product> findByProductIdGreaterThanOrderByProductIdAsc(Long productId, Limit limit);
+
+    /**
+     * 전체 상품을 productId 순서로 스트리밍 조회 (트랜잭션 안에서 사용하고 반드시 close 해야 함)
+     * MySQL에서 실제 커서 스트리밍을 하려면 useCursorFetch=true 연결 옵션이 필요
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select p from Product p order by p.productId")
+    Stream<Product> streamAllOrderByProductId();
+
+    /**
+     * 조건부 재고 차감 (단일 UPDATE 문)
+     * 재고가 요청 수량 이상일 때만 차감하며, 영향받은 행 수(0 또는 1)를 반환
+     * 엔티티 기반 쓰기와 함께 쓰여도 충돌을 감지할 수 있도록 버전도 증가시킴
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update Product p set p.availableStock = p.availableStock - :quantity, p.version = p.version + 1 "
+            + "where p.productId = :productId and p.availableStock >= :quantity")
+    int decreaseStockIfAvailable(@Param("productId") Long productId, @Param("quantity") int quantity);
+
+    /**
+     * 재고 증가 (단일 UPDATE 문, 예약 해제 시 사용)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update Product p set p.availableStock = p.availableStock + :quantity, p.version = p.version + 1 "
+            + "where p.productId = :productId")
+    int increaseStock(@Param("productId") Long productId, @Param("quantity") int quantity);
+
+    /**
+     * 현재 재고 수량만 조회 (엔티티를 영속성 컨텍스트에 올리지 않음)
+     */
+    @Query("select p.availableStock from Product p where p.productId = :productId")
+    Optional<Integer> findAvailableStockById(@Param("productId") Long productId);
+
+    /**
+     * 비관적 쓰기 락(SELECT ... FOR UPDATE)으로 상품 조회
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000"))
+    @Query("select p from Product p where p.productId = :productId")
+    Optional<Product> findByIdForUpdate(@Param("productId") Long productId);
+}
@@ -0,0 +1,108 @@
+package com.example.api_server.product.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 인메모리 재고 원장용 JDBC 리포지토리
+ * 엔티티를 거치지 않고 재고 스냅샷 조회와 차감분 일괄 반영을 수행
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductStockJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 재고 스냅샷 조회
+     */
+    public Optional<StockSnapshot> findStockSnapshot(long productId) {
+        List<StockSnapshot> snapshots = jdbcTemplate.query(
+                "SELECT available_stock, stock_synced_at FROM products WHERE product_id = ?",
+                (rs, rowNum) -> {
+                    Timestamp syncedAt = rs.getTimestamp("stock_synced_at");
+                    return new StockSnapshot(rs.getInt("available_stock"),
+                            syncedAt == null ? null : syncedAt.toLocalDateTime());
+                },
+                productId);
+        return snapshots.stream().findFirst();
+    }
+
+    /**
+     * 특정 시각 이후 재고를 차감했을 수 있는 수량 합계
+     * 원장 비정상 종료 시 DB에 반영되지 못한 차감분을 복구하는 데 사용
+     * - 그 이후 생성된 재고 예약 (주문 생성 시 차감)
+     * - 그 이후 확정된 재고 예약 (만료 후 결제 시 재차감)
+     * - 그 이후 결제 완료된 주문 (예약 없이 결제 시 차감)
+     * 같은 주문이 여러 항목에 포함되거나 이후 해제된 예약도 포함되므로 실제보다 크게 계산될 수 있음 (초과 판매 방지 우선)
+     */
+    public int sumUnflushedQuantitySince(long productId, LocalDateTime since) {
+        Timestamp timestamp = Timestamp.valueOf(since);
+        Integer sum = jdbcTemplate.queryForObject(
+                "SELECT (SELECT COALESCE(SUM(quantity), 0) FROM stock_reservations "
+                        + "WHERE product_id = ? AND (created_at > ? OR (status = 'CONFIRMED' AND updated_at > ?))) "
+                        + "+ (SELECT COALESCE(SUM(quantity), 0) FROM orders "
+                        + "WHERE product_id = ? AND status = 'PAID' AND updated_at > ?)",
+                Integer.class,
+                productId, timestamp, timestamp, productId, timestamp);
+        return sum == null ? 0 : sum;
+    }
+
+    /**
+     * 원장 소유 시작: 복구된 재고를 기록하고 동기화 시각을 설정
+     */
+    public void claimOwnership(long productId, int availableStock, LocalDateTime syncedAt) {
+        jdbcTemplate.update(
+                "UPDATE products SET available_stock = ?, version = version + 1, stock_synced_at = ? WHERE product_id = ?",
+                availableStock, Timestamp.valueOf(syncedAt), productId);
+    }
+
+    /**
+     * 원장 소유 해제: 모든 차감분을 반영한 뒤 호출하며 DB 재고가 다시 기준이 됨
+     */
+    public void releaseOwnership(long productId) {
+        jdbcTemplate.update("UPDATE products SET stock_synced_at = NULL WHERE product_id = ?", productId);
+    }
+
+    /**
+     * 차감분 일괄 반영 (JDBC batch)
+     *
+     * @param deltas 상품별 순 차감 수량 (음수면 증가)
+     * @param syncedAt 이번 반영의 기준 시각
+     */
+    public void applyStockDeltas(List<StockDelta> deltas, LocalDateTime syncedAt) {
+        Timestamp timestamp = Timestamp.valueOf(syncedAt);
+        jdbcTemplate.batchUpdate(
+                "UPDATE products SET available_stock = available_stock - ?, version = version + 1, stock_synced_at = ? "
+                        + "WHERE product_id = ?",
+                deltas,
+                deltas.size(),
+                (ps, delta) -> {
+                    ps.setInt(1, delta.quantity());
+                    ps.setTimestamp(2, timestamp);
+                    ps.setLong(3, delta.productId());
+                });
+    }
+
+    /**
+     * 원장이 소유하지 않는 상품의 DB 재고 증가 (등록 해제 뒤에 도착한 증가분)
+     * stock_synced_at을 건드리지 않으므로 다음 등록 시 비정상 종료로 오인해 복구 차감하지 않음
+     */
+    public void increaseStock(long productId, int quantity) {
+        jdbcTemplate.update(
+                "UPDATE products SET available_stock = available_stock + ?, version = version + 1 WHERE product_id = ?",
+                quantity, productId);
+    }
+
+    public record StockSnapshot(int availableStock, LocalDateTime stockSyncedAt) {
+    }
+
+    public record StockDelta(long productId, int quantity) {
+    }
+}
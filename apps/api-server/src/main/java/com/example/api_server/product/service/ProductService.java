@@ -1,22 +1,44 @@
 package com.example.api_server.product.service;
 
+import com.example.api_server.common.dto.CursorPageResponse;
 import com.example.api_server.common.exception.OutOfStockException;
 import com.example.api_server.common.exception.ProductNotAvailableException;
 import com.example.api_server.common.exception.ProductNotFoundException;
+import com.example.api_server.product.cache.ProductCacheInvalidator;
+import com.example.api_server.product.cache.ProductCacheNames;
+import com.example.api_server.product.cache.ProductSnapshot;
 import com.example.api_server.product.domain.Product;
 import com.example.api_server.product.dto.ProductResponse;
 import com.example.api_server.product.repository.ProductRepository;
+import com.example.api_server.product.stock.HotStockLedger;
+import com.example.api_server.product.stock.StockDecrementStrategy;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 상품 서비스
  * 상품 조회 및 검증 로직을 담당
+ * 조회 결과는 상품 카탈로그 캐시(ProductCacheNames)에 저장되며, 상품 변경 시 ProductCacheInvalidator가 무효화
  */
 @Slf4j
 @Service
@@ -24,59 +46,212 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class ProductService {
 
+    /**
+     * 키셋 페이지 최대 크기
+     */
+    /**
+     * 키셋 페이지 기본 크기 (커서만 지정하고 limit을 생략한 경우)
+     */
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final ProductRepository productRepository;
+    private final StockDecrementStrategy stockDecrementStrategy;
+    private final HotStockLedger hotStockLedger;
+    private final ProductCacheInvalidator productCacheInvalidator;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
 
     /**
      * 전체 상품 목록 조회
+     * 캐시된 목록은 여러 요청이 공유하므로 불변 리스트로 반환
      */
+    @Cacheable(ProductCacheNames.PRODUCT_CATALOG)
     public List<ProductResponse> getAllProducts() {
         return productRepository.findAll().stream()
                 .map(ProductResponse::from)
-                .collect(Collectors.toList());
+                .toList();
+    }
+
+    /**
+     * 상품 목록 키셋 페이지 조회
+     * OFFSET 없이 productId 커서 이후의 상품만 조회하므로 페이지 깊이와 무관하게 비용이 일정
+     *
+     * @param after 이전 페이지의 마지막 productId (첫 페이지면 null)
+     * @param limit 페이지 크기 (1 ~ MAX_PAGE_SIZE로 보정)
+     * @return 상품 페이지
+     */
+    public CursorPageResponse<ProductResponse> getProductPage(Long after, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        long cursor = after == null ? 0L : after;
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<Product> products = productRepository.findByProductIdGreaterThanOrderByProductIdAsc(
+                cursor, Limit.of(pageSize + 1));
+
+        boolean hasNext = products.size() > pageSize;
+        List<ProductResponse> items = products.stream()
+                .limit(pageSize)
+                .map(ProductResponse::from)
+                .toList();
+        String nextCursor = hasNext ? String.valueOf(items.get(items.size() - 1).getProductId()) : null;
+
+        return CursorPageResponse.of(items, nextCursor);
+    }
+
+    /**
+     * 전체 상품 스트리밍 내보내기
+     * JPA Stream으로 한 건씩 읽어 JSON 배열로 바로 기록하고, 기록한 엔티티는 영속성 컨텍스트에서 분리하여
+     * 전체 목록을 메모리에 올리지 않음
+     *
+     * @param out JSON을 기록할 출력 스트림
+     */
+    public void exportProducts(OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(ProductResponse.class)
+                .without(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        try (Stream<Product> products = productRepository.streamAllOrderByProductId();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.writeStartArray();
+            Iterator<Product> iterator = products.iterator();
+            while (iterator.hasNext()) {
+                Product product = iterator.next();
+                writer.writeValue(generator, ProductResponse.from(product));
+                entityManager.detach(product);
+            }
+            generator.writeEndArray();
+        }
     }
 
     /**
      * 단일 상품 조회
+     * 상품 스냅샷 캐시와 같은 로더(loadProduct)를 쓰며, 자기 호출은 캐시 프록시를 거치지 않으므로 getProductSnapshot을 부르지 않음
      */
+    @Cacheable(ProductCacheNames.PRODUCT_DETAIL)
     public ProductResponse getProduct(Long productId) {
-        Product product = getProductOrThrow(productId);
-        return ProductResponse.from(product);
+        return ProductResponse.from(loadProduct(productId));
     }
 
     /**
-     * 상품 조회 (없으면 예외 발생)
+     * 상품 스냅샷 조회 (없으면 예외 발생, 주문 생성용)
+     * 엔티티 대신 불변 스냅샷을 캐시하므로 여러 요청이 공유해도 안전함
      *
      * @param productId 상품 ID
-     * @return 상품 엔티티
+     * @return 상품 스냅샷
      * @throws ProductNotFoundException 상품을 찾을 수 없는 경우
      */
-    public Product getProductOrThrow(Long productId) {
-        return productRepository.findById(productId)
-                .orElseThrow(() -> new ProductNotFoundException(productId));
+    @Cacheable(ProductCacheNames.PRODUCT)
+    public ProductSnapshot getProductSnapshot(Long productId) {
+        return ProductSnapshot.from(loadProduct(productId));
+    }
+
+    /**
+     * 여러 상품 스냅샷 일괄 조회 (일괄 주문 생성)
+     * 상품 캐시를 거치지 않고 중복 없는 ID로 한 번에 조회하며, 없는 상품은 결과에서 빠짐
+     *
+     * @param productIds 상품 ID 목록 (중복 허용)
+     * @return 상품 ID별 상품 스냅샷
+     */
+    public Map<Long, ProductSnapshot> getProducts(Collection<Long> productIds) {
+        return productRepository.findAllById(productIds.stream().distinct().toList()).stream()
+                .map(ProductSnapshot::from)
+                .collect(Collectors.toMap(ProductSnapshot::productId, Function.identity()));
+    }
+
+    /**
+     * 현재 가용 재고 (인기 상품은 인메모리 재고 원장 기준)
+     *
+     * @param product 상품 스냅샷
+     * @return 가용 재고 수량
+     */
+    public int getAvailableStock(ProductSnapshot product) {
+        return hotStockLedger.availableStock(product.productId()).orElse(product.availableStock());
     }
 
     /**
      * 상품 판매 가능 여부 검증
      *
-     * @param product 상품 엔티티
+     * @param product 상품 스냅샷
      * @throws ProductNotAvailableException 상품이 판매 불가 상태인 경우
      */
-    public void validateProductAvailability(Product product) {
+    public void validateProductAvailability(ProductSnapshot product) {
         if (!product.isAvailable()) {
-            throw new ProductNotAvailableException(product.getProductId());
+            throw new ProductNotAvailableException(product.productId());
         }
     }
 
     /**
      * 재고 가용성 검증
      *
-     * @param product 상품 엔티티
+     * @param product 상품 스냅샷
      * @param quantity 요청 수량
      * @throws OutOfStockException 재고가 부족한 경우
      */
-    public void validateStockAvailability(Product product, int quantity) {
+    public void validateStockAvailability(ProductSnapshot product, int quantity) {
+        // 인기 상품은 인메모리 재고 원장이 기준
+        OptionalInt ledgerStock = hotStockLedger.availableStock(product.productId());
+        if (ledgerStock.isPresent()) {
+            if (ledgerStock.getAsInt() < quantity) {
+                throw new OutOfStockException(quantity, ledgerStock.getAsInt());
+            }
+            return;
+        }
+
         if (!product.hasEnoughStock(quantity)) {
-            throw new OutOfStockException(quantity, product.getAvailableStock());
+            throw new OutOfStockException(quantity, product.availableStock());
+        }
+    }
+
+    /**
+     * 상품 엔티티 조회 (없으면 예외 발생, 상품 캐시들의 공통 로더)
+     */
+    private Product loadProduct(Long productId) {
+        return productRepository.findById(productId)
+                .orElseThrow(() -> new ProductNotFoundException(productId));
+    }
+
+    /**
+     * 재고 차감
+     * 인기 상품은 인메모리 재고 원장에서 차감하고(DB 반영은 원장이 일괄 처리),
+     * 그 외 상품은 설정된 StockDecrementStrategy로 차감한 뒤 상품 캐시를 무효화
+     * (조건부 UPDATE는 엔티티 리스너를 거치지 않으므로 직접 무효화)
+     *
+     * @param productId 상품 ID
+     * @param quantity 차감 수량
+     * @throws ProductNotFoundException 상품을 찾을 수 없는 경우
+     * @throws OutOfStockException 재고가 부족한 경우
+     */
+    @Transactional
+    public void decreaseStock(Long productId, int quantity) {
+        if (hotStockLedger.tryDecrease(productId, quantity)) {
+            log.debug("Stock decreased in hot stock ledger - productId: {}, quantity: {}", productId, quantity);
+            return;
+        }
+        stockDecrementStrategy.decrease(productId, quantity);
+        productCacheInvalidator.invalidate(productId);
+        log.debug("Stock decreased - productId: {}, quantity: {}", productId, quantity);
+    }
+
+    /**
+     * 재고 증가 (예약 해제 등으로 차감했던 재고를 되돌림)
+     * 인기 상품은 인메모리 재고 원장에 반영하고, 그 외 상품은 단일 UPDATE로 증가시킨 뒤 상품 캐시를 무효화
+     *
+     * @param productId 상품 ID
+     * @param quantity 증가 수량
+     * @throws ProductNotFoundException 상품을 찾을 수 없는 경우
+     */
+    @Transactional
+    public void increaseStock(Long productId, int quantity) {
+        if (hotStockLedger.tryIncrease(productId, quantity)) {
+            log.debug("Stock increased in hot stock ledger - productId: {}, quantity: {}", productId, quantity);
+            return;
+        }
+        if (productRepository.increaseStock(productId, quantity) == 0) {
+            throw new ProductNotFoundException(productId);
         }
+        productCacheInvalidator.invalidate(productId);
+        log.debug("Stock increased - productId: {}, quantity: {}", productId, quantity);
     }
 }
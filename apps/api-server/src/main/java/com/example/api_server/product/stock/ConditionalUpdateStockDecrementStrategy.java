@@ -0,0 +1,32 @@
+package com.example.api_server.product.stock;
+
+import com.example.api_server.common.exception.OutOfStockException;
+import com.example.api_server.common.exception.ProductNotFoundException;
+import com.example.api_server.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 조건부 UPDATE 재고 차감 전략 (기본값)
+ * UPDATE products SET available_stock = available_stock - ? WHERE product_id = ? AND available_stock >= ?
+ * 읽기-수정-쓰기 없이 DB가 원자적으로 검증/차감하므로 갱신 유실이 없고, 행 락은 UPDATE 문 동안만 유지됨
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.stock.decrement-strategy", havingValue = "conditional-update", matchIfMissing = true)
+public class ConditionalUpdateStockDecrementStrategy implements StockDecrementStrategy {
+
+    private final ProductRepository productRepository;
+
+    @Override
+    public void decrease(Long productId, int quantity) {
+        int updated = productRepository.decreaseStockIfAvailable(productId, quantity);
+        if (updated == 0) {
+            // 영향받은 행이 없으면 상품 없음과 재고 부족을 구분
+            Integer availableStock = productRepository.findAvailableStockById(productId)
+                    .orElseThrow(() -> new ProductNotFoundException(productId));
+            throw new OutOfStockException(quantity, availableStock);
+        }
+    }
+}
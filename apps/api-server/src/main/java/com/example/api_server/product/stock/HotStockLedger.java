@@ -0,0 +1,349 @@
+package com.example.api_server.product.stock;
+
+import com.example.api_server.common.exception.OutOfStockException;
+import com.example.api_server.common.exception.ProductNotFoundException;
+import com.example.api_server.common.util.LongIntHashMap;
+import com.example.api_server.product.cache.ProductCacheInvalidator;
+import com.example.api_server.product.repository.ProductStockJdbcRepository;
+import com.example.api_server.product.repository.ProductStockJdbcRepository.StockDelta;
+import com.example.api_server.product.repository.ProductStockJdbcRepository.StockSnapshot;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 인기 상품 인메모리 재고 원장
+ * 라이브 방송 등으로 주문이 한 상품에 몰릴 때 products 행 락 경합을 피하기 위해,
+ * 지정된 상품의 availableStock을 메모리에서 소유하고 순 차감분만 주기적으로 DB에 일괄 반영함
+ *
+ * - 상품 ID 해시로 스트라이프를 나누고, 스트라이프마다 락 하나와 long→int 기본형 맵(재고, 미반영 차감분)을 둠
+ * - 반영 주기(app.stock.hot-ledger.flush-interval-ms)마다 미반영 차감분을 JDBC batch로 반영
+ * - 재고를 차감한 트랜잭션이 롤백되면 차감분을 되돌림
+ *
+ * 장애 복구 규칙 (재시작 후 초과 판매 방지):
+ * - 원장이 상품을 소유하는 동안 products.stock_synced_at에 마지막 반영 시각을 기록하고, 정상 종료 시 null로 되돌림
+ * - 등록 시 stock_synced_at이 남아 있으면 이전 원장이 비정상 종료된 것으로 보고,
+ *   그 시각 이후 재고를 차감했을 수 있는 예약/결제 수량을 DB 재고에서 추가로 차감한 값으로 시작함
+ *   (이미 반영된 차감분이 중복 차감될 수는 있으나 초과 판매 방향으로는 틀리지 않음)
+ * - 반영과 등록 해제는 직렬화하여, 소유를 해제한 뒤에 늦은 반영이 stock_synced_at을 다시 설정하지 않도록 함
+ * - 등록 해제 뒤에 도착한 증가분(커밋 후 증가, 롤백된 차감 복원)은 stock_synced_at 없이 DB 재고에 직접 반영
+ * - 한 상품은 한 노드의 원장만 소유해야 함
+ */
+@Slf4j
+@Component
+public class HotStockLedger {
+
+    private final ProductStockJdbcRepository productStockJdbcRepository;
+    private final ProductCacheInvalidator productCacheInvalidator;
+    private final List<Long> configuredProductIds;
+    private final Clock clock;
+    private final Stripe[] stripes;
+    private final int stripeMask;
+
+    /**
+     * 반영(flush)과 등록 해제를 직렬화하는 락 (스트라이프 락보다 먼저 잡음)
+     */
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    @Autowired
+    public HotStockLedger(ProductStockJdbcRepository productStockJdbcRepository,
+                          ProductCacheInvalidator productCacheInvalidator,
+                          @Value("${app.stock.hot-ledger.product-ids:}") List<Long> configuredProductIds,
+                          @Value("${app.stock.hot-ledger.stripes:64}") int stripeCount) {
+        this(productStockJdbcRepository, productCacheInvalidator, configuredProductIds, stripeCount, Clock.systemDefaultZone());
+    }
+
+    HotStockLedger(ProductStockJdbcRepository productStockJdbcRepository,
+                   ProductCacheInvalidator productCacheInvalidator,
+                   List<Long> configuredProductIds,
+                   int stripeCount,
+                   Clock clock) {
+        this.productStockJdbcRepository = productStockJdbcRepository;
+        this.productCacheInvalidator = productCacheInvalidator;
+        this.configuredProductIds = configuredProductIds;
+        this.clock = clock;
+
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.stripeMask = size - 1;
+    }
+
+    /**
+     * 설정된 인기 상품을 애플리케이션 기동 후 등록
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void registerConfiguredProducts() {
+        configuredProductIds.forEach(this::register);
+    }
+
+    /**
+     * 인기 상품 등록 (재고 소유 시작)
+     *
+     * @param productId 상품 ID
+     * @throws ProductNotFoundException 상품을 찾을 수 없는 경우
+     */
+    public void register(long productId) {
+        Stripe stripe = stripe(productId);
+        stripe.lock.lock();
+        try {
+            if (stripe.stock.containsKey(productId)) {
+                return;
+            }
+            StockSnapshot snapshot = productStockJdbcRepository.findStockSnapshot(productId)
+                    .orElseThrow(() -> new ProductNotFoundException(productId));
+
+            int availableStock = snapshot.availableStock();
+            if (snapshot.stockSyncedAt() != null) {
+                int unflushed = productStockJdbcRepository.sumUnflushedQuantitySince(productId, snapshot.stockSyncedAt());
+                availableStock = Math.max(0, availableStock - unflushed);
+                log.warn("Recovering hot stock ledger after unclean shutdown - productId: {}, dbStock: {}, unflushed: {}",
+                        productId, snapshot.availableStock(), unflushed);
+            }
+
+            productStockJdbcRepository.claimOwnership(productId, availableStock, LocalDateTime.now(clock));
+            stripe.stock.put(productId, availableStock);
+            log.info("Hot stock ledger registered - productId: {}, availableStock: {}", productId, availableStock);
+        } finally {
+            stripe.lock.unlock();
+        }
+        productCacheInvalidator.invalidate(productId);
+    }
+
+    /**
+     * 인기 상품 등록 해제: 미반영 차감분을 반영하고 DB 재고를 다시 기준으로 되돌림
+     */
+    public void unregister(long productId) {
+        Stripe stripe = stripe(productId);
+        flushLock.lock();
+        try {
+            int pending;
+            stripe.lock.lock();
+            try {
+                if (stripe.stock.remove(productId) == Stripe.MISSING) {
+                    return;
+                }
+                pending = stripe.pending.remove(productId);
+            } finally {
+                stripe.lock.unlock();
+            }
+
+            if (pending != Stripe.MISSING && pending != 0) {
+                productStockJdbcRepository.applyStockDeltas(List.of(new StockDelta(productId, pending)),
+                        LocalDateTime.now(clock));
+            }
+            productStockJdbcRepository.releaseOwnership(productId);
+        } finally {
+            flushLock.unlock();
+        }
+        productCacheInvalidator.invalidate(productId);
+        log.info("Hot stock ledger unregistered - productId: {}", productId);
+    }
+
+    public boolean isHot(long productId) {
+        Stripe stripe = stripe(productId);
+        stripe.lock.lock();
+        try {
+            return stripe.stock.containsKey(productId);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * 원장이 소유한 현재 재고 조회
+     *
+     * @return 인기 상품이 아니면 empty
+     */
+    public OptionalInt availableStock(long productId) {
+        Stripe stripe = stripe(productId);
+        stripe.lock.lock();
+        try {
+            int stock = stripe.stock.get(productId);
+            return stock == Stripe.MISSING ? OptionalInt.empty() : OptionalInt.of(stock);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * 인기 상품이면 원장에서 재고 차감
+     * 트랜잭션 안에서 호출되면 롤백 시 차감분을 되돌림
+     *
+     * @return 인기 상품이라 원장에서 차감했으면 true, 인기 상품이 아니면 false (호출 측이 DB에서 차감)
+     * @throws OutOfStockException 인기 상품인데 재고가 부족한 경우
+     */
+    public boolean tryDecrease(long productId, int quantity) {
+        if (!adjust(productId, -quantity)) {
+            return false;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK && !adjust(productId, quantity)) {
+                        // 롤백 사이에 등록 해제되어 차감분이 이미 DB에 반영된 경우 DB에서 되돌림
+                        productStockJdbcRepository.increaseStock(productId, quantity);
+                    }
+                }
+            });
+        }
+        return true;
+    }
+
+    /**
+     * 인기 상품이면 원장 재고를 증가 (예약 해제, 환불 등)
+     * 트랜잭션 안에서 호출되면 커밋 후에 반영하여, 롤백될 증가분이 먼저 판매되지 않도록 함
+     *
+     * @return 인기 상품이라 원장에 반영(또는 커밋 후 반영 예약)했으면 true
+     */
+    public boolean tryIncrease(long productId, int quantity) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return adjust(productId, quantity);
+        }
+        if (!isHot(productId)) {
+            return false;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                if (!adjust(productId, quantity)) {
+                    // 커밋 사이에 등록 해제된 경우 DB 재고가 기준이므로 DB에 직접 반영 (소유 해제 상태 유지)
+                    productStockJdbcRepository.increaseStock(productId, quantity);
+                }
+            }
+        });
+        return true;
+    }
+
+    /**
+     * 미반영 차감분을 DB에 일괄 반영 (등록된 상품만)
+     * 반영에 실패하면 차감분을 다시 미반영 상태로 되돌려 다음 주기에 재시도
+     * 반영 중에는 등록 해제가 기다리므로, 반영 대상 상품은 반영이 끝날 때까지 원장이 소유함
+     */
+    @Scheduled(fixedDelayString = "${app.stock.hot-ledger.flush-interval-ms:200}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushOwned();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushOwned() {
+        LocalDateTime syncedAt = LocalDateTime.now(clock);
+        List<StockDelta> deltas = new ArrayList<>();
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                if (!stripe.pending.isEmpty()) {
+                    stripe.pending.forEach((productId, delta) -> {
+                        if (delta != 0 && stripe.stock.containsKey(productId)) {
+                            deltas.add(new StockDelta(productId, delta));
+                        }
+                    });
+                    stripe.pending.clear();
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            productStockJdbcRepository.applyStockDeltas(deltas, syncedAt);
+            deltas.forEach(delta -> productCacheInvalidator.invalidate(delta.productId()));
+            log.debug("Hot stock ledger flushed - products: {}", deltas.size());
+        } catch (RuntimeException e) {
+            log.error("Failed to flush hot stock ledger - products: {}", deltas.size(), e);
+            for (StockDelta delta : deltas) {
+                Stripe stripe = stripe(delta.productId());
+                stripe.lock.lock();
+                try {
+                    stripe.pending.addTo(delta.productId(), delta.quantity());
+                } finally {
+                    stripe.lock.unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * 정상 종료 시 모든 차감분을 반영하고 소유를 해제
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        for (Stripe stripe : stripes) {
+            List<Long> productIds = new ArrayList<>();
+            stripe.lock.lock();
+            try {
+                stripe.stock.forEach((productId, stock) -> productIds.add(productId));
+            } finally {
+                stripe.lock.unlock();
+            }
+            productIds.forEach(this::unregister);
+        }
+    }
+
+    /**
+     * 재고 증감 (delta < 0 이면 차감)
+     *
+     * @return 인기 상품이면 true
+     */
+    private boolean adjust(long productId, int delta) {
+        Stripe stripe = stripe(productId);
+        stripe.lock.lock();
+        try {
+            int stock = stripe.stock.get(productId);
+            if (stock == Stripe.MISSING) {
+                return false;
+            }
+            if (stock + delta < 0) {
+                throw new OutOfStockException(-delta, stock);
+            }
+            stripe.stock.put(productId, stock + delta);
+            // pending은 DB에서 차감할 수량이므로 부호가 반대
+            stripe.pending.addTo(productId, -delta);
+            return true;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private Stripe stripe(long productId) {
+        long h = productId * 0x9E3779B97F4A7C15L;
+        return stripes[(int) (h >>> 32) & stripeMask];
+    }
+
+    /**
+     * 스트라이프: 락 하나가 보호하는 상품 묶음
+     */
+    private static final class Stripe {
+
+        private static final int MISSING = Integer.MIN_VALUE;
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LongIntHashMap stock = new LongIntHashMap(8, MISSING);
+        private final LongIntHashMap pending = new LongIntHashMap(8, MISSING);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.api_server.product.stock;
+
+import com.example.api_server.common.exception.OutOfStockException;
+import com.example.api_server.common.exception.ProductNotFoundException;
+import com.example.api_server.common.exception.StockConflictException;
+import com.example.api_server.product.domain.Product;
+import com.example.api_server.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 낙관적 락(@Version) 재고 차감 전략
+ * 조회 후 차감하고 즉시 flush하여 버전 충돌을 감지함
+ * 충돌 시 현재 트랜잭션은 롤백 대상이 되므로 재시도는 호출 측(새 트랜잭션)에서 수행해야 함
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.stock.decrement-strategy", havingValue = "optimistic")
+public class OptimisticLockStockDecrementStrategy implements StockDecrementStrategy {
+
+    private final ProductRepository productRepository;
+
+    @Override
+    public void decrease(Long productId, int quantity) {
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new ProductNotFoundException(productId));
+
+        if (!product.hasEnoughStock(quantity)) {
+            throw new OutOfStockException(quantity, product.getAvailableStock());
+        }
+        product.decreaseStock(quantity);
+
+        try {
+            productRepository.saveAndFlush(product);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new StockConflictException(productId);
+        }
+    }
+}
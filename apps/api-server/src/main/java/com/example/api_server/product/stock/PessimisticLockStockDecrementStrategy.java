@@ -0,0 +1,33 @@
+package com.example.api_server.product.stock;
+
+import com.example.api_server.common.exception.OutOfStockException;
+import com.example.api_server.common.exception.ProductNotFoundException;
+import com.example.api_server.product.domain.Product;
+import com.example.api_server.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비관적 락(SELECT ... FOR UPDATE) 재고 차감 전략
+ * 행 락을 트랜잭션 종료 시점까지 유지하므로 충돌은 없지만 같은 상품에 대한 요청이 직렬화됨
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.stock.decrement-strategy", havingValue = "pessimistic")
+public class PessimisticLockStockDecrementStrategy implements StockDecrementStrategy {
+
+    private final ProductRepository productRepository;
+
+    @Override
+    public void decrease(Long productId, int quantity) {
+        Product product = productRepository.findByIdForUpdate(productId)
+                .orElseThrow(() -> new ProductNotFoundException(productId));
+
+        if (!product.hasEnoughStock(quantity)) {
+            throw new OutOfStockException(quantity, product.getAvailableStock());
+        }
+        // 변경 감지로 커밋 시 UPDATE
+        product.decreaseStock(quantity);
+    }
+}
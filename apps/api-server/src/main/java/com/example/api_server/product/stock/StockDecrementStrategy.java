@@ -0,0 +1,22 @@
+package com.example.api_server.product.stock;
+
+import com.example.api_server.common.exception.OutOfStockException;
+import com.example.api_server.common.exception.ProductNotFoundException;
+
+/**
+ * 재고 차감 전략
+ * app.stock.decrement-strategy 설정으로 선택 (conditional-update | optimistic | pessimistic)
+ * 호출 측 트랜잭션 안에서 실행되어야 함
+ */
+public interface StockDecrementStrategy {
+
+    /**
+     * 재고 차감
+     *
+     * @param productId 상품 ID
+     * @param quantity 차감 수량
+     * @throws ProductNotFoundException 상품을 찾을 수 없는 경우
+     * @throws OutOfStockException 재고가 부족한 경우
+     */
+    void decrease(Long productId, int quantity);
+}
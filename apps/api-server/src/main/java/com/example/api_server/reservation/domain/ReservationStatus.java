@@ -0,0 +1,8 @@
+package com.example.api_server.reservation.domain;
+
+public enum ReservationStatus {
+    ACTIVE,
+    CONFIRMED,
+    RELEASED,
+    EXPIRED
+}
@@ -0,0 +1,41 @@
+package com.example.api_server.reservation.repository;
+
+import com.example.api_server.reservation.domain.StockReservation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * 재고 예약 일괄 기록용 JDBC 리포지토리
+ * StockReservation은 주문 ID를 식별자로 직접 지정하므로 JPA save는 건마다 SELECT 후 INSERT함
+ * 일괄 주문 생성 시에는 새 예약임이 확실하므로 엔티티를 거치지 않고 JDBC batch로 기록
+ */
+@Repository
+@RequiredArgsConstructor
+public class StockReservationJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 재고 예약 일괄 기록 (JDBC batch)
+     */
+    public void insertAll(List<StockReservation> reservations) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO stock_reservations (order_id, product_id, quantity, status, expires_at, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                reservations,
+                reservations.size(),
+                (ps, reservation) -> {
+                    ps.setString(1, reservation.getOrderId());
+                    ps.setLong(2, reservation.getProductId());
+                    ps.setInt(3, reservation.getQuantity());
+                    ps.setString(4, reservation.getStatus().name());
+                    ps.setTimestamp(5, Timestamp.valueOf(reservation.getExpiresAt()));
+                    ps.setTimestamp(6, Timestamp.valueOf(reservation.getCreatedAt()));
+                    ps.setTimestamp(7, Timestamp.valueOf(reservation.getUpdatedAt()));
+                });
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.api_server.reservation.repository;
+
+import com.example.api_server.reservation.domain.ReservationStatus;
+import com.example.api_server.reservation.domain.StockReservation;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+@Repository
+public interface StockReservationRepository extends JpaRepository<StockReservation, String> {
+
+    /**
+     * 조건부 상태 전이 (단일 UPDATE 문)
+     * 현재 상태가 from일 때만 to로 바꾸며, 영향받은 행 수(0 또는 1)를 반환
+     * 결제 확정과 만료 해제가 동시에 일어나도 한쪽만 성공하도록 보장
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update StockReservation r set r.status = :to, r.updatedAt = :now "
+            + "where r.orderId = :orderId and r.status = :from")
+    int transitStatus(@Param("orderId") String orderId,
+                      @Param("from") ReservationStatus from,
+                      @Param("to") ReservationStatus to,
+                      @Param("now") LocalDateTime now);
+
+    /**
+     * 만료 대기 중인 예약을 스트리밍 조회 (기동 시 타이밍 휠 재구성용, 트랜잭션 안에서 사용하고 반드시 close 해야 함)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select r.orderId as orderId, r.expiresAt as expiresAt from StockReservation r where r.status = :status")
+    Stream<PendingExpiry> streamByStatus(@Param("status") ReservationStatus status);
+
+    /**
+     * 만료 대기 항목 (주문 ID와 만료 시각만 조회)
+     */
+    interface PendingExpiry {
+        String getOrderId();
+
+        LocalDateTime getExpiresAt();
+    }
+}
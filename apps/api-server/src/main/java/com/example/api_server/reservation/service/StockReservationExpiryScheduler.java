@@ -0,0 +1,103 @@
+package com.example.api_server.reservation.service;
+
+import com.example.api_server.common.scheduling.ExpiryScheduler;
+import com.example.api_server.reservation.domain.ReservationStatus;
+import com.example.api_server.reservation.repository.StockReservationRepository;
+import com.example.api_server.reservation.repository.StockReservationRepository.PendingExpiry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 재고 예약 만료 스케줄러
+ * 예약 만료 시각을 ExpiryScheduler에 등록하여, 만료된 예약을 batch-size건씩 StockReservationsExpiredEvent로 전달함
+ * (예약 수와 무관하게 틱당 비용이 일정)
+ *
+ * - 기동 시 ACTIVE 예약을 (status, expires_at) 인덱스로 읽어 재구성
+ */
+@Slf4j
+@Component
+public class StockReservationExpiryScheduler {
+
+    private final StockReservationRepository stockReservationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ExpiryScheduler<String> scheduler;
+
+    @Autowired
+    public StockReservationExpiryScheduler(StockReservationRepository stockReservationRepository,
+                                           ApplicationEventPublisher eventPublisher,
+                                           TransactionTemplate transactionTemplate,
+                                           @Value("${app.stock.reservation.tick-duration:1s}") Duration tickDuration,
+                                           @Value("${app.stock.reservation.wheel-size:512}") int wheelSize,
+                                           @Value("${app.stock.reservation.expiry-batch-size:500}") int batchSize,
+                                           @Value("${app.stock.reservation.retry-delay:5s}") Duration retryDelay,
+                                           @Value("${app.stock.reservation.expiry-workers:2}") int workers,
+                                           @Value("${app.stock.reservation.expiry-queue-capacity:256}") int queueCapacity) {
+        this(stockReservationRepository, eventPublisher, transactionTemplate, tickDuration, wheelSize, batchSize,
+                retryDelay, workers, queueCapacity, Clock.systemDefaultZone());
+    }
+
+    StockReservationExpiryScheduler(StockReservationRepository stockReservationRepository,
+                                    ApplicationEventPublisher eventPublisher,
+                                    TransactionTemplate transactionTemplate,
+                                    Duration tickDuration,
+                                    int wheelSize,
+                                    int batchSize,
+                                    Duration retryDelay,
+                                    int workers,
+                                    int queueCapacity,
+                                    Clock clock) {
+        this.stockReservationRepository = stockReservationRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.scheduler = new ExpiryScheduler<>("stock-reservation-expiry", tickDuration, wheelSize, batchSize,
+                retryDelay, workers, queueCapacity, clock,
+                orderIds -> eventPublisher.publishEvent(new StockReservationsExpiredEvent(orderIds)));
+    }
+
+    /**
+     * 기동 시 ACTIVE 예약으로 타이밍 휠 재구성 (이미 만료 시각이 지난 예약은 다음 틱에 만료)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        int restored = scheduler.rebuild(transactionTemplate,
+                () -> stockReservationRepository.streamByStatus(ReservationStatus.ACTIVE),
+                PendingExpiry::getOrderId, PendingExpiry::getExpiresAt);
+        log.info("Stock reservation expiry wheel rebuilt - activeReservations: {}", restored);
+    }
+
+    /**
+     * 트랜잭션 커밋 후 만료 등록 (트랜잭션 밖이면 즉시 등록)
+     */
+    public void scheduleAfterCommit(String orderId, LocalDateTime expiresAt) {
+        scheduler.scheduleAfterCommit(orderId, expiresAt);
+    }
+
+    /**
+     * 트랜잭션 커밋 후 만료 취소 (트랜잭션 밖이면 즉시 취소)
+     */
+    public void cancelAfterCommit(String orderId) {
+        scheduler.cancelAfterCommit(orderId);
+    }
+
+    /**
+     * 만료 대기 중인 예약 수
+     */
+    public int pendingCount() {
+        return scheduler.pendingCount();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.api_server.reservation.service;
+
+import com.example.api_server.common.exception.OutOfStockException;
+import com.example.api_server.product.service.ProductService;
+import com.example.api_server.reservation.domain.ReservationStatus;
+import com.example.api_server.reservation.domain.StockReservation;
+import com.example.api_server.reservation.repository.StockReservationJdbcRepository;
+import com.example.api_server.reservation.repository.StockReservationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * 재고 예약 서비스
+ * 주문 생성 시 재고를 TTL 동안 예약(차감)하고, 결제 승인 시 판매로 확정하며, 결제 실패/만료 시 재고를 되돌림
+ *
+ * 상태 전이: ACTIVE → CONFIRMED | RELEASED | EXPIRED
+ * - 모든 전이는 조건부 UPDATE로 수행하므로 확정과 만료가 동시에 일어나도 한쪽만 성공
+ * - 만료된 예약으로 결제가 승인되면 재고를 다시 차감한 뒤 확정 (그 사이 재고가 소진되었으면 OutOfStockException)
+ */
+@Slf4j
+@Service
+@Transactional
+public class StockReservationService {
+
+    private final StockReservationRepository stockReservationRepository;
+    private final StockReservationJdbcRepository stockReservationJdbcRepository;
+    private final ProductService productService;
+    private final StockReservationExpiryScheduler expiryScheduler;
+    private final Duration ttl;
+    private final Clock clock;
+
+    @Autowired
+    public StockReservationService(StockReservationRepository stockReservationRepository,
+                                   StockReservationJdbcRepository stockReservationJdbcRepository,
+                                   ProductService productService,
+                                   StockReservationExpiryScheduler expiryScheduler,
+                                   @Value("${app.stock.reservation.ttl:10m}") Duration ttl) {
+        this(stockReservationRepository, stockReservationJdbcRepository, productService, expiryScheduler, ttl,
+                Clock.systemDefaultZone());
+    }
+
+    StockReservationService(StockReservationRepository stockReservationRepository,
+                            StockReservationJdbcRepository stockReservationJdbcRepository,
+                            ProductService productService,
+                            StockReservationExpiryScheduler expiryScheduler,
+                            Duration ttl,
+                            Clock clock) {
+        this.stockReservationRepository = stockReservationRepository;
+        this.stockReservationJdbcRepository = stockReservationJdbcRepository;
+        this.productService = productService;
+        this.expiryScheduler = expiryScheduler;
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    /**
+     * 재고 예약: 재고를 차감하고 TTL 후 만료되도록 등록
+     *
+     * @param orderId 주문 ID
+     * @param productId 상품 ID
+     * @param quantity 예약 수량
+     * @throws OutOfStockException 재고가 부족한 경우
+     */
+    public void reserve(String orderId, Long productId, int quantity) {
+        productService.decreaseStock(productId, quantity);
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime expiresAt = now.plus(ttl);
+        stockReservationRepository.save(StockReservation.builder()
+                .orderId(orderId)
+                .productId(productId)
+                .quantity(quantity)
+                .status(ReservationStatus.ACTIVE)
+                .expiresAt(expiresAt)
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+        expiryScheduler.scheduleAfterCommit(orderId, expiresAt);
+
+        log.debug("Stock reserved - orderId: {}, productId: {}, quantity: {}, expiresAt: {}",
+                orderId, productId, quantity, expiresAt);
+    }
+
+    /**
+     * 재고 일괄 예약 (일괄 주문 생성)
+     * 상품별 수량을 합산해 상품마다 한 번만 차감하고, 예약은 JDBC batch로 기록
+     * 동시에 들어온 일괄 예약끼리 교착되지 않도록 상품 ID 순서로 차감
+     *
+     * @param items 주문별 예약 항목
+     * @throws OutOfStockException 어느 상품이든 합산 수량만큼 재고가 없는 경우 (호출 측 트랜잭션 전체가 롤백되어야 함)
+     */
+    public void reserveAll(List<ReservationItem> items) {
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (ReservationItem item : items) {
+            quantities.merge(item.productId(), item.quantity(), Integer::sum);
+        }
+        quantities.forEach(productService::decreaseStock);
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime expiresAt = now.plus(ttl);
+        stockReservationJdbcRepository.insertAll(items.stream()
+                .map(item -> StockReservation.builder()
+                        .orderId(item.orderId())
+                        .productId(item.productId())
+                        .quantity(item.quantity())
+                        .status(ReservationStatus.ACTIVE)
+                        .expiresAt(expiresAt)
+                        .createdAt(now)
+                        .updatedAt(now)
+                        .build())
+                .toList());
+        items.forEach(item -> expiryScheduler.scheduleAfterCommit(item.orderId(), expiresAt));
+
+        log.debug("Stock reserved in bulk - reservations: {}, products: {}, expiresAt: {}",
+                items.size(), quantities.size(), expiresAt);
+    }
+
+    /**
+     * 예약을 판매로 확정
+     * 예약이 이미 만료/해제되었거나 없으면 재고를 다시 차감
+     *
+     * @param orderId 주문 ID
+     * @param productId 상품 ID
+     * @param quantity 주문 수량
+     * @throws OutOfStockException 예약이 만료된 사이 재고가 소진된 경우
+     */
+    public void confirm(String orderId, Long productId, int quantity) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (stockReservationRepository.transitStatus(orderId, ReservationStatus.ACTIVE, ReservationStatus.CONFIRMED, now) == 1) {
+            expiryScheduler.cancelAfterCommit(orderId);
+            log.debug("Stock reservation confirmed - orderId: {}", orderId);
+            return;
+        }
+
+        Optional<StockReservation> reservation = stockReservationRepository.findById(orderId);
+        if (reservation.isPresent() && reservation.get().getStatus() == ReservationStatus.CONFIRMED) {
+            return;
+        }
+
+        // 예약이 만료/해제되었거나 예약 없이 생성된 주문: 재고를 다시 차감
+        productService.decreaseStock(productId, quantity);
+        reservation.ifPresent(r -> stockReservationRepository.transitStatus(orderId, r.getStatus(), ReservationStatus.CONFIRMED, now));
+        log.info("Stock re-reserved on confirm - orderId: {}, previousStatus: {}",
+                orderId, reservation.map(r -> r.getStatus().name()).orElse("NONE"));
+    }
+
+    /**
+     * 예약 해제 (결제 실패 등): ACTIVE 예약이면 재고를 되돌림
+     *
+     * @param orderId 주문 ID
+     */
+    public void release(String orderId) {
+        if (releaseIfActive(orderId, ReservationStatus.RELEASED)) {
+            expiryScheduler.cancelAfterCommit(orderId);
+        }
+    }
+
+    /**
+     * 만료된 예약 일괄 해제 (타이밍 휠 틱마다 호출)
+     * 한 틱에 만료된 예약을 하나의 트랜잭션으로 처리하며, 실패하면 스케줄러가 재시도
+     */
+    @EventListener
+    public void expire(StockReservationsExpiredEvent event) {
+        int expired = 0;
+        for (String orderId : event.orderIds()) {
+            if (releaseIfActive(orderId, ReservationStatus.EXPIRED)) {
+                expired++;
+            }
+        }
+        log.info("Stock reservations expired - candidates: {}, expired: {}", event.orderIds().size(), expired);
+    }
+
+    private boolean releaseIfActive(String orderId, ReservationStatus to) {
+        Optional<StockReservation> reservation = stockReservationRepository.findById(orderId)
+                .filter(StockReservation::isActive);
+        if (reservation.isEmpty()) {
+            return false;
+        }
+        if (stockReservationRepository.transitStatus(orderId, ReservationStatus.ACTIVE, to, LocalDateTime.now(clock)) == 0) {
+            return false;
+        }
+        productService.increaseStock(reservation.get().getProductId(), reservation.get().getQuantity());
+        log.debug("Stock reservation {} - orderId: {}, productId: {}, quantity: {}",
+                to.name().toLowerCase(), orderId, reservation.get().getProductId(), reservation.get().getQuantity());
+        return true;
+    }
+
+    /**
+     * 일괄 예약 항목
+     */
+    public record ReservationItem(String orderId, Long productId, int quantity) {
+    }
+}
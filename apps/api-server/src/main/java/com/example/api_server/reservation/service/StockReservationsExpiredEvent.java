@@ -0,0 +1,11 @@
+package com.example.api_server.reservation.service;
+
+import java.util.List;
+
+/**
+ * 타이밍 휠의 한 틱에서 만료된 재고 예약 목록
+ *
+ * @param orderIds 만료된 예약의 주문 ID
+ */
+public record StockReservationsExpiredEvent(List<String> orderIds) {
+}
@@ -0,0 +1,68 @@
+-- 기준 스키마: Flyway 도입 전 Hibernate가 엔티티로부터 생성하던 스키마 (H2)
+
+create sequence payments_seq start with 1 increment by 50;
+create sequence products_seq start with 1 increment by 50;
+
+create table orders (
+    order_id     varchar(50)                                      not null,
+    user_id      bigint                                           not null,
+    product_id   bigint                                           not null,
+    quantity     integer                                          not null,
+    total_amount bigint                                           not null,
+    status       enum ('PAID','PAYMENT_FAILED','PENDING_PAYMENT') not null,
+    created_at   timestamp(6)                                     not null,
+    updated_at   timestamp(6)                                     not null,
+    primary key (order_id)
+);
+
+create table order_histories (
+    id            bigint generated by default as identity,
+    order_id      varchar(50)                                             not null,
+    event_type    enum ('ORDER_CREATED','PAYMENT_APPROVED','PAYMENT_FAILED') not null,
+    payload_json  clob,
+    payload_codec enum ('CBOR_V1','JSON_V1'),
+    payload       varbinary(2048),
+    created_at    timestamp(6)                                            not null,
+    primary key (id)
+);
+
+create table payments (
+    id                bigint                                    not null,
+    order_id          varchar(50)                               not null,
+    payment_key       varchar(100)                              not null,
+    amount            bigint                                    not null,
+    status            enum ('APPROVED','DECLINED','REQUESTED') not null,
+    pg_result_code    varchar(50),
+    pg_result_message varchar(500),
+    created_at        timestamp(6)                              not null,
+    primary key (id),
+    constraint uk_payments_order_id unique (order_id)
+);
+
+create index idx_payments_status_created_at on payments (status, created_at);
+
+create table products (
+    product_id      bigint       not null,
+    name            varchar(100) not null,
+    base_price      bigint       not null,
+    discount_price  bigint       not null,
+    available_stock integer      not null,
+    available       boolean      not null,
+    version         bigint,
+    stock_synced_at timestamp(6),
+    created_at      timestamp(6) not null,
+    primary key (product_id)
+);
+
+create table stock_reservations (
+    order_id   varchar(50)                                       not null,
+    product_id bigint                                            not null,
+    quantity   integer                                           not null,
+    status     enum ('ACTIVE','CONFIRMED','EXPIRED','RELEASED') not null,
+    expires_at timestamp(6)                                      not null,
+    created_at timestamp(6)                                      not null,
+    updated_at timestamp(6)                                      not null,
+    primary key (order_id)
+);
+
+create index idx_stock_reservations_status_expires_at on stock_reservations (status, expires_at);
@@ -0,0 +1,5 @@
+-- 사용자 주문 목록(OrderRepository.findUserOrders*): user_id로 찾고 최신순((created_at, order_id) 역순) 키셋 페이지 조회
+-- 정렬 방향대로 내림차순 인덱스를 두어 정렬 없이 인덱스 순서대로 limit건만 읽음
+-- 목록 항목 컬럼(product_id, quantity, total_amount, status)까지 포함한 커버링 인덱스라 테이블 행을 읽지 않음
+create index idx_orders_user_id_created_at_order_id
+    on orders (user_id, created_at desc, order_id desc, product_id, quantity, total_amount, status);
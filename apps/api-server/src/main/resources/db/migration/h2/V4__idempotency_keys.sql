@@ -0,0 +1,15 @@
+-- Idempotency-Key 요청 기록 (IdempotencyFilter): 같은 키로 다시 온 요청에 저장된 응답을 그대로 돌려줌
+-- status_code가 NULL이면 처리 중 (expires_at까지 선점), 완료되면 응답과 보관 만료 시각(TTL)을 기록
+-- 만료된 행은 IdempotencyStore가 주기적으로 삭제
+create table idempotency_keys (
+    idempotency_key     varchar(255) not null,
+    request_fingerprint varchar(300) not null,
+    status_code         integer,
+    content_type        varchar(100),
+    response_body       blob,
+    created_at          timestamp(6) not null,
+    expires_at          timestamp(6) not null,
+    primary key (idempotency_key)
+);
+
+create index idx_idempotency_keys_expires_at on idempotency_keys (expires_at);
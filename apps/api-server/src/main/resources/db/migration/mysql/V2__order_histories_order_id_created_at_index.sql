@@ -0,0 +1,2 @@
+-- 주문별 이력 조회(OrderHistoryRepository.findByOrderIdOrderByCreatedAtAsc): order_id로 찾고 created_at 순서로 읽어 정렬 생략
+create index idx_order_histories_order_id_created_at on order_histories (order_id, created_at);
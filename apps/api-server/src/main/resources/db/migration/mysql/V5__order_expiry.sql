@@ -0,0 +1,8 @@
+-- 결제 대기 주문 만료(OrderExpiryScheduler): 생성 후 결제되지 않은 주문을 EXPIRED로 전이하고 ORDER_EXPIRED 이력을 남김
+alter table orders modify column status enum ('EXPIRED','PAID','PAYMENT_FAILED','PENDING_PAYMENT') not null;
+alter table order_histories modify column event_type
+    enum ('ORDER_CREATED','ORDER_EXPIRED','PAYMENT_APPROVED','PAYMENT_FAILED') not null;
+
+-- 기동 시 만료 휠 재구성(OrderRepository.streamByStatus): PENDING_PAYMENT 주문을 한 번의 인덱스 범위 스캔으로 읽음
+-- (InnoDB 보조 인덱스는 기본 키(order_id)를 포함하므로 테이블 행을 읽지 않음)
+create index idx_orders_status_created_at on orders (status, created_at);
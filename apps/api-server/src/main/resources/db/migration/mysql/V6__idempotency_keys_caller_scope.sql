@@ -0,0 +1,2 @@
+-- Idempotency-Key 호출자 범위(IdempotencyFilter): 인증된 호출자면 "호출자 해시(32자):키"로 저장하므로 키 길이를 늘림
+alter table idempotency_keys modify column idempotency_key varchar(320) not null;
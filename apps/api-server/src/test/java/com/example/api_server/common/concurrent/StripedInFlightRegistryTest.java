@@ -0,0 +1,79 @@
+package com.example.api_server.common.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("StripedInFlightRegistry 테스트")
+class StripedInFlightRegistryTest {
+
+    @Test
+    @DisplayName("같은 키에 진행 중인 작업이 있으면 그 작업을 반환하고, 해제 후에는 새로 등록할 수 있다")
+    void 등록_중복_해제() {
+        // given
+        StripedInFlightRegistry<String, Integer> registry = new StripedInFlightRegistry<>(4);
+        CompletableFuture<Integer> first = new CompletableFuture<>();
+        CompletableFuture<Integer> second = new CompletableFuture<>();
+
+        // when & then
+        assertThat(registry.registerIfAbsent("ORD-1", first)).isNull();
+        assertThat(registry.registerIfAbsent("ORD-1", second)).isSameAs(first);
+        assertThat(registry.registerIfAbsent("ORD-2", second)).isNull();
+        assertThat(registry.size()).isEqualTo(2);
+
+        registry.remove("ORD-1", first);
+        assertThat(registry.registerIfAbsent("ORD-1", second)).isNull();
+    }
+
+    @Test
+    @DisplayName("등록한 작업이 아니면 해제하지 않는다")
+    void 다른작업_해제무시() {
+        // given
+        StripedInFlightRegistry<String, Integer> registry = new StripedInFlightRegistry<>(4);
+        CompletableFuture<Integer> owner = new CompletableFuture<>();
+        registry.registerIfAbsent("ORD-1", owner);
+
+        // when
+        registry.remove("ORD-1", new CompletableFuture<>());
+
+        // then
+        assertThat(registry.registerIfAbsent("ORD-1", new CompletableFuture<>())).isSameAs(owner);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 같은 키로 동시에 등록하면 하나만 등록된다")
+    void 동시등록() throws Exception {
+        // given
+        StripedInFlightRegistry<String, Integer> registry = new StripedInFlightRegistry<>(16);
+        int threads = 32;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger owners = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                start.await();
+                if (registry.registerIfAbsent("ORD-1", new CompletableFuture<>()) == null) {
+                    owners.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        assertThat(owners).hasValue(1);
+        assertThat(registry.size()).isEqualTo(1);
+    }
+}
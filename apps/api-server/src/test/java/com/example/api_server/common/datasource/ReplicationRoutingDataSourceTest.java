@@ -0,0 +1,167 @@
+package com.example.api_server.common.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 주 DB와 복제본을 각각 H2 인메모리 인스턴스로 두고, 어느 쪽에서 읽었는지 node 테이블 값으로 확인
+ */
+@DisplayName("ReplicationRoutingDataSource 테스트")
+class ReplicationRoutingDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicReference<Duration> replicaLag = new AtomicReference<>(Duration.ZERO);
+    private final AtomicLong tickerNanos = new AtomicLong();
+
+    private ReplicaLagMonitor lagMonitor;
+    private RecentWriteTracker recentWriteTracker;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = h2("primary");
+        DataSource replica = h2("replica");
+
+        lagMonitor = new ReplicaLagMonitor(replicaLag::get, Duration.ofSeconds(2));
+        lagMonitor.check();
+        recentWriteTracker = new RecentWriteTracker(true, Duration.ofSeconds(2), tickerNanos::get);
+
+        ReplicationRoutingDataSource routing = new ReplicationRoutingDataSource(primary, replica, lagMonitor, meterRegistry);
+        routing.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본, 쓰기 트랜잭션과 트랜잭션 밖 호출은 주 DB로 보낸다")
+    void 읽기전용_복제본_쓰기_주DB() {
+        // when & then
+        assertThat(readOnly(this::currentNode)).isEqualTo("replica");
+        assertThat(write(this::currentNode)).isEqualTo("primary");
+        assertThat(currentNode()).isEqualTo("primary");
+        assertThat(routingCount("replica", "read")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("복제 지연이 max-lag를 넘거나 측정에 실패하면 읽기 전용 트랜잭션도 주 DB로 보내고, 회복되면 복제본으로 돌아간다")
+    void 복제지연_주DB대체() {
+        // given
+        replicaLag.set(Duration.ofSeconds(5));
+        lagMonitor.check();
+
+        // when & then
+        assertThat(readOnly(this::currentNode)).isEqualTo("primary");
+        assertThat(routingCount("primary", "replica_lag")).isEqualTo(1);
+
+        // 복제 중단(지연 알 수 없음)
+        replicaLag.set(null);
+        lagMonitor.check();
+        assertThat(lagMonitor.isReplicaUsable()).isFalse();
+        assertThat(readOnly(this::currentNode)).isEqualTo("primary");
+
+        // 회복
+        replicaLag.set(Duration.ofMillis(500));
+        lagMonitor.check();
+        assertThat(readOnly(this::currentNode)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("지연 측정 중 예외가 나면 복제본을 쓰지 않는다")
+    void 지연측정실패_주DB대체() {
+        // given
+        ReplicaLagMonitor failingMonitor = new ReplicaLagMonitor(() -> {
+            throw new SQLException("replica down");
+        }, Duration.ofSeconds(2));
+
+        // when
+        failingMonitor.check();
+
+        // then
+        assertThat(failingMonitor.isReplicaUsable()).isFalse();
+        assertThat(failingMonitor.getLastLag()).isNull();
+    }
+
+    @Test
+    @DisplayName("쓰기 직후 window 동안은 같은 주문의 읽기를 주 DB에서 수행하고, 다른 주문과 window 이후는 복제본에서 읽는다")
+    void 최근쓰기_주DB고정() {
+        // given
+        String orderKey = RecentWriteTracker.orderKey("ORD-20251205-000000000000001");
+        recentWriteTracker.markWritten(orderKey, RecentWriteTracker.userKey(1L));
+
+        // when & then
+        assertThat(readOnly(() -> recentWriteTracker.read(orderKey, this::currentNode)))
+                .isEqualTo("primary");
+        assertThat(readOnly(() -> recentWriteTracker.read(
+                RecentWriteTracker.orderKey("ORD-20251205-000000000000002"), this::currentNode)))
+                .isEqualTo("replica");
+        assertThat(routingCount("primary", "read_your_writes")).isEqualTo(1);
+
+        tickerNanos.addAndGet(TimeUnit.SECONDS.toNanos(3));
+        assertThat(readOnly(() -> recentWriteTracker.read(orderKey, this::currentNode)))
+                .isEqualTo("replica");
+        assertThat(DataSourceRouting.isPrimaryForced()).isFalse();
+    }
+
+    @Test
+    @DisplayName("복제본 라우팅이 꺼져 있으면 쓰기를 기억하지 않는다")
+    void 비활성_기록안함() {
+        // given
+        RecentWriteTracker disabled = new RecentWriteTracker(false, Duration.ofSeconds(2));
+
+        // when
+        disabled.markWritten(RecentWriteTracker.orderKey("ORD-20251205-000000000000001"));
+
+        // then
+        assertThat(disabled.isRecentlyWritten(RecentWriteTracker.orderKey("ORD-20251205-000000000000001"))).isFalse();
+    }
+
+    private String readOnly(Supplier<String> action) {
+        return readOnlyTransaction.execute(status -> action.get());
+    }
+
+    private String write(Supplier<String> action) {
+        return writeTransaction.execute(status -> action.get());
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private double routingCount(String target, String reason) {
+        return meterRegistry.get("datasource.routing").tag("target", target).tag("reason", reason).counter().count();
+    }
+
+    private static DataSource h2(String name) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,415 @@
+package com.example.api_server.common.idempotency;
+
+import com.example.api_server.common.exception.GlobalExceptionHandler;
+import com.example.api_server.payment.client.AimdConcurrencyLimiter;
+import com.example.api_server.payment.client.PgApprovalResult;
+import com.example.api_server.payment.client.PgCircuitBreaker;
+import com.example.api_server.payment.client.PgClient;
+import com.example.api_server.payment.client.ResilientPgClient;
+import com.example.api_server.payment.controller.PaymentController;
+import com.example.api_server.payment.domain.PaymentStatus;
+import com.example.api_server.payment.dto.ApprovePaymentRequest;
+import com.example.api_server.payment.dto.ApprovePaymentResponse;
+import com.example.api_server.payment.service.PaymentService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@DisplayName("IdempotencyFilter 테스트")
+@ExtendWith(MockitoExtension.class)
+class IdempotencyFilterTest {
+
+    private static final String KEY = "8f14e45f-ceea-467f-a0e6-6e1b0c9b1c2d";
+    private static final String BODY = "{\"productId\":1,\"quantity\":2}";
+    private static final String FINGERPRINT = "POST /api/orders e78d058d52a11f74e27188f83d9a73a4224045ca3e28f055c49217708d5e029b";
+
+    @Mock
+    private IdempotencyStore store;
+
+    private IdempotencyFilter filter;
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        filter = new IdempotencyFilter(store, new ObjectMapper(), Duration.ofSeconds(5), 8);
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key 헤더가 없으면 저장소를 거치지 않고 그대로 실행한다")
+    void 헤더없음_통과() throws Exception {
+        // when
+        MockHttpServletResponse response = execute(new MockHttpServletRequest("POST", "/api/orders"), created());
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(executions).hasValue(1);
+        verifyNoInteractions(store);
+    }
+
+    @Test
+    @DisplayName("처음 요청의 응답을 보관하고, 같은 키로 다시 오면 실행하지 않고 보관된 응답을 재전송한다")
+    void 처음요청보관_재시도재전송() throws Exception {
+        // given
+        given(store.findRecent(KEY)).willReturn(Optional.empty());
+        given(store.claim(KEY, FINGERPRINT)).willReturn(Optional.empty());
+
+        // when
+        MockHttpServletResponse first = execute(request(), created());
+
+        // then
+        ArgumentCaptor<StoredResponse> captor = ArgumentCaptor.forClass(StoredResponse.class);
+        verify(store).complete(eq(KEY), captor.capture());
+        StoredResponse stored = captor.getValue();
+        assertThat(stored.status()).isEqualTo(201);
+        assertThat(new String(stored.body(), StandardCharsets.UTF_8)).isEqualTo("{\"orderId\":\"ORD-1\"}");
+        assertThat(first.getContentAsString()).isEqualTo("{\"orderId\":\"ORD-1\"}");
+
+        // when: 재시도
+        given(store.findRecent(KEY)).willReturn(Optional.of(stored));
+        MockHttpServletResponse retry = execute(request(), created());
+
+        // then
+        assertThat(executions).hasValue(1);
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(retry.getContentAsString()).isEqualTo("{\"orderId\":\"ORD-1\"}");
+    }
+
+    @Test
+    @DisplayName("같은 키의 요청이 진행 중이면 다시 실행하지 않고 먼저 온 요청의 응답을 기다려 받는다")
+    void 동시중복_대기후재전송() throws Exception {
+        // given
+        given(store.findRecent(KEY)).willReturn(Optional.empty());
+        given(store.claim(KEY, FINGERPRINT)).willReturn(Optional.empty());
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain slow = (req, res) -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            created().doFilter(req, res);
+        };
+
+        // when
+        CompletableFuture<MockHttpServletResponse> first = CompletableFuture.supplyAsync(() -> executeQuietly(slow));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<MockHttpServletResponse> duplicate = CompletableFuture.supplyAsync(() -> executeQuietly(created()));
+        Thread.sleep(100);
+        assertThat(duplicate).isNotDone();
+        release.countDown();
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(201);
+        MockHttpServletResponse replayed = duplicate.get(5, TimeUnit.SECONDS);
+        assertThat(replayed.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(replayed.getContentAsString()).isEqualTo("{\"orderId\":\"ORD-1\"}");
+        assertThat(executions).hasValue(1);
+        verify(store, times(1)).claim(any(), any());
+    }
+
+    @Test
+    @DisplayName("5xx 응답은 보관하지 않고 선점을 해제하여 재시도 시 다시 실행한다")
+    void 서버오류_선점해제() throws Exception {
+        // given
+        given(store.findRecent(KEY)).willReturn(Optional.empty());
+        given(store.claim(KEY, FINGERPRINT)).willReturn(Optional.empty());
+
+        // when
+        MockHttpServletResponse response = execute(request(), status(504, null));
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(504);
+        verify(store).release(KEY);
+        verify(store, never()).complete(any(), any());
+    }
+
+    @Test
+    @DisplayName("5xx로 선점이 해제된 뒤 재시도가 결제 진행 중(409)이면 그 응답도 보관하지 않아 다음 재시도에서 다시 실행한다")
+    void 일시적충돌_보관하지않음() throws Exception {
+        // given
+        given(store.findRecent(KEY)).willReturn(Optional.empty());
+        given(store.claim(KEY, FINGERPRINT)).willReturn(Optional.empty());
+
+        // when: PG 지연으로 504
+        execute(request(), status(504, null));
+
+        // when: 재시도 시 앞선 결제가 아직 진행 중
+        MockHttpServletResponse conflict = execute(request(),
+                status(409, "{\"code\":\"PAYMENT_IN_PROGRESS\",\"message\":\"결제 승인이 진행 중입니다.\"}"));
+
+        // when: 결제가 끝난 뒤 재시도
+        MockHttpServletResponse approved = execute(request(), created());
+
+        // then
+        assertThat(conflict.getStatus()).isEqualTo(409);
+        assertThat(conflict.getContentAsString()).contains("PAYMENT_IN_PROGRESS");
+        assertThat(approved.getStatus()).isEqualTo(201);
+        assertThat(executions).hasValue(3);
+        verify(store, times(2)).release(KEY);
+        ArgumentCaptor<StoredResponse> captor = ArgumentCaptor.forClass(StoredResponse.class);
+        verify(store, times(1)).complete(eq(KEY), captor.capture());
+        assertThat(captor.getValue().status()).isEqualTo(201);
+    }
+
+    @Test
+    @DisplayName("재시도해도 결과가 같은 409는 보관하여 재전송한다")
+    void 확정충돌_보관() throws Exception {
+        // given
+        given(store.findRecent(KEY)).willReturn(Optional.empty());
+        given(store.claim(KEY, FINGERPRINT)).willReturn(Optional.empty());
+
+        // when
+        execute(request(), status(409, "{\"code\":\"PAYMENT_ALREADY_APPROVED\",\"message\":\"이미 승인된 결제입니다.\"}"));
+
+        // then
+        ArgumentCaptor<StoredResponse> captor = ArgumentCaptor.forClass(StoredResponse.class);
+        verify(store).complete(eq(KEY), captor.capture());
+        assertThat(captor.getValue().status()).isEqualTo(409);
+        verify(store, never()).release(any());
+    }
+
+    @Test
+    @DisplayName("PG 서킷이 열려 실패한 결제 승인은 보관하지 않아, 회로가 닫힌 뒤 같은 키로 재시도하면 다시 실행되어 승인된다")
+    void 서킷오픈_보관하지않음_회복후재시도성공() throws Exception {
+        // given: 시스템 오류 2건이면 회로가 열리고 2초 뒤 시험 호출 1건이 성공하면 닫히는 PG 클라이언트
+        given(store.findRecent(KEY)).willReturn(Optional.empty());
+        given(store.claim(eq(KEY), startsWith("POST /api/payments/approve "))).willReturn(Optional.empty());
+        PgClient pg = mock(PgClient.class);
+        ResilientPgClient pgClient = new ResilientPgClient(pg,
+                new PgCircuitBreaker(2, 2, 50, Duration.ofSeconds(2), 1),
+                new AimdConcurrencyLimiter(4, 1, 8, 0.5, 2.0, 100),
+                Set.of("PG_SYSTEM_ERROR"), Duration.ofSeconds(1), new SimpleMeterRegistry());
+        PaymentService paymentService = mock(PaymentService.class);
+        given(paymentService.approvePaymentAsync(any())).willAnswer(invocation -> {
+            ApprovePaymentRequest approve = invocation.getArgument(0);
+            try {
+                PgApprovalResult result = pgClient.approve(approve.getPaymentKey(), approve.getOrderId(), approve.getAmount());
+                assertThat(result.isSuccess()).isTrue();
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+            return CompletableFuture.completedFuture(ApprovePaymentResponse.builder()
+                    .orderId(approve.getOrderId())
+                    .paymentId(1L)
+                    .paymentStatus(PaymentStatus.APPROVED)
+                    .build());
+        });
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new PaymentController(paymentService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .addFilters(filter)
+                .build();
+        given(pg.approve(any(), any(), any())).willReturn(PgApprovalResult.failure("PG_SYSTEM_ERROR", "시스템 오류"));
+        pgClient.approve("PAY-KEY", "ORD-0", 1000L);
+        pgClient.approve("PAY-KEY", "ORD-0", 1000L);
+        assertThat(pgClient.getCircuitState()).isEqualTo(PgCircuitBreaker.State.OPEN);
+
+        // when: 회로가 열린 동안 결제 승인
+        MockHttpServletResponse rejected = approve(mockMvc);
+
+        // then
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(rejected.getContentAsString()).contains("PG_UNAVAILABLE");
+        verify(store).release(KEY);
+        verify(store, never()).complete(any(), any());
+
+        // when: PG가 회복되어 회로가 닫힌 뒤 같은 키로 재시도
+        given(pg.approve(any(), any(), any())).willReturn(PgApprovalResult.success());
+        Thread.sleep(2100);
+        MockHttpServletResponse approved = approve(mockMvc);
+
+        // then
+        assertThat(approved.getStatus()).isEqualTo(200);
+        assertThat(approved.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+        assertThat(approved.getContentAsString()).contains("APPROVED");
+        assertThat(pgClient.getCircuitState()).isEqualTo(PgCircuitBreaker.State.CLOSED);
+        ArgumentCaptor<StoredResponse> captor = ArgumentCaptor.forClass(StoredResponse.class);
+        verify(store).complete(eq(KEY), captor.capture());
+        assertThat(captor.getValue().status()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("에러 코드가 없는 4xx나 PG 장애 코드가 붙은 4xx는 확정된 결과가 아니므로 보관하지 않는다")
+    void 확정되지않은4xx_보관하지않음() throws Exception {
+        // given
+        given(store.findRecent(KEY)).willReturn(Optional.empty());
+        given(store.claim(KEY, FINGERPRINT)).willReturn(Optional.empty());
+
+        // when
+        execute(request(), status(400, null));
+        execute(request(), status(400, "{\"code\":\"PG_UNAVAILABLE\",\"message\":\"PG 장애\"}"));
+        execute(request(), status(429, "{\"code\":\"TOO_MANY_REQUESTS\",\"message\":\"요청 과다\"}"));
+
+        // then
+        verify(store, times(3)).release(KEY);
+        verify(store, never()).complete(any(), any());
+    }
+
+    @Test
+    @DisplayName("같은 키를 본문이 다른 요청에 쓰면 처음 응답을 재전송하지 않고 422로 응답한다")
+    void 같은키_다른본문_422() throws Exception {
+        // given
+        given(store.findRecent(KEY)).willReturn(Optional.empty());
+        given(store.claim(KEY, FINGERPRINT)).willReturn(Optional.empty());
+        execute(request(), created());
+        ArgumentCaptor<StoredResponse> captor = ArgumentCaptor.forClass(StoredResponse.class);
+        verify(store).complete(eq(KEY), captor.capture());
+        given(store.findRecent(KEY)).willReturn(Optional.of(captor.getValue()));
+
+        // when: 같은 키로 수량만 바꿔 요청
+        MockHttpServletResponse response = execute(request("{\"productId\":1,\"quantity\":5}"), created());
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(422);
+        assertThat(response.getContentAsString()).contains("IDEMPOTENCY_KEY_MISMATCH").doesNotContain("ORD-1");
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("실행하는 요청은 필터가 읽은 본문을 그대로 다시 읽을 수 있다")
+    void 본문해시후_본문전달() throws Exception {
+        // given
+        given(store.findRecent(KEY)).willReturn(Optional.empty());
+        given(store.claim(KEY, FINGERPRINT)).willReturn(Optional.empty());
+        StringBuilder received = new StringBuilder();
+
+        // when
+        execute(request(), (req, res) -> {
+            received.append(new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+            created().doFilter(req, res);
+        });
+
+        // then
+        assertThat(received.toString()).isEqualTo(BODY);
+    }
+
+    @Test
+    @DisplayName("인증된 호출자가 다르면 같은 키라도 따로 보관하여 다른 호출자의 응답을 재전송하지 않는다")
+    void 호출자별_키구분() throws Exception {
+        // given
+        given(store.findRecent(any())).willReturn(Optional.empty());
+        given(store.claim(any(), eq(FINGERPRINT))).willReturn(Optional.empty());
+        MockHttpServletRequest alice = request();
+        alice.setUserPrincipal(() -> "alice");
+        MockHttpServletRequest bob = request();
+        bob.setUserPrincipal(() -> "bob");
+
+        // when
+        execute(alice, created());
+        execute(bob, created());
+
+        // then
+        ArgumentCaptor<String> keys = ArgumentCaptor.forClass(String.class);
+        verify(store, times(2)).claim(keys.capture(), eq(FINGERPRINT));
+        assertThat(keys.getAllValues()).doesNotHaveDuplicates()
+                .allSatisfy(key -> assertThat(key).endsWith(":" + KEY).hasSizeLessThanOrEqualTo(320));
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("다른 경로에 사용된 키면 실행하지 않고 422로 응답한다")
+    void 다른요청의키_422() throws Exception {
+        // given
+        given(store.findRecent(KEY)).willReturn(Optional.of(
+                new StoredResponse("POST /api/payments/approve", 200, "application/json", new byte[0])));
+
+        // when
+        MockHttpServletResponse response = execute(request(), created());
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(422);
+        assertThat(response.getContentAsString()).contains("IDEMPOTENCY_KEY_MISMATCH");
+        assertThat(executions).hasValue(0);
+    }
+
+    private static MockHttpServletRequest request() {
+        return request(BODY);
+    }
+
+    private static MockHttpServletRequest request(String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/orders");
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, KEY);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private FilterChain created() {
+        return (req, res) -> {
+            executions.incrementAndGet();
+            HttpServletResponse response = (HttpServletResponse) res;
+            response.setStatus(201);
+            response.setContentType("application/json");
+            response.getOutputStream().write("{\"orderId\":\"ORD-1\"}".getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private FilterChain status(int status, String body) {
+        return (req, res) -> {
+            executions.incrementAndGet();
+            HttpServletResponse response = (HttpServletResponse) res;
+            response.setStatus(status);
+            if (body != null) {
+                response.setContentType("application/json");
+                response.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        };
+    }
+
+    private static MockHttpServletResponse approve(MockMvc mockMvc) throws Exception {
+        MvcResult started = mockMvc.perform(post("/api/payments/approve")
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, KEY)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"orderId": "ORD-20251205-0001", "paymentKey": "PAY-KEY-12345", "amount": 258000}
+                                """))
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started)).andReturn().getResponse();
+    }
+
+    private MockHttpServletResponse execute(MockHttpServletRequest request, FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private MockHttpServletResponse executeQuietly(FilterChain chain) {
+        try {
+            return execute(request(), chain);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.api_server.common.idempotency;
+
+import com.example.api_server.common.exception.IdempotencyKeyInUseException;
+import com.example.api_server.common.exception.IdempotencyKeyMismatchException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+@DisplayName("IdempotencyStore 테스트")
+class IdempotencyStoreTest {
+
+    private static final String FINGERPRINT = "POST /api/orders";
+    private static final Instant NOW = Instant.parse("2025-12-05T01:00:00Z");
+
+    @Autowired
+    private IdempotencyKeyJdbcRepository repository;
+
+    @Test
+    @DisplayName("선점한 키는 처리 중에 다시 선점할 수 없고, 완료 후에는 보관된 응답을 돌려준다")
+    void claim_처리중409_완료후응답() {
+        // given
+        IdempotencyStore node1 = store(NOW);
+        IdempotencyStore node2 = store(NOW);
+        StoredResponse response = new StoredResponse(FINGERPRINT, 201, "application/json",
+                "{\"orderId\":\"ORD-1\"}".getBytes(StandardCharsets.UTF_8));
+
+        // when & then
+        assertThat(node1.claim("key-1", FINGERPRINT)).isEmpty();
+        assertThatThrownBy(() -> node2.claim("key-1", FINGERPRINT))
+                .isInstanceOf(IdempotencyKeyInUseException.class);
+
+        node1.complete("key-1", response);
+        Optional<StoredResponse> stored = node2.claim("key-1", FINGERPRINT);
+        assertThat(stored).isPresent();
+        assertThat(stored.get().status()).isEqualTo(201);
+        assertThat(stored.get().body()).isEqualTo(response.body());
+        assertThat(node2.findRecent("key-1")).isPresent();
+
+        assertThatThrownBy(() -> node2.claim("key-1", "POST /api/orders/batch"))
+                .isInstanceOf(IdempotencyKeyMismatchException.class);
+    }
+
+    @Test
+    @DisplayName("선점을 해제하거나 처리 중 행이 processing-timeout을 넘으면 다시 선점할 수 있다")
+    void claim_해제또는만료후재선점() {
+        // given
+        IdempotencyStore store = store(NOW);
+        store.claim("key-2", FINGERPRINT);
+        store.claim("key-3", FINGERPRINT);
+
+        // when
+        store.release("key-2");
+
+        // then
+        assertThat(store.claim("key-2", FINGERPRINT)).isEmpty();
+        assertThatThrownBy(() -> store.claim("key-3", FINGERPRINT))
+                .isInstanceOf(IdempotencyKeyInUseException.class);
+        assertThat(store(NOW.plus(Duration.ofMinutes(2))).claim("key-3", FINGERPRINT)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 키는 정리 작업에서 삭제된다")
+    void purgeExpired_만료키삭제() {
+        // given
+        IdempotencyStore store = store(NOW);
+        store.claim("key-4", FINGERPRINT);
+        store.complete("key-4", new StoredResponse(FINGERPRINT, 200, null, new byte[0]));
+        store.claim("key-5", FINGERPRINT);
+
+        // when: 처리 중 행(1분)은 만료, 완료된 행(24시간)은 유지
+        store(NOW.plus(Duration.ofHours(1))).purgeExpired();
+
+        // then
+        assertThat(repository.findByKey("key-4")).isPresent();
+        assertThat(repository.findByKey("key-5")).isEmpty();
+
+        // when
+        store(NOW.plus(Duration.ofHours(25))).purgeExpired();
+
+        // then
+        assertThat(repository.findByKey("key-4")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("호출자 범위가 붙은 최대 길이의 키도 선점하고 보관할 수 있다")
+    void claim_호출자범위_최대길이키() {
+        // given: 호출자 해시(32자) + ":" + Idempotency-Key(255자)
+        IdempotencyStore store = store(NOW);
+        String key = "a".repeat(32) + ":" + "k".repeat(IdempotencyFilter.MAX_KEY_LENGTH);
+
+        // when
+        assertThat(store.claim(key, FINGERPRINT)).isEmpty();
+        store.complete(key, new StoredResponse(FINGERPRINT, 201, "application/json", new byte[0]));
+
+        // then
+        assertThat(repository.findByKey(key)).hasValueSatisfying(row -> assertThat(row.response()).isNotNull());
+    }
+
+    private IdempotencyStore store(Instant now) {
+        return new IdempotencyStore(repository, Duration.ofHours(24), Duration.ofMinutes(1), 100,
+                Duration.ofMinutes(10), 1, Clock.fixed(now, ZoneId.systemDefault()));
+    }
+}
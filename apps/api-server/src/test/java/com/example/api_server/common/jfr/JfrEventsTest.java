@@ -0,0 +1,103 @@
+package com.example.api_server.common.jfr;
+
+import com.example.api_server.common.exception.OutOfStockException;
+import com.example.api_server.payment.client.MockPgClient;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("도메인 JFR 이벤트 테스트")
+class JfrEventsTest {
+
+    private static final Path PROFILE = Path.of("jfr/order-payment.jfc");
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("order-payment.jfc 프로파일로 기록하면 PG 승인 이벤트에 결과 코드와 금액이 남는다")
+    void 프로파일_PG승인이벤트() throws Exception {
+        // given
+        MockPgClient pgClient = new MockPgClient();
+
+        // when
+        List<RecordedEvent> events = record(Configuration.create(PROFILE), () -> {
+            pgClient.approve("PAY-KEY-1", "ORD-1", 258000L);
+            pgClient.approve("FAIL-KEY-2", "ORD-2", 129000L);
+        });
+
+        // then
+        List<RecordedEvent> approvals = events.stream()
+                .filter(event -> event.getEventType().getName().equals("com.example.api_server.PgApproval"))
+                .toList();
+        assertThat(approvals).hasSize(2);
+        assertThat(approvals).extracting(event -> event.getString("orderId")).containsExactly("ORD-1", "ORD-2");
+        assertThat(approvals.get(0).getBoolean("success")).isTrue();
+        assertThat(approvals.get(0).getLong("amount")).isEqualTo(258000L);
+        assertThat(approvals.get(0).getString("client")).isEqualTo("MockPgClient");
+        assertThat(approvals.get(1).getBoolean("success")).isFalse();
+        assertThat(approvals.get(1).getString("resultCode")).isEqualTo("PG_INVALID_KEY");
+    }
+
+    @Test
+    @DisplayName("재고 확인 이벤트는 threshold(1ms)보다 짧으면 기록하지 않고, 실패 시 에러 코드를 남긴다")
+    void 프로파일_재고확인_threshold() throws Exception {
+        // when
+        List<RecordedEvent> events = record(Configuration.create(PROFILE), () -> {
+            StockCheckEvent.start(StockCheckEvent.ORDER, 1L, 2).passed();
+
+            StockCheckEvent slow = StockCheckEvent.start(StockCheckEvent.CONFIRM, 1L, 15);
+            sleep(5);
+            slow.failed(new OutOfStockException(15, 10));
+        });
+
+        // then
+        List<RecordedEvent> stockChecks = events.stream()
+                .filter(event -> event.getEventType().getName().equals("com.example.api_server.StockCheck"))
+                .toList();
+        assertThat(stockChecks).hasSize(1);
+        assertThat(stockChecks.get(0).getString("phase")).isEqualTo(StockCheckEvent.CONFIRM);
+        assertThat(stockChecks.get(0).getString("errorCode")).isEqualTo("OUT_OF_STOCK");
+    }
+
+    @Test
+    @DisplayName("프로파일 없이 기록하면 도메인 이벤트는 비활성이라 기록되지 않는다")
+    void 기본설정_비활성() throws Exception {
+        // when
+        List<RecordedEvent> events = record(null, () -> {
+            new MockPgClient().approve("PAY-KEY-1", "ORD-1", 258000L);
+            OrderHistoryWriteEvent.start(3, 1).succeeded();
+        });
+
+        // then
+        assertThat(events).noneMatch(event -> event.getEventType().getName().startsWith("com.example.api_server."));
+    }
+
+    private List<RecordedEvent> record(Configuration configuration, Runnable action) throws Exception {
+        Path file = dir.resolve("recording.jfr");
+        try (Recording recording = configuration == null ? new Recording() : new Recording(configuration)) {
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.api_server.common.jpa;
+
+import com.example.api_server.order.domain.OrderEventType;
+import com.example.api_server.order.domain.OrderHistory;
+import com.example.api_server.order.domain.PayloadCodec;
+import com.example.api_server.order.repository.OrderHistoryJdbcRepository;
+import com.example.api_server.order.repository.OrderHistoryJdbcRepository.OrderHistoryRow;
+import com.example.api_server.order.repository.OrderHistoryRepository;
+import com.example.api_server.payment.domain.Payment;
+import com.example.api_server.payment.domain.PaymentStatus;
+import com.example.api_server.payment.repository.PaymentRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntFunction;
+
+/**
+ * 대량 INSERT 처리량 벤치마크 (행/초)
+ * 결제와 주문 이력을 chunk 단위 트랜잭션으로 기록하며, ID 생성 방식(IDENTITY / pooled 시퀀스)과
+ * JDBC batch(hibernate.jdbc.batch_size) 적용 여부에 따른 차이를 측정
+ * - payments: PaymentRepository.saveAll
+ * - histories (jpa): OrderHistoryRepository.saveAll
+ * - histories (writer): 기록 스레드가 사용하는 일괄 기록 경로 (OrderHistoryJdbcRepository.insertAll)
+ *
+ * H2 인메모리 DB는 네트워크 왕복이 없어 batch 효과가 드러나지 않으므로, benchmark.rtt-micros(기본 200)만큼
+ * 문장 실행(execute*)과 commit/rollback마다 지연을 넣어 원격 DB 왕복을 흉내 냄 (0이면 지연 없음)
+ *
+ * 실행: ./gradlew benchmark --tests '*BulkInsertBenchmark*' -Dbenchmark.rows=50000 -Dbenchmark.rtt-micros=500
+ */
+@Tag("benchmark")
+@SpringBootTest
+@DisplayName("대량 INSERT 처리량 벤치마크")
+class BulkInsertBenchmark {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 20_000);
+    private static final int CHUNK = Integer.getInteger("benchmark.chunk", 500);
+    private static final int ROUNDS = 3;
+    private static final byte[] PAYLOAD = new byte[64];
+    private static final long RTT_NANOS = TimeUnit.MICROSECONDS.toNanos(Long.getLong("benchmark.rtt-micros", 200));
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private OrderHistoryRepository orderHistoryRepository;
+
+    @Autowired
+    private OrderHistoryJdbcRepository orderHistoryJdbcRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("결제 saveAll")
+    void payments() {
+        measure("payments", i -> Payment.builder()
+                        .orderId("BENCH-" + sequence.incrementAndGet())
+                        .paymentKey("PAY-KEY-" + i)
+                        .amount(10_000L)
+                        .status(PaymentStatus.REQUESTED)
+                        .build(),
+                chunk -> transactionTemplate.executeWithoutResult(status -> paymentRepository.saveAll(chunk)));
+    }
+
+    @Test
+    @DisplayName("주문 이력 saveAll")
+    void historiesJpa() {
+        measure("histories (jpa)", i -> OrderHistory.builder()
+                        .orderId("BENCH-" + i)
+                        .eventType(OrderEventType.ORDER_CREATED)
+                        .payloadCodec(PayloadCodec.CBOR_V1)
+                        .payload(PAYLOAD)
+                        .build(),
+                chunk -> transactionTemplate.executeWithoutResult(status -> orderHistoryRepository.saveAll(chunk)));
+    }
+
+    @Test
+    @DisplayName("주문 이력 일괄 기록 (기록 스레드 경로)")
+    void historiesWriter() {
+        LocalDateTime now = LocalDateTime.now();
+        measure("histories (writer)",
+                i -> new OrderHistoryRow("BENCH-" + i, OrderEventType.ORDER_CREATED, PayloadCodec.CBOR_V1, PAYLOAD, now),
+                orderHistoryJdbcRepository::insertAll);
+    }
+
+    private <T> void measure(String name, IntFunction<T> factory, ChunkWriter<T> writer) {
+        for (int round = 1; round <= ROUNDS; round++) {
+            List<List<T>> chunks = new ArrayList<>();
+            for (int start = 0; start < ROWS; start += CHUNK) {
+                List<T> chunk = new ArrayList<>(CHUNK);
+                for (int i = start; i < Math.min(start + CHUNK, ROWS); i++) {
+                    chunk.add(factory.apply(i));
+                }
+                chunks.add(chunk);
+            }
+
+            long startNanos = System.nanoTime();
+            for (List<T> chunk : chunks) {
+                writer.write(chunk);
+            }
+            long elapsed = System.nanoTime() - startNanos;
+
+            System.out.printf("[%s] round %d%s - rows: %d, chunk: %d, rtt: %dus, elapsed: %dms, rows/sec: %.0f%n",
+                    name, round, round == 1 ? " (warmup)" : "", ROWS, CHUNK, TimeUnit.NANOSECONDS.toMicros(RTT_NANOS),
+                    TimeUnit.NANOSECONDS.toMillis(elapsed), ROWS * 1e9 / elapsed);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter<T> {
+        void write(List<T> chunk);
+    }
+
+    /**
+     * DataSource 빈을 DB 왕복 지연을 넣는 데이터소스로 감쌈
+     */
+    @TestConfiguration
+    static class RoundTripLatencyConfig {
+
+        @Bean
+        static BeanPostProcessor roundTripLatencyDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && RTT_NANOS > 0) {
+                        return new DelegatingDataSource(dataSource) {
+                            @Override
+                            public Connection getConnection() throws SQLException {
+                                return withLatency(Connection.class, super.getConnection());
+                            }
+                        };
+                    }
+                    return bean;
+                }
+            };
+        }
+
+        /**
+         * execute*, commit, rollback 호출 전에 RTT_NANOS만큼 대기하고, 만든 Statement도 같은 방식으로 감쌈
+         */
+        @SuppressWarnings("unchecked")
+        private static <T> T withLatency(Class<T> type, T target) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                String name = method.getName();
+                if (name.startsWith("execute") || name.equals("commit") || name.equals("rollback")) {
+                    LockSupport.parkNanos(RTT_NANOS);
+                }
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+                if (result instanceof Statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                    return withLatency((Class<Object>) method.getReturnType(), result);
+                }
+                return result;
+            });
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package com.example.api_server.common.jpa;
+
+import com.example.api_server.order.domain.OrderStatus;
+import com.example.api_server.order.repository.OrderHistoryJdbcRepository;
+import com.example.api_server.order.repository.OrderHistoryRepository;
+import com.example.api_server.order.repository.OrderRepository;
+import com.example.api_server.payment.domain.PaymentStatus;
+import com.example.api_server.payment.repository.PaymentRepository;
+import com.example.api_server.product.repository.ProductRepository;
+import com.example.api_server.reservation.domain.ReservationStatus;
+import com.example.api_server.reservation.repository.StockReservationRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 리포지토리 조회 쿼리 실행 계획 회귀 테스트
+ * 시드 데이터를 넣고 통계를 갱신한 뒤, 각 리포지토리 메서드가 실제로 실행한 SQL과 바인딩 값을 그대로 EXPLAIN 하여
+ * 기대한 인덱스를 쓰고 전체 테이블 스캔(H2: tableScan)이 없는지 확인
+ * 인덱스가 빠지거나 쿼리가 바뀌어 인덱스를 못 타게 되면 실패함
+ *
+ * 검사 대상이 아닌 쿼리
+ * - ProductRepository.streamAllOrderByProductId: 전체 상품 순회가 목적 (PK 순서 스캔)
+ * - ProductStockJdbcRepository.sumUnflushedQuantitySince: 재고 원장 기동 시 한 번만 실행하는 복구 쿼리
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("리포지토리 쿼리 실행 계획 테스트")
+class RepositoryQueryPlanTest {
+
+    private static final int ORDERS = 5_000;
+    private static final int HISTORIES_PER_ORDER = 4;
+    private static final int PRODUCTS = 200;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderHistoryRepository orderHistoryRepository;
+
+    @Autowired
+    private OrderHistoryJdbcRepository orderHistoryJdbcRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeAll
+    void seed() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Integer> orders = IntStream.range(0, ORDERS).boxed().toList();
+        List<Integer> products = IntStream.range(1, PRODUCTS + 1).boxed().toList();
+
+        jdbcTemplate.batchUpdate("INSERT INTO products (product_id, name, base_price, discount_price, available_stock, "
+                        + "available, version, created_at) VALUES (?, ?, 10000, 9000, 100, TRUE, 0, ?)",
+                products, 500, (ps, i) -> {
+                    ps.setLong(1, i);
+                    ps.setString(2, "상품 " + i);
+                    ps.setTimestamp(3, now);
+                });
+        jdbcTemplate.batchUpdate("INSERT INTO orders (order_id, user_id, product_id, quantity, total_amount, status, "
+                        + "created_at, updated_at) VALUES (?, ?, ?, 1, 9000, 'PAID', ?, ?)",
+                orders, 500, (ps, i) -> {
+                    ps.setString(1, orderId(i));
+                    ps.setLong(2, i % 500);
+                    ps.setLong(3, i % PRODUCTS + 1);
+                    ps.setTimestamp(4, now);
+                    ps.setTimestamp(5, now);
+                });
+        jdbcTemplate.batchUpdate("INSERT INTO payments (id, order_id, payment_key, amount, status, created_at) "
+                        + "VALUES (?, ?, ?, 9000, ?, ?)",
+                orders, 500, (ps, i) -> {
+                    ps.setLong(1, -1L - i);
+                    ps.setString(2, orderId(i));
+                    ps.setString(3, "pay_" + i);
+                    ps.setString(4, (i % 50 == 0 ? PaymentStatus.REQUESTED : PaymentStatus.APPROVED).name());
+                    ps.setTimestamp(5, now);
+                });
+        jdbcTemplate.batchUpdate("INSERT INTO order_histories (order_id, event_type, payload_json, created_at) "
+                        + "VALUES (?, 'ORDER_CREATED', '{}', ?)",
+                IntStream.range(0, ORDERS * HISTORIES_PER_ORDER).boxed().toList(), 500, (ps, i) -> {
+                    ps.setString(1, orderId(i % ORDERS));
+                    ps.setTimestamp(2, now);
+                });
+        jdbcTemplate.batchUpdate("INSERT INTO stock_reservations (order_id, product_id, quantity, status, expires_at, "
+                        + "created_at, updated_at) VALUES (?, ?, 1, ?, ?, ?, ?)",
+                orders, 500, (ps, i) -> {
+                    ps.setString(1, orderId(i));
+                    ps.setLong(2, i % PRODUCTS + 1);
+                    ps.setString(3, (i % 50 == 0 ? ReservationStatus.ACTIVE : ReservationStatus.CONFIRMED).name());
+                    ps.setTimestamp(4, now);
+                    ps.setTimestamp(5, now);
+                    ps.setTimestamp(6, now);
+                });
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    @DisplayName("주문 ID로 결제 조회는 payments.order_id 유니크 인덱스를 사용한다")
+    void payment_findByOrderId() {
+        assertPlan(capture(() -> paymentRepository.findByOrderId(orderId(42))), "uk_payments_order_id");
+    }
+
+    @Test
+    @DisplayName("REQUESTED 결제 복구 조회는 (status, created_at) 인덱스를 사용한다")
+    void payment_findByStatusAndCreatedAtBefore() {
+        assertPlan(capture(() -> paymentRepository.findByStatusAndCreatedAtBeforeOrderByCreatedAtAsc(
+                PaymentStatus.REQUESTED, LocalDateTime.now(), Limit.of(100))), "idx_payments_status_created_at");
+    }
+
+    @Test
+    @DisplayName("결제 비관적 락 조회는 기본 키를 사용한다")
+    void payment_findByIdForUpdate() {
+        assertPlan(capture(() -> transactionTemplate.execute(status -> paymentRepository.findByIdForUpdate(-1L))),
+                "primary_key");
+    }
+
+    @Test
+    @DisplayName("주문 단건 조회는 기본 키를 사용한다")
+    void order_findById() {
+        assertPlan(capture(() -> orderRepository.findById(orderId(42))), "primary_key");
+    }
+
+    @Test
+    @DisplayName("사용자 주문 목록 키셋 조회는 (user_id, created_at desc, order_id desc, ...) 인덱스 순서대로 읽는다")
+    void order_findUserOrders() {
+        CapturedQuery firstPage = capture(() -> orderRepository.findUserOrders(42L, Limit.of(21)));
+        CapturedQuery nextPage = capture(() -> orderRepository.findUserOrdersBefore(
+                42L, LocalDateTime.now(), orderId(4_000), Limit.of(21)));
+
+        for (CapturedQuery query : List.of(firstPage, nextPage)) {
+            assertPlan(query, "idx_orders_user_id_created_at_order_id");
+            // 정렬 없이 인덱스 순서대로 limit건만 읽어야 페이지 깊이와 무관하게 비용이 일정
+            assertThat(explain(query)).as("EXPLAIN %s", query.sql()).contains("/* index sorted */");
+        }
+    }
+
+    @Test
+    @DisplayName("만료 휠 재구성용 결제 대기 주문 조회는 (status, created_at) 인덱스를 사용한다")
+    void order_streamByStatus() {
+        assertPlan(capture(() -> transactionTemplate.execute(status -> {
+            try (var stream = orderRepository.streamByStatus(OrderStatus.PENDING_PAYMENT)) {
+                return stream.count();
+            }
+        })), "idx_orders_status_created_at");
+    }
+
+    @Test
+    @DisplayName("주문별 이력 조회는 (order_id, created_at) 인덱스를 사용한다")
+    void orderHistory_findByOrderIdOrderByCreatedAtAsc() {
+        assertPlan(capture(() -> orderHistoryRepository.findByOrderIdOrderByCreatedAtAsc(orderId(42))),
+                "idx_order_histories_order_id_created_at");
+    }
+
+    @Test
+    @DisplayName("이전 형식 이력 변환 조회는 기본 키 범위를 사용한다")
+    void orderHistory_findLegacyPayloads() {
+        assertPlan(capture(() -> orderHistoryJdbcRepository.findLegacyPayloads(0L, 1000)), "primary_key");
+    }
+
+    @Test
+    @DisplayName("상품 키셋 페이지, 재고, 비관적 락 조회는 기본 키를 사용한다")
+    void product_queries() {
+        assertPlan(capture(() -> productRepository.findByProductIdGreaterThanOrderByProductIdAsc(100L, Limit.of(20))),
+                "primary_key");
+        assertPlan(capture(() -> productRepository.findAvailableStockById(1L)), "primary_key");
+        assertPlan(capture(() -> transactionTemplate.execute(status -> productRepository.findByIdForUpdate(1L))),
+                "primary_key");
+    }
+
+    @Test
+    @DisplayName("만료 대기 예약 조회는 (status, expires_at) 인덱스를 사용한다")
+    void stockReservation_streamByStatus() {
+        assertPlan(capture(() -> transactionTemplate.execute(status -> {
+            try (var stream = stockReservationRepository.streamByStatus(ReservationStatus.ACTIVE)) {
+                return stream.count();
+            }
+        })), "idx_stock_reservations_status_expires_at");
+    }
+
+    /**
+     * 캡처한 SELECT를 EXPLAIN 하여 기대 인덱스 사용과 전체 테이블 스캔 여부를 검사
+     */
+    private void assertPlan(CapturedQuery query, String expectedIndex) {
+        String plan = explain(query);
+        assertThat(plan)
+                .as("EXPLAIN %s", query.sql())
+                .doesNotContainIgnoringCase("tableScan")
+                .containsIgnoringCase(expectedIndex);
+    }
+
+    private String explain(CapturedQuery query) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + query.sql())) {
+            for (Binding binding : query.bindings()) {
+                binding.method().invoke(statement, binding.args());
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                StringBuilder plan = new StringBuilder();
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1)).append('\n');
+                }
+                return plan.toString();
+            }
+        } catch (SQLException | ReflectiveOperationException e) {
+            throw new IllegalStateException("EXPLAIN failed: " + query.sql(), e);
+        }
+    }
+
+    /**
+     * action 실행 중 나간 SELECT 하나를 캡처 (여러 개면 실패)
+     */
+    private CapturedQuery capture(Runnable action) {
+        List<CapturedQuery> captured = StatementCaptureConfig.start();
+        try {
+            action.run();
+        } finally {
+            StatementCaptureConfig.stop();
+        }
+        List<CapturedQuery> selects = captured.stream()
+                .filter(query -> query.sql().trim().toLowerCase(Locale.ROOT).startsWith("select"))
+                .toList();
+        assertThat(selects).as("captured selects").hasSize(1);
+        return selects.get(0);
+    }
+
+    private static String orderId(int i) {
+        return "ORD-20251205-%015d".formatted(i);
+    }
+
+    record Binding(Method method, Object[] args) {
+    }
+
+    record CapturedQuery(String sql, List<Binding> bindings) {
+    }
+
+    /**
+     * DataSource 빈을 감싸, 캡처 중인 스레드가 실행한 PreparedStatement의 SQL과 set* 호출을 기록
+     */
+    @TestConfiguration
+    static class StatementCaptureConfig {
+
+        private static final ThreadLocal<List<CapturedQuery>> CAPTURED = new ThreadLocal<>();
+
+        static List<CapturedQuery> start() {
+            List<CapturedQuery> captured = new ArrayList<>();
+            CAPTURED.set(captured);
+            return captured;
+        }
+
+        static void stop() {
+            CAPTURED.remove();
+        }
+
+        @Bean
+        static BeanPostProcessor statementCaptureDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource) {
+                        return new DelegatingDataSource(dataSource) {
+                            @Override
+                            public Connection getConnection() throws SQLException {
+                                return capturing(super.getConnection());
+                            }
+                        };
+                    }
+                    return bean;
+                }
+            };
+        }
+
+        private static Connection capturing(Connection target) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        Object result = invoke(target, method, args);
+                        List<CapturedQuery> captured = CAPTURED.get();
+                        if (captured != null && result instanceof PreparedStatement statement
+                                && method.getName().equals("prepareStatement")) {
+                            return recording(statement, (String) args[0], captured);
+                        }
+                        return result;
+                    });
+        }
+
+        private static PreparedStatement recording(PreparedStatement target, String sql, List<CapturedQuery> captured) {
+            List<Binding> bindings = new ArrayList<>();
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                        String name = method.getName();
+                        if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                            bindings.add(new Binding(method, args.clone()));
+                        } else if (name.startsWith("execute")) {
+                            captured.add(new CapturedQuery(sql, List.copyOf(bindings)));
+                        }
+                        return invoke(target, method, args);
+                    });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.api_server.common.metrics;
+
+import com.example.api_server.common.exception.OutOfStockException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("StageMetrics 테스트")
+class StageMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StageMetrics stageMetrics = new StageMetrics(meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("성공한 단계는 success, BusinessException은 에러 코드, 그 밖의 예외는 INTERNAL_SERVER_ERROR로 기록")
+    void record_결과태그() {
+        // when
+        String result = stageMetrics.record(StageMetrics.ORDER_CREATE, "product_lookup", () -> "ok");
+        assertThatThrownBy(() -> stageMetrics.record(StageMetrics.ORDER_CREATE, "stock_check",
+                () -> {
+                    throw new OutOfStockException(2, 1);
+                }))
+                .isInstanceOf(OutOfStockException.class);
+        assertThatThrownBy(() -> stageMetrics.record(StageMetrics.ORDER_CREATE, "order_insert",
+                () -> {
+                    throw new IllegalStateException("boom");
+                }))
+                .isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(result).isEqualTo("ok");
+        assertThat(count("product_lookup", StageMetrics.SUCCESS)).isEqualTo(1);
+        assertThat(count("stock_check", "OUT_OF_STOCK")).isEqualTo(1);
+        assertThat(count("order_insert", StageMetrics.UNEXPECTED_ERROR)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("CompletionException으로 감싼 예외는 원인의 에러 코드로 분류")
+    void outcomeOf_CompletionException() {
+        assertThat(StageMetrics.outcomeOf(new CompletionException(new OutOfStockException())))
+                .isEqualTo("OUT_OF_STOCK");
+        assertThat(StageMetrics.outcomeOf(new RuntimeException())).isEqualTo(StageMetrics.UNEXPECTED_ERROR);
+    }
+
+    @Test
+    @DisplayName("커밋 단계는 커밋 직전부터 완료까지 기록하고, 커밋 전에 롤백되면 기록하지 않음")
+    void recordCommit_커밋시간() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        stageMetrics.recordCommit(StageMetrics.ORDER_CREATE);
+        TransactionSynchronization committed = TransactionSynchronizationManager.getSynchronizations().get(0);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        TransactionSynchronizationManager.initSynchronization();
+        stageMetrics.recordCommit(StageMetrics.ORDER_CREATE);
+        TransactionSynchronization rolledBack = TransactionSynchronizationManager.getSynchronizations().get(0);
+
+        // when
+        committed.beforeCommit(false);
+        committed.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        rolledBack.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // then
+        assertThat(count(StageMetrics.COMMIT_STAGE, StageMetrics.SUCCESS)).isEqualTo(1);
+        assertThat(meterRegistry.find("order.create.stage").tag("outcome", StageMetrics.COMMIT_FAILED).timer())
+                .isNull();
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 없으면 커밋 단계를 등록하지 않음")
+    void recordCommit_트랜잭션없음() {
+        // when & then
+        assertThatCode(() -> stageMetrics.recordCommit(StageMetrics.ORDER_CREATE)).doesNotThrowAnyException();
+        assertThat(meterRegistry.find("order.create.stage").timers()).isEmpty();
+    }
+
+    private long count(String stage, String outcome) {
+        return meterRegistry.get("order.create.stage")
+                .tag("stage", stage)
+                .tag("outcome", outcome)
+                .timer()
+                .count();
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.api_server.common.scheduling;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ExpiryScheduler 테스트")
+class ExpirySchedulerTest {
+
+    private final List<List<String>> expired = new CopyOnWriteArrayList<>();
+
+    private final ExpiryScheduler<String> scheduler = new ExpiryScheduler<>("test-expiry", Duration.ofMillis(10), 64,
+            2, Duration.ofMillis(50), 1, 8, Clock.systemDefaultZone(), expired::add);
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 등록/취소하면 커밋 후에 반영되고, 취소된 ID는 만료되지 않는다")
+    void 커밋후등록_취소() throws Exception {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            scheduler.scheduleAfterCommit("ORD-1", LocalDateTime.now().plus(Duration.ofMillis(50)));
+            scheduler.scheduleAfterCommit("ORD-2", LocalDateTime.now().plus(Duration.ofMillis(50)));
+            scheduler.cancelAfterCommit("ORD-2");
+            assertThat(scheduler.pendingCount()).isZero();
+
+            // when: 커밋
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        await(() -> !expired.isEmpty());
+        Thread.sleep(100);
+        assertThat(expired).flatExtracting(ids -> ids).containsExactly("ORD-1");
+    }
+
+    @Test
+    @DisplayName("만료 처리기가 실패한 묶음은 retryDelay 후에 다시 만료시킨다")
+    void 만료처리실패_재시도() throws Exception {
+        // given
+        List<List<String>> attempts = new CopyOnWriteArrayList<>();
+        ExpiryScheduler<String> failing = new ExpiryScheduler<>("failing-expiry", Duration.ofMillis(10), 64, 2,
+                Duration.ofMillis(50), 1, 8, Clock.systemDefaultZone(), ids -> {
+                    attempts.add(ids);
+                    if (attempts.size() == 1) {
+                        throw new IllegalStateException("connection reset");
+                    }
+                });
+        try {
+            // when
+            failing.retryAfterCommit(List.of("ORD-1"));
+
+            // then
+            await(() -> attempts.size() >= 2);
+            assertThat(attempts).containsExactly(List.of("ORD-1"), List.of("ORD-1"));
+        } finally {
+            failing.shutdown();
+        }
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within 5s").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
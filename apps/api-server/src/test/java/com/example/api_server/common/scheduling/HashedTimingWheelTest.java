@@ -0,0 +1,121 @@
+package com.example.api_server.common.scheduling;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("HashedTimingWheel 테스트")
+class HashedTimingWheelTest {
+
+    private HashedTimingWheel<Integer> wheel;
+
+    @AfterEach
+    void tearDown() {
+        if (wheel != null) {
+            wheel.close();
+        }
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지나면 항목을 전달하고 그 전에는 전달하지 않는다")
+    void schedule_만료시각이후_전달() throws Exception {
+        // given
+        ConcurrentHashMap<Integer, Long> expiredAt = new ConcurrentHashMap<>();
+        CountDownLatch latch = new CountDownLatch(2);
+        wheel = new HashedTimingWheel<>("test-wheel", Duration.ofMillis(10), 8, items -> items.forEach(item -> {
+            expiredAt.put(item, System.nanoTime());
+            latch.countDown();
+        }));
+        wheel.start();
+        long start = System.nanoTime();
+
+        // when: 휠 한 바퀴(80ms)보다 먼 항목 포함
+        wheel.schedule(1, Duration.ofMillis(30));
+        wheel.schedule(2, Duration.ofMillis(250));
+
+        // then
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(expiredAt.get(1) - start)).isGreaterThanOrEqualTo(30);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(expiredAt.get(2) - start)).isGreaterThanOrEqualTo(250);
+        assertThat(wheel.pendingCount()).isZero();
+        assertThat(wheel.expiredCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("취소한 항목은 전달하지 않는다")
+    void cancel_전달안함() throws Exception {
+        // given
+        ConcurrentLinkedQueue<Integer> expired = new ConcurrentLinkedQueue<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        wheel = new HashedTimingWheel<>("test-wheel", Duration.ofMillis(10), 8, items -> {
+            expired.addAll(items);
+            latch.countDown();
+        });
+        wheel.start();
+        HashedTimingWheel.Timeout<Integer> cancelled = wheel.schedule(1, Duration.ofMillis(20));
+        wheel.schedule(2, Duration.ofMillis(40));
+
+        // when
+        boolean result = cancelled.cancel();
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(expired).containsExactly(2);
+        assertThat(cancelled.cancel()).isFalse();
+    }
+
+    @Test
+    @DisplayName("대량 항목을 한 번씩만 전달한다")
+    void schedule_대량_한번씩전달() throws Exception {
+        // given
+        int count = 100_000;
+        ConcurrentHashMap<Integer, Boolean> expired = new ConcurrentHashMap<>();
+        CountDownLatch latch = new CountDownLatch(count);
+        wheel = new HashedTimingWheel<>("test-wheel", Duration.ofMillis(5), 64, items -> items.forEach(item -> {
+            assertThat(expired.put(item, Boolean.TRUE)).isNull();
+            latch.countDown();
+        }));
+        wheel.start();
+
+        // when
+        IntStream.range(0, count).parallel()
+                .forEach(i -> wheel.schedule(i, Duration.ofMillis(i % 500)));
+
+        // then
+        assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(expired).hasSize(count);
+        assertThat(wheel.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("만료 처리기가 예외를 던져도 휠은 계속 동작한다")
+    void expiryHandler_예외후_계속동작() throws Exception {
+        // given
+        CountDownLatch latch = new CountDownLatch(1);
+        wheel = new HashedTimingWheel<>("test-wheel", Duration.ofMillis(10), 8, items -> {
+            if (items.equals(List.of(1))) {
+                throw new IllegalStateException("handler failure");
+            }
+            latch.countDown();
+        });
+        wheel.start();
+
+        // when
+        wheel.schedule(1, Duration.ZERO);
+        wheel.schedule(2, Duration.ofMillis(50));
+
+        // then
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+    }
+}
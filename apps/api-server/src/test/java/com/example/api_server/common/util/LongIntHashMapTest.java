@@ -0,0 +1,78 @@
+package com.example.api_server.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("LongIntHashMap 테스트")
+class LongIntHashMapTest {
+
+    private static final int MISSING = Integer.MIN_VALUE;
+
+    @Test
+    @DisplayName("저장한 값을 조회하고 없는 키는 missingValue를 반환한다")
+    void put_get() {
+        // given
+        LongIntHashMap map = new LongIntHashMap(4, MISSING);
+
+        // when
+        map.put(1L, 10);
+        map.put(0L, 5);
+
+        // then
+        assertThat(map.get(1L)).isEqualTo(10);
+        assertThat(map.get(0L)).isEqualTo(5);
+        assertThat(map.get(2L)).isEqualTo(MISSING);
+        assertThat(map.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("addTo는 없는 키를 0에서 시작해 누적한다")
+    void addTo_누적() {
+        // given
+        LongIntHashMap map = new LongIntHashMap(4, MISSING);
+
+        // when
+        map.addTo(7L, 3);
+        int result = map.addTo(7L, -1);
+
+        // then
+        assertThat(result).isEqualTo(2);
+        assertThat(map.get(7L)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("무작위 삽입/삭제 후에도 HashMap과 같은 내용을 유지한다")
+    void 무작위_삽입삭제_일관성() {
+        // given
+        LongIntHashMap map = new LongIntHashMap(2, MISSING);
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        // when
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                int removed = map.remove(key);
+                Integer expectedRemoved = expected.remove(key);
+                assertThat(removed).isEqualTo(expectedRemoved == null ? MISSING : expectedRemoved);
+            } else {
+                int value = random.nextInt();
+                map.put(key, value);
+                expected.put(key, value);
+            }
+        }
+
+        // then
+        assertThat(map.size()).isEqualTo(expected.size());
+        expected.forEach((key, value) -> assertThat(map.get(key)).isEqualTo(value));
+        Map<Long, Integer> iterated = new HashMap<>();
+        map.forEach(iterated::put);
+        assertThat(iterated).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.api_server.order.cache;
+
+import com.example.api_server.order.domain.Order;
+import com.example.api_server.order.domain.OrderStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("OrderSnapshotCache 테스트")
+class OrderSnapshotCacheTest {
+
+    private static final String ORDER_ID = "ORD-20251205-000000000000001";
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 12, 5, 10, 0);
+
+    private final OrderSnapshotCache orderSnapshotCache =
+            new OrderSnapshotCache(100, Duration.ofMinutes(2), new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("결제 결과가 반영된 스냅샷은 나중에 들어온 결제 대기 스냅샷으로 덮어쓰지 않는다")
+    void put_결제결과_유지() {
+        // given
+        orderSnapshotCache.put(snapshot(OrderStatus.PAID, NOW));
+
+        // when
+        orderSnapshotCache.put(snapshot(OrderStatus.PENDING_PAYMENT, NOW.plusSeconds(1)));
+
+        // then
+        assertThat(orderSnapshotCache.get(ORDER_ID)).get()
+                .extracting(OrderSnapshot::status).isEqualTo(OrderStatus.PAID);
+    }
+
+    @Test
+    @DisplayName("결제 대기 스냅샷은 결제 결과 스냅샷으로 갱신된다")
+    void put_결제결과_갱신() {
+        // given
+        orderSnapshotCache.put(snapshot(OrderStatus.PENDING_PAYMENT, NOW));
+
+        // when
+        orderSnapshotCache.put(snapshot(OrderStatus.PAYMENT_FAILED, NOW.plusSeconds(1)));
+
+        // then
+        assertThat(orderSnapshotCache.get(ORDER_ID)).get()
+                .extracting(OrderSnapshot::status).isEqualTo(OrderStatus.PAYMENT_FAILED);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 변경은 커밋 후에만 반영되고, 롤백되면 반영되지 않는다")
+    void putAfterCommit_커밋후반영() {
+        // given
+        Order order = Order.builder()
+                .orderId(ORDER_ID)
+                .userId(1L)
+                .productId(1L)
+                .quantity(2)
+                .totalAmount(258000L)
+                .status(OrderStatus.PENDING_PAYMENT)
+                .build();
+
+        // when & then: 롤백
+        TransactionSynchronizationManager.initSynchronization();
+        orderSnapshotCache.putAfterCommit(order);
+        assertThat(orderSnapshotCache.get(ORDER_ID)).isEmpty();
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+        assertThat(orderSnapshotCache.get(ORDER_ID)).isEmpty();
+
+        // when & then: 커밋
+        TransactionSynchronizationManager.initSynchronization();
+        orderSnapshotCache.putAfterCommit(order);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(orderSnapshotCache.get(ORDER_ID)).get()
+                .extracting(OrderSnapshot::status).isEqualTo(OrderStatus.PENDING_PAYMENT);
+    }
+
+    private static OrderSnapshot snapshot(OrderStatus status, LocalDateTime updatedAt) {
+        return new OrderSnapshot(ORDER_ID, 1L, 1L, 2, 258000L, status, NOW, updatedAt);
+    }
+}
@@ -30,6 +30,27 @@ class OrderTest {
         assertThat(order.isPaid()).isTrue();
     }
 
+    @Test
+    @DisplayName("EXPIRED는 최종 상태라 PAID로 전이하려 하면 예외가 발생한다")
+    void markAsPaid_EXPIRED_상태면_예외() {
+        // given
+        Order order = Order.builder()
+                .orderId("ORD-20251204-0001")
+                .userId(1L)
+                .productId(101L)
+                .quantity(2)
+                .totalAmount(258000L)
+                .status(OrderStatus.EXPIRED)
+                .build();
+        assertThat(order.isExpired()).isTrue();
+
+        // when & then
+        assertThatThrownBy(() -> order.markAsPaid())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("주문이 결제 대기 상태가 아닙니다");
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.EXPIRED);
+    }
+
     @Test
     @DisplayName("PAID 상태의 주문을 다시 PAID로 전이하려 하면 예외가 발생한다")
     void markAsPaid_이미_PAID_상태면_예외() {
@@ -0,0 +1,96 @@
+package com.example.api_server.order.history;
+
+import com.example.api_server.order.domain.OrderEventType;
+import com.example.api_server.order.domain.OrderHistory;
+import com.example.api_server.order.domain.PayloadCodec;
+import com.example.api_server.order.dto.CreateOrderRequest;
+import com.example.api_server.order.history.OrderHistoryPayloadCodec.EncodedPayload;
+import com.example.api_server.payment.dto.ApprovePaymentRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("OrderHistoryPayloadCodec 테스트")
+class OrderHistoryPayloadCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final OrderHistoryPayloadCodec codec = new OrderHistoryPayloadCodec(objectMapper, PayloadCodec.CBOR_V1);
+
+    @Test
+    @DisplayName("CBOR로 인코딩한 payload는 기존 JSON 직렬화와 같은 JSON으로 복원되고 더 작다")
+    void CBOR_왕복() throws Exception {
+        // given
+        ApprovePaymentRequest payload = ApprovePaymentRequest.builder()
+                .orderId("ORD-20251205-036000004096001")
+                .paymentKey("pay_abc123")
+                .amount(258000L)
+                .build();
+        String legacyJson = objectMapper.writeValueAsString(payload);
+
+        // when
+        EncodedPayload encoded = codec.encode(payload);
+
+        // then
+        assertThat(encoded.codec()).isEqualTo(PayloadCodec.CBOR_V1);
+        assertThat(encoded.bytes().length).isLessThan(legacyJson.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(codec.toJson(encoded.codec(), encoded.bytes(), null)).isEqualTo(legacyJson);
+    }
+
+    @Test
+    @DisplayName("JSON_V1로 인코딩하면 UTF-8 JSON 바이트로 저장하고 그대로 복원한다")
+    void JSON_V1_왕복() {
+        // given
+        CreateOrderRequest payload = CreateOrderRequest.builder().userId(1L).productId(2L).quantity(3).build();
+
+        // when
+        EncodedPayload encoded = codec.encode(payload, PayloadCodec.JSON_V1);
+
+        // then
+        assertThat(codec.toJson(encoded.codec(), encoded.bytes(), null))
+                .isEqualTo("{\"userId\":1,\"productId\":2,\"quantity\":3}");
+    }
+
+    @Test
+    @DisplayName("JSON ObjectMapper의 모듈 설정을 CBOR에도 적용한다")
+    void 날짜타입_인코딩() {
+        // when
+        EncodedPayload encoded = codec.encode(Map.of("at", LocalDateTime.of(2025, 12, 5, 10, 0)));
+
+        // then
+        assertThat(codec.toJson(encoded.codec(), encoded.bytes(), null)).isEqualTo("{\"at\":[2025,12,5,10,0]}");
+    }
+
+    @Test
+    @DisplayName("코덱이 기록되지 않은 이전 형식 행은 저장된 JSON 문자열을 그대로 반환한다")
+    void 이전형식_행() {
+        // given
+        OrderHistory legacy = OrderHistory.builder()
+                .orderId("ORD-20251204-0001")
+                .eventType(OrderEventType.ORDER_CREATED)
+                .payloadJson("{\"productId\": 101}")
+                .build();
+
+        // when & then
+        assertThat(codec.toJson(legacy)).isEqualTo("{\"productId\": 101}");
+    }
+
+    @Test
+    @DisplayName("이전 형식 JSON을 설정된 코덱으로 다시 인코딩한다")
+    void 이전형식_재인코딩() {
+        // when
+        EncodedPayload encoded = codec.reencodeLegacyJson("{\"productId\": 101, \"quantity\": 2}");
+
+        // then
+        assertThat(encoded.codec()).isEqualTo(PayloadCodec.CBOR_V1);
+        assertThat(codec.toJson(encoded.codec(), encoded.bytes(), null)).isEqualTo("{\"productId\":101,\"quantity\":2}");
+        assertThatThrownBy(() -> codec.reencodeLegacyJson("{not json"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
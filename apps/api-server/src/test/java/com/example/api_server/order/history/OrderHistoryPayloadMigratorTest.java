@@ -0,0 +1,76 @@
+package com.example.api_server.order.history;
+
+import com.example.api_server.order.domain.OrderEventType;
+import com.example.api_server.order.domain.OrderHistory;
+import com.example.api_server.order.domain.PayloadCodec;
+import com.example.api_server.order.repository.OrderHistoryRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = "app.order.history.payload-migration.batch-size=2")
+@DisplayName("OrderHistoryPayloadMigrator 테스트")
+class OrderHistoryPayloadMigratorTest {
+
+    @Autowired
+    private OrderHistoryPayloadMigrator migrator;
+
+    @Autowired
+    private OrderHistoryPayloadCodec payloadCodec;
+
+    @Autowired
+    private OrderHistoryRepository orderHistoryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("이전 형식 이력을 batch 단위로 CBOR로 옮기고, 해석할 수 없는 payload는 그대로 둔다")
+    void migrate_이전형식_변환() {
+        // given
+        Long first = saveLegacy("{\"productId\": 101, \"quantity\": 2}");
+        Long second = saveLegacy("{\"paymentKey\": \"pay_abc123\"}");
+        Long third = saveLegacy("{\"amount\": 258000}");
+        Long broken = saveLegacy("{broken");
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        long migrated = migrator.migrate();
+        entityManager.clear();
+
+        // then
+        assertThat(migrated).isEqualTo(3);
+        OrderHistory migratedHistory = orderHistoryRepository.findById(first).orElseThrow();
+        assertThat(migratedHistory.getPayloadCodec()).isEqualTo(PayloadCodec.CBOR_V1);
+        assertThat(migratedHistory.getPayloadJson()).isNull();
+        assertThat(payloadCodec.toJson(migratedHistory)).isEqualTo("{\"productId\":101,\"quantity\":2}");
+        assertThat(payloadCodec.toJson(orderHistoryRepository.findById(second).orElseThrow()))
+                .isEqualTo("{\"paymentKey\":\"pay_abc123\"}");
+        assertThat(payloadCodec.toJson(orderHistoryRepository.findById(third).orElseThrow()))
+                .isEqualTo("{\"amount\":258000}");
+
+        OrderHistory brokenHistory = orderHistoryRepository.findById(broken).orElseThrow();
+        assertThat(brokenHistory.getPayloadCodec()).isNull();
+        assertThat(payloadCodec.toJson(brokenHistory)).isEqualTo("{broken");
+
+        // 다시 실행하면 변환할 행이 없음
+        assertThat(migrator.migrate()).isZero();
+    }
+
+    private Long saveLegacy(String payloadJson) {
+        return orderHistoryRepository.save(OrderHistory.builder()
+                .orderId("ORD-20251204-0001")
+                .eventType(OrderEventType.ORDER_CREATED)
+                .payloadJson(payloadJson)
+                .build()).getId();
+    }
+}
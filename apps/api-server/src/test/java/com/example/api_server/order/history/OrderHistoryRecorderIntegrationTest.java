@@ -0,0 +1,72 @@
+package com.example.api_server.order.history;
+
+import com.example.api_server.order.domain.OrderEventType;
+import com.example.api_server.order.domain.OrderHistory;
+import com.example.api_server.order.domain.PayloadCodec;
+import com.example.api_server.order.dto.CreateOrderRequest;
+import com.example.api_server.order.repository.OrderHistoryRepository;
+import com.example.api_server.order.service.OrderService;
+import com.example.api_server.product.domain.Product;
+import com.example.api_server.product.repository.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@DisplayName("OrderHistoryRecorder 통합 테스트")
+class OrderHistoryRecorderIntegrationTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderHistoryRepository orderHistoryRepository;
+
+    @Autowired
+    private OrderHistoryPayloadCodec payloadCodec;
+
+    @Test
+    @DisplayName("주문 생성 커밋 후 ORDER_CREATED 이력이 백그라운드에서 기록된다")
+    void createOrder_이력_비동기기록() throws Exception {
+        // given
+        Long productId = productRepository.save(Product.builder()
+                .name("이력 기록 테스트 상품")
+                .basePrice(10000L)
+                .discountPrice(9000L)
+                .availableStock(10)
+                .available(true)
+                .build()).getProductId();
+
+        // when
+        String orderId = orderService.createOrder(CreateOrderRequest.builder()
+                .userId(1L)
+                .productId(productId)
+                .quantity(2)
+                .build()).getOrderId();
+
+        // then
+        List<OrderHistory> histories = awaitHistories(orderId);
+        assertThat(histories).hasSize(1);
+        assertThat(histories.get(0).getEventType()).isEqualTo(OrderEventType.ORDER_CREATED);
+        assertThat(histories.get(0).getPayloadCodec()).isEqualTo(PayloadCodec.CBOR_V1);
+        assertThat(payloadCodec.toJson(histories.get(0))).contains("\"quantity\":2");
+    }
+
+    private List<OrderHistory> awaitHistories(String orderId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 3_000;
+        List<OrderHistory> histories = orderHistoryRepository.findByOrderIdOrderByCreatedAtAsc(orderId);
+        while (histories.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            histories = orderHistoryRepository.findByOrderIdOrderByCreatedAtAsc(orderId);
+        }
+        return histories;
+    }
+}
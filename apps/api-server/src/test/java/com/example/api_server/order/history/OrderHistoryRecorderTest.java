@@ -0,0 +1,251 @@
+package com.example.api_server.order.history;
+
+import com.example.api_server.order.domain.OrderEventType;
+import com.example.api_server.order.domain.PayloadCodec;
+import com.example.api_server.order.repository.OrderHistoryJdbcRepository;
+import com.example.api_server.order.repository.OrderHistoryJdbcRepository.OrderHistoryRow;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("OrderHistoryRecorder 테스트")
+class OrderHistoryRecorderTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-12-05T01:00:00Z"), ZoneId.of("Asia/Seoul"));
+
+    private final OrderHistoryPayloadCodec payloadCodec =
+            new OrderHistoryPayloadCodec(new ObjectMapper(), PayloadCodec.CBOR_V1);
+    private final List<List<OrderHistoryRow>> batches = new CopyOnWriteArrayList<>();
+    private OrderHistoryRecorder recorder;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        if (recorder != null) {
+            recorder.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("flush-interval이 지나면 모인 이력을 한 번에 기록하고, payload와 이벤트 시각을 보존한다")
+    void 시간기준_일괄기록() throws Exception {
+        // given
+        recorder = recorder(new RecordingRepository(), 100, 500, Duration.ofMillis(50), 1);
+        recorder.start();
+
+        // when
+        recorder.record("ORD-1", OrderEventType.ORDER_CREATED, Map.of("quantity", 2));
+        recorder.record("ORD-2", OrderEventType.ORDER_CREATED, Map.of("quantity", 1));
+
+        // then
+        awaitWritten(2);
+        assertThat(batches).hasSize(1);
+        OrderHistoryRow first = batches.get(0).get(0);
+        assertThat(first.orderId()).isEqualTo("ORD-1");
+        assertThat(first.eventType()).isEqualTo(OrderEventType.ORDER_CREATED);
+        assertThat(first.payloadCodec()).isEqualTo(PayloadCodec.CBOR_V1);
+        assertThat(payloadCodec.toJson(first.payloadCodec(), first.payload(), null)).isEqualTo("{\"quantity\":2}");
+        assertThat(first.createdAt()).isEqualTo(LocalDateTime.of(2025, 12, 5, 10, 0));
+    }
+
+    @Test
+    @DisplayName("batch-size건이 모이면 flush-interval을 기다리지 않고 기록한다")
+    void 크기기준_일괄기록() throws Exception {
+        // given
+        recorder = recorder(new RecordingRepository(), 100, 3, Duration.ofSeconds(30), 1);
+        recorder.start();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            recorder.record("ORD-" + i, OrderEventType.ORDER_CREATED, Map.of());
+        }
+
+        // then
+        awaitWritten(3);
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("여러 주문의 같은 이벤트는 커밋 후 한 번에 큐에 넣어 같은 batch로 기록한다")
+    void 일괄요청_커밋후_한batch기록() throws Exception {
+        // given
+        recorder = recorder(new RecordingRepository(), 100, 500, Duration.ofMillis(20), 1);
+        recorder.start();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        recorder.recordAll(List.of("ORD-1", "ORD-2", "ORD-3"), OrderEventType.ORDER_EXPIRED, Map.of("reason", "PAYMENT_TIMEOUT"));
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        assertThat(synchronizations).hasSize(1);
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        // then
+        awaitWritten(3);
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).extracting(OrderHistoryRow::orderId).containsExactly("ORD-1", "ORD-2", "ORD-3");
+        assertThat(batches.get(0)).allSatisfy(row -> {
+            assertThat(row.eventType()).isEqualTo(OrderEventType.ORDER_EXPIRED);
+            assertThat(payloadCodec.toJson(row.payloadCodec(), row.payload(), null))
+                    .isEqualTo("{\"reason\":\"PAYMENT_TIMEOUT\"}");
+        });
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 기록하면 커밋 후에만 큐에 넣고, 롤백되면 기록하지 않는다")
+    void 커밋후_기록() throws Exception {
+        // given
+        recorder = recorder(new RecordingRepository(), 100, 500, Duration.ofMillis(20), 1);
+        recorder.start();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        recorder.record("ORD-COMMIT", OrderEventType.PAYMENT_APPROVED, Map.of());
+        List<TransactionSynchronization> committed = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        TransactionSynchronizationManager.initSynchronization();
+        recorder.record("ORD-ROLLBACK", OrderEventType.PAYMENT_APPROVED, Map.of());
+        List<TransactionSynchronization> rolledBack = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        Thread.sleep(100);
+        assertThat(recorder.writtenCount()).isZero();
+        committed.forEach(TransactionSynchronization::afterCommit);
+        rolledBack.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // then
+        awaitWritten(1);
+        recorder.shutdown();
+        assertThat(batches).flatMap(batch -> batch).extracting(OrderHistoryRow::orderId).containsExactly("ORD-COMMIT");
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 enqueue-timeout만큼 기다린 뒤 호출 스레드에서 직접 기록한다")
+    void 큐포화_호출스레드기록() throws Exception {
+        // given: 기록 스레드가 첫 batch 기록에서 멈춘 상태
+        CountDownLatch writerBlocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingRepository repository = new RecordingRepository() {
+            @Override
+            public void insertAll(List<OrderHistoryRow> rows) {
+                if (Thread.currentThread().getName().equals("order-history-writer") && writerBlocked.getCount() > 0) {
+                    writerBlocked.countDown();
+                    await(release);
+                }
+                super.insertAll(rows);
+            }
+        };
+        recorder = recorder(repository, 1, 1, Duration.ofMillis(10), 1);
+        recorder.start();
+        recorder.record("ORD-1", OrderEventType.ORDER_CREATED, Map.of());
+        assertThat(writerBlocked.await(1, TimeUnit.SECONDS)).isTrue();
+        recorder.record("ORD-2", OrderEventType.ORDER_CREATED, Map.of()); // 큐의 유일한 자리
+
+        // when
+        recorder.record("ORD-3", OrderEventType.ORDER_CREATED, Map.of());
+
+        // then
+        assertThat(batches).flatMap(batch -> batch).extracting(OrderHistoryRow::orderId).containsExactly("ORD-3");
+        release.countDown();
+        awaitWritten(3);
+    }
+
+    @Test
+    @DisplayName("종료 시 큐에 남은 이력을 모두 기록한다")
+    void 종료시_남은이력_기록() {
+        // given
+        recorder = recorder(new RecordingRepository(), 100, 2, Duration.ofSeconds(30), 1);
+        recorder.start();
+        for (int i = 0; i < 5; i++) {
+            recorder.record("ORD-" + i, OrderEventType.ORDER_CREATED, Map.of());
+        }
+
+        // when
+        recorder.shutdown();
+
+        // then
+        assertThat(recorder.writtenCount()).isEqualTo(5);
+        assertThat(recorder.pendingCount()).isZero();
+        assertThat(batches).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(2));
+    }
+
+    @Test
+    @DisplayName("기록에 계속 실패하면 max-attempts까지 다시 시도한 뒤 버린다")
+    void 기록실패_재시도후_폐기() {
+        // given
+        RecordingRepository repository = new RecordingRepository() {
+            @Override
+            public void insertAll(List<OrderHistoryRow> rows) {
+                attempts++;
+                throw new IllegalStateException("db down");
+            }
+        };
+        recorder = recorder(repository, 100, 500, Duration.ofSeconds(30), 2);
+        recorder.start();
+        recorder.record("ORD-1", OrderEventType.ORDER_CREATED, Map.of());
+
+        // when
+        recorder.shutdown();
+
+        // then
+        assertThat(repository.attempts).isEqualTo(2);
+        assertThat(recorder.droppedCount()).isEqualTo(1);
+        assertThat(recorder.writtenCount()).isZero();
+    }
+
+    private OrderHistoryRecorder recorder(RecordingRepository repository, int capacity, int batchSize,
+                                          Duration flushInterval, int maxAttempts) {
+        return new OrderHistoryRecorder(repository, payloadCodec, capacity, batchSize, flushInterval,
+                Duration.ofMillis(50), maxAttempts, CLOCK);
+    }
+
+    private void awaitWritten(long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2_000;
+        while (recorder.writtenCount() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(recorder.writtenCount()).isEqualTo(expected);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private class RecordingRepository extends OrderHistoryJdbcRepository {
+
+        int attempts;
+
+        RecordingRepository() {
+            super(null);
+        }
+
+        @Override
+        public void insertAll(List<OrderHistoryRow> rows) {
+            batches.add(List.copyOf(rows));
+        }
+    }
+}
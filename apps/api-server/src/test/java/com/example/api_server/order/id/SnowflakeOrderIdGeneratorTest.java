@@ -0,0 +1,172 @@
+package com.example.api_server.order.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SnowflakeOrderIdGenerator 테스트")
+class SnowflakeOrderIdGeneratorTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    @Test
+    @DisplayName("ORD-yyyyMMdd-15자리 형식으로 생성한다")
+    void nextId_형식() {
+        // given
+        Clock clock = Clock.fixed(Instant.parse("2025-12-05T01:00:00Z"), SEOUL);
+        SnowflakeOrderIdGenerator generator = new SnowflakeOrderIdGenerator(3, clock);
+
+        // when
+        String orderId = generator.nextId();
+
+        // then
+        assertThat(orderId).matches("ORD-20251205-\\d{15}");
+        long body = Long.parseLong(orderId.substring(13));
+        assertThat(body >>> 22).isEqualTo(10 * 3_600_000L); // 서울 기준 10시
+        assertThat((body >>> 12) & 1023).isEqualTo(3);
+        assertThat(body & 4095).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 밀리초에서 시퀀스를 다 쓰면 다음 밀리초를 사용하며 순서가 유지된다")
+    void nextId_시퀀스소진_다음밀리초() {
+        // given
+        Clock clock = Clock.fixed(Instant.parse("2025-12-05T01:00:00Z"), SEOUL);
+        SnowflakeOrderIdGenerator generator = new SnowflakeOrderIdGenerator(0, clock);
+
+        // when
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(generator.nextId());
+        }
+
+        // then
+        assertThat(ids).doesNotHaveDuplicates().isSorted();
+    }
+
+    @Test
+    @DisplayName("시스템 시계가 뒤로 가도 중복 없이 증가한다")
+    void nextId_시계역행() {
+        // given
+        MutableClock clock = new MutableClock(Instant.parse("2025-12-05T01:00:00Z").toEpochMilli(), SEOUL);
+        SnowflakeOrderIdGenerator generator = new SnowflakeOrderIdGenerator(0, clock);
+        String before = generator.nextId();
+
+        // when
+        clock.millis -= 5_000;
+        String after = generator.nextId();
+
+        // then
+        assertThat(after).isGreaterThan(before);
+    }
+
+    @Test
+    @DisplayName("날짜가 바뀌면 접두사가 바뀌고 하루 중 경과 시간이 0부터 시작한다")
+    void nextId_날짜변경() {
+        // given
+        MutableClock clock = new MutableClock(Instant.parse("2025-12-05T14:59:59.999Z").toEpochMilli(), SEOUL);
+        SnowflakeOrderIdGenerator generator = new SnowflakeOrderIdGenerator(0, clock);
+        String lastOfDay = generator.nextId();
+
+        // when
+        clock.millis += 1;
+        String firstOfNextDay = generator.nextId();
+
+        // then
+        assertThat(lastOfDay).startsWith("ORD-20251205-");
+        assertThat(firstOfNextDay).isEqualTo("ORD-20251206-000000000000000");
+    }
+
+    @Test
+    @DisplayName("노드 ID가 범위를 벗어나면 생성할 수 없다")
+    void 생성_노드ID범위초과() {
+        assertThatThrownBy(() -> new SnowflakeOrderIdGenerator(1024, Clock.systemUTC()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SnowflakeOrderIdGenerator(-1, Clock.systemUTC()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("여러 노드와 스레드에서 동시에 생성해도 중복이 없다")
+    void nextId_동시생성_중복없음() throws Exception {
+        // given: 노드 4개 x 스레드 8개 x 스레드당 25,000건 = 800,000건
+        int nodes = 4;
+        int threadsPerNode = 8;
+        int idsPerThread = 25_000;
+        List<SnowflakeOrderIdGenerator> generators = new ArrayList<>();
+        for (int node = 0; node < nodes; node++) {
+            generators.add(new SnowflakeOrderIdGenerator(node, Clock.system(ZoneOffset.UTC)));
+        }
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(nodes * threadsPerNode);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (SnowflakeOrderIdGenerator generator : generators) {
+            for (int t = 0; t < threadsPerNode; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < idsPerThread; i++) {
+                        ids.add(generator.nextId());
+                    }
+                    return null;
+                }));
+            }
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(ids).hasSize(nodes * threadsPerNode * idsPerThread);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private long millis;
+        private final ZoneId zone;
+
+        private MutableClock(long millis, ZoneId zone) {
+            this.millis = millis;
+            this.zone = zone;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return new MutableClock(millis, zone);
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+}
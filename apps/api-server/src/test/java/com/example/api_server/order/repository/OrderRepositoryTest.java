@@ -2,13 +2,16 @@ package com.example.api_server.order.repository;
 
 import com.example.api_server.order.domain.Order;
 import com.example.api_server.order.domain.OrderStatus;
-import com.example.api_server.order.repository.OrderRepository;
+import com.example.api_server.order.repository.OrderRepository.OrderSummary;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -57,4 +60,45 @@ class OrderRepositoryTest {
         // then
         assertThat(found).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("사용자 주문 목록은 (createdAt, orderId) 역순 키셋으로 빠짐없이 겹치지 않게 조회된다")
+    void findUserOrders_키셋페이지() {
+        // given: 같은 시각에 생성된 주문 포함, 다른 사용자 주문 제외 (다른 테스트가 커밋한 주문과 겹치지 않는 사용자)
+        LocalDateTime base = LocalDateTime.of(2025, 12, 5, 10, 0);
+        orderRepository.saveAll(List.of(
+                order("ORD-20251205-0001", 9001L, base),
+                order("ORD-20251205-0002", 9001L, base.plusMinutes(1)),
+                order("ORD-20251205-0003", 9001L, base.plusMinutes(1)),
+                order("ORD-20251205-0004", 9002L, base.plusMinutes(2)),
+                order("ORD-20251205-0005", 9001L, base.plusMinutes(3))));
+        orderRepository.flush();
+
+        // when
+        List<OrderSummary> first = orderRepository.findUserOrders(9001L, Limit.of(2));
+        OrderSummary last = first.get(first.size() - 1);
+        List<OrderSummary> second = orderRepository.findUserOrdersBefore(
+                9001L, last.getCreatedAt(), last.getOrderId(), Limit.of(2));
+
+        // then
+        assertThat(first).extracting(OrderSummary::getOrderId)
+                .containsExactly("ORD-20251205-0005", "ORD-20251205-0003");
+        assertThat(second).extracting(OrderSummary::getOrderId)
+                .containsExactly("ORD-20251205-0002", "ORD-20251205-0001");
+        assertThat(second.get(0).getTotalAmount()).isEqualTo(258000L);
+        assertThat(second.get(0).getStatus()).isEqualTo(OrderStatus.PENDING_PAYMENT);
+    }
+
+    private static Order order(String orderId, Long userId, LocalDateTime createdAt) {
+        return Order.builder()
+                .orderId(orderId)
+                .userId(userId)
+                .productId(101L)
+                .quantity(2)
+                .totalAmount(258000L)
+                .status(OrderStatus.PENDING_PAYMENT)
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.api_server.order.service;
+
+import com.example.api_server.order.domain.Order;
+import com.example.api_server.order.domain.OrderStatus;
+import com.example.api_server.order.dto.BatchCreateOrderResponse;
+import com.example.api_server.order.dto.BatchOrderResult;
+import com.example.api_server.order.repository.OrderRepository;
+import com.example.api_server.product.domain.Product;
+import com.example.api_server.product.repository.ProductRepository;
+import com.example.api_server.reservation.domain.ReservationStatus;
+import com.example.api_server.reservation.repository.StockReservationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = "app.order.batch.chunk-size=2")
+@DisplayName("일괄 주문 생성 통합 테스트")
+class OrderBatchIntegrationTest {
+
+    @Autowired
+    private OrderBatchService orderBatchService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Long productId;
+    private Long otherProductId;
+    private List<String> orderIds = List.of();
+
+    @BeforeEach
+    void setUp() {
+        productId = productRepository.save(product("일괄 주문 테스트 상품", 5)).getProductId();
+        otherProductId = productRepository.save(product("일괄 주문 테스트 상품 2", 10)).getProductId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stockReservationRepository.deleteAllById(orderIds);
+        orderRepository.deleteAllById(orderIds);
+        productRepository.deleteAllById(List.of(productId, otherProductId));
+    }
+
+    @Test
+    @DisplayName("주문과 재고 예약을 일괄 기록하고 상품별 합산 수량만큼 재고를 차감한다")
+    void createOrders_일괄기록() throws Exception {
+        // given: 상품 1 재고 5에 2 + 4 + 3 요청 → 두 번째 요청만 재고 부족
+        String body = """
+                [{"userId": 9101, "productId": %1$d, "quantity": 2},
+                 {"userId": 9101, "productId": %1$d, "quantity": 4},
+                 {"userId": 9102, "productId": %2$d, "quantity": 1},
+                 {"userId": 9102, "productId": %1$d, "quantity": 3},
+                 {"userId": 9103, "productId": %2$d, "quantity": 0}]""".formatted(productId, otherProductId);
+
+        // when
+        BatchCreateOrderResponse response = orderBatchService.createOrders(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+        orderIds = response.getResults().stream()
+                .filter(BatchOrderResult::isCreated)
+                .map(BatchOrderResult::getOrderId)
+                .toList();
+
+        // then
+        assertThat(response.getResults()).extracting(BatchOrderResult::getErrorCode)
+                .containsExactly(null, "OUT_OF_STOCK", null, null, "VALIDATION_FAILED");
+        assertThat(orderIds).hasSize(3);
+        assertThat(productRepository.findAvailableStockById(productId)).contains(0);
+        assertThat(productRepository.findAvailableStockById(otherProductId)).contains(9);
+
+        List<Order> orders = orderRepository.findAllById(orderIds);
+        assertThat(orders).hasSize(3)
+                .allSatisfy(order -> assertThat(order.getStatus()).isEqualTo(OrderStatus.PENDING_PAYMENT));
+        assertThat(orders).extracting(Order::getTotalAmount).containsExactlyInAnyOrder(18000L, 9000L, 27000L);
+        assertThat(stockReservationRepository.findAllById(orderIds)).hasSize(3)
+                .allSatisfy(reservation -> assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.ACTIVE));
+    }
+
+    private static Product product(String name, int stock) {
+        return Product.builder()
+                .name(name)
+                .basePrice(10000L)
+                .discountPrice(9000L)
+                .availableStock(stock)
+                .available(true)
+                .build();
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.api_server.order.service;
+
+import com.example.api_server.common.exception.InvalidOrderBatchException;
+import com.example.api_server.common.exception.OutOfStockException;
+import com.example.api_server.order.domain.OrderStatus;
+import com.example.api_server.order.dto.BatchCreateOrderResponse;
+import com.example.api_server.order.dto.BatchOrderItem;
+import com.example.api_server.order.dto.BatchOrderResult;
+import com.example.api_server.order.dto.CreateOrderRequest;
+import com.example.api_server.order.dto.CreateOrderResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("OrderBatchService 테스트")
+@ExtendWith(MockitoExtension.class)
+class OrderBatchServiceTest {
+
+    @Mock
+    private OrderService orderService;
+
+    private ValidatorFactory validatorFactory;
+
+    private OrderBatchService orderBatchService;
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        orderBatchService = new OrderBatchService(orderService, new ObjectMapper(), validatorFactory.getValidator(), 5, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 항목은 제외하고 chunk-size건씩 나눠 처리하며 결과는 요청 순서대로 반환한다")
+    void createOrders_청크처리() throws Exception {
+        // given
+        given(orderService.createOrders(any())).willAnswer(invocation -> {
+            List<BatchOrderItem> items = invocation.getArgument(0);
+            return items.stream().map(item -> created(item.index(), item.request())).toList();
+        });
+
+        // when
+        BatchCreateOrderResponse response = orderBatchService.createOrders(body("""
+                [{"userId": 1, "productId": 1, "quantity": 1},
+                 {"userId": 1, "productId": 1, "quantity": 0},
+                 null,
+                 {"userId": 2, "productId": 2, "quantity": 2},
+                 {"userId": 3, "productId": 1, "quantity": 1}]"""));
+
+        // then
+        assertThat(response.getRequested()).isEqualTo(5);
+        assertThat(response.getCreated()).isEqualTo(3);
+        assertThat(response.getFailed()).isEqualTo(2);
+        assertThat(response.getResults()).extracting(BatchOrderResult::getIndex, BatchOrderResult::getErrorCode)
+                .containsExactly(
+                        tuple(0, null),
+                        tuple(1, "VALIDATION_FAILED"),
+                        tuple(2, "VALIDATION_FAILED"),
+                        tuple(3, null),
+                        tuple(4, null));
+        assertThat(response.getResults().get(1).getMessage()).isEqualTo("수량은 양수여야 합니다.");
+
+        // 유효한 항목 3건을 2건 + 1건 청크로 처리
+        verify(orderService, times(2)).createOrders(any());
+        verify(orderService, never()).createOrder(any());
+    }
+
+    @Test
+    @DisplayName("청크가 롤백되면 그 청크만 항목별 주문 생성으로 다시 처리한다")
+    void createOrders_청크롤백_항목별처리() throws Exception {
+        // given
+        given(orderService.createOrders(any())).willThrow(new OutOfStockException(3, 2));
+        given(orderService.createOrder(any())).willAnswer(invocation -> {
+            CreateOrderRequest request = invocation.getArgument(0);
+            if (request.getQuantity() > 2) {
+                throw new OutOfStockException(request.getQuantity(), 2);
+            }
+            return response(request);
+        });
+
+        // when
+        BatchCreateOrderResponse response = orderBatchService.createOrders(body("""
+                [{"userId": 1, "productId": 1, "quantity": 2},
+                 {"userId": 2, "productId": 1, "quantity": 3}]"""));
+
+        // then
+        assertThat(response.getResults()).extracting(BatchOrderResult::isCreated, BatchOrderResult::getErrorCode)
+                .containsExactly(tuple(true, null), tuple(false, "OUT_OF_STOCK"));
+        verify(orderService, times(2)).createOrder(any());
+    }
+
+    @Test
+    @DisplayName("청크나 항목 처리 중 예상하지 못한 예외가 나도 500으로 끝내지 않고 항목별 결과를 반환한다")
+    void createOrders_예상못한예외_항목별결과() throws Exception {
+        // given: 첫 청크는 커밋되고 두 번째 청크에서 DB 오류
+        given(orderService.createOrders(any())).willAnswer(invocation -> {
+            List<BatchOrderItem> items = invocation.getArgument(0);
+            if (items.get(0).index() == 0) {
+                return items.stream().map(item -> created(item.index(), item.request())).toList();
+            }
+            throw new IllegalStateException("connection reset");
+        });
+        given(orderService.createOrder(any())).willAnswer(invocation -> {
+            CreateOrderRequest request = invocation.getArgument(0);
+            if (request.getUserId() == 4L) {
+                throw new IllegalStateException("connection reset");
+            }
+            return response(request);
+        });
+
+        // when
+        BatchCreateOrderResponse response = orderBatchService.createOrders(body("""
+                [{"userId": 1, "productId": 1, "quantity": 1},
+                 {"userId": 2, "productId": 1, "quantity": 1},
+                 {"userId": 3, "productId": 1, "quantity": 1},
+                 {"userId": 4, "productId": 1, "quantity": 1}]"""));
+
+        // then
+        assertThat(response.getResults()).extracting(BatchOrderResult::isCreated, BatchOrderResult::getErrorCode)
+                .containsExactly(
+                        tuple(true, null),
+                        tuple(true, null),
+                        tuple(true, null),
+                        tuple(false, "INTERNAL_SERVER_ERROR"));
+        verify(orderService, times(2)).createOrder(any());
+    }
+
+    @Test
+    @DisplayName("본문이 배열이 아니거나 최대 건수를 넘으면 주문을 만들지 않고 InvalidOrderBatchException이 발생한다")
+    void createOrders_잘못된본문() {
+        // when & then
+        assertThatThrownBy(() -> orderBatchService.createOrders(body("""
+                {"userId": 1, "productId": 1, "quantity": 1}""")))
+                .isInstanceOf(InvalidOrderBatchException.class);
+        assertThatThrownBy(() -> orderBatchService.createOrders(body("""
+                [{"userId": 1, "productId": 1, "quantity": 1},""")))
+                .isInstanceOf(InvalidOrderBatchException.class);
+        assertThatThrownBy(() -> orderBatchService.createOrders(body(
+                "[" + String.join(",", Collections.nCopies(6, "{\"userId\": 1, \"productId\": 1, \"quantity\": 1}")) + "]")))
+                .isInstanceOf(InvalidOrderBatchException.class)
+                .satisfies(e -> assertThat(((InvalidOrderBatchException) e).getDetail()).isEqualTo("Max items: 5"));
+
+        verifyNoInteractions(orderService);
+    }
+
+    private static InputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static BatchOrderResult created(int index, CreateOrderRequest request) {
+        return BatchOrderResult.created(index, response(request));
+    }
+
+    private static CreateOrderResponse response(CreateOrderRequest request) {
+        return CreateOrderResponse.builder()
+                .orderId("ORD-20251205-" + request.getUserId())
+                .userId(request.getUserId())
+                .productId(request.getProductId())
+                .quantity(request.getQuantity())
+                .totalAmount(129000L * request.getQuantity())
+                .status(OrderStatus.PENDING_PAYMENT)
+                .build();
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.api_server.order.service;
+
+import com.example.api_server.common.exception.OrderNotPayableException;
+import com.example.api_server.order.domain.OrderEventType;
+import com.example.api_server.order.domain.OrderHistory;
+import com.example.api_server.order.domain.OrderStatus;
+import com.example.api_server.order.dto.CreateOrderRequest;
+import com.example.api_server.order.repository.OrderHistoryRepository;
+import com.example.api_server.order.repository.OrderRepository;
+import com.example.api_server.payment.dto.ApprovePaymentRequest;
+import com.example.api_server.payment.service.PaymentService;
+import com.example.api_server.product.domain.Product;
+import com.example.api_server.product.repository.ProductRepository;
+import com.example.api_server.reservation.repository.StockReservationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "app.order.expiry.ttl=300ms",
+        "app.order.expiry.tick-duration=50ms"
+})
+@DisplayName("결제 대기 주문 만료 통합 테스트")
+class OrderExpiryIntegrationTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderExpiryScheduler orderExpiryScheduler;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderHistoryRepository orderHistoryRepository;
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long productId;
+    private final List<String> orderIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        productId = productRepository.save(Product.builder()
+                .name("만료 테스트 상품")
+                .basePrice(10000L)
+                .discountPrice(9000L)
+                .availableStock(10)
+                .available(true)
+                .build()).getProductId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM order_histories WHERE order_id IN (" + placeholders() + ")", orderIds.toArray());
+        jdbcTemplate.update("DELETE FROM payments WHERE order_id IN (" + placeholders() + ")", orderIds.toArray());
+        stockReservationRepository.deleteAllById(orderIds);
+        orderRepository.deleteAllById(orderIds);
+        productRepository.deleteById(productId);
+    }
+
+    @Test
+    @DisplayName("결제 기한이 지난 주문은 EXPIRED로 전이되고 ORDER_EXPIRED 이력이 남으며 더 이상 결제할 수 없다")
+    void createOrder_기한초과_만료() throws Exception {
+        // given
+        String orderId = orderService.createOrder(CreateOrderRequest.builder()
+                .userId(9201L)
+                .productId(productId)
+                .quantity(1)
+                .build()).getOrderId();
+        orderIds.add(orderId);
+
+        // when
+        awaitStatus(orderId, OrderStatus.EXPIRED);
+
+        // then
+        assertThat(orderService.getOrder(orderId).getStatus()).isEqualTo(OrderStatus.EXPIRED);
+        awaitHistory(orderId, OrderEventType.ORDER_EXPIRED);
+        assertThatThrownBy(() -> paymentService.approvePayment(ApprovePaymentRequest.builder()
+                .orderId(orderId)
+                .paymentKey("pay_expired")
+                .amount(9000L)
+                .build()))
+                .isInstanceOf(OrderNotPayableException.class);
+    }
+
+    @Test
+    @DisplayName("기동 시 DB의 결제 대기 주문으로 휠을 재구성하여 기한이 지난 주문만 만료시킨다")
+    void rebuild_결제대기주문_만료() throws Exception {
+        // given: 휠에 등록되지 않은 주문 (다른 노드에서 생성되었거나 재기동 전에 생성된 주문)
+        insertOrder("ORD-EXPIRY-REBUILD-1", OrderStatus.PENDING_PAYMENT);
+        insertOrder("ORD-EXPIRY-REBUILD-2", OrderStatus.PAID);
+
+        // when
+        orderExpiryScheduler.rebuild();
+
+        // then
+        awaitStatus("ORD-EXPIRY-REBUILD-1", OrderStatus.EXPIRED);
+        Thread.sleep(200);
+        assertThat(orderRepository.findById("ORD-EXPIRY-REBUILD-2"))
+                .hasValueSatisfying(order -> assertThat(order.getStatus()).isEqualTo(OrderStatus.PAID));
+    }
+
+    @Test
+    @DisplayName("결제가 진행 중(REQUESTED)인 주문은 기한이 지나도 만료시키지 않는다")
+    void rebuild_결제진행중_만료제외() throws Exception {
+        // given
+        insertOrder("ORD-EXPIRY-PAYING-1", OrderStatus.PENDING_PAYMENT);
+        jdbcTemplate.update("INSERT INTO payments (id, order_id, payment_key, amount, status, created_at) "
+                + "VALUES (990001, 'ORD-EXPIRY-PAYING-1', 'pay_in_progress', 9000, 'REQUESTED', ?)",
+                Timestamp.valueOf(LocalDateTime.now()));
+
+        // when
+        orderExpiryScheduler.rebuild();
+        Thread.sleep(300);
+
+        // then
+        assertThat(orderRepository.findById("ORD-EXPIRY-PAYING-1"))
+                .hasValueSatisfying(order -> assertThat(order.getStatus()).isEqualTo(OrderStatus.PENDING_PAYMENT));
+    }
+
+    private void insertOrder(String orderId, OrderStatus status) {
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now().minusHours(1));
+        jdbcTemplate.update("INSERT INTO orders (order_id, user_id, product_id, quantity, total_amount, status, "
+                        + "created_at, updated_at) VALUES (?, 9202, ?, 1, 9000, ?, ?, ?)",
+                orderId, productId, status.name(), createdAt, createdAt);
+        orderIds.add(orderId);
+    }
+
+    private String placeholders() {
+        return orderIds.isEmpty() ? "NULL" : String.join(",", Collections.nCopies(orderIds.size(), "?"));
+    }
+
+    private void awaitStatus(String orderId, OrderStatus status) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline) {
+            if (orderRepository.findById(orderId).map(order -> order.getStatus() == status).orElse(false)) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        fail("order " + orderId + " did not reach " + status);
+    }
+
+    private void awaitHistory(String orderId, OrderEventType eventType) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline) {
+            if (orderHistoryRepository.findByOrderIdOrderByCreatedAtAsc(orderId).stream()
+                    .map(OrderHistory::getEventType)
+                    .anyMatch(eventType::equals)) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        fail("order " + orderId + " has no " + eventType + " history");
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.api_server.order.service;
+
+import com.example.api_server.order.repository.OrderRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("OrderExpiryScheduler 테스트")
+@ExtendWith(MockitoExtension.class)
+class OrderExpirySchedulerTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-12-05T01:00:00Z"), ZoneId.of("Asia/Seoul"));
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private OrderExpiryScheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 틱에 만료된 주문은 batch-size건씩 나눠 타이밍 휠 스레드가 아닌 작업 스레드들에서 병렬로 처리한다")
+    void 만료처리_작업스레드_병렬() throws Exception {
+        // given: 앞의 두 묶음은 서로 시작할 때까지 기다림 (작업 스레드가 하나면 시간 초과)
+        List<String> threads = new CopyOnWriteArrayList<>();
+        List<OrdersExpiredEvent> events = new CopyOnWriteArrayList<>();
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        CountDownLatch done = new CountDownLatch(3);
+        willAnswer(invocation -> {
+            OrdersExpiredEvent event = invocation.getArgument(0);
+            threads.add(Thread.currentThread().getName());
+            events.add(event);
+            if (event.orderIds().size() == 2) {
+                bothStarted.countDown();
+                assertThat(bothStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            }
+            done.countDown();
+            return null;
+        }).given(eventPublisher).publishEvent(any(Object.class));
+        scheduler = new OrderExpiryScheduler(orderRepository, eventPublisher, transactionTemplate,
+                Duration.ofMillis(50), Duration.ofMillis(200), 64, 2, Duration.ofMillis(50), 2, 8, CLOCK);
+
+        // when
+        for (String orderId : List.of("ORD-1", "ORD-2", "ORD-3", "ORD-4", "ORD-5")) {
+            scheduler.scheduleAfterCommit(orderId);
+        }
+
+        // then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(bothStarted.getCount()).isZero();
+        assertThat(events).flatExtracting(OrdersExpiredEvent::orderIds)
+                .containsExactlyInAnyOrder("ORD-1", "ORD-2", "ORD-3", "ORD-4", "ORD-5");
+        assertThat(threads).allSatisfy(name -> assertThat(name).startsWith("order-expiry-worker-"));
+    }
+}
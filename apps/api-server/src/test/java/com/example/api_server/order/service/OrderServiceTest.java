@@ -1,29 +1,51 @@
 package com.example.api_server.order.service;
 
+import com.example.api_server.common.datasource.DataSourceRouting;
+import com.example.api_server.common.datasource.RecentWriteTracker;
+import com.example.api_server.common.dto.CursorPageResponse;
+import com.example.api_server.common.exception.InvalidCursorException;
 import com.example.api_server.common.exception.OrderNotFoundException;
+import com.example.api_server.common.metrics.StageMetrics;
 import com.example.api_server.common.exception.OutOfStockException;
 import com.example.api_server.common.exception.ProductNotAvailableException;
 import com.example.api_server.common.exception.ProductNotFoundException;
 import com.example.api_server.common.exception.QuantityInvalidException;
+import com.example.api_server.order.cache.OrderSnapshotCache;
 import com.example.api_server.order.domain.Order;
 import com.example.api_server.order.domain.OrderEventType;
-import com.example.api_server.order.domain.OrderHistory;
+import com.example.api_server.order.history.OrderHistoryRecorder;
 import com.example.api_server.order.domain.OrderStatus;
+import com.example.api_server.order.dto.BatchOrderItem;
+import com.example.api_server.order.dto.BatchOrderResult;
 import com.example.api_server.order.dto.CreateOrderRequest;
 import com.example.api_server.order.dto.CreateOrderResponse;
-import com.example.api_server.order.repository.OrderHistoryRepository;
+import com.example.api_server.order.dto.OrderResponse;
+import com.example.api_server.order.dto.OrderSummaryResponse;
+import com.example.api_server.order.id.OrderIdGenerator;
+import com.example.api_server.order.repository.OrderJdbcRepository;
 import com.example.api_server.order.repository.OrderRepository;
+import com.example.api_server.order.repository.OrderRepository.OrderSummary;
+import com.example.api_server.product.cache.ProductSnapshot;
 import com.example.api_server.product.domain.Product;
 import com.example.api_server.product.service.ProductService;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.api_server.reservation.service.StockReservationService;
+import com.example.api_server.reservation.service.StockReservationService.ReservationItem;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -38,20 +60,43 @@ class OrderServiceTest {
     private OrderRepository orderRepository;
 
     @Mock
-    private OrderHistoryRepository orderHistoryRepository;
+    private OrderJdbcRepository orderJdbcRepository;
+
+    @Mock
+    private OrderHistoryRecorder orderHistoryRecorder;
 
     @Mock
     private ProductService productService;
 
     @Mock
-    private ObjectMapper objectMapper;
+    private StockReservationService stockReservationService;
+
+    @Mock
+    private OrderIdGenerator orderIdGenerator;
+
+    @Mock
+    private OrderExpiryScheduler orderExpiryScheduler;
+
+    @Mock
+    private OrderExpiryVeto orderExpiryVeto;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private StageMetrics stageMetrics = new StageMetrics(meterRegistry);
+
+    @Spy
+    private RecentWriteTracker recentWriteTracker = new RecentWriteTracker(true, Duration.ofSeconds(2));
+
+    @Spy
+    private OrderSnapshotCache orderSnapshotCache = new OrderSnapshotCache(100, Duration.ofMinutes(2), meterRegistry);
 
     @InjectMocks
     private OrderService orderService;
 
     @Test
     @DisplayName("BE_UT_01: 주문 생성 성공")
-    void createOrder_성공() throws Exception {
+    void createOrder_성공() {
         // given
         CreateOrderRequest request = CreateOrderRequest.builder()
                 .userId(1L)
@@ -59,19 +104,19 @@ class OrderServiceTest {
                 .quantity(2)
                 .build();
 
-        Product product = Product.builder()
+        ProductSnapshot product = ProductSnapshot.from(Product.builder()
                 .productId(1L)
                 .name("무선 청소기")
                 .basePrice(150000L)
                 .discountPrice(129000L)
                 .availableStock(10)
                 .available(true)
-                .build();
+                .build());
 
-        given(productService.getProductOrThrow(1L)).willReturn(product);
+        given(productService.getProductSnapshot(1L)).willReturn(product);
         willDoNothing().given(productService).validateProductAvailability(product);
         willDoNothing().given(productService).validateStockAvailability(product, 2);
-        given(objectMapper.writeValueAsString(any())).willReturn("{\"userId\":1,\"productId\":1,\"quantity\":2}");
+        given(orderIdGenerator.nextId()).willReturn("ORD-20251205-000000000000001");
 
         Order savedOrder = Order.builder()
                 .orderId("ORD-20251205-0001")
@@ -88,7 +133,7 @@ class OrderServiceTest {
 
         // then
         assertThat(response).isNotNull();
-        assertThat(response.getOrderId()).startsWith("ORD-");
+        assertThat(response.getOrderId()).isEqualTo("ORD-20251205-000000000000001");
         assertThat(response.getUserId()).isEqualTo(1L);
         assertThat(response.getProductId()).isEqualTo(1L);
         assertThat(response.getQuantity()).isEqualTo(2);
@@ -96,17 +141,15 @@ class OrderServiceTest {
         assertThat(response.getStatus()).isEqualTo(OrderStatus.PENDING_PAYMENT);
 
         // verify
-        verify(productService).getProductOrThrow(1L);
+        verify(productService).getProductSnapshot(1L);
         verify(productService).validateProductAvailability(product);
         verify(productService).validateStockAvailability(product, 2);
+        verify(stockReservationService).reserve("ORD-20251205-000000000000001", 1L, 2);
         verify(orderRepository).save(any(Order.class));
-        verify(orderHistoryRepository).save(any(OrderHistory.class));
+        verify(orderExpiryScheduler).scheduleAfterCommit("ORD-20251205-000000000000001");
 
         // OrderHistory 검증
-        ArgumentCaptor<OrderHistory> historyCaptor = ArgumentCaptor.forClass(OrderHistory.class);
-        verify(orderHistoryRepository).save(historyCaptor.capture());
-        OrderHistory savedHistory = historyCaptor.getValue();
-        assertThat(savedHistory.getEventType()).isEqualTo(OrderEventType.ORDER_CREATED);
+        verify(orderHistoryRecorder).record(eq("ORD-20251205-000000000000001"), eq(OrderEventType.ORDER_CREATED), any());
     }
 
     @Test
@@ -119,7 +162,7 @@ class OrderServiceTest {
                 .quantity(1)
                 .build();
 
-        given(productService.getProductOrThrow(999L))
+        given(productService.getProductSnapshot(999L))
                 .willThrow(new ProductNotFoundException(999L));
 
         // when & then
@@ -128,7 +171,7 @@ class OrderServiceTest {
                 .hasMessageContaining("상품을 찾을 수 없습니다");
 
         verify(orderRepository, never()).save(any());
-        verify(orderHistoryRepository, never()).save(any());
+        verify(orderHistoryRecorder, never()).record(any(), any(), any());
     }
 
     @Test
@@ -141,16 +184,16 @@ class OrderServiceTest {
                 .quantity(1)
                 .build();
 
-        Product product = Product.builder()
+        ProductSnapshot product = ProductSnapshot.from(Product.builder()
                 .productId(1L)
                 .name("무선 청소기")
                 .basePrice(150000L)
                 .discountPrice(129000L)
                 .availableStock(10)
                 .available(false)
-                .build();
+                .build());
 
-        given(productService.getProductOrThrow(1L)).willReturn(product);
+        given(productService.getProductSnapshot(1L)).willReturn(product);
         willThrow(new ProductNotAvailableException(1L))
                 .given(productService).validateProductAvailability(product);
 
@@ -160,7 +203,7 @@ class OrderServiceTest {
                 .hasMessageContaining("판매 불가능한 상품입니다");
 
         verify(orderRepository, never()).save(any());
-        verify(orderHistoryRepository, never()).save(any());
+        verify(orderHistoryRecorder, never()).record(any(), any(), any());
     }
 
     @Test
@@ -173,16 +216,16 @@ class OrderServiceTest {
                 .quantity(15)
                 .build();
 
-        Product product = Product.builder()
+        ProductSnapshot product = ProductSnapshot.from(Product.builder()
                 .productId(1L)
                 .name("무선 청소기")
                 .basePrice(150000L)
                 .discountPrice(129000L)
                 .availableStock(10)
                 .available(true)
-                .build();
+                .build());
 
-        given(productService.getProductOrThrow(1L)).willReturn(product);
+        given(productService.getProductSnapshot(1L)).willReturn(product);
         willDoNothing().given(productService).validateProductAvailability(product);
         willThrow(new OutOfStockException(15, 10))
                 .given(productService).validateStockAvailability(product, 15);
@@ -193,7 +236,40 @@ class OrderServiceTest {
                 .hasMessageContaining("재고가 부족합니다");
 
         verify(orderRepository, never()).save(any());
-        verify(orderHistoryRepository, never()).save(any());
+        verify(orderHistoryRecorder, never()).record(any(), any(), any());
+        verify(stockReservationService, never()).reserve(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("주문 생성 실패 - 검증 후 재고 예약 시점에 재고 소진")
+    void createOrder_실패_재고예약실패() {
+        // given
+        CreateOrderRequest request = CreateOrderRequest.builder()
+                .userId(1L)
+                .productId(1L)
+                .quantity(2)
+                .build();
+
+        ProductSnapshot product = ProductSnapshot.from(Product.builder()
+                .productId(1L)
+                .name("무선 청소기")
+                .basePrice(150000L)
+                .discountPrice(129000L)
+                .availableStock(10)
+                .available(true)
+                .build());
+
+        given(productService.getProductSnapshot(1L)).willReturn(product);
+        given(orderIdGenerator.nextId()).willReturn("ORD-20251205-000000000000001");
+        willThrow(new OutOfStockException(2, 0))
+                .given(stockReservationService).reserve("ORD-20251205-000000000000001", 1L, 2);
+
+        // when & then
+        assertThatThrownBy(() -> orderService.createOrder(request))
+                .isInstanceOf(OutOfStockException.class);
+
+        verify(orderRepository, never()).save(any());
+        verify(orderHistoryRecorder, never()).record(any(), any(), any());
     }
 
     @Test
@@ -211,7 +287,7 @@ class OrderServiceTest {
                 .isInstanceOf(QuantityInvalidException.class)
                 .hasMessageContaining("유효하지 않은 수량입니다");
 
-        verify(productService, never()).getProductOrThrow(any());
+        verify(productService, never()).getProductSnapshot(any());
         verify(orderRepository, never()).save(any());
     }
 
@@ -230,10 +306,46 @@ class OrderServiceTest {
                 .isInstanceOf(QuantityInvalidException.class)
                 .hasMessageContaining("유효하지 않은 수량입니다");
 
-        verify(productService, never()).getProductOrThrow(any());
+        verify(productService, never()).getProductSnapshot(any());
         verify(orderRepository, never()).save(any());
     }
 
+    @Test
+    @DisplayName("주문 생성 - 단계별 지연을 기록하고 실패 단계와 전체 지연에는 에러 코드를 태그로 남김")
+    void createOrder_단계별지연기록() {
+        // given
+        ProductSnapshot product = ProductSnapshot.from(Product.builder()
+                .productId(1L)
+                .name("무선 청소기")
+                .basePrice(150000L)
+                .discountPrice(129000L)
+                .availableStock(10)
+                .available(true)
+                .build());
+        given(productService.getProductSnapshot(1L)).willReturn(product);
+        willDoNothing().given(productService).validateStockAvailability(product, 2);
+        willThrow(new OutOfStockException(15, 10))
+                .given(productService).validateStockAvailability(product, 15);
+        given(orderIdGenerator.nextId()).willReturn("ORD-20251205-000000000000001");
+
+        // when
+        orderService.createOrder(CreateOrderRequest.builder().userId(1L).productId(1L).quantity(2).build());
+        assertThatThrownBy(() -> orderService.createOrder(
+                CreateOrderRequest.builder().userId(1L).productId(1L).quantity(15).build()))
+                .isInstanceOf(OutOfStockException.class);
+
+        // then
+        assertThat(stageCount("quantity_validation", StageMetrics.SUCCESS)).isEqualTo(2);
+        assertThat(stageCount("product_lookup", StageMetrics.SUCCESS)).isEqualTo(2);
+        for (String stage : new String[]{"order_id", "stock_reservation", "order_insert", "history_record"}) {
+            assertThat(stageCount(stage, StageMetrics.SUCCESS)).as(stage).isEqualTo(1);
+        }
+        assertThat(stageCount("stock_check", StageMetrics.SUCCESS)).isEqualTo(1);
+        assertThat(stageCount("stock_check", "OUT_OF_STOCK")).isEqualTo(1);
+        assertThat(stageCount("total", StageMetrics.SUCCESS)).isEqualTo(1);
+        assertThat(stageCount("total", "OUT_OF_STOCK")).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("주문 조회 성공")
     void getOrderOrThrow_성공() {
@@ -270,4 +382,320 @@ class OrderServiceTest {
                 .isInstanceOf(OrderNotFoundException.class)
                 .hasMessageContaining("주문을 찾을 수 없습니다");
     }
+
+    @Test
+    @DisplayName("주문 조회 - 방금 생성한 주문은 주 DB에서, 그 외 주문은 라우팅 규칙대로 조회")
+    void getOrderOrThrow_최근생성주문_주DB조회() {
+        // given
+        ProductSnapshot product = ProductSnapshot.from(Product.builder()
+                .productId(1L)
+                .name("무선 청소기")
+                .basePrice(150000L)
+                .discountPrice(129000L)
+                .availableStock(10)
+                .available(true)
+                .build());
+        given(productService.getProductSnapshot(1L)).willReturn(product);
+        given(orderIdGenerator.nextId()).willReturn("ORD-20251205-000000000000001");
+        String createdOrderId = orderService.createOrder(
+                CreateOrderRequest.builder().userId(1L).productId(1L).quantity(2).build()).getOrderId();
+
+        List<Boolean> primaryForced = new ArrayList<>();
+        given(orderRepository.findById(any())).willAnswer(invocation -> {
+            primaryForced.add(DataSourceRouting.isPrimaryForced());
+            return Optional.of(Order.builder()
+                    .orderId(invocation.getArgument(0))
+                    .userId(1L)
+                    .productId(1L)
+                    .quantity(2)
+                    .totalAmount(258000L)
+                    .status(OrderStatus.PENDING_PAYMENT)
+                    .build());
+        });
+
+        // when
+        orderService.getOrderOrThrow(createdOrderId);
+        orderService.getOrderOrThrow("ORD-20251204-000000000000001");
+
+        // then
+        assertThat(primaryForced).containsExactly(true, false);
+        assertThat(DataSourceRouting.isPrimaryForced()).isFalse();
+    }
+
+    @Test
+    @DisplayName("주문 조회 API - 방금 생성한 주문은 DB 조회 없이 주문 캐시에서 반환")
+    void getOrder_생성직후_캐시조회() {
+        // given
+        ProductSnapshot product = ProductSnapshot.from(Product.builder()
+                .productId(1L)
+                .name("무선 청소기")
+                .basePrice(150000L)
+                .discountPrice(129000L)
+                .availableStock(10)
+                .available(true)
+                .build());
+        given(productService.getProductSnapshot(1L)).willReturn(product);
+        given(orderIdGenerator.nextId()).willReturn("ORD-20251205-000000000000001");
+        orderService.createOrder(CreateOrderRequest.builder().userId(1L).productId(1L).quantity(2).build());
+
+        // when
+        OrderResponse response = orderService.getOrder("ORD-20251205-000000000000001");
+
+        // then
+        assertThat(response.getOrderId()).isEqualTo("ORD-20251205-000000000000001");
+        assertThat(response.getUserId()).isEqualTo(1L);
+        assertThat(response.getTotalAmount()).isEqualTo(258000L);
+        assertThat(response.getStatus()).isEqualTo(OrderStatus.PENDING_PAYMENT);
+        verify(orderRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("주문 조회 API - 캐시에 없으면 DB에서 읽어 채우고, 다음 조회는 캐시에서 반환")
+    void getOrder_캐시미스_DB조회후캐시() {
+        // given
+        String orderId = "ORD-20251205-0001";
+        given(orderRepository.findById(orderId)).willReturn(Optional.of(Order.builder()
+                .orderId(orderId)
+                .userId(1L)
+                .productId(1L)
+                .quantity(2)
+                .totalAmount(258000L)
+                .status(OrderStatus.PAID)
+                .build()));
+
+        // when
+        OrderResponse first = orderService.getOrder(orderId);
+        OrderResponse second = orderService.getOrder(orderId);
+
+        // then
+        assertThat(first.getStatus()).isEqualTo(OrderStatus.PAID);
+        assertThat(second.getStatus()).isEqualTo(OrderStatus.PAID);
+        verify(orderRepository, times(1)).findById(orderId);
+    }
+
+    @Test
+    @DisplayName("주문 조회 API 실패 - 주문 없음 (캐시에 남기지 않음)")
+    void getOrder_실패() {
+        // given
+        String orderId = "ORD-99999999-9999";
+        given(orderRepository.findById(orderId)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> orderService.getOrder(orderId))
+                .isInstanceOf(OrderNotFoundException.class);
+        assertThat(orderSnapshotCache.get(orderId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("사용자 주문 목록 - 한 건 더 조회해 다음 페이지가 있으면 마지막 주문의 (createdAt, orderId) 커서를 반환")
+    void getUserOrders_다음페이지커서() {
+        // given
+        LocalDateTime base = LocalDateTime.of(2025, 12, 5, 10, 0);
+        given(orderRepository.findUserOrders(1L, Limit.of(3))).willReturn(List.of(
+                summary("ORD-20251205-0003", base.plusMinutes(2)),
+                summary("ORD-20251205-0002", base.plusMinutes(1)),
+                summary("ORD-20251205-0001", base)));
+        given(orderRepository.findUserOrdersBefore(1L, base.plusMinutes(1), "ORD-20251205-0002", Limit.of(3)))
+                .willReturn(List.of(summary("ORD-20251205-0001", base)));
+
+        // when
+        CursorPageResponse<OrderSummaryResponse> first = orderService.getUserOrders(1L, null, 2);
+        CursorPageResponse<OrderSummaryResponse> second = orderService.getUserOrders(1L, first.getNextCursor(), 2);
+
+        // then
+        assertThat(first.getItems()).extracting(OrderSummaryResponse::getOrderId)
+                .containsExactly("ORD-20251205-0003", "ORD-20251205-0002");
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(second.getItems()).extracting(OrderSummaryResponse::getOrderId)
+                .containsExactly("ORD-20251205-0001");
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("사용자 주문 목록 - 페이지 크기는 1 ~ MAX_PAGE_SIZE로 보정")
+    void getUserOrders_페이지크기보정() {
+        // given
+        given(orderRepository.findUserOrders(eq(1L), any(Limit.class))).willReturn(List.of());
+
+        // when
+        orderService.getUserOrders(1L, null, 0);
+        orderService.getUserOrders(1L, null, 10_000);
+
+        // then
+        verify(orderRepository).findUserOrders(1L, Limit.of(2));
+        verify(orderRepository).findUserOrders(1L, Limit.of(OrderService.MAX_PAGE_SIZE + 1));
+    }
+
+    @Test
+    @DisplayName("사용자 주문 목록 실패 - 해석할 수 없는 커서")
+    void getUserOrders_잘못된커서() {
+        // when & then
+        assertThatThrownBy(() -> orderService.getUserOrders(1L, "not-a-cursor", 20))
+                .isInstanceOf(InvalidCursorException.class);
+        verifyNoInteractions(orderRepository);
+    }
+
+    private static OrderSummary summary(String orderId, LocalDateTime createdAt) {
+        return new Summary(orderId, 1L, 2, 258000L, OrderStatus.PAID, createdAt);
+    }
+
+    @Test
+    @DisplayName("일괄 주문 생성 - 상품을 한 번에 조회하고 상품별 재고를 요청 순서대로 배정하여 부족한 항목만 실패")
+    void createOrders_상품별재고배정() {
+        // given: 상품 1은 재고 5, 상품 2는 판매 불가, 상품 999는 없음
+        ProductSnapshot product = ProductSnapshot.from(Product.builder()
+                .productId(1L)
+                .name("무선 청소기")
+                .basePrice(150000L)
+                .discountPrice(129000L)
+                .availableStock(5)
+                .available(true)
+                .build());
+        ProductSnapshot unavailable = ProductSnapshot.from(Product.builder()
+                .productId(2L)
+                .name("공기청정기")
+                .basePrice(300000L)
+                .discountPrice(250000L)
+                .availableStock(10)
+                .available(false)
+                .build());
+        given(productService.getProducts(List.of(1L, 1L, 2L, 999L, 1L)))
+                .willReturn(Map.of(1L, product, 2L, unavailable));
+        given(productService.getAvailableStock(product)).willReturn(5);
+        given(orderIdGenerator.nextId()).willReturn("ORD-20251205-000000000000001", "ORD-20251205-000000000000002");
+
+        List<BatchOrderItem> items = List.of(
+                item(0, 1L, 1L, 2),
+                item(1, 2L, 1L, 4),
+                item(2, 3L, 2L, 1),
+                item(4, 4L, 999L, 1),
+                item(5, 5L, 1L, 3));
+
+        // when
+        List<BatchOrderResult> results = orderService.createOrders(items);
+
+        // then: 상품 1은 2 + 3 = 5까지만 배정되고, 그 사이 4개 요청은 재고 부족
+        assertThat(results).extracting(BatchOrderResult::getIndex, BatchOrderResult::isCreated, BatchOrderResult::getErrorCode)
+                .containsExactly(
+                        tuple(0, true, null),
+                        tuple(1, false, "OUT_OF_STOCK"),
+                        tuple(2, false, "PRODUCT_NOT_AVAILABLE"),
+                        tuple(4, false, "PRODUCT_NOT_FOUND"),
+                        tuple(5, true, null));
+        assertThat(results.get(0).getTotalAmount()).isEqualTo(258000L);
+        assertThat(results.get(4).getOrderId()).isEqualTo("ORD-20251205-000000000000002");
+
+        verify(productService, never()).getProductSnapshot(any());
+        verify(stockReservationService).reserveAll(List.of(
+                new ReservationItem("ORD-20251205-000000000000001", 1L, 2),
+                new ReservationItem("ORD-20251205-000000000000002", 1L, 3)));
+        verify(stockReservationService, never()).reserve(any(), any(), anyInt());
+        verify(orderJdbcRepository).insertAll(argThat(orders -> orders.size() == 2));
+        verify(orderRepository, never()).save(any());
+        verify(orderHistoryRecorder, times(2)).record(any(), eq(OrderEventType.ORDER_CREATED), any());
+        assertThat(recentWriteTracker.isRecentlyWritten(RecentWriteTracker.userKey(5L))).isTrue();
+        assertThat(recentWriteTracker.isRecentlyWritten(RecentWriteTracker.userKey(2L))).isFalse();
+    }
+
+    @Test
+    @DisplayName("일괄 주문 생성 - 모든 항목이 실패하면 재고 예약과 주문 기록을 하지 않음")
+    void createOrders_전체실패() {
+        // given
+        given(productService.getProducts(List.of(999L))).willReturn(Map.of());
+
+        // when
+        List<BatchOrderResult> results = orderService.createOrders(List.of(item(0, 1L, 999L, 1)));
+
+        // then
+        assertThat(results).extracting(BatchOrderResult::getErrorCode).containsExactly("PRODUCT_NOT_FOUND");
+        verify(stockReservationService, never()).reserveAll(any());
+        verify(orderJdbcRepository, never()).insertAll(any());
+        verify(orderHistoryRecorder, never()).record(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("주문 만료 - 아직 결제 대기인 주문만 잠근 뒤 한 번의 UPDATE로 EXPIRED 전이하고 이력을 일괄 기록")
+    void expire_결제대기주문만_일괄전이() {
+        // given: 후보 3건 중 ORD-2는 이미 결제되어 잠금 조회에서 빠짐
+        Order pending1 = Order.builder().orderId("ORD-1").userId(7L).productId(1L).quantity(1).totalAmount(1000L)
+                .status(OrderStatus.PENDING_PAYMENT).build();
+        Order pending3 = Order.builder().orderId("ORD-3").userId(8L).productId(1L).quantity(1).totalAmount(1000L)
+                .status(OrderStatus.PENDING_PAYMENT).build();
+        List<String> candidates = List.of("ORD-1", "ORD-2", "ORD-3");
+        given(orderRepository.findAllByIdAndStatusForUpdate(candidates, OrderStatus.PENDING_PAYMENT))
+                .willReturn(List.of(pending1, pending3));
+        given(orderRepository.transitStatus(eq(List.of("ORD-1", "ORD-3")), eq(OrderStatus.PENDING_PAYMENT),
+                eq(OrderStatus.EXPIRED), any())).willReturn(2);
+
+        // when
+        orderService.expire(new OrdersExpiredEvent(candidates));
+
+        // then
+        verify(orderHistoryRecorder).recordAll(eq(List.of("ORD-1", "ORD-3")), eq(OrderEventType.ORDER_EXPIRED), any());
+        verify(orderHistoryRecorder, never()).record(any(), any(), any());
+        assertThat(orderSnapshotCache.get("ORD-1"))
+                .hasValueSatisfying(snapshot -> assertThat(snapshot.status()).isEqualTo(OrderStatus.EXPIRED));
+        assertThat(orderSnapshotCache.get("ORD-2")).isEmpty();
+        assertThat(recentWriteTracker.isRecentlyWritten(RecentWriteTracker.userKey(8L))).isTrue();
+    }
+
+    @Test
+    @DisplayName("주문 만료 - 결제가 진행 중인 주문은 만료시키지 않고 나중에 다시 확인하도록 등록")
+    void expire_결제진행중_제외() {
+        // given: ORD-2는 REQUESTED 결제가 기록되어 PG 결과를 기다리는 중
+        Order pending1 = Order.builder().orderId("ORD-1").userId(7L).productId(1L).quantity(1).totalAmount(1000L)
+                .status(OrderStatus.PENDING_PAYMENT).build();
+        Order paying2 = Order.builder().orderId("ORD-2").userId(8L).productId(1L).quantity(1).totalAmount(1000L)
+                .status(OrderStatus.PENDING_PAYMENT).build();
+        List<String> candidates = List.of("ORD-1", "ORD-2");
+        given(orderRepository.findAllByIdAndStatusForUpdate(candidates, OrderStatus.PENDING_PAYMENT))
+                .willReturn(List.of(pending1, paying2));
+        given(orderExpiryVeto.vetoedOrderIds(candidates)).willReturn(Set.of("ORD-2"));
+        given(orderRepository.transitStatus(eq(List.of("ORD-1")), eq(OrderStatus.PENDING_PAYMENT),
+                eq(OrderStatus.EXPIRED), any())).willReturn(1);
+
+        // when
+        orderService.expire(new OrdersExpiredEvent(candidates));
+
+        // then
+        verify(orderHistoryRecorder).recordAll(eq(List.of("ORD-1")), eq(OrderEventType.ORDER_EXPIRED), any());
+        verify(orderExpiryScheduler).recheckAfterCommit(Set.of("ORD-2"));
+        assertThat(orderSnapshotCache.get("ORD-2")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("주문 만료 - 결제 대기 주문이 없으면 UPDATE와 이력 기록을 하지 않음")
+    void expire_대상없음() {
+        // given
+        given(orderRepository.findAllByIdAndStatusForUpdate(List.of("ORD-1"), OrderStatus.PENDING_PAYMENT))
+                .willReturn(List.of());
+
+        // when
+        orderService.expire(new OrdersExpiredEvent(List.of("ORD-1")));
+
+        // then
+        verify(orderRepository, never()).transitStatus(any(), any(), any(), any());
+        verify(orderHistoryRecorder, never()).recordAll(any(), any(), any());
+    }
+
+    private static BatchOrderItem item(int index, Long userId, Long productId, int quantity) {
+        return new BatchOrderItem(index, CreateOrderRequest.builder()
+                .userId(userId)
+                .productId(productId)
+                .quantity(quantity)
+                .build());
+    }
+
+    private record Summary(String getOrderId, Long getProductId, Integer getQuantity, Long getTotalAmount,
+                           OrderStatus getStatus, LocalDateTime getCreatedAt) implements OrderSummary {
+    }
+
+    private long stageCount(String stage, String outcome) {
+        return meterRegistry.get("order.create.stage")
+                .tag("stage", stage)
+                .tag("outcome", outcome)
+                .timer()
+                .count();
+    }
 }
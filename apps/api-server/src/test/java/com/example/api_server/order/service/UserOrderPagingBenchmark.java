@@ -0,0 +1,134 @@
+package com.example.api_server.order.service;
+
+import com.example.api_server.common.dto.CursorPageResponse;
+import com.example.api_server.order.dto.OrderSummaryResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 사용자 주문 목록 페이지 깊이별 지연 벤치마크
+ * 전체 주문 benchmark.orders건 중 한 사용자에게 benchmark.user-orders건을 몰아 넣고,
+ * 그 사용자의 목록을 처음부터 끝까지 키셋 페이지(OrderService.getUserOrders)로 넘기며 깊이 구간별 페이지 지연을 기록
+ * 같은 깊이에서 OFFSET 페이지 조회와 비교하여, 키셋은 깊이와 무관하게 일정하고 OFFSET은 깊이에 비례함을 확인
+ *
+ * 실행: ./gradlew benchmark --tests '*UserOrderPagingBenchmark*' -PbenchmarkHeap=8g
+ *      (H2 인메모리 기준 1,000만 건은 약 6GB 필요, 작은 규모: -Dbenchmark.orders=1000000)
+ */
+@Tag("benchmark")
+@SpringBootTest
+@DisplayName("사용자 주문 목록 페이지 깊이별 지연 벤치마크")
+class UserOrderPagingBenchmark {
+
+    private static final int ORDERS = Integer.getInteger("benchmark.orders", 10_000_000);
+    private static final int USER_ORDERS = Integer.getInteger("benchmark.user-orders", 100_000);
+    private static final int PAGE_SIZE = Integer.getInteger("benchmark.page-size", 20);
+    private static final int OTHER_USERS = 100_000;
+    private static final int SEED_CHUNK = 10_000;
+    private static final long USER_ID = 1L;
+
+    /**
+     * 지연을 비교할 페이지 깊이 구간 (전체 페이지 대비 비율)
+     */
+    private static final double[] DEPTHS = {0.0, 0.1, 0.5, 0.9, 0.999};
+    private static final int PAGES_PER_DEPTH = 20;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("키셋 페이지 지연은 깊이와 무관하게 일정하다")
+    void keysetVsOffset() {
+        seed();
+
+        // 워밍업: 전체 페이지를 한 번 넘김
+        walk();
+        long[] pageNanos = walk();
+        int pages = pageNanos.length;
+        assertThat(pages).isEqualTo((USER_ORDERS + PAGE_SIZE - 1) / PAGE_SIZE);
+
+        System.out.printf("[user-orders] orders: %d, user orders: %d, page size: %d, pages: %d%n",
+                ORDERS, USER_ORDERS, PAGE_SIZE, pages);
+        for (double depth : DEPTHS) {
+            int from = Math.min((int) (pages * depth), pages - PAGES_PER_DEPTH);
+            long[] keyset = Arrays.copyOfRange(pageNanos, from, from + PAGES_PER_DEPTH);
+            long[] offset = IntStream.range(from, from + PAGES_PER_DEPTH)
+                    .mapToLong(page -> timeOffsetPage(page * PAGE_SIZE))
+                    .toArray();
+            System.out.printf("[user-orders] page %6d~%6d - keyset p50: %7.3fms, offset p50: %8.3fms%n",
+                    from + 1, from + PAGES_PER_DEPTH, p50Millis(keyset), p50Millis(offset));
+        }
+    }
+
+    /**
+     * 대상 사용자는 1초 간격, 나머지는 OTHER_USERS명에게 나눠 같은 기간에 분포
+     */
+    private void seed() {
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+        long start = System.nanoTime();
+        for (int from = 0; from < ORDERS; from += SEED_CHUNK) {
+            List<Integer> chunk = IntStream.range(from, Math.min(from + SEED_CHUNK, ORDERS)).boxed().toList();
+            jdbcTemplate.batchUpdate("INSERT INTO orders (order_id, user_id, product_id, quantity, total_amount, "
+                            + "status, created_at, updated_at) VALUES (?, ?, ?, 1, 9000, 'PAID', ?, ?)",
+                    chunk, chunk.size(), (ps, i) -> {
+                        boolean target = i < USER_ORDERS;
+                        Timestamp createdAt = Timestamp.valueOf(target
+                                ? base.plusSeconds(i)
+                                : base.plusSeconds((long) (i - USER_ORDERS) * USER_ORDERS / Math.max(ORDERS - USER_ORDERS, 1)));
+                        ps.setString(1, "ORD-BENCH-%012d".formatted(i));
+                        ps.setLong(2, target ? USER_ID : USER_ID + 1 + i % OTHER_USERS);
+                        ps.setLong(3, i % 1_000 + 1);
+                        ps.setTimestamp(4, createdAt);
+                        ps.setTimestamp(5, createdAt);
+                    });
+        }
+        jdbcTemplate.execute("ANALYZE");
+        System.out.printf("[user-orders] seeded %d orders in %ds%n",
+                ORDERS, TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start));
+    }
+
+    /**
+     * 첫 페이지부터 마지막 페이지까지 키셋으로 넘기며 페이지별 지연 기록
+     */
+    private long[] walk() {
+        List<Long> nanos = new ArrayList<>();
+        String cursor = null;
+        do {
+            long start = System.nanoTime();
+            CursorPageResponse<OrderSummaryResponse> page = orderService.getUserOrders(USER_ID, cursor, PAGE_SIZE);
+            nanos.add(System.nanoTime() - start);
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return nanos.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private long timeOffsetPage(int offset) {
+        long start = System.nanoTime();
+        jdbcTemplate.queryForList("SELECT order_id, product_id, quantity, total_amount, status, created_at "
+                        + "FROM orders WHERE user_id = ? ORDER BY user_id, created_at DESC, order_id DESC LIMIT ? OFFSET ?",
+                USER_ID, PAGE_SIZE, offset);
+        return System.nanoTime() - start;
+    }
+
+    private static double p50Millis(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2] / 1e6;
+    }
+}
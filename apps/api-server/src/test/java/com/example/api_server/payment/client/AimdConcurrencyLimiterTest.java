@@ -0,0 +1,168 @@
+package com.example.api_server.payment.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("AimdConcurrencyLimiter 테스트")
+class AimdConcurrencyLimiterTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    @DisplayName("한도에 도달하면 거절하고, 반납하면 다시 허용한다")
+    void 한도도달_거절() {
+        // given
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(2, 1, 10, 0.5, 2.0, 100);
+
+        // when & then
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        limiter.onSample(10 * MS, false);
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("응답이 빠르고 한도를 충분히 쓰고 있으면 한도를 1씩 늘린다")
+    void 가산증가() {
+        // given
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(4, 1, 10, 0.5, 2.0, 100);
+
+        // when: 한도(4)의 절반 이상인 2건이 진행 중일 때 기준과 같은 응답 시간
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        limiter.onSample(10 * MS, false);
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("한가할 때는 응답이 빨라도 한도를 늘리지 않는다")
+    void 한가할때_유지() {
+        // given
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(10, 1, 20, 0.5, 2.0, 100);
+
+        // when
+        limiter.tryAcquire();
+        limiter.onSample(10 * MS, false);
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("최근 응답 시간 평균이 기준의 허용 배율을 넘으면 한도를 비율만큼 줄인다")
+    void 지연증가_승산감소() {
+        // given: 10ms 기준이 잡힘
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(10, 2, 20, 0.5, 2.0, 100);
+        for (int i = 0; i < 200; i++) {
+            sample(limiter, 10 * MS);
+        }
+
+        // when: 응답 시간이 10배로 늘어남
+        for (int i = 0; i < 3; i++) {
+            sample(limiter, 100 * MS);
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("혼잡 신호가 이어져도 한 윈도(한도만큼의 호출) 동안에는 한 번만 줄인다")
+    void 혼잡지속_윈도당한번감소() {
+        // given
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(10, 1, 20, 0.9, 2.0, 100);
+        for (int i = 0; i < 200; i++) {
+            sample(limiter, 10 * MS);
+        }
+
+        // when: 줄인 뒤 한도(9)보다 적은 혼잡 표본
+        for (int i = 0; i < 10; i++) {
+            sample(limiter, 100 * MS);
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(9);
+
+        // when: 한 윈도가 지나도록 혼잡이 이어짐
+        for (int i = 0; i < 5; i++) {
+            sample(limiter, 100 * MS);
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("응답 시간이 300ms ~ 3s로 고르게 퍼진 정상 PG에서는 한도가 최소 한도로 떨어지지 않는다")
+    void 응답시간편차_정상_한도유지() {
+        // given
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(20, 4, 50, 0.9, 2.0, 1000);
+        Random random = new Random(42);
+
+        // when: 한도만큼 동시에 호출하고 모두 반납하기를 반복
+        for (int round = 0; round < 200; round++) {
+            int acquired = 0;
+            while (limiter.tryAcquire()) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                limiter.onSample((300 + random.nextInt(2701)) * MS, false);
+            }
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isGreaterThanOrEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("실패한 호출은 응답 시간과 관계없이 한도를 줄이되 최소 한도 아래로는 내리지 않는다")
+    void 실패_최소한도() {
+        // given
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(3, 2, 20, 0.5, 2.0, 100);
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire();
+            limiter.onSample(MS, true);
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("기준 응답 시간은 장기 평균이라 PG 응답 특성이 바뀌면 따라가고 더 이상 줄이지 않는다")
+    void 기준응답시간_갱신() {
+        // given: 10ms 기준이 잡힌 뒤 PG 응답 특성이 30ms로 바뀜
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(10, 1, 20, 0.9, 2.0, 20);
+        for (int i = 0; i < 40; i++) {
+            sample(limiter, 10 * MS);
+        }
+        for (int i = 0; i < 100; i++) {
+            sample(limiter, 30 * MS);
+        }
+        int adapted = limiter.getLimit();
+
+        // when: 새 기준(30ms)에서는 30ms 응답이 혼잡이 아님
+        for (int i = 0; i < 20; i++) {
+            sample(limiter, 30 * MS);
+        }
+
+        // then
+        assertThat(adapted).isGreaterThan(1);
+        assertThat(limiter.getLimit()).isEqualTo(adapted);
+    }
+
+    private void sample(AimdConcurrencyLimiter limiter, long rttNanos) {
+        limiter.tryAcquire();
+        limiter.onSample(rttNanos, false);
+    }
+}
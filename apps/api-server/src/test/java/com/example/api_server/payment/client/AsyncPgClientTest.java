@@ -0,0 +1,147 @@
+package com.example.api_server.payment.client;
+
+import com.example.api_server.common.concurrent.VirtualThreads;
+import com.example.api_server.common.exception.PgBulkheadFullException;
+import com.example.api_server.common.exception.PgTimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("AsyncPgClient 테스트")
+class AsyncPgClientTest {
+
+    private AsyncPgClient asyncPgClient;
+
+    @AfterEach
+    void tearDown() {
+        if (asyncPgClient != null) {
+            asyncPgClient.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("PG 결과로 완료되고 허가를 반납한다")
+    void approveAsync_성공() throws Exception {
+        // given
+        asyncPgClient = client((paymentKey, orderId, amount) -> PgApprovalResult.success(), Duration.ofSeconds(1), 2);
+
+        // when
+        PgApprovalResult result = asyncPgClient.approveAsync("PAY-KEY", "ORD-1", 1000L).get(1, TimeUnit.SECONDS);
+
+        // then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(asyncPgClient.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 응답이 없으면 PgTimeoutException으로 완료하고 호출을 인터럽트한다")
+    void approveAsync_제한시간초과() throws Exception {
+        // given
+        AtomicBoolean interrupted = new AtomicBoolean();
+        CountDownLatch finished = new CountDownLatch(1);
+        asyncPgClient = client((paymentKey, orderId, amount) -> {
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            } finally {
+                finished.countDown();
+            }
+            return PgApprovalResult.success();
+        }, Duration.ofMillis(100), 1);
+
+        // when
+        CompletableFuture<PgApprovalResult> future = asyncPgClient.approveAsync("PAY-KEY", "ORD-1", 1000L);
+
+        // then
+        assertThatThrownBy(() -> future.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(PgTimeoutException.class);
+        assertThat(finished.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(interrupted).isTrue();
+        awaitPermits(1);
+    }
+
+    @Test
+    @DisplayName("동시 호출 한도에 도달하면 기다리지 않고 PgBulkheadFullException으로 거절한다")
+    void approveAsync_벌크헤드초과() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        asyncPgClient = client((paymentKey, orderId, amount) -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return PgApprovalResult.success();
+        }, Duration.ofSeconds(5), 2);
+        CompletableFuture<PgApprovalResult> first = asyncPgClient.approveAsync("PAY-KEY", "ORD-1", 1000L);
+        CompletableFuture<PgApprovalResult> second = asyncPgClient.approveAsync("PAY-KEY", "ORD-2", 1000L);
+
+        // when
+        CompletableFuture<PgApprovalResult> rejected = asyncPgClient.approveAsync("PAY-KEY", "ORD-3", 1000L);
+
+        // then
+        assertThat(rejected).isCompletedExceptionally();
+        assertThatThrownBy(rejected::join).hasCauseInstanceOf(PgBulkheadFullException.class);
+
+        release.countDown();
+        assertThat(first.get(1, TimeUnit.SECONDS).isSuccess()).isTrue();
+        assertThat(second.get(1, TimeUnit.SECONDS).isSuccess()).isTrue();
+        awaitPermits(2);
+    }
+
+    @Test
+    @DisplayName("PG 호출 예외는 감싸지 않고 그대로 전달한다")
+    void approveAsync_호출예외() {
+        // given
+        asyncPgClient = client((paymentKey, orderId, amount) -> {
+            throw new IllegalStateException("connection reset");
+        }, Duration.ofSeconds(1), 1);
+
+        // when
+        CompletableFuture<PgApprovalResult> future = asyncPgClient.approveAsync("PAY-KEY", "ORD-1", 1000L);
+
+        // then
+        assertThatThrownBy(() -> future.get(1, TimeUnit.SECONDS))
+                .hasCauseExactlyInstanceOf(IllegalStateException.class);
+    }
+
+    private AsyncPgClient client(ApproveFunction approve, Duration timeout, int maxConcurrentCalls) {
+        PgClient pgClient = new PgClient() {
+            @Override
+            public PgApprovalResult approve(String paymentKey, String orderId, Long amount) {
+                return approve.approve(paymentKey, orderId, amount);
+            }
+
+            @Override
+            public Optional<PgApprovalResult> inquire(String paymentKey, String orderId) {
+                return Optional.empty();
+            }
+        };
+        return new AsyncPgClient(pgClient, VirtualThreads.newPerTaskExecutor("test-pg-"), timeout, maxConcurrentCalls);
+    }
+
+    private void awaitPermits(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 1_000;
+        while (asyncPgClient.availablePermits() != expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(asyncPgClient.availablePermits()).isEqualTo(expected);
+    }
+
+    @FunctionalInterface
+    private interface ApproveFunction {
+        PgApprovalResult approve(String paymentKey, String orderId, Long amount);
+    }
+}
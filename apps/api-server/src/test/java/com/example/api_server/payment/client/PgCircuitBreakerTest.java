@@ -0,0 +1,128 @@
+package com.example.api_server.payment.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("PgCircuitBreaker 테스트")
+class PgCircuitBreakerTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private PgCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        // 윈도우 10건, 최소 4건, 실패율 50%, 열림 1초, 시험 호출 2건
+        circuitBreaker = new PgCircuitBreaker(10, 4, 50, Duration.ofSeconds(1), 2, nanos::get);
+    }
+
+    @Test
+    @DisplayName("최소 호출 수에 도달하기 전에는 실패해도 회로를 열지 않는다")
+    void 최소호출수_미만() {
+        // when
+        fail(3);
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(PgCircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("실패율이 임계치 이상이면 회로를 열고 호출을 거절한다")
+    void 실패율초과_회로열림() {
+        // when
+        succeed(2);
+        fail(2);
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(PgCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("윈도우에서 밀려난 오래된 실패는 실패율에서 빠진다")
+    void 슬라이딩윈도우() {
+        // given
+        fail(1);
+        succeed(9);
+        assertThat(circuitBreaker.getFailureRate()).isEqualTo(10f);
+
+        // when
+        succeed(1);
+
+        // then
+        assertThat(circuitBreaker.getFailureRate()).isZero();
+    }
+
+    @Test
+    @DisplayName("열림 시간이 지나면 시험 호출만 허용하고, 모두 성공하면 회로를 닫는다")
+    void 반열림_성공시_닫힘() {
+        // given
+        fail(4);
+        nanos.addAndGet(Duration.ofSeconds(1).toNanos());
+
+        // when
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(PgCircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.getFailureRate()).isZero();
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 회로를 다시 열고 열림 시간을 새로 시작한다")
+    void 반열림_실패시_다시열림() {
+        // given
+        fail(4);
+        nanos.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+
+        // when
+        circuitBreaker.onFailure();
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(PgCircuitBreaker.State.OPEN);
+        nanos.addAndGet(Duration.ofMillis(999).toNanos());
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("호출하지 않고 반납한 시험 호출 허가는 다시 쓸 수 있다")
+    void 반열림_허가반납() {
+        // given
+        fail(4);
+        nanos.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+
+        // when
+        circuitBreaker.release();
+
+        // then
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    private void succeed(int times) {
+        for (int i = 0; i < times; i++) {
+            assertThat(circuitBreaker.tryAcquire()).isTrue();
+            circuitBreaker.onSuccess();
+        }
+    }
+
+    private void fail(int times) {
+        for (int i = 0; i < times; i++) {
+            assertThat(circuitBreaker.tryAcquire()).isTrue();
+            circuitBreaker.onFailure();
+        }
+    }
+}
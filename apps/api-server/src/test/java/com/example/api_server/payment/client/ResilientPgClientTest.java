@@ -0,0 +1,128 @@
+package com.example.api_server.payment.client;
+
+import com.example.api_server.common.exception.PgBulkheadFullException;
+import com.example.api_server.common.exception.PgUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("ResilientPgClient 테스트")
+@ExtendWith(MockitoExtension.class)
+class ResilientPgClientTest {
+
+    @Mock
+    private PgClient delegate;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ResilientPgClient client;
+
+    @BeforeEach
+    void setUp() {
+        PgCircuitBreaker circuitBreaker = new PgCircuitBreaker(4, 4, 50, Duration.ofSeconds(10), 1, nanos::get);
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(4, 1, 8, 0.5, 2.0, 100);
+        client = new ResilientPgClient(delegate, circuitBreaker, limiter, Set.of("PG_SYSTEM_ERROR"),
+                Duration.ofSeconds(1), meterRegistry, nanos::get);
+    }
+
+    @Test
+    @DisplayName("시스템 오류 결과 코드가 임계치를 넘으면 회로를 열고 PG를 호출하지 않고 즉시 실패한다")
+    void 시스템오류_회로열림() {
+        // given
+        given(delegate.approve(any(), any(), any()))
+                .willReturn(PgApprovalResult.failure("PG_SYSTEM_ERROR", "시스템 오류"));
+        for (int i = 0; i < 4; i++) {
+            client.approve("PAY-KEY", "ORD-" + i, 1000L);
+        }
+
+        // when & then
+        assertThat(client.getCircuitState()).isEqualTo(PgCircuitBreaker.State.OPEN);
+        nanos.addAndGet(Duration.ofMillis(2500).toNanos());
+        assertThatThrownBy(() -> client.approve("PAY-KEY", "ORD-5", 1000L))
+                .isInstanceOfSatisfying(PgUnavailableException.class, e -> {
+                    assertThat(e.getErrorCode()).isEqualTo("PG_UNAVAILABLE");
+                    assertThat(e.getRetryAfterSeconds()).isEqualTo(8);
+                });
+        verify(delegate, times(4)).approve(any(), any(), any());
+        assertThat(meterRegistry.get("pg.circuit.state").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("pg.calls.rejected").tag("reason", "circuit_open").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("업무 거절(유효하지 않은 결제 키 등)은 PG 정상 응답이므로 회로를 열지 않는다")
+    void 업무거절_회로유지() {
+        // given
+        given(delegate.approve(any(), any(), any()))
+                .willReturn(PgApprovalResult.failure("PG_INVALID_KEY", "유효하지 않은 결제 키입니다."));
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            client.approve("FAIL-KEY", "ORD-" + i, 1000L);
+        }
+
+        // then
+        assertThat(client.getCircuitState()).isEqualTo(PgCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("호출 예외와 느린 호출도 실패로 집계한다")
+    void 예외와_느린호출_실패집계() {
+        // given
+        given(delegate.approve(any(), eq("ORD-ERR"), any())).willThrow(new IllegalStateException("connection reset"));
+        given(delegate.approve(any(), eq("ORD-SLOW"), any())).willAnswer(invocation -> {
+            nanos.addAndGet(Duration.ofSeconds(2).toNanos());
+            return PgApprovalResult.success();
+        });
+
+        // when
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> client.approve("PAY-KEY", "ORD-ERR", 1000L))
+                    .isInstanceOf(IllegalStateException.class);
+            assertThat(client.approve("PAY-KEY", "ORD-SLOW", 1000L).isSuccess()).isTrue();
+        }
+
+        // then
+        assertThat(client.getCircuitState()).isEqualTo(PgCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("동시 호출 한도에 도달하면 PG를 호출하지 않고 PgBulkheadFullException으로 거절한다")
+    void 동시호출한도_거절() {
+        // given: PG 호출 도중 한도(4)를 모두 채운 상태에서 추가 호출
+        AtomicLong rejected = new AtomicLong();
+        given(delegate.approve(any(), any(), any())).willAnswer(invocation -> {
+            String orderId = invocation.getArgument(1);
+            int depth = Integer.parseInt(orderId.substring(4));
+            if (depth <= 4) {
+                try {
+                    client.approve("PAY-KEY", "ORD-" + (depth + 1), 1000L);
+                } catch (PgBulkheadFullException e) {
+                    rejected.incrementAndGet();
+                }
+            }
+            return PgApprovalResult.success();
+        });
+
+        // when
+        client.approve("PAY-KEY", "ORD-1", 1000L);
+
+        // then
+        assertThat(rejected).hasValue(1);
+        verify(delegate, times(4)).approve(any(), any(), any());
+        assertThat(meterRegistry.get("pg.calls.rejected").tag("reason", "limit").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("pg.concurrency.in.flight").gauge().value()).isZero();
+    }
+}
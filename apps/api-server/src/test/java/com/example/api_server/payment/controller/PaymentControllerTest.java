@@ -0,0 +1,66 @@
+package com.example.api_server.payment.controller;
+
+import com.example.api_server.common.exception.GlobalExceptionHandler;
+import com.example.api_server.common.exception.PgUnavailableException;
+import com.example.api_server.payment.dto.ApprovePaymentRequest;
+import com.example.api_server.payment.service.PaymentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("PaymentController 테스트")
+@ExtendWith(MockitoExtension.class)
+class PaymentControllerTest {
+
+    @Mock
+    private PaymentService paymentService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new PaymentController(paymentService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @DisplayName("결제 승인 - PG 서킷이 열려 있으면 재시도 가능한 503과 Retry-After 헤더로 응답")
+    void approvePayment_서킷오픈_503() throws Exception {
+        // given
+        given(paymentService.approvePaymentAsync(any(ApprovePaymentRequest.class)))
+                .willReturn(CompletableFuture.failedFuture(new PgUnavailableException(Duration.ofSeconds(7))));
+
+        // when
+        MvcResult started = mockMvc.perform(post("/api/payments/approve")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"orderId": "ORD-20251205-0001", "paymentKey": "PAY-KEY-12345", "amount": 258000}
+                                """))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "7"))
+                .andExpect(jsonPath("$.code").value("PG_UNAVAILABLE"));
+    }
+}
@@ -6,8 +6,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -74,4 +76,45 @@ class PaymentRepositoryTest {
         // then
         assertThat(found).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("같은 orderId로 결제를 두 번 저장하면 유니크 제약 위반이다")
+    void save_같은주문_중복저장_실패() {
+        // given
+        paymentRepository.saveAndFlush(Payment.builder()
+                .orderId("ORD-20251204-0001")
+                .paymentKey("pay_abc123")
+                .amount(258000L)
+                .status(PaymentStatus.REQUESTED)
+                .build());
+
+        // when & then
+        assertThatThrownBy(() -> paymentRepository.saveAndFlush(Payment.builder()
+                .orderId("ORD-20251204-0001")
+                .paymentKey("pay_def456")
+                .amount(258000L)
+                .status(PaymentStatus.REQUESTED)
+                .build()))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("지정한 주문 중 해당 상태의 결제가 있는 주문 ID만 조회한다")
+    void findOrderIdsByStatusAndOrderIdIn_성공() {
+        // given
+        paymentRepository.save(Payment.builder().orderId("ORD-20251204-0001").paymentKey("pay_1")
+                .amount(1000L).status(PaymentStatus.REQUESTED).build());
+        paymentRepository.save(Payment.builder().orderId("ORD-20251204-0002").paymentKey("pay_2")
+                .amount(1000L).status(PaymentStatus.APPROVED).build());
+        paymentRepository.save(Payment.builder().orderId("ORD-20251204-0003").paymentKey("pay_3")
+                .amount(1000L).status(PaymentStatus.REQUESTED).build());
+        paymentRepository.flush();
+
+        // when
+        List<String> found = paymentRepository.findOrderIdsByStatusAndOrderIdIn(PaymentStatus.REQUESTED,
+                List.of("ORD-20251204-0001", "ORD-20251204-0002", "ORD-20251204-0004"));
+
+        // then
+        assertThat(found).containsExactly("ORD-20251204-0001");
+    }
+}
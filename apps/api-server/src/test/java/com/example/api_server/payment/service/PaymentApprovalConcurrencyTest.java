@@ -0,0 +1,122 @@
+package com.example.api_server.payment.service;
+
+import com.example.api_server.order.dto.CreateOrderRequest;
+import com.example.api_server.order.service.OrderService;
+import com.example.api_server.payment.client.PgApprovalResult;
+import com.example.api_server.payment.client.PgClient;
+import com.example.api_server.payment.domain.PaymentStatus;
+import com.example.api_server.payment.dto.ApprovePaymentRequest;
+import com.example.api_server.payment.dto.ApprovePaymentResponse;
+import com.example.api_server.payment.repository.PaymentRepository;
+import com.example.api_server.product.domain.Product;
+import com.example.api_server.product.repository.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@SpringBootTest
+@DisplayName("결제 승인 동시성 테스트")
+class PaymentApprovalConcurrencyTest {
+
+    private static final int ORDERS = 3;
+    private static final int APPROVALS_PER_ORDER = 100;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @MockitoBean
+    private PgClient pgClient;
+
+    @Test
+    @DisplayName("같은 주문에 100건의 승인이 동시에 들어와도 PG는 주문당 한 번만 호출되고 모두 같은 결과를 받는다")
+    void approvePayment_동시중복승인_PG한번호출() throws Exception {
+        // given
+        Long productId = productRepository.save(Product.builder()
+                .name("중복 승인 테스트 상품")
+                .basePrice(10000L)
+                .discountPrice(9000L)
+                .availableStock(ORDERS)
+                .available(true)
+                .build()).getProductId();
+        List<String> orderIds = new ArrayList<>();
+        for (int i = 0; i < ORDERS; i++) {
+            orderIds.add(orderService.createOrder(CreateOrderRequest.builder()
+                    .userId(1L)
+                    .productId(productId)
+                    .quantity(1)
+                    .build()).getOrderId());
+        }
+
+        Map<String, AtomicInteger> pgCalls = new ConcurrentHashMap<>();
+        given(pgClient.approve(any(), any(), any())).willAnswer(invocation -> {
+            pgCalls.computeIfAbsent(invocation.getArgument(1), key -> new AtomicInteger()).incrementAndGet();
+            Thread.sleep(50); // PG 응답 지연 동안 중복 요청이 몰리도록
+            return PgApprovalResult.success();
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ApprovePaymentResponse>> results = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < APPROVALS_PER_ORDER; i++) {
+            for (String orderId : orderIds) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return paymentService.approvePayment(ApprovePaymentRequest.builder()
+                            .orderId(orderId)
+                            .paymentKey("PAY-KEY-" + orderId)
+                            .amount(9000L)
+                            .build());
+                }));
+            }
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        for (String orderId : orderIds) {
+            assertThat(pgCalls.get(orderId)).hasValue(1);
+        }
+        Map<String, Long> paymentIds = new ConcurrentHashMap<>();
+        for (Future<ApprovePaymentResponse> result : results) {
+            ApprovePaymentResponse response = result.get();
+            assertThat(response.getPaymentStatus()).isEqualTo(PaymentStatus.APPROVED);
+            Long winner = paymentIds.putIfAbsent(response.getOrderId(), response.getPaymentId());
+            if (winner != null) {
+                assertThat(response.getPaymentId()).isEqualTo(winner);
+            }
+        }
+        for (String orderId : orderIds) {
+            assertThat(paymentRepository.findByOrderId(orderId)).isPresent()
+                    .get().extracting("id").isEqualTo(paymentIds.get(orderId));
+        }
+    }
+}
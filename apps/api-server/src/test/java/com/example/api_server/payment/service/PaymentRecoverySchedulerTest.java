@@ -0,0 +1,53 @@
+package com.example.api_server.payment.service;
+
+import com.example.api_server.payment.domain.Payment;
+import com.example.api_server.payment.domain.PaymentStatus;
+import com.example.api_server.payment.repository.PaymentRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("PaymentRecoveryScheduler 테스트")
+class PaymentRecoverySchedulerTest {
+
+    private final PaymentRepository paymentRepository = mock(PaymentRepository.class);
+    private final PaymentService paymentService = mock(PaymentService.class);
+    private final PaymentRecoveryScheduler scheduler =
+            new PaymentRecoveryScheduler(paymentRepository, paymentService, Duration.ofMinutes(5), 100);
+
+    @Test
+    @DisplayName("한 건의 복구가 실패해도 나머지 결제를 계속 복구한다")
+    void recoverStalePayments_실패건_건너뜀() {
+        // given
+        Payment first = payment(1L);
+        Payment second = payment(2L);
+        given(paymentRepository.findByStatusAndCreatedAtBeforeOrderByCreatedAtAsc(
+                eq(PaymentStatus.REQUESTED), any(LocalDateTime.class), eq(Limit.of(100))))
+                .willReturn(List.of(first, second));
+        willThrow(new IllegalStateException("PG inquiry timeout")).given(paymentService).recoverPayment(first);
+
+        // when
+        scheduler.recoverStalePayments();
+
+        // then
+        verify(paymentService).recoverPayment(second);
+    }
+
+    private Payment payment(Long id) {
+        return Payment.builder()
+                .id(id)
+                .orderId("ORD-20251205-000" + id)
+                .paymentKey("PAY-KEY-" + id)
+                .amount(10000L)
+                .status(PaymentStatus.REQUESTED)
+                .build();
+    }
+}
@@ -1,15 +1,24 @@
 package com.example.api_server.payment.service;
 
+import com.example.api_server.common.datasource.RecentWriteTracker;
 import com.example.api_server.common.exception.AmountMismatchException;
 import com.example.api_server.common.exception.OrderNotPayableException;
+import com.example.api_server.common.exception.OutOfStockException;
 import com.example.api_server.common.exception.PaymentAlreadyApprovedException;
+import com.example.api_server.common.exception.PaymentInProgressException;
+import com.example.api_server.common.exception.PgBulkheadFullException;
+import com.example.api_server.common.exception.PgUnavailableException;
+import com.example.api_server.common.exception.PgTimeoutException;
+import com.example.api_server.common.metrics.StageMetrics;
+import com.example.api_server.order.cache.OrderSnapshot;
+import com.example.api_server.order.cache.OrderSnapshotCache;
 import com.example.api_server.order.domain.Order;
 import com.example.api_server.order.domain.OrderEventType;
-import com.example.api_server.order.domain.OrderHistory;
+import com.example.api_server.order.history.OrderHistoryRecorder;
 import com.example.api_server.order.domain.OrderStatus;
-import com.example.api_server.order.repository.OrderHistoryRepository;
 import com.example.api_server.order.repository.OrderRepository;
 import com.example.api_server.order.service.OrderService;
+import com.example.api_server.payment.client.AsyncPgClient;
 import com.example.api_server.payment.client.PgApprovalResult;
 import com.example.api_server.payment.client.PgClient;
 import com.example.api_server.payment.domain.Payment;
@@ -17,16 +26,23 @@ import com.example.api_server.payment.domain.PaymentStatus;
 import com.example.api_server.payment.dto.ApprovePaymentRequest;
 import com.example.api_server.payment.dto.ApprovePaymentResponse;
 import com.example.api_server.payment.repository.PaymentRepository;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.api_server.reservation.service.StockReservationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -43,23 +59,47 @@ class PaymentServiceTest {
     private OrderRepository orderRepository;
 
     @Mock
-    private OrderHistoryRepository orderHistoryRepository;
+    private OrderHistoryRecorder orderHistoryRecorder;
 
     @Mock
     private OrderService orderService;
 
+    @Mock
+    private StockReservationService stockReservationService;
+
     @Mock
     private PgClient pgClient;
 
     @Mock
-    private ObjectMapper objectMapper;
+    private AsyncPgClient asyncPgClient;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private StageMetrics stageMetrics = new StageMetrics(meterRegistry);
+
+    @Spy
+    private RecentWriteTracker recentWriteTracker = new RecentWriteTracker(true, Duration.ofSeconds(2));
+
+    @Spy
+    private OrderSnapshotCache orderSnapshotCache = new OrderSnapshotCache(100, Duration.ofMinutes(2), meterRegistry);
 
     @InjectMocks
     private PaymentService paymentService;
 
+    @BeforeEach
+    void setUp() {
+        // 트랜잭션 템플릿은 콜백을 그대로 실행
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
     @Test
     @DisplayName("BE_UT_03: 결제 승인 성공")
-    void approvePayment_성공() throws Exception {
+    void approvePayment_성공() {
         // given
         ApprovePaymentRequest request = ApprovePaymentRequest.builder()
                 .orderId("ORD-20251205-0001")
@@ -88,12 +128,13 @@ class PaymentServiceTest {
 
         PgApprovalResult pgResult = PgApprovalResult.success();
 
+        given(orderService.getOrderForUpdate("ORD-20251205-0001")).willReturn(order);
         given(orderService.getOrderOrThrow("ORD-20251205-0001")).willReturn(order);
         given(paymentRepository.findByOrderId("ORD-20251205-0001")).willReturn(Optional.empty());
         given(pgClient.approve("PAY-KEY-12345", "ORD-20251205-0001", 258000L)).willReturn(pgResult);
         given(paymentRepository.save(any(Payment.class))).willReturn(payment);
+        given(paymentRepository.findByIdForUpdate(1L)).willReturn(Optional.of(requestedPayment("PAY-KEY-12345")));
         given(orderRepository.save(any(Order.class))).willReturn(order);
-        given(objectMapper.writeValueAsString(any())).willReturn("{\"orderId\":\"ORD-20251205-0001\"}");
 
         // when
         ApprovePaymentResponse response = paymentService.approvePayment(request);
@@ -109,22 +150,22 @@ class PaymentServiceTest {
 
         // verify
         verify(pgClient).approve("PAY-KEY-12345", "ORD-20251205-0001", 258000L);
-        verify(paymentRepository).save(any(Payment.class));
+        verify(stockReservationService).confirm("ORD-20251205-0001", 1L, 2);
+        verify(paymentRepository, times(2)).save(any(Payment.class)); // REQUESTED 기록 + APPROVED 반영
         verify(orderRepository).save(any(Order.class));
 
         // Order 상태 변경 검증
         assertThat(order.getStatus()).isEqualTo(OrderStatus.PAID);
+        assertThat(orderSnapshotCache.get("ORD-20251205-0001")).get()
+                .extracting(OrderSnapshot::status).isEqualTo(OrderStatus.PAID);
 
         // OrderHistory 검증
-        ArgumentCaptor<OrderHistory> historyCaptor = ArgumentCaptor.forClass(OrderHistory.class);
-        verify(orderHistoryRepository).save(historyCaptor.capture());
-        OrderHistory savedHistory = historyCaptor.getValue();
-        assertThat(savedHistory.getEventType()).isEqualTo(OrderEventType.PAYMENT_APPROVED);
+        verify(orderHistoryRecorder).record(eq("ORD-20251205-0001"), eq(OrderEventType.PAYMENT_APPROVED), any());
     }
 
     @Test
     @DisplayName("BE_UT_04: 결제 승인 - PG 실패로 거절")
-    void approvePayment_PG실패() throws Exception {
+    void approvePayment_PG실패() {
         // given
         ApprovePaymentRequest request = ApprovePaymentRequest.builder()
                 .orderId("ORD-20251205-0001")
@@ -153,12 +194,13 @@ class PaymentServiceTest {
 
         PgApprovalResult pgResult = PgApprovalResult.failure("PG_INVALID_KEY", "유효하지 않은 결제 키입니다.");
 
+        given(orderService.getOrderForUpdate("ORD-20251205-0001")).willReturn(order);
         given(orderService.getOrderOrThrow("ORD-20251205-0001")).willReturn(order);
         given(paymentRepository.findByOrderId("ORD-20251205-0001")).willReturn(Optional.empty());
         given(pgClient.approve("FAIL-KEY-12345", "ORD-20251205-0001", 258000L)).willReturn(pgResult);
         given(paymentRepository.save(any(Payment.class))).willReturn(payment);
+        given(paymentRepository.findByIdForUpdate(1L)).willReturn(Optional.of(requestedPayment("FAIL-KEY-12345")));
         given(orderRepository.save(any(Order.class))).willReturn(order);
-        given(objectMapper.writeValueAsString(any())).willReturn("{\"orderId\":\"ORD-20251205-0001\"}");
 
         // when
         ApprovePaymentResponse response = paymentService.approvePayment(request);
@@ -170,15 +212,16 @@ class PaymentServiceTest {
 
         // verify
         verify(pgClient).approve("FAIL-KEY-12345", "ORD-20251205-0001", 258000L);
+        verify(stockReservationService).release("ORD-20251205-0001");
+        verify(stockReservationService, never()).confirm(any(), any(), anyInt());
 
         // Order 상태 변경 검증
         assertThat(order.getStatus()).isEqualTo(OrderStatus.PAYMENT_FAILED);
+        assertThat(orderSnapshotCache.get("ORD-20251205-0001")).get()
+                .extracting(OrderSnapshot::status).isEqualTo(OrderStatus.PAYMENT_FAILED);
 
         // OrderHistory 검증
-        ArgumentCaptor<OrderHistory> historyCaptor = ArgumentCaptor.forClass(OrderHistory.class);
-        verify(orderHistoryRepository).save(historyCaptor.capture());
-        OrderHistory savedHistory = historyCaptor.getValue();
-        assertThat(savedHistory.getEventType()).isEqualTo(OrderEventType.PAYMENT_FAILED);
+        verify(orderHistoryRecorder).record(eq("ORD-20251205-0001"), eq(OrderEventType.PAYMENT_FAILED), any());
     }
 
     @Test
@@ -200,7 +243,7 @@ class PaymentServiceTest {
                 .status(OrderStatus.PAID)  // 이미 결제 완료된 상태
                 .build();
 
-        given(orderService.getOrderOrThrow("ORD-20251205-0001")).willReturn(order);
+        given(orderService.getOrderForUpdate("ORD-20251205-0001")).willReturn(order);
 
         // when & then
         assertThatThrownBy(() -> paymentService.approvePayment(request))
@@ -230,7 +273,7 @@ class PaymentServiceTest {
                 .status(OrderStatus.PENDING_PAYMENT)
                 .build();
 
-        given(orderService.getOrderOrThrow("ORD-20251205-0001")).willReturn(order);
+        given(orderService.getOrderForUpdate("ORD-20251205-0001")).willReturn(order);
         given(paymentRepository.findByOrderId("ORD-20251205-0001")).willReturn(Optional.empty());
 
         // when & then
@@ -269,7 +312,7 @@ class PaymentServiceTest {
                 .status(PaymentStatus.APPROVED)
                 .build();
 
-        given(orderService.getOrderOrThrow("ORD-20251205-0001")).willReturn(order);
+        given(orderService.getOrderForUpdate("ORD-20251205-0001")).willReturn(order);
         given(paymentRepository.findByOrderId("ORD-20251205-0001"))
                 .willReturn(Optional.of(existingPayment));
 
@@ -280,4 +323,467 @@ class PaymentServiceTest {
 
         verify(pgClient, never()).approve(any(), any(), any());
     }
+
+    @Test
+    @DisplayName("결제 승인 실패 - 만료된 예약 재차감 시 재고 부족이면 결제를 거절로 마감")
+    void approvePayment_실패_재고부족() {
+        // given
+        ApprovePaymentRequest request = ApprovePaymentRequest.builder()
+                .orderId("ORD-20251205-0001")
+                .paymentKey("PAY-KEY-12345")
+                .amount(258000L)
+                .build();
+
+        Order order = Order.builder()
+                .orderId("ORD-20251205-0001")
+                .userId(1L)
+                .productId(1L)
+                .quantity(2)
+                .totalAmount(258000L)
+                .status(OrderStatus.PENDING_PAYMENT)
+                .build();
+
+        given(orderService.getOrderForUpdate("ORD-20251205-0001")).willReturn(order);
+        given(orderService.getOrderOrThrow("ORD-20251205-0001")).willReturn(order);
+        given(paymentRepository.findByOrderId("ORD-20251205-0001")).willReturn(Optional.empty());
+        given(pgClient.approve("PAY-KEY-12345", "ORD-20251205-0001", 258000L))
+                .willReturn(PgApprovalResult.success());
+        Payment requested = requestedPayment("PAY-KEY-12345");
+        given(paymentRepository.save(any(Payment.class))).willReturn(requested);
+        given(paymentRepository.findByIdForUpdate(1L)).willReturn(Optional.of(requested));
+        willThrow(new OutOfStockException(2, 1)).given(stockReservationService).confirm("ORD-20251205-0001", 1L, 2);
+
+        // when & then
+        assertThatThrownBy(() -> paymentService.approvePayment(request))
+                .isInstanceOf(OutOfStockException.class)
+                .hasMessageContaining("재고가 부족합니다");
+
+        // PG 승인 후 재고가 없으므로 결제는 거절로 마감
+        assertThat(requested.getStatus()).isEqualTo(PaymentStatus.DECLINED);
+        assertThat(requested.getPgResultCode()).isEqualTo(PaymentService.STOCK_EXHAUSTED_CODE);
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PAYMENT_FAILED);
+    }
+
+    @Test
+    @DisplayName("결제 승인 실패 - 같은 주문의 결제가 진행 중")
+    void approvePayment_실패_결제진행중() {
+        // given
+        ApprovePaymentRequest request = ApprovePaymentRequest.builder()
+                .orderId("ORD-20251205-0001")
+                .paymentKey("PAY-KEY-12345")
+                .amount(258000L)
+                .build();
+
+        given(orderService.getOrderForUpdate("ORD-20251205-0001")).willReturn(pendingOrder());
+        given(paymentRepository.findByOrderId("ORD-20251205-0001"))
+                .willReturn(Optional.of(requestedPayment("PAY-KEY-12345")));
+
+        // when & then
+        assertThatThrownBy(() -> paymentService.approvePayment(request))
+                .isInstanceOf(PaymentInProgressException.class);
+
+        verify(pgClient, never()).approve(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("결제 승인 - PG 호출 중 오류면 REQUESTED로 남기고 진행 중으로 응답")
+    void approvePayment_PG호출오류_REQUESTED유지() {
+        // given
+        ApprovePaymentRequest request = ApprovePaymentRequest.builder()
+                .orderId("ORD-20251205-0001")
+                .paymentKey("PAY-KEY-12345")
+                .amount(258000L)
+                .build();
+
+        given(orderService.getOrderForUpdate("ORD-20251205-0001")).willReturn(pendingOrder());
+        given(paymentRepository.findByOrderId("ORD-20251205-0001")).willReturn(Optional.empty());
+        given(paymentRepository.save(any(Payment.class))).willReturn(requestedPayment("PAY-KEY-12345"));
+        given(pgClient.approve("PAY-KEY-12345", "ORD-20251205-0001", 258000L))
+                .willThrow(new IllegalStateException("connection reset"));
+
+        // when & then
+        assertThatThrownBy(() -> paymentService.approvePayment(request))
+                .isInstanceOf(PaymentInProgressException.class);
+
+        verify(paymentRepository, never()).findByIdForUpdate(any());
+        verify(stockReservationService, never()).confirm(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("결제 승인 - PG 서킷이 열려 있으면 REQUESTED 결제를 지워 재시도할 수 있게 함")
+    void approvePayment_서킷오픈() {
+        // given
+        ApprovePaymentRequest request = ApprovePaymentRequest.builder()
+                .orderId("ORD-20251205-0001")
+                .paymentKey("PAY-KEY-12345")
+                .amount(258000L)
+                .build();
+        Payment requested = requestedPayment("PAY-KEY-12345");
+
+        given(orderService.getOrderForUpdate("ORD-20251205-0001")).willReturn(pendingOrder());
+        given(paymentRepository.findByOrderId("ORD-20251205-0001")).willReturn(Optional.empty());
+        given(paymentRepository.save(any(Payment.class))).willReturn(requested);
+        given(pgClient.approve("PAY-KEY-12345", "ORD-20251205-0001", 258000L))
+                .willThrow(new PgUnavailableException(Duration.ofSeconds(10)));
+        given(paymentRepository.findByIdForUpdate(1L)).willReturn(Optional.of(requested));
+
+        // when & then
+        assertThatThrownBy(() -> paymentService.approvePayment(request))
+                .isInstanceOf(PgUnavailableException.class);
+
+        verify(paymentRepository).delete(requested);
+        verify(stockReservationService, never()).release(any());
+    }
+
+    @Test
+    @DisplayName("결제 승인 - 같은 결제 키로 이미 마감된 결제면 PG 호출 없이 기존 결과를 반환")
+    void approvePayment_마감된결제_재요청() {
+        // given
+        ApprovePaymentRequest request = ApprovePaymentRequest.builder()
+                .orderId("ORD-20251205-0001")
+                .paymentKey("PAY-KEY-12345")
+                .amount(258000L)
+                .build();
+        Order paidOrder = pendingOrder();
+        paidOrder.markAsPaid();
+        Payment approved = requestedPayment("PAY-KEY-12345");
+        approved.approve("0000", "승인 성공");
+
+        given(orderService.getOrderSnapshot("ORD-20251205-0001")).willReturn(OrderSnapshot.from(paidOrder));
+        given(paymentRepository.findByOrderId("ORD-20251205-0001")).willReturn(Optional.of(approved));
+        given(paymentRepository.findById(1L)).willReturn(Optional.of(approved));
+
+        // when
+        ApprovePaymentResponse response = paymentService.approvePayment(request);
+
+        // then
+        assertThat(response.getPaymentId()).isEqualTo(1L);
+        assertThat(response.getPaymentStatus()).isEqualTo(PaymentStatus.APPROVED);
+        assertThat(response.getOrderStatus()).isEqualTo(OrderStatus.PAID);
+        verify(pgClient, never()).approve(any(), any(), any());
+        verify(paymentRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("결제 승인 - 다른 노드가 먼저 결제를 기록해 유니크 제약에 걸리면 진행 중으로 응답")
+    void approvePayment_유니크제약_충돌() {
+        // given
+        ApprovePaymentRequest request = ApprovePaymentRequest.builder()
+                .orderId("ORD-20251205-0001")
+                .paymentKey("PAY-KEY-12345")
+                .amount(258000L)
+                .build();
+
+        given(orderService.getOrderForUpdate("ORD-20251205-0001")).willReturn(pendingOrder());
+        given(paymentRepository.findByOrderId("ORD-20251205-0001")).willReturn(Optional.empty());
+        given(paymentRepository.save(any(Payment.class)))
+                .willThrow(new DataIntegrityViolationException("uk_payments_order_id"));
+
+        // when & then
+        assertThatThrownBy(() -> paymentService.approvePayment(request))
+                .isInstanceOf(PaymentInProgressException.class);
+
+        verify(pgClient, never()).approve(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("비동기 결제 승인 - 진행 중인 같은 주문의 승인이 있으면 PG를 다시 호출하지 않고 그 결과를 함께 받는다")
+    void approvePaymentAsync_진행중인승인_공유() {
+        // given
+        ApprovePaymentRequest request = ApprovePaymentRequest.builder()
+                .orderId("ORD-20251205-0001")
+                .paymentKey("PAY-KEY-12345")
+                .amount(258000L)
+                .build();
+        Payment requested = requestedPayment("PAY-KEY-12345");
+        CompletableFuture<PgApprovalResult> pgCall = new CompletableFuture<>();
+
+        given(orderService.getOrderForUpdate("ORD-20251205-0001")).willReturn(pendingOrder());
+        given(orderService.getOrderOrThrow("ORD-20251205-0001")).willReturn(pendingOrder());
+        given(paymentRepository.findByOrderId("ORD-20251205-0001")).willReturn(Optional.empty());
+        given(paymentRepository.save(any(Payment.class))).willReturn(requested);
+        given(asyncPgClient.approveAsync("PAY-KEY-12345", "ORD-20251205-0001", 258000L)).willReturn(pgCall);
+        given(paymentRepository.findByIdForUpdate(1L)).willReturn(Optional.of(requested));
+
+        // when
+        CompletableFuture<ApprovePaymentResponse> winner = paymentService.approvePaymentAsync(request);
+        CompletableFuture<ApprovePaymentResponse> loser = paymentService.approvePaymentAsync(request);
+        assertThat(loser).isNotDone();
+        pgCall.complete(PgApprovalResult.success());
+
+        // then
+        assertThat(loser.join().getPaymentId()).isEqualTo(winner.join().getPaymentId());
+        assertThat(loser.join().getPaymentStatus()).isEqualTo(PaymentStatus.APPROVED);
+        verify(asyncPgClient, times(1)).approveAsync(any(), any(), any());
+        verify(paymentRepository, times(1)).findByOrderId("ORD-20251205-0001");
+    }
+
+    @Test
+    @DisplayName("비동기 결제 승인 - 결제 키나 금액이 다른 요청은 진행 중인 승인에 합류하지 않고 거절된다")
+    void approvePaymentAsync_진행중인승인_다른요청거절() {
+        // given
+        ApprovePaymentRequest request = ApprovePaymentRequest.builder()
+                .orderId("ORD-20251205-0001")
+                .paymentKey("PAY-KEY-12345")
+                .amount(258000L)
+                .build();
+        ApprovePaymentRequest otherKey = ApprovePaymentRequest.builder()
+                .orderId("ORD-20251205-0001")
+                .paymentKey("PAY-KEY-99999")
+                .amount(258000L)
+                .build();
+        ApprovePaymentRequest otherAmount = ApprovePaymentRequest.builder()
+                .orderId("ORD-20251205-0001")
+                .paymentKey("PAY-KEY-12345")
+                .amount(1000L)
+                .build();
+        Payment requested = requestedPayment("PAY-KEY-12345");
+        CompletableFuture<PgApprovalResult> pgCall = new CompletableFuture<>();
+
+        given(orderService.getOrderForUpdate("ORD-20251205-0001")).willReturn(pendingOrder());
+        given(orderService.getOrderOrThrow("ORD-20251205-0001")).willReturn(pendingOrder());
+        given(paymentRepository.findByOrderId("ORD-20251205-0001"))
+                .willReturn(Optional.empty(), Optional.of(requested));
+        given(paymentRepository.save(any(Payment.class))).willReturn(requested);
+        given(asyncPgClient.approveAsync("PAY-KEY-12345", "ORD-20251205-0001", 258000L)).willReturn(pgCall);
+        given(paymentRepository.findByIdForUpdate(1L)).willReturn(Optional.of(requested));
+
+        // when
+        CompletableFuture<ApprovePaymentResponse> winner = paymentService.approvePaymentAsync(request);
+        CompletableFuture<ApprovePaymentResponse> keyMismatch = paymentService.approvePaymentAsync(otherKey);
+        CompletableFuture<ApprovePaymentResponse> amountMismatch = paymentService.approvePaymentAsync(otherAmount);
+        pgCall.complete(PgApprovalResult.success());
+
+        // then
+        assertThat(winner.join().getPaymentStatus()).isEqualTo(PaymentStatus.APPROVED);
+        assertThatThrownBy(keyMismatch::join).hasCauseInstanceOf(PaymentInProgressException.class);
+        assertThatThrownBy(amountMismatch::join).hasCauseInstanceOf(PaymentInProgressException.class);
+        verify(asyncPgClient, times(1)).approveAsync(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("PG 결과 반영 - 이미 반영된 결제는 다시 반영하지 않는다")
+    void completePayment_이미반영됨() {
+        // given
+        Order order = pendingOrder();
+        order.markAsPaid();
+        Payment approved = Payment.builder()
+                .id(1L)
+                .orderId("ORD-20251205-0001")
+                .paymentKey("PAY-KEY-12345")
+                .amount(258000L)
+                .status(PaymentStatus.APPROVED)
+                .build();
+        given(paymentRepository.findByIdForUpdate(1L)).willReturn(Optional.of(approved));
+        given(orderService.getOrderOrThrow("ORD-20251205-0001")).willReturn(order);
+
+        // when
+        ApprovePaymentResponse response = paymentService.completePayment(1L, PgApprovalResult.success());
+
+        // then
+        assertThat(response.getPaymentStatus()).isEqualTo(PaymentStatus.APPROVED);
+        verify(stockReservationService, never()).confirm(any(), any(), anyInt());
+        verify(paymentRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("REQUESTED 결제 복구 - PG에 승인 기록이 있으면 승인으로 마감")
+    void recoverPayment_PG승인기록() {
+        // given
+        Order order = pendingOrder();
+        Payment requested = requestedPayment("PAY-KEY-12345");
+        given(pgClient.inquire("PAY-KEY-12345", "ORD-20251205-0001")).willReturn(Optional.of(PgApprovalResult.success()));
+        given(paymentRepository.findByIdForUpdate(1L)).willReturn(Optional.of(requested));
+        given(orderService.getOrderOrThrow("ORD-20251205-0001")).willReturn(order);
+        given(paymentRepository.save(any(Payment.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        paymentService.recoverPayment(requested);
+
+        // then
+        assertThat(requested.getStatus()).isEqualTo(PaymentStatus.APPROVED);
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PAID);
+        verify(stockReservationService).confirm("ORD-20251205-0001", 1L, 2);
+    }
+
+    @Test
+    @DisplayName("REQUESTED 결제 복구 - PG에 기록이 없으면 거절로 마감하고 재고 예약을 해제")
+    void recoverPayment_PG기록없음() {
+        // given
+        Order order = pendingOrder();
+        Payment requested = requestedPayment("PAY-KEY-12345");
+        given(pgClient.inquire("PAY-KEY-12345", "ORD-20251205-0001")).willReturn(Optional.empty());
+        given(paymentRepository.findByIdForUpdate(1L)).willReturn(Optional.of(requested));
+        given(orderService.getOrderOrThrow("ORD-20251205-0001")).willReturn(order);
+        given(paymentRepository.save(any(Payment.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        paymentService.recoverPayment(requested);
+
+        // then
+        assertThat(requested.getStatus()).isEqualTo(PaymentStatus.DECLINED);
+        assertThat(requested.getPgResultCode()).isEqualTo(PaymentService.PG_NO_RECORD_CODE);
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PAYMENT_FAILED);
+        verify(stockReservationService).release("ORD-20251205-0001");
+    }
+
+    @Test
+    @DisplayName("비동기 결제 승인 성공 - PG 결과를 반영한 응답으로 완료")
+    void approvePaymentAsync_성공() {
+        // given
+        ApprovePaymentRequest request = ApprovePaymentRequest.builder()
+                .orderId("ORD-20251205-0001")
+                .paymentKey("PAY-KEY-12345")
+                .amount(258000L)
+                .build();
+        Order order = pendingOrder();
+        Payment requested = requestedPayment("PAY-KEY-12345");
+
+        given(orderService.getOrderForUpdate("ORD-20251205-0001")).willReturn(order);
+        given(orderService.getOrderOrThrow("ORD-20251205-0001")).willReturn(order);
+        given(paymentRepository.findByOrderId("ORD-20251205-0001")).willReturn(Optional.empty());
+        given(paymentRepository.save(any(Payment.class))).willReturn(requested);
+        given(asyncPgClient.approveAsync("PAY-KEY-12345", "ORD-20251205-0001", 258000L))
+                .willReturn(CompletableFuture.completedFuture(PgApprovalResult.success()));
+        given(paymentRepository.findByIdForUpdate(1L)).willReturn(Optional.of(requested));
+
+        // when
+        ApprovePaymentResponse response = paymentService.approvePaymentAsync(request).join();
+
+        // then
+        assertThat(response.getPaymentStatus()).isEqualTo(PaymentStatus.APPROVED);
+        assertThat(response.getOrderStatus()).isEqualTo(OrderStatus.PAID);
+        verify(pgClient, never()).approve(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("비동기 결제 승인 - 벌크헤드 거절 시 REQUESTED 결제를 지워 재시도할 수 있게 함")
+    void approvePaymentAsync_벌크헤드거절() {
+        // given
+        ApprovePaymentRequest request = ApprovePaymentRequest.builder()
+                .orderId("ORD-20251205-0001")
+                .paymentKey("PAY-KEY-12345")
+                .amount(258000L)
+                .build();
+        Payment requested = requestedPayment("PAY-KEY-12345");
+
+        given(orderService.getOrderForUpdate("ORD-20251205-0001")).willReturn(pendingOrder());
+        given(paymentRepository.findByOrderId("ORD-20251205-0001")).willReturn(Optional.empty());
+        given(paymentRepository.save(any(Payment.class))).willReturn(requested);
+        given(asyncPgClient.approveAsync("PAY-KEY-12345", "ORD-20251205-0001", 258000L))
+                .willReturn(CompletableFuture.failedFuture(new PgBulkheadFullException(64)));
+        given(paymentRepository.findByIdForUpdate(1L)).willReturn(Optional.of(requested));
+
+        // when
+        CompletableFuture<ApprovePaymentResponse> future = paymentService.approvePaymentAsync(request);
+
+        // then
+        assertThatThrownBy(future::join).hasCauseInstanceOf(PgBulkheadFullException.class);
+        verify(paymentRepository).delete(requested);
+        verify(stockReservationService, never()).release(any());
+    }
+
+    @Test
+    @DisplayName("비동기 결제 승인 - PG 제한 시간 초과 시 REQUESTED로 남긴다")
+    void approvePaymentAsync_제한시간초과() {
+        // given
+        ApprovePaymentRequest request = ApprovePaymentRequest.builder()
+                .orderId("ORD-20251205-0001")
+                .paymentKey("PAY-KEY-12345")
+                .amount(258000L)
+                .build();
+        Payment requested = requestedPayment("PAY-KEY-12345");
+
+        given(orderService.getOrderForUpdate("ORD-20251205-0001")).willReturn(pendingOrder());
+        given(paymentRepository.findByOrderId("ORD-20251205-0001")).willReturn(Optional.empty());
+        given(paymentRepository.save(any(Payment.class))).willReturn(requested);
+        given(asyncPgClient.approveAsync("PAY-KEY-12345", "ORD-20251205-0001", 258000L))
+                .willReturn(CompletableFuture.failedFuture(new PgTimeoutException("ORD-20251205-0001", 3000)));
+
+        // when
+        CompletableFuture<ApprovePaymentResponse> future = paymentService.approvePaymentAsync(request);
+
+        // then
+        assertThatThrownBy(future::join).hasCauseInstanceOf(PgTimeoutException.class);
+        assertThat(requested.getStatus()).isEqualTo(PaymentStatus.REQUESTED);
+        verify(paymentRepository, never()).findByIdForUpdate(any());
+        verify(paymentRepository, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("결제 승인 - 단계별 지연을 결과(성공, PG 결과 코드, 에러 코드)와 함께 기록")
+    void approvePayment_단계별지연기록() {
+        // given
+        ApprovePaymentRequest declined = ApprovePaymentRequest.builder()
+                .orderId("ORD-20251205-0001")
+                .paymentKey("FAIL-KEY-12345")
+                .amount(258000L)
+                .build();
+        ApprovePaymentRequest mismatched = ApprovePaymentRequest.builder()
+                .orderId("ORD-20251205-0002")
+                .paymentKey("PAY-KEY-12345")
+                .amount(100000L)
+                .build();
+        Order mismatchedOrder = Order.builder()
+                .orderId("ORD-20251205-0002")
+                .userId(1L)
+                .productId(1L)
+                .quantity(2)
+                .totalAmount(258000L)
+                .status(OrderStatus.PENDING_PAYMENT)
+                .build();
+
+        given(orderService.getOrderForUpdate("ORD-20251205-0001")).willReturn(pendingOrder());
+        given(orderService.getOrderOrThrow("ORD-20251205-0001")).willReturn(pendingOrder());
+        given(orderService.getOrderForUpdate("ORD-20251205-0002")).willReturn(mismatchedOrder);
+        given(paymentRepository.findByOrderId(any())).willReturn(Optional.empty());
+        given(paymentRepository.save(any(Payment.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(paymentRepository.findByIdForUpdate(any())).willReturn(Optional.of(requestedPayment("FAIL-KEY-12345")));
+        given(pgClient.approve("FAIL-KEY-12345", "ORD-20251205-0001", 258000L))
+                .willReturn(PgApprovalResult.failure("PG_INVALID_KEY", "유효하지 않은 결제 키입니다."));
+
+        // when
+        paymentService.approvePayment(declined);
+        assertThatThrownBy(() -> paymentService.approvePayment(mismatched))
+                .isInstanceOf(AmountMismatchException.class);
+
+        // then
+        assertThat(stageCount("payment_request", StageMetrics.SUCCESS)).isEqualTo(1);
+        assertThat(stageCount("pg_call", PaymentService.PG_DECLINED_OUTCOME)).isEqualTo(1);
+        assertThat(meterRegistry.find("payment.approve.stage").tag("outcome", "PG_INVALID_KEY").timers()).isEmpty();
+        assertThat(stageCount("complete_payment", StageMetrics.SUCCESS)).isEqualTo(1);
+        assertThat(stageCount("total", StageMetrics.SUCCESS)).isEqualTo(1);
+        assertThat(stageCount("payment_request", "AMOUNT_MISMATCH")).isEqualTo(1);
+        assertThat(stageCount("total", "AMOUNT_MISMATCH")).isEqualTo(1);
+        assertThat(meterRegistry.find("payment.approve.stage").tag("stage", "pg_call").timers()).hasSize(1);
+    }
+
+    private long stageCount(String stage, String outcome) {
+        return meterRegistry.get("payment.approve.stage")
+                .tag("stage", stage)
+                .tag("outcome", outcome)
+                .timer()
+                .count();
+    }
+
+    private Order pendingOrder() {
+        return Order.builder()
+                .orderId("ORD-20251205-0001")
+                .userId(1L)
+                .productId(1L)
+                .quantity(2)
+                .totalAmount(258000L)
+                .status(OrderStatus.PENDING_PAYMENT)
+                .build();
+    }
+
+    private Payment requestedPayment(String paymentKey) {
+        return Payment.builder()
+                .id(1L)
+                .orderId("ORD-20251205-0001")
+                .paymentKey(paymentKey)
+                .amount(258000L)
+                .status(PaymentStatus.REQUESTED)
+                .build();
+    }
 }
@@ -0,0 +1,83 @@
+package com.example.api_server.payment.service;
+
+import com.example.api_server.order.dto.CreateOrderRequest;
+import com.example.api_server.order.service.OrderService;
+import com.example.api_server.payment.client.PgApprovalResult;
+import com.example.api_server.payment.client.PgClient;
+import com.example.api_server.payment.domain.PaymentStatus;
+import com.example.api_server.payment.dto.ApprovePaymentRequest;
+import com.example.api_server.payment.dto.ApprovePaymentResponse;
+import com.example.api_server.payment.repository.PaymentRepository;
+import com.example.api_server.product.domain.Product;
+import com.example.api_server.product.repository.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@SpringBootTest
+@DisplayName("결제 승인 트랜잭션 경계 테스트")
+class PaymentTransactionBoundaryTest {
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @MockitoBean
+    private PgClient pgClient;
+
+    @Test
+    @DisplayName("PG 호출 중에는 트랜잭션이 열려 있지 않고, 호출 시점에 결제는 REQUESTED로 기록되어 있다")
+    void approvePayment_PG호출은_트랜잭션밖() {
+        // given
+        Long productId = productRepository.save(Product.builder()
+                .name("트랜잭션 경계 테스트 상품")
+                .basePrice(10000L)
+                .discountPrice(9000L)
+                .availableStock(10)
+                .available(true)
+                .build()).getProductId();
+        String orderId = orderService.createOrder(CreateOrderRequest.builder()
+                .userId(1L)
+                .productId(productId)
+                .quantity(1)
+                .build()).getOrderId();
+
+        AtomicBoolean transactionActive = new AtomicBoolean(true);
+        AtomicReference<PaymentStatus> statusDuringCall = new AtomicReference<>();
+        given(pgClient.approve(any(), any(), any())).willAnswer(invocation -> {
+            transactionActive.set(TransactionSynchronizationManager.isActualTransactionActive());
+            statusDuringCall.set(paymentRepository.findByOrderId(orderId).orElseThrow().getStatus());
+            return PgApprovalResult.success();
+        });
+
+        // when
+        ApprovePaymentResponse response = paymentService.approvePayment(ApprovePaymentRequest.builder()
+                .orderId(orderId)
+                .paymentKey("PAY-KEY-BOUNDARY")
+                .amount(9000L)
+                .build());
+
+        // then
+        assertThat(transactionActive).isFalse();
+        assertThat(statusDuringCall.get()).isEqualTo(PaymentStatus.REQUESTED);
+        assertThat(response.getPaymentStatus()).isEqualTo(PaymentStatus.APPROVED);
+    }
+}
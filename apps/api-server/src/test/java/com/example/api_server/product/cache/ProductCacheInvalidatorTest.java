@@ -0,0 +1,57 @@
+package com.example.api_server.product.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ProductCacheInvalidator 테스트")
+class ProductCacheInvalidatorTest {
+
+    private CacheManager cacheManager;
+    private ProductCacheInvalidator productCacheInvalidator;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(
+                ProductCacheNames.PRODUCT,
+                ProductCacheNames.PRODUCT_DETAIL,
+                ProductCacheNames.PRODUCT_CATALOG);
+        productCacheInvalidator = new ProductCacheInvalidator(cacheManager);
+    }
+
+    @Test
+    @DisplayName("상품 캐시 무효화 시 해당 상품과 전체 목록 캐시가 제거된다")
+    void invalidate_해당상품과_목록_제거() {
+        // given
+        cacheManager.getCache(ProductCacheNames.PRODUCT).put(1L, "product-1");
+        cacheManager.getCache(ProductCacheNames.PRODUCT_DETAIL).put(1L, "detail-1");
+        cacheManager.getCache(ProductCacheNames.PRODUCT_CATALOG).put("all", List.of("product-1"));
+
+        // when
+        productCacheInvalidator.invalidate(1L);
+
+        // then
+        assertThat(cacheManager.getCache(ProductCacheNames.PRODUCT).get(1L)).isNull();
+        assertThat(cacheManager.getCache(ProductCacheNames.PRODUCT_DETAIL).get(1L)).isNull();
+        assertThat(cacheManager.getCache(ProductCacheNames.PRODUCT_CATALOG).get("all")).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 상품의 캐시는 유지된다")
+    void invalidate_다른상품_유지() {
+        // given
+        cacheManager.getCache(ProductCacheNames.PRODUCT).put(2L, "product-2");
+
+        // when
+        productCacheInvalidator.invalidate(1L);
+
+        // then
+        assertThat(cacheManager.getCache(ProductCacheNames.PRODUCT).get(2L)).isNotNull();
+    }
+}
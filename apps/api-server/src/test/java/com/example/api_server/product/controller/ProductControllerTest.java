@@ -0,0 +1,80 @@
+package com.example.api_server.product.controller;
+
+import com.example.api_server.common.dto.CursorPageResponse;
+import com.example.api_server.common.exception.GlobalExceptionHandler;
+import com.example.api_server.product.service.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("ProductController 테스트")
+@ExtendWith(MockitoExtension.class)
+class ProductControllerTest {
+
+    @Mock
+    private ProductService productService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new ProductController(productService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @DisplayName("상품 목록 조회 - 커서만 지정하면 기본 페이지 크기로 다음 페이지를 조회")
+    void getProductPage_커서만지정_기본페이지크기() throws Exception {
+        // given
+        given(productService.getProductPage(40L, ProductService.DEFAULT_PAGE_SIZE))
+                .willReturn(CursorPageResponse.of(List.of(), null));
+
+        // when & then
+        mockMvc.perform(get("/api/products").param("after", "40"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").isArray())
+                .andExpect(jsonPath("$.hasNext").value(false));
+
+        verify(productService).getProductPage(40L, ProductService.DEFAULT_PAGE_SIZE);
+        verify(productService, never()).getAllProducts();
+    }
+
+    @Test
+    @DisplayName("상품 목록 조회 - 커서와 limit을 지정하면 그 크기로 조회")
+    void getProductPage_커서와limit지정() throws Exception {
+        // given
+        given(productService.getProductPage(40L, 5)).willReturn(CursorPageResponse.of(List.of(), null));
+
+        // when & then
+        mockMvc.perform(get("/api/products").param("after", "40").param("limit", "5"))
+                .andExpect(status().isOk());
+
+        verify(productService).getProductPage(40L, 5);
+    }
+
+    @Test
+    @DisplayName("상품 목록 조회 - 파라미터가 없으면 전체 목록을 조회")
+    void getAllProducts_파라미터없음() throws Exception {
+        // given
+        given(productService.getAllProducts()).willReturn(List.of());
+
+        // when & then
+        mockMvc.perform(get("/api/products"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isArray());
+
+        verify(productService, never()).getProductPage(any(), anyInt());
+    }
+}
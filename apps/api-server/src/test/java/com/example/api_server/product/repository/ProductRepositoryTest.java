@@ -5,9 +5,12 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -52,4 +55,79 @@ class ProductRepositoryTest {
         // then
         assertThat(found).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("커서 이후의 상품을 productId 오름차순으로 limit건 조회할 수 있다")
+    void findByProductIdGreaterThan_키셋페이지_조회() {
+        // given
+        Product first = productRepository.save(product("상품 A"));
+        Product second = productRepository.save(product("상품 B"));
+        Product third = productRepository.save(product("상품 C"));
+        productRepository.flush();
+
+        // when
+        List<Product> page = productRepository.findByProductIdGreaterThanOrderByProductIdAsc(
+                first.getProductId(), Limit.of(1));
+
+        // then
+        assertThat(page).extracting(Product::getProductId).containsExactly(second.getProductId());
+        assertThat(third.getProductId()).isGreaterThan(second.getProductId());
+    }
+
+    @Test
+    @DisplayName("전체 상품을 productId 순서로 스트리밍 조회할 수 있다")
+    void streamAllOrderByProductId_순서대로_조회() {
+        // given
+        Product first = productRepository.save(product("상품 A"));
+        Product second = productRepository.save(product("상품 B"));
+        productRepository.flush();
+
+        // when
+        List<Long> ids;
+        try (Stream<Product> stream = productRepository.streamAllOrderByProductId()) {
+            ids = stream.map(Product::getProductId).toList();
+        }
+
+        // then
+        assertThat(ids).containsSubsequence(first.getProductId(), second.getProductId());
+        assertThat(ids).isSorted();
+    }
+
+    @Test
+    @DisplayName("재고가 충분하면 조건부 UPDATE로 재고를 차감하고 1을 반환한다")
+    void decreaseStockIfAvailable_재고충분_차감() {
+        // given
+        Product saved = productRepository.saveAndFlush(product("무선 청소기"));
+
+        // when
+        int updated = productRepository.decreaseStockIfAvailable(saved.getProductId(), 3);
+
+        // then
+        assertThat(updated).isEqualTo(1);
+        assertThat(productRepository.findAvailableStockById(saved.getProductId())).contains(7);
+    }
+
+    @Test
+    @DisplayName("재고가 부족하면 조건부 UPDATE는 차감하지 않고 0을 반환한다")
+    void decreaseStockIfAvailable_재고부족_미차감() {
+        // given
+        Product saved = productRepository.saveAndFlush(product("무선 청소기"));
+
+        // when
+        int updated = productRepository.decreaseStockIfAvailable(saved.getProductId(), 11);
+
+        // then
+        assertThat(updated).isZero();
+        assertThat(productRepository.findAvailableStockById(saved.getProductId())).contains(10);
+    }
+
+    private Product product(String name) {
+        return Product.builder()
+                .name(name)
+                .basePrice(150000L)
+                .discountPrice(129000L)
+                .availableStock(10)
+                .available(true)
+                .build();
+    }
+}
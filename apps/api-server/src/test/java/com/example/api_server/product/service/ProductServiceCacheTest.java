@@ -0,0 +1,128 @@
+package com.example.api_server.product.service;
+
+import com.example.api_server.product.cache.ProductCacheNames;
+import com.example.api_server.product.cache.ProductSnapshot;
+import com.example.api_server.product.domain.Product;
+import com.example.api_server.product.dto.ProductResponse;
+import com.example.api_server.product.repository.ProductRepository;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@DisplayName("ProductService 캐시 테스트")
+class ProductServiceCacheTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        product = productRepository.save(Product.builder()
+                .name("무선 청소기")
+                .basePrice(150000L)
+                .discountPrice(129000L)
+                .availableStock(10)
+                .available(true)
+                .build());
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteById(product.getProductId());
+    }
+
+    @Test
+    @DisplayName("같은 상품을 두 번 조회하면 두 번째는 캐시에서 반환되고 히트 통계가 기록된다")
+    void getProductSnapshot_캐시히트() {
+        // given
+        CacheStats before = stats(ProductCacheNames.PRODUCT);
+
+        // when
+        ProductSnapshot first = productService.getProductSnapshot(product.getProductId());
+        ProductSnapshot second = productService.getProductSnapshot(product.getProductId());
+
+        // then
+        assertThat(second).isSameAs(first);
+        CacheStats after = stats(ProductCacheNames.PRODUCT);
+        assertThat(after.missCount() - before.missCount()).isEqualTo(1);
+        assertThat(after.hitCount() - before.hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("상품이 변경되면 캐시가 무효화되어 변경된 값이 조회된다")
+    void getProduct_상품변경시_무효화() {
+        // given
+        ProductResponse cached = productService.getProduct(product.getProductId());
+        assertThat(cached.getAvailableStock()).isEqualTo(10);
+
+        // when
+        Product loaded = productRepository.findById(product.getProductId()).orElseThrow();
+        loaded.decreaseStock(3);
+        productRepository.save(loaded);
+
+        // then
+        ProductResponse refreshed = productService.getProduct(product.getProductId());
+        assertThat(refreshed.getAvailableStock()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("상품 캐시에는 엔티티가 아닌 불변 스냅샷이 저장되고, 상품 상세 조회도 캐시 프록시를 거쳐 캐시된다")
+    void 캐시값_불변스냅샷() {
+        // given
+        CacheStats before = stats(ProductCacheNames.PRODUCT_DETAIL);
+
+        // when
+        productService.getProductSnapshot(product.getProductId());
+        ProductResponse first = productService.getProduct(product.getProductId());
+        ProductResponse second = productService.getProduct(product.getProductId());
+
+        // then
+        assertThat(cacheManager.getCache(ProductCacheNames.PRODUCT).get(product.getProductId()).get())
+                .isInstanceOf(ProductSnapshot.class);
+        assertThat(second).isSameAs(first);
+        assertThat(stats(ProductCacheNames.PRODUCT_DETAIL).hitCount() - before.hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시 히트/미스 카운터가 메트릭으로 노출된다")
+    void cacheMetrics_노출() {
+        // when
+        productService.getProductSnapshot(product.getProductId());
+
+        // then
+        assertThat(meterRegistry.find("cache.gets")
+                .tag("cache", ProductCacheNames.PRODUCT)
+                .tag("result", "miss")
+                .functionCounter()).isNotNull();
+        assertThat(meterRegistry.find("cache.evictions")
+                .tag("cache", ProductCacheNames.PRODUCT)
+                .functionCounter()).isNotNull();
+    }
+
+    private CacheStats stats(String cacheName) {
+        CaffeineCache cache = (CaffeineCache) cacheManager.getCache(cacheName);
+        return cache.getNativeCache().stats();
+    }
+}
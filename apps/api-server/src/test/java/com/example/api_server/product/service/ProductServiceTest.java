@@ -1,18 +1,33 @@
 package com.example.api_server.product.service;
 
+import com.example.api_server.common.dto.CursorPageResponse;
 import com.example.api_server.common.exception.OutOfStockException;
 import com.example.api_server.common.exception.ProductNotAvailableException;
 import com.example.api_server.common.exception.ProductNotFoundException;
+import com.example.api_server.product.cache.ProductSnapshot;
 import com.example.api_server.product.domain.Product;
+import com.example.api_server.product.dto.ProductResponse;
 import com.example.api_server.product.repository.ProductRepository;
+import com.example.api_server.product.stock.HotStockLedger;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
@@ -24,12 +39,21 @@ class ProductServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private HotStockLedger hotStockLedger;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
     @InjectMocks
     private ProductService productService;
 
     @Test
     @DisplayName("상품 조회 성공")
-    void getProductOrThrow_성공() {
+    void getProductSnapshot_성공() {
         // given
         Long productId = 1L;
         Product product = Product.builder()
@@ -43,24 +67,25 @@ class ProductServiceTest {
         given(productRepository.findById(productId)).willReturn(Optional.of(product));
 
         // when
-        Product result = productService.getProductOrThrow(productId);
+        ProductSnapshot result = productService.getProductSnapshot(productId);
 
         // then
         assertThat(result).isNotNull();
-        assertThat(result.getProductId()).isEqualTo(productId);
-        assertThat(result.getName()).isEqualTo("무선 청소기");
+        assertThat(result.productId()).isEqualTo(productId);
+        assertThat(result.name()).isEqualTo("무선 청소기");
+        assertThat(result.discountPrice()).isEqualTo(129000L);
         verify(productRepository, times(1)).findById(productId);
     }
 
     @Test
     @DisplayName("상품 조회 실패 - 상품 없음")
-    void getProductOrThrow_상품없음() {
+    void getProductSnapshot_상품없음() {
         // given
         Long productId = 999L;
         given(productRepository.findById(productId)).willReturn(Optional.empty());
 
         // when & then
-        assertThatThrownBy(() -> productService.getProductOrThrow(productId))
+        assertThatThrownBy(() -> productService.getProductSnapshot(productId))
                 .isInstanceOf(ProductNotFoundException.class)
                 .hasMessageContaining("상품을 찾을 수 없습니다");
         verify(productRepository, times(1)).findById(productId);
@@ -80,7 +105,7 @@ class ProductServiceTest {
                 .build();
 
         // when & then
-        assertThatCode(() -> productService.validateProductAvailability(product))
+        assertThatCode(() -> productService.validateProductAvailability(ProductSnapshot.from(product)))
                 .doesNotThrowAnyException();
     }
 
@@ -98,7 +123,7 @@ class ProductServiceTest {
                 .build();
 
         // when & then
-        assertThatThrownBy(() -> productService.validateProductAvailability(product))
+        assertThatThrownBy(() -> productService.validateProductAvailability(ProductSnapshot.from(product)))
                 .isInstanceOf(ProductNotAvailableException.class)
                 .hasMessageContaining("판매 불가능한 상품입니다");
     }
@@ -117,7 +142,7 @@ class ProductServiceTest {
                 .build();
 
         // when & then
-        assertThatCode(() -> productService.validateStockAvailability(product, 5))
+        assertThatCode(() -> productService.validateStockAvailability(ProductSnapshot.from(product), 5))
                 .doesNotThrowAnyException();
     }
 
@@ -135,8 +160,101 @@ class ProductServiceTest {
                 .build();
 
         // when & then
-        assertThatThrownBy(() -> productService.validateStockAvailability(product, 15))
+        assertThatThrownBy(() -> productService.validateStockAvailability(ProductSnapshot.from(product), 15))
+                .isInstanceOf(OutOfStockException.class)
+                .hasMessageContaining("재고가 부족합니다");
+    }
+
+    @Test
+    @DisplayName("키셋 페이지 조회 - 다음 페이지가 있으면 마지막 productId를 커서로 반환")
+    void getProductPage_다음페이지있음() {
+        // given
+        given(productRepository.findByProductIdGreaterThanOrderByProductIdAsc(0L, Limit.of(3)))
+                .willReturn(List.of(product(1L), product(2L), product(3L)));
+
+        // when
+        CursorPageResponse<ProductResponse> page = productService.getProductPage(null, 2);
+
+        // then
+        assertThat(page.getItems()).extracting(ProductResponse::getProductId).containsExactly(1L, 2L);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getNextCursor()).isEqualTo("2");
+    }
+
+    @Test
+    @DisplayName("키셋 페이지 조회 - 마지막 페이지면 커서 없음")
+    void getProductPage_마지막페이지() {
+        // given
+        given(productRepository.findByProductIdGreaterThanOrderByProductIdAsc(2L, Limit.of(3)))
+                .willReturn(List.of(product(3L)));
+
+        // when
+        CursorPageResponse<ProductResponse> page = productService.getProductPage(2L, 2);
+
+        // then
+        assertThat(page.getItems()).extracting(ProductResponse::getProductId).containsExactly(3L);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("키셋 페이지 조회 - 페이지 크기는 최대값으로 보정")
+    void getProductPage_최대크기_보정() {
+        // given
+        given(productRepository.findByProductIdGreaterThanOrderByProductIdAsc(
+                0L, Limit.of(ProductService.MAX_PAGE_SIZE + 1)))
+                .willReturn(List.of());
+
+        // when
+        CursorPageResponse<ProductResponse> page = productService.getProductPage(null, 10_000);
+
+        // then
+        assertThat(page.getItems()).isEmpty();
+        assertThat(page.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("상품 스트리밍 내보내기 - JSON 배열로 기록하고 엔티티를 분리")
+    void exportProducts_JSON배열_기록() throws Exception {
+        // given
+        Product first = product(1L);
+        Product second = product(2L);
+        given(productRepository.streamAllOrderByProductId()).willReturn(Stream.of(first, second));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        productService.exportProducts(out);
+
+        // then
+        String json = out.toString(StandardCharsets.UTF_8);
+        assertThat(json).startsWith("[").endsWith("]");
+        assertThat(json).contains("\"productId\":1", "\"productId\":2", "\"createdAt\":\"2025-12-05T10:00:00\"");
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(second);
+    }
+
+    @Test
+    @DisplayName("재고 가용성 검증 - 인기 상품은 원장 재고를 기준으로 검증")
+    void validateStockAvailability_인기상품_원장기준() {
+        // given
+        Product product = product(1L);
+        given(hotStockLedger.availableStock(1L)).willReturn(OptionalInt.of(2));
+
+        // when & then
+        assertThatThrownBy(() -> productService.validateStockAvailability(ProductSnapshot.from(product), 5))
                 .isInstanceOf(OutOfStockException.class)
                 .hasMessageContaining("재고가 부족합니다");
     }
+
+    private Product product(Long productId) {
+        return Product.builder()
+                .productId(productId)
+                .name("무선 청소기")
+                .basePrice(150000L)
+                .discountPrice(129000L)
+                .availableStock(10)
+                .available(true)
+                .createdAt(LocalDateTime.of(2025, 12, 5, 10, 0))
+                .build();
+    }
 }
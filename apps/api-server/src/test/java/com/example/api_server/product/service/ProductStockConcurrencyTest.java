@@ -0,0 +1,83 @@
+package com.example.api_server.product.service;
+
+import com.example.api_server.common.exception.OutOfStockException;
+import com.example.api_server.product.domain.Product;
+import com.example.api_server.product.repository.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@DisplayName("재고 차감 동시성 테스트")
+class ProductStockConcurrencyTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Long productId;
+
+    @AfterEach
+    void tearDown() {
+        if (productId != null) {
+            productRepository.deleteById(productId);
+        }
+    }
+
+    @Test
+    @DisplayName("재고 50개 상품에 100명이 동시에 1개씩 구매하면 정확히 50건만 성공하고 재고는 0이 된다")
+    void decreaseStock_동시구매_초과판매없음() throws InterruptedException {
+        // given
+        productId = productRepository.save(Product.builder()
+                .name("라이브 특가 상품")
+                .basePrice(50000L)
+                .discountPrice(39000L)
+                .availableStock(50)
+                .available(true)
+                .build()).getProductId();
+
+        int buyers = 100;
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(buyers);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger outOfStock = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < buyers; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    productService.decreaseStock(productId, 1);
+                    succeeded.incrementAndGet();
+                } catch (OutOfStockException e) {
+                    outOfStock.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        // then
+        assertThat(succeeded.get()).isEqualTo(50);
+        assertThat(outOfStock.get()).isEqualTo(50);
+        assertThat(productRepository.findAvailableStockById(productId)).contains(0);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.api_server.product.stock;
+
+import com.example.api_server.common.exception.OutOfStockException;
+import com.example.api_server.common.exception.ProductNotFoundException;
+import com.example.api_server.product.repository.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("ConditionalUpdateStockDecrementStrategy 테스트")
+@ExtendWith(MockitoExtension.class)
+class ConditionalUpdateStockDecrementStrategyTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @InjectMocks
+    private ConditionalUpdateStockDecrementStrategy strategy;
+
+    @Test
+    @DisplayName("조건부 UPDATE가 1건 반영되면 차감 성공")
+    void decrease_성공() {
+        // given
+        given(productRepository.decreaseStockIfAvailable(1L, 2)).willReturn(1);
+
+        // when & then
+        assertThatCode(() -> strategy.decrease(1L, 2)).doesNotThrowAnyException();
+        verify(productRepository, never()).findAvailableStockById(any());
+    }
+
+    @Test
+    @DisplayName("반영된 행이 없고 상품이 있으면 재고 부족 예외")
+    void decrease_재고부족() {
+        // given
+        given(productRepository.decreaseStockIfAvailable(1L, 5)).willReturn(0);
+        given(productRepository.findAvailableStockById(1L)).willReturn(Optional.of(3));
+
+        // when & then
+        assertThatThrownBy(() -> strategy.decrease(1L, 5))
+                .isInstanceOf(OutOfStockException.class)
+                .hasMessageContaining("재고가 부족합니다");
+    }
+
+    @Test
+    @DisplayName("반영된 행이 없고 상품도 없으면 상품 없음 예외")
+    void decrease_상품없음() {
+        // given
+        given(productRepository.decreaseStockIfAvailable(999L, 1)).willReturn(0);
+        given(productRepository.findAvailableStockById(999L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> strategy.decrease(999L, 1))
+                .isInstanceOf(ProductNotFoundException.class);
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.api_server.product.stock;
+
+import com.example.api_server.order.domain.Order;
+import com.example.api_server.order.domain.OrderStatus;
+import com.example.api_server.order.repository.OrderRepository;
+import com.example.api_server.product.domain.Product;
+import com.example.api_server.product.repository.ProductRepository;
+import com.example.api_server.product.service.ProductService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@DisplayName("HotStockLedger 통합 테스트")
+class HotStockLedgerIntegrationTest {
+
+    @Autowired
+    private HotStockLedger hotStockLedger;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        productId = productRepository.save(Product.builder()
+                .name("라이브 특가 상품")
+                .basePrice(50000L)
+                .discountPrice(39000L)
+                .availableStock(100)
+                .available(true)
+                .build()).getProductId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        hotStockLedger.unregister(productId);
+        orderRepository.deleteAll();
+        productRepository.deleteById(productId);
+    }
+
+    @Test
+    @DisplayName("인기 상품 재고 차감은 원장에서 처리되고 반영 시 DB에 기록된다")
+    void decreaseStock_원장차감_일괄반영() {
+        // given
+        hotStockLedger.register(productId);
+
+        // when
+        productService.decreaseStock(productId, 3);
+        productService.decreaseStock(productId, 2);
+
+        // then
+        assertThat(hotStockLedger.availableStock(productId)).hasValue(95);
+        hotStockLedger.flush();
+        assertThat(productRepository.findAvailableStockById(productId)).contains(95);
+    }
+
+    @Test
+    @DisplayName("비정상 종료 후 재등록하면 반영되지 않은 결제 완료 수량만큼 재고를 줄여 초과 판매를 막는다")
+    void register_비정상종료_복구() {
+        // given: 이전 원장이 10초 전 마지막으로 반영하고 종료되었고, 그 이후 7개가 결제 완료됨
+        LocalDateTime lastSynced = LocalDateTime.now().minusSeconds(10);
+        jdbcTemplate.update("UPDATE products SET stock_synced_at = ? WHERE product_id = ?",
+                Timestamp.valueOf(lastSynced), productId);
+        orderRepository.save(Order.builder()
+                .orderId("ORD-RECOVERY-0001")
+                .userId(1L)
+                .productId(productId)
+                .quantity(7)
+                .totalAmount(273000L)
+                .status(OrderStatus.PAID)
+                .build());
+
+        // when
+        hotStockLedger.register(productId);
+
+        // then
+        assertThat(hotStockLedger.availableStock(productId)).hasValue(93);
+        assertThat(productRepository.findAvailableStockById(productId)).contains(93);
+    }
+
+    @Test
+    @DisplayName("등록 해제 뒤에 커밋된 증가분은 비정상 종료 흔적을 남기지 않아, 다시 등록할 때 복구 차감하지 않는다")
+    void register_등록해제후늦은증가_재등록시복구안함() {
+        // given: 등록 후 증가 트랜잭션이 커밋되기 전에 등록 해제
+        hotStockLedger.register(productId);
+        transactionTemplate.executeWithoutResult(status -> {
+            assertThat(hotStockLedger.tryIncrease(productId, 5)).isTrue();
+            CompletableFuture.runAsync(() -> hotStockLedger.unregister(productId)).join();
+        });
+
+        // then: 증가분은 DB에 반영되고 소유 해제 상태(stock_synced_at = null)가 유지됨
+        assertThat(productRepository.findAvailableStockById(productId)).contains(105);
+        assertThat(jdbcTemplate.queryForObject("SELECT stock_synced_at FROM products WHERE product_id = ?",
+                Timestamp.class, productId)).isNull();
+
+        // given: DB가 재고를 소유하는 동안 결제 완료된 주문 (DB 재고에서 이미 차감된 것으로 가정)
+        orderRepository.save(Order.builder()
+                .orderId("ORD-LATE-INCREASE-0001")
+                .userId(1L)
+                .productId(productId)
+                .quantity(7)
+                .totalAmount(273000L)
+                .status(OrderStatus.PAID)
+                .build());
+
+        // when
+        hotStockLedger.register(productId);
+
+        // then: 복구 차감 없이 DB 재고로 시작
+        assertThat(hotStockLedger.availableStock(productId)).hasValue(105);
+    }
+}
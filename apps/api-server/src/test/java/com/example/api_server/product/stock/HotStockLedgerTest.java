@@ -0,0 +1,247 @@
+package com.example.api_server.product.stock;
+
+import com.example.api_server.common.exception.OutOfStockException;
+import com.example.api_server.product.cache.ProductCacheInvalidator;
+import com.example.api_server.product.repository.ProductStockJdbcRepository;
+import com.example.api_server.product.repository.ProductStockJdbcRepository.StockDelta;
+import com.example.api_server.product.repository.ProductStockJdbcRepository.StockSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("HotStockLedger 테스트")
+@ExtendWith(MockitoExtension.class)
+class HotStockLedgerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 12, 5, 20, 0);
+
+    @Mock
+    private ProductStockJdbcRepository productStockJdbcRepository;
+
+    @Mock
+    private ProductCacheInvalidator productCacheInvalidator;
+
+    private HotStockLedger ledger;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2025-12-05T20:00:00Z"), ZoneId.of("UTC"));
+        ledger = new HotStockLedger(productStockJdbcRepository, productCacheInvalidator, List.of(), 8, clock);
+    }
+
+    @Test
+    @DisplayName("정상 종료 후 등록하면 DB 재고를 그대로 가져온다")
+    void register_정상종료후_DB재고사용() {
+        // given
+        given(productStockJdbcRepository.findStockSnapshot(1L))
+                .willReturn(Optional.of(new StockSnapshot(100, null)));
+
+        // when
+        ledger.register(1L);
+
+        // then
+        assertThat(ledger.availableStock(1L)).hasValue(100);
+        verify(productStockJdbcRepository).claimOwnership(1L, 100, NOW);
+        verify(productStockJdbcRepository, never()).sumUnflushedQuantitySince(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("비정상 종료 흔적이 있으면 마지막 반영 이후 차감되었을 수 있는 수량을 빼서 복구한다")
+    void register_비정상종료후_복구() {
+        // given
+        LocalDateTime lastSynced = NOW.minusSeconds(5);
+        given(productStockJdbcRepository.findStockSnapshot(1L))
+                .willReturn(Optional.of(new StockSnapshot(100, lastSynced)));
+        given(productStockJdbcRepository.sumUnflushedQuantitySince(1L, lastSynced)).willReturn(30);
+
+        // when
+        ledger.register(1L);
+
+        // then
+        assertThat(ledger.availableStock(1L)).hasValue(70);
+        verify(productStockJdbcRepository).claimOwnership(1L, 70, NOW);
+    }
+
+    @Test
+    @DisplayName("인기 상품이 아니면 차감하지 않고 false를 반환한다")
+    void tryDecrease_인기상품아님() {
+        // when & then
+        assertThat(ledger.tryDecrease(2L, 1)).isFalse();
+        assertThat(ledger.availableStock(2L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재고가 부족하면 차감하지 않고 OutOfStockException이 발생한다")
+    void tryDecrease_재고부족() {
+        // given
+        given(productStockJdbcRepository.findStockSnapshot(1L))
+                .willReturn(Optional.of(new StockSnapshot(1, null)));
+        ledger.register(1L);
+
+        // when & then
+        assertThatThrownBy(() -> ledger.tryDecrease(1L, 2))
+                .isInstanceOf(OutOfStockException.class);
+        assertThat(ledger.availableStock(1L)).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("차감분은 반영 주기에 한 번의 배치로 DB에 반영된다")
+    void flush_순차감분_일괄반영() {
+        // given
+        given(productStockJdbcRepository.findStockSnapshot(1L))
+                .willReturn(Optional.of(new StockSnapshot(100, null)));
+        ledger.register(1L);
+        ledger.tryDecrease(1L, 2);
+        ledger.tryDecrease(1L, 3);
+        ledger.tryIncrease(1L, 1);
+
+        // when
+        ledger.flush();
+        ledger.flush();
+
+        // then
+        assertThat(ledger.availableStock(1L)).hasValue(96);
+        verify(productStockJdbcRepository, times(1)).applyStockDeltas(List.of(new StockDelta(1L, 4)), NOW);
+    }
+
+    @Test
+    @DisplayName("DB 반영에 실패하면 차감분을 유지해 다음 주기에 재시도한다")
+    void flush_실패시_재시도() {
+        // given
+        given(productStockJdbcRepository.findStockSnapshot(1L))
+                .willReturn(Optional.of(new StockSnapshot(100, null)));
+        ledger.register(1L);
+        ledger.tryDecrease(1L, 5);
+        willThrow(new IllegalStateException("db down"))
+                .willDoNothing()
+                .given(productStockJdbcRepository).applyStockDeltas(List.of(new StockDelta(1L, 5)), NOW);
+
+        // when
+        ledger.flush();
+        ledger.flush();
+
+        // then
+        verify(productStockJdbcRepository, times(2)).applyStockDeltas(List.of(new StockDelta(1L, 5)), NOW);
+    }
+
+    @Test
+    @DisplayName("차감한 트랜잭션이 롤백되면 원장 재고가 복원된다")
+    void tryDecrease_롤백시_복원() {
+        // given
+        given(productStockJdbcRepository.findStockSnapshot(1L))
+                .willReturn(Optional.of(new StockSnapshot(10, null)));
+        ledger.register(1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            ledger.tryDecrease(1L, 4);
+            assertThat(ledger.availableStock(1L)).hasValue(6);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        assertThat(ledger.availableStock(1L)).hasValue(10);
+        ledger.flush();
+        verify(productStockJdbcRepository, never()).applyStockDeltas(any(), any());
+    }
+
+    @Test
+    @DisplayName("등록 해제 시 남은 차감분을 반영하고 소유를 해제한다")
+    void unregister_차감분반영_소유해제() {
+        // given
+        given(productStockJdbcRepository.findStockSnapshot(1L))
+                .willReturn(Optional.of(new StockSnapshot(10, null)));
+        ledger.register(1L);
+        ledger.tryDecrease(1L, 3);
+
+        // when
+        ledger.unregister(1L);
+
+        // then
+        assertThat(ledger.isHot(1L)).isFalse();
+        verify(productStockJdbcRepository).applyStockDeltas(List.of(new StockDelta(1L, 3)), NOW);
+        verify(productStockJdbcRepository).releaseOwnership(1L);
+    }
+
+    @Test
+    @DisplayName("반영 중에 등록 해제되면 반영이 끝난 뒤에 소유를 해제하여 늦은 반영이 동기화 시각을 다시 설정하지 않는다")
+    void flush_등록해제경합_반영후소유해제() throws Exception {
+        // given: DB 반영이 끝나지 않은 상태에서 등록 해제
+        given(productStockJdbcRepository.findStockSnapshot(1L))
+                .willReturn(Optional.of(new StockSnapshot(10, null)));
+        ledger.register(1L);
+        ledger.tryDecrease(1L, 3);
+        CountDownLatch applying = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            applying.countDown();
+            assertThat(proceed.await(5, TimeUnit.SECONDS)).isTrue();
+            return null;
+        }).given(productStockJdbcRepository).applyStockDeltas(List.of(new StockDelta(1L, 3)), NOW);
+
+        // when
+        CompletableFuture<Void> flushing = CompletableFuture.runAsync(ledger::flush);
+        assertThat(applying.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Void> unregistering = CompletableFuture.runAsync(() -> ledger.unregister(1L));
+        Thread.sleep(100);
+
+        // then: 반영이 끝날 때까지 소유를 해제하지 않음
+        assertThat(unregistering).isNotDone();
+        verify(productStockJdbcRepository, never()).releaseOwnership(1L);
+        proceed.countDown();
+        flushing.get(5, TimeUnit.SECONDS);
+        unregistering.get(5, TimeUnit.SECONDS);
+
+        InOrder inOrder = inOrder(productStockJdbcRepository);
+        inOrder.verify(productStockJdbcRepository).applyStockDeltas(List.of(new StockDelta(1L, 3)), NOW);
+        inOrder.verify(productStockJdbcRepository).releaseOwnership(1L);
+        verify(productStockJdbcRepository, times(1)).applyStockDeltas(any(), any());
+    }
+
+    @Test
+    @DisplayName("등록 해제 뒤에 커밋된 증가분은 동기화 시각을 설정하지 않고 DB 재고에 직접 반영한다")
+    void tryIncrease_커밋사이등록해제_DB직접반영() {
+        // given
+        given(productStockJdbcRepository.findStockSnapshot(1L))
+                .willReturn(Optional.of(new StockSnapshot(10, null)));
+        ledger.register(1L);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertThat(ledger.tryIncrease(1L, 2)).isTrue();
+            ledger.unregister(1L);
+
+            // when: 커밋
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        verify(productStockJdbcRepository).increaseStock(1L, 2);
+        verify(productStockJdbcRepository, never()).applyStockDeltas(any(), any());
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.api_server.product.stock;
+
+import com.example.api_server.common.exception.OutOfStockException;
+import com.example.api_server.common.exception.StockConflictException;
+import com.example.api_server.product.domain.Product;
+import com.example.api_server.product.repository.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 재고 차감 전략 경합 벤치마크
+ * 단일 상품에 1/8/64/256명의 구매자가 동시에 1개씩 매진될 때까지 구매하며,
+ * 전략별 처리량(건/초), 충돌/락 실패 횟수와 초과 판매 여부를 측정
+ *
+ * 실행: ./gradlew benchmark --tests '*StockDecrementContentionBenchmark*'
+ */
+@Tag("benchmark")
+@SpringBootTest
+@DisplayName("재고 차감 전략 경합 벤치마크")
+class StockDecrementContentionBenchmark {
+
+    private static final int STOCK = Integer.getInteger("benchmark.stock", 2_000);
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    static Stream<Arguments> scenarios() {
+        List<Arguments> arguments = new ArrayList<>();
+        for (String strategy : List.of("conditional-update", "optimistic", "pessimistic")) {
+            for (int buyers : new int[]{1, 8, 64, 256}) {
+                arguments.add(Arguments.of(strategy, buyers));
+            }
+        }
+        return arguments.stream();
+    }
+
+    @ParameterizedTest(name = "{0} - 구매자 {1}명")
+    @MethodSource("scenarios")
+    void contention(String strategyName, int buyers) throws InterruptedException {
+        StockDecrementStrategy strategy = create(strategyName);
+        Long productId = productRepository.save(Product.builder()
+                .name("벤치마크 상품")
+                .basePrice(10000L)
+                .discountPrice(9000L)
+                .availableStock(STOCK)
+                .available(true)
+                .build()).getProductId();
+
+        AtomicLong sold = new AtomicLong();
+        AtomicLong conflicts = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(buyers);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(buyers);
+
+        for (int i = 0; i < buyers; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    while (true) {
+                        try {
+                            transactionTemplate.executeWithoutResult(status -> strategy.decrease(productId, 1));
+                            sold.incrementAndGet();
+                        } catch (StockConflictException | ConcurrencyFailureException e) {
+                            conflicts.incrementAndGet();
+                        } catch (OutOfStockException e) {
+                            return;
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        assertThat(done.await(10, TimeUnit.MINUTES)).isTrue();
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executor.shutdown();
+
+        double throughput = sold.get() / (elapsedNanos / 1_000_000_000.0);
+        System.out.printf("[stock-contention] strategy=%-18s buyers=%4d sold=%6d conflicts=%7d elapsed=%8.1fms throughput=%10.1f ops/s%n",
+                strategyName, buyers, sold.get(), conflicts.get(), elapsedNanos / 1_000_000.0, throughput);
+
+        // 갱신 유실/초과 판매가 없어야 함
+        assertThat(sold.get()).isEqualTo(STOCK);
+        assertThat(productRepository.findAvailableStockById(productId)).contains(0);
+        productRepository.deleteById(productId);
+    }
+
+    private StockDecrementStrategy create(String strategyName) {
+        return switch (strategyName) {
+            case "conditional-update" -> new ConditionalUpdateStockDecrementStrategy(productRepository);
+            case "optimistic" -> new OptimisticLockStockDecrementStrategy(productRepository);
+            case "pessimistic" -> new PessimisticLockStockDecrementStrategy(productRepository);
+            default -> throw new IllegalArgumentException(strategyName);
+        };
+    }
+}
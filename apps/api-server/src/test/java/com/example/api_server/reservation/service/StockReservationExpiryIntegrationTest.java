@@ -0,0 +1,91 @@
+package com.example.api_server.reservation.service;
+
+import com.example.api_server.product.domain.Product;
+import com.example.api_server.product.repository.ProductRepository;
+import com.example.api_server.reservation.domain.ReservationStatus;
+import com.example.api_server.reservation.repository.StockReservationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "app.stock.reservation.ttl=300ms",
+        "app.stock.reservation.tick-duration=50ms"
+})
+@DisplayName("재고 예약 만료 통합 테스트")
+class StockReservationExpiryIntegrationTest {
+
+    @Autowired
+    private StockReservationService stockReservationService;
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        productId = productRepository.save(Product.builder()
+                .name("예약 테스트 상품")
+                .basePrice(10000L)
+                .discountPrice(9000L)
+                .availableStock(10)
+                .available(true)
+                .build()).getProductId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stockReservationRepository.deleteAll();
+        productRepository.deleteById(productId);
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 예약이 만료되고 재고가 되돌아온다")
+    void reserve_만료후_재고복원() throws Exception {
+        // given
+        stockReservationService.reserve("ORD-EXPIRY-0001", productId, 3);
+        assertThat(productRepository.findAvailableStockById(productId)).contains(7);
+
+        // when
+        awaitStatus("ORD-EXPIRY-0001", ReservationStatus.EXPIRED);
+
+        // then
+        assertThat(productRepository.findAvailableStockById(productId)).contains(10);
+    }
+
+    @Test
+    @DisplayName("확정된 예약은 TTL이 지나도 재고가 되돌아오지 않는다")
+    void confirm_만료되지않음() throws Exception {
+        // given
+        stockReservationService.reserve("ORD-EXPIRY-0002", productId, 3);
+
+        // when
+        stockReservationService.confirm("ORD-EXPIRY-0002", productId, 3);
+        Thread.sleep(600);
+
+        // then
+        assertThat(stockReservationRepository.findById("ORD-EXPIRY-0002"))
+                .hasValueSatisfying(r -> assertThat(r.getStatus()).isEqualTo(ReservationStatus.CONFIRMED));
+        assertThat(productRepository.findAvailableStockById(productId)).contains(7);
+    }
+
+    private void awaitStatus(String orderId, ReservationStatus status) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline) {
+            if (stockReservationRepository.findById(orderId).map(r -> r.getStatus() == status).orElse(false)) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        fail("reservation " + orderId + " did not reach " + status);
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.api_server.reservation.service;
+
+import com.example.api_server.reservation.repository.StockReservationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("StockReservationExpiryScheduler 테스트")
+@ExtendWith(MockitoExtension.class)
+class StockReservationExpirySchedulerTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-12-05T01:00:00Z"), ZoneId.of("Asia/Seoul"));
+
+    @Mock
+    private StockReservationRepository stockReservationRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private StockReservationExpiryScheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("만료된 예약은 타이밍 휠 스레드가 아닌 작업 스레드에서 처리하며, 만료 시각은 주입한 Clock 기준으로 계산한다")
+    void 만료처리_작업스레드() throws Exception {
+        // given
+        List<String> threads = new CopyOnWriteArrayList<>();
+        CountDownLatch expired = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            threads.add(Thread.currentThread().getName());
+            expired.countDown();
+            return null;
+        }).given(eventPublisher).publishEvent(any(Object.class));
+        scheduler = scheduler(2, 8);
+
+        // when: Clock 기준 50ms 후 만료 (시스템 시각 기준이면 이미 지났거나 한참 뒤)
+        scheduler.scheduleAfterCommit("ORD-1", LocalDateTime.now(CLOCK).plus(Duration.ofMillis(50)));
+
+        // then
+        assertThat(expired.await(5, TimeUnit.SECONDS)).isTrue();
+        verify(eventPublisher).publishEvent(new StockReservationsExpiredEvent(List.of("ORD-1")));
+        assertThat(threads).singleElement().asString().startsWith("stock-reservation-expiry-worker-");
+    }
+
+    @Test
+    @DisplayName("만료 처리가 실패하면 retry-delay 후에 다시 만료시킨다")
+    void 만료처리실패_재시도() throws Exception {
+        // given
+        CountDownLatch retried = new CountDownLatch(2);
+        willAnswer(invocation -> {
+            retried.countDown();
+            if (retried.getCount() > 0) {
+                throw new IllegalStateException("connection reset");
+            }
+            return null;
+        }).given(eventPublisher).publishEvent(any(Object.class));
+        scheduler = scheduler(1, 1);
+
+        // when
+        scheduler.scheduleAfterCommit("ORD-1", LocalDateTime.now(CLOCK));
+
+        // then
+        assertThat(retried.await(5, TimeUnit.SECONDS)).isTrue();
+        verify(eventPublisher, times(2)).publishEvent(new StockReservationsExpiredEvent(List.of("ORD-1")));
+    }
+
+    private StockReservationExpiryScheduler scheduler(int workers, int queueCapacity) {
+        return new StockReservationExpiryScheduler(stockReservationRepository, eventPublisher, transactionTemplate,
+                Duration.ofMillis(10), 64, 500, Duration.ofMillis(50), workers, queueCapacity, CLOCK);
+    }
+}
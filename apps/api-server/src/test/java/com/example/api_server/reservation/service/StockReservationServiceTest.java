@@ -0,0 +1,219 @@
+package com.example.api_server.reservation.service;
+
+import com.example.api_server.common.exception.OutOfStockException;
+import com.example.api_server.product.service.ProductService;
+import com.example.api_server.reservation.domain.ReservationStatus;
+import com.example.api_server.reservation.domain.StockReservation;
+import com.example.api_server.reservation.repository.StockReservationJdbcRepository;
+import com.example.api_server.reservation.repository.StockReservationRepository;
+import com.example.api_server.reservation.service.StockReservationService.ReservationItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("StockReservationService 테스트")
+@ExtendWith(MockitoExtension.class)
+class StockReservationServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 12, 5, 20, 0);
+    private static final String ORDER_ID = "ORD-20251205-0001";
+
+    @Mock
+    private StockReservationRepository stockReservationRepository;
+
+    @Mock
+    private StockReservationJdbcRepository stockReservationJdbcRepository;
+
+    @Mock
+    private ProductService productService;
+
+    @Mock
+    private StockReservationExpiryScheduler expiryScheduler;
+
+    private StockReservationService stockReservationService;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2025-12-05T20:00:00Z"), ZoneId.of("UTC"));
+        stockReservationService = new StockReservationService(
+                stockReservationRepository, stockReservationJdbcRepository, productService, expiryScheduler, Duration.ofMinutes(10), clock);
+    }
+
+    @Test
+    @DisplayName("예약 시 재고를 차감하고 TTL 후 만료되도록 등록한다")
+    void reserve_성공() {
+        // when
+        stockReservationService.reserve(ORDER_ID, 1L, 2);
+
+        // then
+        verify(productService).decreaseStock(1L, 2);
+        ArgumentCaptor<StockReservation> captor = ArgumentCaptor.forClass(StockReservation.class);
+        verify(stockReservationRepository).save(captor.capture());
+        StockReservation reservation = captor.getValue();
+        assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.ACTIVE);
+        assertThat(reservation.getExpiresAt()).isEqualTo(NOW.plusMinutes(10));
+        verify(expiryScheduler).scheduleAfterCommit(ORDER_ID, NOW.plusMinutes(10));
+    }
+
+    @Test
+    @DisplayName("재고가 부족하면 예약을 저장하지 않는다")
+    void reserve_재고부족() {
+        // given
+        willThrow(new OutOfStockException(2, 1)).given(productService).decreaseStock(1L, 2);
+
+        // when & then
+        assertThatThrownBy(() -> stockReservationService.reserve(ORDER_ID, 1L, 2))
+                .isInstanceOf(OutOfStockException.class);
+        verify(stockReservationRepository, never()).save(any());
+        verify(expiryScheduler, never()).scheduleAfterCommit(any(), any());
+    }
+
+    @Test
+    @DisplayName("일괄 예약 시 상품별 합산 수량으로 상품 ID 순서대로 한 번씩 차감하고 예약을 한 번에 기록한다")
+    void reserveAll_상품별합산차감() {
+        // given
+        List<ReservationItem> items = List.of(
+                new ReservationItem("ORD-20251205-0001", 2L, 1),
+                new ReservationItem("ORD-20251205-0002", 1L, 2),
+                new ReservationItem("ORD-20251205-0003", 2L, 3));
+
+        // when
+        stockReservationService.reserveAll(items);
+
+        // then
+        InOrder inOrder = inOrder(productService);
+        inOrder.verify(productService).decreaseStock(1L, 2);
+        inOrder.verify(productService).decreaseStock(2L, 4);
+        verifyNoMoreInteractions(productService);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<StockReservation>> captor = ArgumentCaptor.forClass(List.class);
+        verify(stockReservationJdbcRepository).insertAll(captor.capture());
+        assertThat(captor.getValue()).extracting(StockReservation::getOrderId, StockReservation::getStatus)
+                .containsExactly(
+                        tuple("ORD-20251205-0001", ReservationStatus.ACTIVE),
+                        tuple("ORD-20251205-0002", ReservationStatus.ACTIVE),
+                        tuple("ORD-20251205-0003", ReservationStatus.ACTIVE));
+        verify(expiryScheduler, times(3)).scheduleAfterCommit(any(), eq(NOW.plusMinutes(10)));
+        verify(stockReservationRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("ACTIVE 예약을 확정하면 재고를 다시 차감하지 않고 만료를 취소한다")
+    void confirm_활성예약() {
+        // given
+        given(stockReservationRepository.transitStatus(ORDER_ID, ReservationStatus.ACTIVE, ReservationStatus.CONFIRMED, NOW))
+                .willReturn(1);
+
+        // when
+        stockReservationService.confirm(ORDER_ID, 1L, 2);
+
+        // then
+        verify(productService, never()).decreaseStock(any(), anyInt());
+        verify(expiryScheduler).cancelAfterCommit(ORDER_ID);
+    }
+
+    @Test
+    @DisplayName("만료된 예약을 확정하면 재고를 다시 차감한 뒤 확정한다")
+    void confirm_만료예약_재차감() {
+        // given
+        given(stockReservationRepository.transitStatus(ORDER_ID, ReservationStatus.ACTIVE, ReservationStatus.CONFIRMED, NOW))
+                .willReturn(0);
+        given(stockReservationRepository.findById(ORDER_ID)).willReturn(Optional.of(reservation(ReservationStatus.EXPIRED)));
+
+        // when
+        stockReservationService.confirm(ORDER_ID, 1L, 2);
+
+        // then
+        verify(productService).decreaseStock(1L, 2);
+        verify(stockReservationRepository).transitStatus(ORDER_ID, ReservationStatus.EXPIRED, ReservationStatus.CONFIRMED, NOW);
+    }
+
+    @Test
+    @DisplayName("만료된 예약을 확정할 때 재고가 소진되었으면 OutOfStockException이 발생한다")
+    void confirm_만료예약_재고소진() {
+        // given
+        given(stockReservationRepository.transitStatus(ORDER_ID, ReservationStatus.ACTIVE, ReservationStatus.CONFIRMED, NOW))
+                .willReturn(0);
+        given(stockReservationRepository.findById(ORDER_ID)).willReturn(Optional.of(reservation(ReservationStatus.EXPIRED)));
+        willThrow(new OutOfStockException(2, 0)).given(productService).decreaseStock(1L, 2);
+
+        // when & then
+        assertThatThrownBy(() -> stockReservationService.confirm(ORDER_ID, 1L, 2))
+                .isInstanceOf(OutOfStockException.class);
+        verify(stockReservationRepository, never())
+                .transitStatus(ORDER_ID, ReservationStatus.EXPIRED, ReservationStatus.CONFIRMED, NOW);
+    }
+
+    @Test
+    @DisplayName("예약 해제 시 ACTIVE 예약이면 재고를 되돌린다")
+    void release_활성예약() {
+        // given
+        given(stockReservationRepository.findById(ORDER_ID)).willReturn(Optional.of(reservation(ReservationStatus.ACTIVE)));
+        given(stockReservationRepository.transitStatus(ORDER_ID, ReservationStatus.ACTIVE, ReservationStatus.RELEASED, NOW))
+                .willReturn(1);
+
+        // when
+        stockReservationService.release(ORDER_ID);
+
+        // then
+        verify(productService).increaseStock(1L, 2);
+        verify(expiryScheduler).cancelAfterCommit(ORDER_ID);
+    }
+
+    @Test
+    @DisplayName("이미 확정된 예약은 만료되어도 재고를 되돌리지 않는다")
+    void expire_확정예약_무시() {
+        // given
+        given(stockReservationRepository.findById(ORDER_ID)).willReturn(Optional.of(reservation(ReservationStatus.CONFIRMED)));
+
+        // when
+        stockReservationService.expire(new StockReservationsExpiredEvent(List.of(ORDER_ID)));
+
+        // then
+        verify(stockReservationRepository, never()).transitStatus(any(), any(), any(), any());
+        verify(productService, never()).increaseStock(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("만료 직전에 다른 요청이 확정하면 재고를 되돌리지 않는다")
+    void expire_동시확정_무시() {
+        // given
+        given(stockReservationRepository.findById(ORDER_ID)).willReturn(Optional.of(reservation(ReservationStatus.ACTIVE)));
+        given(stockReservationRepository.transitStatus(ORDER_ID, ReservationStatus.ACTIVE, ReservationStatus.EXPIRED, NOW))
+                .willReturn(0);
+
+        // when
+        stockReservationService.expire(new StockReservationsExpiredEvent(List.of(ORDER_ID)));
+
+        // then
+        verify(productService, never()).increaseStock(any(), anyInt());
+    }
+
+    private StockReservation reservation(ReservationStatus status) {
+        return StockReservation.builder()
+                .orderId(ORDER_ID)
+                .productId(1L)
+                .quantity(2)
+                .status(status)
+                .expiresAt(NOW)
+                .build();
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.api_server.common.dto;
+
+import com.example.api_server.order.domain.OrderStatus;
+import com.example.api_server.order.dto.CreateOrderResponse;
+import com.example.api_server.payment.domain.PaymentStatus;
+import com.example.api_server.payment.dto.ApprovePaymentResponse;
+import com.example.api_server.product.domain.Product;
+import com.example.api_server.product.dto.ProductResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 DTO 생성 벤치마크 (Lombok 빌더 경유)
+ * 빌더 객체가 탈출 분석으로 제거되는지 gc 프로파일러의 호출당 할당량으로 확인
+ * 실행: (apps/benchmarks) ./gradlew jmh -PjmhIncludes=ResponseDtoBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResponseDtoBenchmark {
+
+    private String orderId;
+    private Long userId;
+    private Long productId;
+    private Integer quantity;
+    private Long totalAmount;
+    private String paymentKey;
+    private LocalDateTime approvedAt;
+    private Product product;
+
+    @Setup
+    public void setUp() {
+        orderId = "ORD-20251205-036000004096001";
+        userId = 10_482L;
+        productId = 1_003L;
+        quantity = 2;
+        totalAmount = 258_000L;
+        paymentKey = "tviva20251205123456abcDEF";
+        approvedAt = LocalDateTime.of(2025, 12, 5, 12, 34, 56);
+        product = Product.builder()
+                .productId(productId)
+                .name("무선 청소기")
+                .basePrice(150000L)
+                .discountPrice(129000L)
+                .availableStock(10)
+                .available(true)
+                .createdAt(approvedAt)
+                .build();
+    }
+
+    @Benchmark
+    public CreateOrderResponse createOrderResponse() {
+        return CreateOrderResponse.builder()
+                .orderId(orderId)
+                .userId(userId)
+                .productId(productId)
+                .quantity(quantity)
+                .totalAmount(totalAmount)
+                .status(OrderStatus.PENDING_PAYMENT)
+                .build();
+    }
+
+    @Benchmark
+    public ApprovePaymentResponse approvePaymentResponse() {
+        return ApprovePaymentResponse.builder()
+                .orderId(orderId)
+                .paymentId(1L)
+                .paymentKey(paymentKey)
+                .amount(totalAmount)
+                .paymentStatus(PaymentStatus.APPROVED)
+                .orderStatus(OrderStatus.PAID)
+                .approvedAt(approvedAt)
+                .build();
+    }
+
+    @Benchmark
+    public ProductResponse productResponseFrom() {
+        return ProductResponse.from(product);
+    }
+}
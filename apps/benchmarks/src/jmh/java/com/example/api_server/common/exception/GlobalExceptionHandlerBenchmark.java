@@ -0,0 +1,72 @@
+package com.example.api_server.common.exception;
+
+import com.example.api_server.common.dto.ErrorResponse;
+import com.example.api_server.order.dto.CreateOrderRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전역 예외 핸들러 응답 생성 벤치마크
+ * 로그 출력 비용을 빼고 ErrorResponse/ResponseEntity 생성만 보기 위해 src/jmh/resources/logback.xml에서 로그를 끔
+ * 실행: (apps/benchmarks) ./gradlew jmh -PjmhIncludes=GlobalExceptionHandlerBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GlobalExceptionHandlerBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private OutOfStockException outOfStock;
+    private MethodArgumentNotValidException validationFailed;
+
+    @Setup
+    public void setUp() throws Exception {
+        handler = new GlobalExceptionHandler();
+        outOfStock = new OutOfStockException(15, 10);
+
+        CreateOrderRequest request = CreateOrderRequest.builder().userId(1L).productId(1L).quantity(0).build();
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(request, "createOrderRequest");
+        bindingResult.addError(new FieldError("createOrderRequest", "quantity", "수량은 1 이상이어야 합니다."));
+        bindingResult.addError(new FieldError("createOrderRequest", "productId", "상품 ID는 필수입니다."));
+        MethodParameter parameter = new MethodParameter(
+                GlobalExceptionHandlerBenchmark.class.getDeclaredMethod("validationTarget", CreateOrderRequest.class), 0);
+        validationFailed = new MethodArgumentNotValidException(parameter, bindingResult);
+    }
+
+    /**
+     * 이미 생성된 비즈니스 예외의 응답 변환만 측정
+     */
+    @Benchmark
+    public ResponseEntity<ErrorResponse> businessException() {
+        return handler.handleBadRequestException(outOfStock);
+    }
+
+    /**
+     * 예외 생성(스택 트레이스 채우기 + detail 포맷팅)부터 응답 변환까지 측정
+     */
+    @Benchmark
+    public ResponseEntity<ErrorResponse> businessExceptionWithCreation() {
+        return handler.handleBadRequestException(new OutOfStockException(15, 10));
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> validationException() {
+        return handler.handleValidationException(validationFailed);
+    }
+
+    @SuppressWarnings("unused")
+    private void validationTarget(CreateOrderRequest request) {
+    }
+}
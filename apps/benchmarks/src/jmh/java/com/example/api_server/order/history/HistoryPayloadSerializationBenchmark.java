@@ -0,0 +1,71 @@
+package com.example.api_server.order.history;
+
+import com.example.api_server.order.dto.CreateOrderRequest;
+import com.example.api_server.payment.dto.ApprovePaymentRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 이력 payload 직렬화 벤치마크 (요청 DTO → JSON)
+ * 공용 ObjectMapper 호출과 타입별로 미리 만들어 둔 ObjectWriter 재사용을 비교
+ * 실행: (apps/benchmarks) ./gradlew jmh -PjmhIncludes=HistoryPayloadSerialization
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HistoryPayloadSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter createOrderWriter;
+    private ObjectWriter approvePaymentWriter;
+    private CreateOrderRequest createOrderRequest;
+    private ApprovePaymentRequest approvePaymentRequest;
+
+    @Setup
+    public void setUp() {
+        // JacksonConfig와 동일한 설정
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        createOrderWriter = objectMapper.writerFor(CreateOrderRequest.class);
+        approvePaymentWriter = objectMapper.writerFor(ApprovePaymentRequest.class);
+        createOrderRequest = CreateOrderRequest.builder()
+                .userId(10_482L)
+                .productId(1_003L)
+                .quantity(2)
+                .build();
+        approvePaymentRequest = ApprovePaymentRequest.builder()
+                .orderId("ORD-20251205-036000004096001")
+                .paymentKey("tviva20251205123456abcDEF")
+                .amount(258_000L)
+                .build();
+    }
+
+    @Benchmark
+    public String createOrderRequest() throws Exception {
+        return objectMapper.writeValueAsString(createOrderRequest);
+    }
+
+    @Benchmark
+    public String createOrderRequestWithWriter() throws Exception {
+        return createOrderWriter.writeValueAsString(createOrderRequest);
+    }
+
+    @Benchmark
+    public String approvePaymentRequest() throws Exception {
+        return objectMapper.writeValueAsString(approvePaymentRequest);
+    }
+
+    @Benchmark
+    public String approvePaymentRequestWithWriter() throws Exception {
+        return approvePaymentWriter.writeValueAsString(approvePaymentRequest);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.api_server.order.history;
+
+import com.example.api_server.order.domain.PayloadCodec;
+import com.example.api_server.order.dto.CreateOrderRequest;
+import com.example.api_server.payment.dto.ApprovePaymentRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 이력 payload 인코딩 벤치마크
+ * 기존 방식(ObjectMapper.writeValueAsString → TEXT)과 OrderHistoryPayloadCodec(CBOR_V1)의 인코딩/JSON 복원 처리량 비교
+ * 이벤트당 바이트 수는 Setup에서 출력: (apps/benchmarks) ./gradlew jmh -PjmhIncludes=OrderHistoryPayloadCodec
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderHistoryPayloadCodecBenchmark {
+
+    @Param({"ORDER_CREATED", "PAYMENT_APPROVED"})
+    private String event;
+
+    private ObjectMapper objectMapper;
+    private OrderHistoryPayloadCodec codec;
+    private Object payload;
+    private String json;
+    private byte[] cbor;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        codec = new OrderHistoryPayloadCodec(objectMapper, PayloadCodec.CBOR_V1);
+        payload = switch (event) {
+            case "ORDER_CREATED" -> CreateOrderRequest.builder()
+                    .userId(10_482L)
+                    .productId(1_003L)
+                    .quantity(2)
+                    .build();
+            default -> ApprovePaymentRequest.builder()
+                    .orderId("ORD-20251205-036000004096001")
+                    .paymentKey("tviva20251205123456abcDEF")
+                    .amount(258_000L)
+                    .build();
+        };
+        json = objectMapper.writeValueAsString(payload);
+        cbor = codec.encode(payload).bytes();
+        System.out.printf("%n[%s] bytes per event - json: %d, cbor: %d%n",
+                event, json.getBytes(StandardCharsets.UTF_8).length, cbor.length);
+    }
+
+    @Benchmark
+    public String legacyJsonEncode() throws Exception {
+        return objectMapper.writeValueAsString(payload);
+    }
+
+    @Benchmark
+    public byte[] cborEncode() {
+        return codec.encode(payload).bytes();
+    }
+
+    @Benchmark
+    public String cborDecodeToJson() {
+        return codec.toJson(PayloadCodec.CBOR_V1, cbor, null);
+    }
+
+    @Benchmark
+    public String legacyJsonRead() {
+        return codec.toJson(null, null, json);
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.api_server.order.id;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 ID 생성 벤치마크
+ * 기존 방식(DateTimeFormatter + String.format + new Random)과 SnowflakeOrderIdGenerator 비교
+ * gc 프로파일러로 호출당 할당량도 함께 확인: (apps/benchmarks) ./gradlew jmh -PjmhIncludes=OrderIdGenerator
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderIdGeneratorBenchmark {
+
+    private SnowflakeOrderIdGenerator snowflake;
+
+    @Setup
+    public void setUp() {
+        snowflake = new SnowflakeOrderIdGenerator(1);
+    }
+
+    @Benchmark
+    public String legacyFormat() {
+        String datePart = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        String randomPart = String.format("%04d", new Random().nextInt(10000));
+        return String.format("ORD-%s-%s", datePart, randomPart);
+    }
+
+    @Benchmark
+    public String snowflake() {
+        return snowflake.nextId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String snowflakeContended() {
+        return snowflake.nextId();
+    }
+}
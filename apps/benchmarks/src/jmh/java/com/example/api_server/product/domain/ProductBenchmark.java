@@ -0,0 +1,62 @@
+package com.example.api_server.product.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 재고 검증/차감 벤치마크
+ * availableStock이 Integer라 캐시 범위(-128~127)를 벗어난 재고 차감은 호출마다 박싱 할당이 발생
+ * 실행: (apps/benchmarks) ./gradlew jmh -PjmhIncludes=ProductBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProductBenchmark {
+
+    private static final int INITIAL_STOCK = 1_000_000;
+
+    private Product product;
+
+    @Setup
+    public void setUp() {
+        product = newProduct();
+    }
+
+    @Benchmark
+    public boolean isAvailable() {
+        return product.isAvailable();
+    }
+
+    @Benchmark
+    public boolean hasEnoughStock() {
+        return product.hasEnoughStock(2);
+    }
+
+    @Benchmark
+    public Integer decreaseStock() {
+        // 재고가 소진되면 새 상품으로 교체 (INITIAL_STOCK회에 한 번이라 측정값에 미치는 영향은 무시 가능)
+        if (!product.hasEnoughStock(1)) {
+            product = newProduct();
+        }
+        product.decreaseStock(1);
+        return product.getAvailableStock();
+    }
+
+    private static Product newProduct() {
+        return Product.builder()
+                .productId(1L)
+                .name("무선 청소기")
+                .basePrice(150000L)
+                .discountPrice(129000L)
+                .availableStock(INITIAL_STOCK)
+                .available(true)
+                .build();
+    }
+}
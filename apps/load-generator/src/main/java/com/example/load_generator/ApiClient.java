@@ -0,0 +1,120 @@
+package com.example.load_generator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * api-server HTTP 클라이언트 (JDK HttpClient 비동기 호출)
+ */
+public class ApiClient {
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final Duration requestTimeout;
+
+    public ApiClient(String baseUrl, Duration requestTimeout) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(requestTimeout)
+                .build();
+        this.objectMapper = new ObjectMapper();
+        this.baseUrl = baseUrl;
+        this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * JSON 본문으로 POST 요청
+     */
+    public CompletableFuture<ApiResponse> post(String path, Map<String, Object> body) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(toJson(body)))
+                .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(response -> new ApiResponse(response.statusCode(), parse(response.body())));
+    }
+
+    /**
+     * 상품 키셋 페이지 조회로 판매 가능한 상품 ID를 최대 limit개 수집
+     */
+    public List<Long> fetchAvailableProductIds(int limit) throws IOException, InterruptedException {
+        List<Long> productIds = new ArrayList<>();
+        String after = null;
+        while (productIds.size() < limit) {
+            String query = "/api/products?limit=" + Math.min(limit, 100) + (after == null ? "" : "&after=" + after);
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + query))
+                    .timeout(requestTimeout)
+                    .GET()
+                    .build();
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() != 200) {
+                throw new IOException("GET " + query + " returned " + response.statusCode());
+            }
+
+            JsonNode page = parse(response.body());
+            for (JsonNode item : page.path("items")) {
+                if (item.path("available").asBoolean() && productIds.size() < limit) {
+                    productIds.add(item.path("productId").asLong());
+                }
+            }
+            if (!page.path("hasNext").asBoolean()) {
+                break;
+            }
+            after = page.path("nextCursor").asText();
+        }
+        return productIds;
+    }
+
+    private byte[] toJson(Map<String, Object> body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private JsonNode parse(byte[] body) {
+        if (body == null || body.length == 0) {
+            return MissingNode.getInstance();
+        }
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            return MissingNode.getInstance();
+        }
+    }
+
+    /**
+     * @param status HTTP 상태 코드
+     * @param body   응답 본문 (JSON이 아니면 MissingNode)
+     */
+    public record ApiResponse(int status, JsonNode body) {
+
+        public boolean isSuccessful() {
+            return status >= 200 && status < 300;
+        }
+
+        /**
+         * ErrorResponse의 code 필드 (없으면 null)
+         */
+        public String errorCode() {
+            JsonNode code = body.path("code");
+            return code.isTextual() ? code.asText() : null;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.load_generator;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 / 엔드포인트+결과(상태 코드, 에러 코드)별 지연 히스토그램
+ * HdrHistogram Recorder로 여러 스레드에서 잠금 없이 기록하고, 리포트 시점에 한 번에 수집
+ * 지연은 마이크로초 단위, 유효 숫자 3자리
+ */
+public class LatencyReport {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final Map<String, Recorder> byEndpoint = new ConcurrentHashMap<>();
+    private final Map<String, Recorder> byOutcome = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * @param endpoint     예: POST /api/orders
+     * @param outcome      예: 201, 400 OUT_OF_STOCK, TIMEOUT
+     * @param latencyNanos 지연 (나노초)
+     */
+    public void record(String endpoint, String outcome, long latencyNanos) {
+        long micros = Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        byEndpoint.computeIfAbsent(endpoint, key -> new Recorder(SIGNIFICANT_DIGITS)).recordValue(micros);
+        byOutcome.computeIfAbsent(endpoint + " | " + outcome, key -> new Recorder(SIGNIFICANT_DIGITS))
+                .recordValue(micros);
+    }
+
+    /**
+     * open 모드에서 최대 동시 진행 수를 넘어 시작하지 못한 흐름
+     */
+    public void recordDropped() {
+        dropped.increment();
+    }
+
+    /**
+     * 워밍업 구간 결과 폐기
+     */
+    public void reset() {
+        byEndpoint.values().forEach(Recorder::reset);
+        byOutcome.values().forEach(Recorder::reset);
+        dropped.reset();
+    }
+
+    /**
+     * 측정 구간 히스토그램 수집 (호출 후 Recorder는 비워짐)
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(drain(byEndpoint), drain(byOutcome), dropped.sum());
+    }
+
+    private static Map<String, Histogram> drain(Map<String, Recorder> recorders) {
+        Map<String, Histogram> histograms = new TreeMap<>();
+        recorders.forEach((key, recorder) -> histograms.put(key, recorder.getIntervalHistogram()));
+        return histograms;
+    }
+
+    /**
+     * @param byEndpoint 엔드포인트별 히스토그램
+     * @param byOutcome  엔드포인트+결과별 히스토그램
+     * @param dropped    시작하지 못한 흐름 수
+     */
+    public record Snapshot(Map<String, Histogram> byEndpoint, Map<String, Histogram> byOutcome, long dropped) {
+
+        public void print(PrintStream out, Duration measured) {
+            double seconds = measured.toNanos() / 1e9;
+            out.printf("%n=== Latency by endpoint (measured %.1fs, microseconds) ===%n", seconds);
+            printTable(out, byEndpoint, seconds);
+            out.printf("%n=== Latency by endpoint and outcome (microseconds) ===%n");
+            printTable(out, byOutcome, seconds);
+            if (dropped > 0) {
+                out.printf("%nDropped (max in-flight reached): %d%n", dropped);
+            }
+        }
+
+        /**
+         * 키마다 HdrHistogram 백분위 분포(.hgrm)와 히스토그램 로그(.hlog) 파일 저장
+         */
+        public void write(Path outputDir) throws IOException {
+            Files.createDirectories(outputDir);
+            for (Map.Entry<String, Histogram> entry : byOutcome.entrySet()) {
+                writeHistogram(outputDir, entry.getKey(), entry.getValue());
+            }
+            for (Map.Entry<String, Histogram> entry : byEndpoint.entrySet()) {
+                writeHistogram(outputDir, entry.getKey(), entry.getValue());
+            }
+        }
+
+        private static void printTable(PrintStream out, Map<String, Histogram> histograms, double seconds) {
+            out.printf("%-55s %9s %9s %9s %9s %9s %9s %9s%n",
+                    "key", "count", "rps", "p50", "p90", "p99", "p99.9", "max");
+            histograms.forEach((key, histogram) -> {
+                out.printf("%-55s %9d %9.1f", key, histogram.getTotalCount(), histogram.getTotalCount() / seconds);
+                for (double percentile : PERCENTILES) {
+                    out.printf(" %9d", histogram.getValueAtPercentile(percentile));
+                }
+                out.printf(" %9d%n", histogram.getMaxValue());
+            });
+        }
+
+        private static void writeHistogram(Path outputDir, String key, Histogram histogram) throws IOException {
+            String fileName = key.replaceAll("[^A-Za-z0-9_-]+", "_").replaceAll("^_|_$", "");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(outputDir.resolve(fileName + ".hgrm")))) {
+                histogram.outputPercentileDistribution(out, 1.0);
+            }
+            try (PrintStream out = new PrintStream(Files.newOutputStream(outputDir.resolve(fileName + ".hlog")))) {
+                HistogramLogWriter writer = new HistogramLogWriter(out);
+                writer.outputLogFormatVersion();
+                writer.outputLegend();
+                writer.outputIntervalHistogram(histogram);
+            }
+        }
+    }
+}
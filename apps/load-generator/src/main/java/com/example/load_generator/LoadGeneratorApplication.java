@@ -0,0 +1,58 @@
+package com.example.load_generator;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 주문 → 결제 흐름 부하 생성기
+ * 실행 중인 api-server(H2 또는 로컬 MySQL)에 POST /api/orders → POST /api/payments/approve를 반복 호출하고
+ * 엔드포인트별 / 에러 코드별 HdrHistogram 백분위 리포트를 출력
+ *
+ * 실행: (apps/load-generator) ./gradlew run --args="--mode=open --rate=300 --duration=60s"
+ *
+ * 주요 옵션 (기본값)
+ * - --base-url (http://localhost:8080)
+ * - --mode=open|closed (closed), --rate (200, open), --concurrency (32)
+ * - --warmup (10s), --duration (60s), --request-timeout (5s)
+ * - --product-ids=1,2,3 또는 --products (100, 판매 가능 상품을 조회해 사용), --skew (0, Zipf 지수)
+ * - --users (10000), --quantity (1)
+ * - --pg-failure-ratio, --amount-mismatch-ratio, --out-of-stock-ratio (0)
+ * - --output-dir (키별 .hgrm/.hlog 저장 위치)
+ *
+ * 정상 주문은 재고를 소진하므로, 긴 실행에서는 재고가 바닥난 상품의 OUT_OF_STOCK 비율이 점점 늘어남
+ */
+public class LoadGeneratorApplication {
+
+    public static void main(String[] args) throws Exception {
+        LoadGeneratorConfig config = LoadGeneratorConfig.fromArgs(args);
+        ApiClient apiClient = new ApiClient(config.baseUrl(), config.requestTimeout());
+
+        List<Long> productIds = config.productIds().isEmpty()
+                ? apiClient.fetchAvailableProductIds(config.products())
+                : config.productIds();
+        if (productIds.isEmpty()) {
+            System.err.println("No available products found at " + config.baseUrl() + "/api/products");
+            System.exit(1);
+        }
+        ProductSelector productSelector = new ProductSelector(productIds, config.skew());
+
+        System.out.printf("mode=%s, rate=%.1f/s, concurrency=%d, warmup=%ds, duration=%ds%n",
+                config.mode(), config.rate(), config.concurrency(),
+                config.warmup().toSeconds(), config.duration().toSeconds());
+        System.out.printf("products=%d (top product share %.1f%%), mix: pg-failure=%.2f, amount-mismatch=%.2f, out-of-stock=%.2f%n",
+                productSelector.size(), productSelector.probability(0) * 100,
+                config.pgFailureRatio(), config.amountMismatchRatio(), config.outOfStockRatio());
+
+        LatencyReport report = new LatencyReport();
+        OrderPaymentFlow flow = new OrderPaymentFlow(
+                apiClient, report, productSelector, config.scenarioMix(), config.users(), config.quantity());
+        Duration measured = new LoadRunner(config, flow, report).run();
+
+        LatencyReport.Snapshot snapshot = report.snapshot();
+        snapshot.print(System.out, measured);
+        if (config.outputDir() != null) {
+            snapshot.write(config.outputDir());
+            System.out.println("\nHistograms written to " + config.outputDir().toAbsolutePath());
+        }
+    }
+}
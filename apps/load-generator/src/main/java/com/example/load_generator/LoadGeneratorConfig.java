@@ -0,0 +1,138 @@
+package com.example.load_generator;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 부하 생성 설정
+ * 명령행 인자(--name=value)로 지정하며, 지정하지 않은 항목은 기본값 사용
+ *
+ * @param baseUrl             대상 api-server 주소
+ * @param mode                부하 모델 (open: 고정 도착률, closed: 고정 동시 사용자)
+ * @param rate                open 모드 초당 주문 시도 수
+ * @param concurrency         closed 모드 동시 사용자 수 / open 모드 최대 동시 진행 흐름 수
+ * @param warmup              측정 전 워밍업 시간 (이 구간의 결과는 버림)
+ * @param duration            측정 시간
+ * @param productIds          대상 상품 ID (비어 있으면 GET /api/products?limit=products로 조회)
+ * @param products            조회할 상품 수
+ * @param skew                상품 선택 Zipf 지수 (0: 균등, 1 이상: 상위 상품에 집중)
+ * @param users               사용자 ID 범위 (1..users)
+ * @param quantity            정상 주문 수량
+ * @param pgFailureRatio      FAIL 결제 키로 PG 승인 실패를 유도하는 비율
+ * @param amountMismatchRatio 주문 금액과 다른 금액으로 승인 요청하는 비율
+ * @param outOfStockRatio     재고보다 큰 수량으로 주문하는 비율
+ * @param requestTimeout      요청당 응답 대기 한도
+ * @param outputDir           엔드포인트/에러 코드별 .hgrm 파일 저장 위치 (null이면 저장하지 않음)
+ */
+public record LoadGeneratorConfig(
+        String baseUrl,
+        LoadMode mode,
+        double rate,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        List<Long> productIds,
+        int products,
+        double skew,
+        long users,
+        int quantity,
+        double pgFailureRatio,
+        double amountMismatchRatio,
+        double outOfStockRatio,
+        Duration requestTimeout,
+        Path outputDir
+) {
+
+    public LoadGeneratorConfig {
+        if (rate <= 0) {
+            throw new IllegalArgumentException("rate must be positive: " + rate);
+        }
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("concurrency must be positive: " + concurrency);
+        }
+        if (skew < 0) {
+            throw new IllegalArgumentException("skew must not be negative: " + skew);
+        }
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("quantity must be positive: " + quantity);
+        }
+        productIds = List.copyOf(productIds);
+    }
+
+    /**
+     * 명령행 인자 파싱
+     * 예: --mode=open --rate=300 --duration=2m --skew=1.1 --pg-failure-ratio=0.05
+     */
+    public static LoadGeneratorConfig fromArgs(String... args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        LoadGeneratorConfig config = new LoadGeneratorConfig(
+                stripTrailingSlash(options.getOrDefault("base-url", "http://localhost:8080")),
+                LoadMode.valueOf(options.getOrDefault("mode", "closed").toUpperCase(Locale.ROOT)),
+                Double.parseDouble(options.getOrDefault("rate", "200")),
+                Integer.parseInt(options.getOrDefault("concurrency", "32")),
+                parseDuration(options.getOrDefault("warmup", "10s")),
+                parseDuration(options.getOrDefault("duration", "60s")),
+                parseIds(options.get("product-ids")),
+                Integer.parseInt(options.getOrDefault("products", "100")),
+                Double.parseDouble(options.getOrDefault("skew", "0")),
+                Long.parseLong(options.getOrDefault("users", "10000")),
+                Integer.parseInt(options.getOrDefault("quantity", "1")),
+                Double.parseDouble(options.getOrDefault("pg-failure-ratio", "0")),
+                Double.parseDouble(options.getOrDefault("amount-mismatch-ratio", "0")),
+                Double.parseDouble(options.getOrDefault("out-of-stock-ratio", "0")),
+                parseDuration(options.getOrDefault("request-timeout", "5s")),
+                options.containsKey("output-dir") ? Path.of(options.get("output-dir")) : null
+        );
+        // 비율 합계 검증
+        config.scenarioMix();
+        return config;
+    }
+
+    public ScenarioMix scenarioMix() {
+        return new ScenarioMix(pgFailureRatio, amountMismatchRatio, outOfStockRatio);
+    }
+
+    /**
+     * 500ms, 10s, 2m 형식의 시간 파싱
+     */
+    static Duration parseDuration(String value) {
+        String text = value.trim().toLowerCase(Locale.ROOT);
+        if (text.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+        }
+        if (text.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(text.substring(0, text.length() - 1)));
+        }
+        if (text.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(text.substring(0, text.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(text));
+    }
+
+    private static List<Long> parseIds(String value) {
+        if (value == null || value.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .map(Long::parseLong)
+                .toList();
+    }
+
+    private static String stripTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
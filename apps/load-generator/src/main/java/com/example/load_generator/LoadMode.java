@@ -0,0 +1,17 @@
+package com.example.load_generator;
+
+/**
+ * 부하 모델
+ */
+public enum LoadMode {
+    /**
+     * 고정 도착률: 응답 속도와 무관하게 예정된 시각마다 새 흐름을 시작
+     * 지연은 예정 시각부터 측정하므로 서버가 밀리면 대기 시간까지 포함됨 (coordinated omission 보정)
+     */
+    OPEN,
+
+    /**
+     * 고정 동시 사용자: 각 사용자가 이전 흐름이 끝나야 다음 흐름을 시작
+     */
+    CLOSED
+}
@@ -0,0 +1,107 @@
+package com.example.load_generator;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 부하 모델별 흐름 실행기
+ * 워밍업 후 리포트를 비우고 측정 시간 동안 실행한 뒤, 진행 중인 흐름이 끝날 때까지 기다림
+ */
+public class LoadRunner {
+
+    private final LoadGeneratorConfig config;
+    private final OrderPaymentFlow flow;
+    private final LatencyReport report;
+
+    private volatile boolean running;
+
+    public LoadRunner(LoadGeneratorConfig config, OrderPaymentFlow flow, LatencyReport report) {
+        this.config = config;
+        this.flow = flow;
+        this.report = report;
+    }
+
+    /**
+     * @return 실제 측정 시간
+     */
+    public Duration run() throws InterruptedException {
+        running = true;
+        Semaphore inFlight = new Semaphore(config.concurrency());
+        Thread scheduler = null;
+        if (config.mode() == LoadMode.OPEN) {
+            scheduler = start("load-open-scheduler", () -> openLoop(inFlight));
+        } else {
+            startClosedLoopUsers(inFlight);
+        }
+
+        Thread.sleep(config.warmup().toMillis());
+        report.reset();
+        long measureStart = System.nanoTime();
+        Thread.sleep(config.duration().toMillis());
+        running = false;
+        long measured = System.nanoTime() - measureStart;
+
+        if (scheduler != null) {
+            scheduler.join();
+        }
+        // 진행 중인 흐름이 끝날 때까지 대기 (주문 + 승인 요청 제한 시간)
+        if (inFlight.tryAcquire(config.concurrency(), config.requestTimeout().toMillis() * 2, TimeUnit.MILLISECONDS)) {
+            inFlight.release(config.concurrency());
+        }
+        return Duration.ofNanos(measured);
+    }
+
+    /**
+     * 고정 도착률: 1/rate 간격의 예정 시각마다 흐름 시작
+     * 예정 시각이 이미 지났으면 곧바로 시작하고, 지연은 예정 시각부터 측정
+     */
+    private void openLoop(Semaphore inFlight) {
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / config.rate());
+        long start = System.nanoTime();
+        for (long i = 0; running; i++) {
+            long intendedStart = start + i * intervalNanos;
+            long wait;
+            while ((wait = intendedStart - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (!running) {
+                break;
+            }
+            if (!inFlight.tryAcquire()) {
+                report.recordDropped();
+                continue;
+            }
+            flow.run(intendedStart).whenComplete((ignored, error) -> inFlight.release());
+        }
+    }
+
+    /**
+     * 고정 동시 사용자: 사용자마다 이전 흐름이 끝나면 다음 흐름 시작
+     * 사용자별 스레드 없이 완료 콜백으로 다음 흐름을 이어 가므로 수천~수만 명도 스레드 수와 무관하게 실행 가능
+     * 사용자는 실행 중 inFlight 허가 하나를 잡고, 멈출 때 반납
+     */
+    private void startClosedLoopUsers(Semaphore inFlight) {
+        inFlight.acquireUninterruptibly(config.concurrency());
+        for (int i = 0; i < config.concurrency(); i++) {
+            nextClosedLoopFlow(inFlight);
+        }
+    }
+
+    private void nextClosedLoopFlow(Semaphore inFlight) {
+        if (!running) {
+            inFlight.release();
+            return;
+        }
+        // 즉시 완료된 흐름이 콜백을 호출 스레드에서 이어 실행하며 스택이 깊어지지 않도록 비동기로 연결
+        flow.run(System.nanoTime()).whenCompleteAsync((ignored, error) -> nextClosedLoopFlow(inFlight));
+    }
+
+    private static Thread start(String name, Runnable task) {
+        Thread thread = new Thread(task, name);
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+}
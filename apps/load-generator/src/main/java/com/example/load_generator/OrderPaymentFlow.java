@@ -0,0 +1,90 @@
+package com.example.load_generator;
+
+import java.net.http.HttpTimeoutException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 주문 생성 → 결제 승인 한 흐름
+ * 주문 지연은 흐름 예정 시각부터, 결제 승인 지연은 승인 요청 시각부터 측정
+ */
+public class OrderPaymentFlow {
+
+    static final String CREATE_ORDER = "POST /api/orders";
+    static final String APPROVE_PAYMENT = "POST /api/payments/approve";
+
+    /**
+     * OUT_OF_STOCK 시나리오 주문 수량 (어떤 상품 재고보다도 큰 값)
+     */
+    static final int OUT_OF_STOCK_QUANTITY = 1_000_000;
+
+    private final ApiClient apiClient;
+    private final LatencyReport report;
+    private final ProductSelector productSelector;
+    private final ScenarioMix scenarioMix;
+    private final long users;
+    private final int quantity;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public OrderPaymentFlow(ApiClient apiClient, LatencyReport report, ProductSelector productSelector,
+                            ScenarioMix scenarioMix, long users, int quantity) {
+        this.apiClient = apiClient;
+        this.report = report;
+        this.productSelector = productSelector;
+        this.scenarioMix = scenarioMix;
+        this.users = users;
+        this.quantity = quantity;
+    }
+
+    /**
+     * @param intendedStartNanos 흐름 예정 시작 시각 (System.nanoTime 기준)
+     * @return 흐름 완료 future (실패해도 예외 없이 완료)
+     */
+    public CompletableFuture<Void> run(long intendedStartNanos) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Scenario scenario = scenarioMix.next(random.nextDouble());
+        Map<String, Object> orderRequest = Map.of(
+                "userId", random.nextLong(1, users + 1),
+                "productId", productSelector.next(random.nextDouble()),
+                "quantity", scenario == Scenario.OUT_OF_STOCK ? OUT_OF_STOCK_QUANTITY : quantity);
+
+        return apiClient.post("/api/orders", orderRequest)
+                .handle((response, error) -> {
+                    report.record(CREATE_ORDER, outcome(response, error), System.nanoTime() - intendedStartNanos);
+                    return error == null && response.isSuccessful() ? response : null;
+                })
+                .thenCompose(order -> order == null
+                        ? CompletableFuture.completedFuture(null)
+                        : approve(scenario, order));
+    }
+
+    private CompletableFuture<Void> approve(Scenario scenario, ApiClient.ApiResponse order) {
+        long amount = order.body().path("totalAmount").asLong();
+        Map<String, Object> approveRequest = Map.of(
+                "orderId", order.body().path("orderId").asText(),
+                "paymentKey", (scenario == Scenario.PG_FAILURE ? "FAIL-" : "LOAD-") + sequence.incrementAndGet(),
+                "amount", scenario == Scenario.AMOUNT_MISMATCH ? amount + 1 : amount);
+
+        long start = System.nanoTime();
+        return apiClient.post("/api/payments/approve", approveRequest)
+                .handle((response, error) -> {
+                    report.record(APPROVE_PAYMENT, outcome(response, error), System.nanoTime() - start);
+                    return null;
+                });
+    }
+
+    /**
+     * 결과 분류: "상태 코드[ 에러 코드]" 또는 클라이언트 측 오류 (TIMEOUT, IO_ERROR)
+     */
+    static String outcome(ApiClient.ApiResponse response, Throwable error) {
+        if (error != null) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            return cause instanceof HttpTimeoutException ? "TIMEOUT" : "IO_ERROR " + cause.getClass().getSimpleName();
+        }
+        String errorCode = response.errorCode();
+        return errorCode == null ? String.valueOf(response.status()) : response.status() + " " + errorCode;
+    }
+}
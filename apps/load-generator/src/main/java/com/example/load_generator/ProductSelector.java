@@ -0,0 +1,54 @@
+package com.example.load_generator;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Zipf 분포 상품 선택기
+ * 목록 앞쪽 상품일수록 자주 선택되며, skew가 0이면 균등 분포
+ * (skew=1.0, 상품 100개 기준 첫 상품이 약 19%를 차지)
+ */
+public class ProductSelector {
+
+    private final long[] productIds;
+    private final double[] cumulative;
+
+    public ProductSelector(List<Long> productIds, double skew) {
+        if (productIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one product is required");
+        }
+        this.productIds = productIds.stream().mapToLong(Long::longValue).toArray();
+        this.cumulative = new double[this.productIds.length];
+
+        double sum = 0;
+        for (int rank = 1; rank <= this.productIds.length; rank++) {
+            sum += 1.0 / Math.pow(rank, skew);
+            cumulative[rank - 1] = sum;
+        }
+        for (int i = 0; i < cumulative.length; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    /**
+     * @param uniform [0, 1) 균등 난수
+     */
+    public long next(double uniform) {
+        int index = Arrays.binarySearch(cumulative, uniform);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return productIds[Math.min(index, productIds.length - 1)];
+    }
+
+    /**
+     * 해당 순위 상품이 선택될 확률 (리포트 출력용)
+     */
+    public double probability(int index) {
+        return index == 0 ? cumulative[0] : cumulative[index] - cumulative[index - 1];
+    }
+
+    public int size() {
+        return productIds.length;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.load_generator;
+
+/**
+ * 주문 → 결제 흐름 시나리오
+ */
+public enum Scenario {
+    /**
+     * 정상 주문 후 주문 금액으로 승인 (201 → 200)
+     */
+    NORMAL,
+
+    /**
+     * FAIL로 시작하는 결제 키로 승인 요청, MockPgClient가 승인 거절 (201 → 400 PG_APPROVAL_FAILED)
+     */
+    PG_FAILURE,
+
+    /**
+     * 주문 금액과 다른 금액으로 승인 요청 (201 → 400 AMOUNT_MISMATCH)
+     */
+    AMOUNT_MISMATCH,
+
+    /**
+     * 재고보다 큰 수량으로 주문 (400 OUT_OF_STOCK, 결제 요청 없음)
+     */
+    OUT_OF_STOCK
+}
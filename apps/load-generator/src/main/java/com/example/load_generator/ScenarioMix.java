@@ -0,0 +1,47 @@
+package com.example.load_generator;
+
+/**
+ * 실패 경로 비율에 따른 시나리오 선택
+ * 나머지 비율은 NORMAL
+ */
+public class ScenarioMix {
+
+    private final double pgFailureBound;
+    private final double amountMismatchBound;
+    private final double outOfStockBound;
+
+    public ScenarioMix(double pgFailureRatio, double amountMismatchRatio, double outOfStockRatio) {
+        validateRatio("pg-failure-ratio", pgFailureRatio);
+        validateRatio("amount-mismatch-ratio", amountMismatchRatio);
+        validateRatio("out-of-stock-ratio", outOfStockRatio);
+        double total = pgFailureRatio + amountMismatchRatio + outOfStockRatio;
+        if (total > 1.0) {
+            throw new IllegalArgumentException("Sum of failure ratios must not exceed 1.0: " + total);
+        }
+        this.pgFailureBound = pgFailureRatio;
+        this.amountMismatchBound = pgFailureBound + amountMismatchRatio;
+        this.outOfStockBound = amountMismatchBound + outOfStockRatio;
+    }
+
+    /**
+     * @param uniform [0, 1) 균등 난수
+     */
+    public Scenario next(double uniform) {
+        if (uniform < pgFailureBound) {
+            return Scenario.PG_FAILURE;
+        }
+        if (uniform < amountMismatchBound) {
+            return Scenario.AMOUNT_MISMATCH;
+        }
+        if (uniform < outOfStockBound) {
+            return Scenario.OUT_OF_STOCK;
+        }
+        return Scenario.NORMAL;
+    }
+
+    private static void validateRatio(String name, double ratio) {
+        if (ratio < 0 || ratio > 1) {
+            throw new IllegalArgumentException(name + " must be between 0 and 1: " + ratio);
+        }
+    }
+}
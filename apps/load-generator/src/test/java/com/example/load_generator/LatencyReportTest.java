@@ -0,0 +1,86 @@
+package com.example.load_generator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.http.HttpTimeoutException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("LatencyReport 테스트")
+class LatencyReportTest {
+
+    @Test
+    @DisplayName("엔드포인트별과 엔드포인트+결과별로 나누어 집계")
+    void snapshot_엔드포인트_결과별집계() {
+        // given
+        LatencyReport report = new LatencyReport();
+        report.record("POST /api/orders", "201", TimeUnit.MILLISECONDS.toNanos(10));
+        report.record("POST /api/orders", "201", TimeUnit.MILLISECONDS.toNanos(20));
+        report.record("POST /api/orders", "400 OUT_OF_STOCK", TimeUnit.MILLISECONDS.toNanos(5));
+
+        // when
+        LatencyReport.Snapshot snapshot = report.snapshot();
+
+        // then
+        assertThat(snapshot.byEndpoint().get("POST /api/orders").getTotalCount()).isEqualTo(3);
+        assertThat(snapshot.byOutcome().get("POST /api/orders | 201").getTotalCount()).isEqualTo(2);
+        assertThat(snapshot.byOutcome().get("POST /api/orders | 400 OUT_OF_STOCK").getMaxValue())
+                .isCloseTo(5_000L, within(10L));
+    }
+
+    @Test
+    @DisplayName("reset 이전(워밍업) 기록은 리포트에서 제외")
+    void reset_워밍업제외() {
+        // given
+        LatencyReport report = new LatencyReport();
+        report.record("POST /api/orders", "201", 1_000);
+        report.recordDropped();
+
+        // when
+        report.reset();
+        report.record("POST /api/orders", "201", 2_000);
+
+        // then
+        LatencyReport.Snapshot snapshot = report.snapshot();
+        assertThat(snapshot.byEndpoint().get("POST /api/orders").getTotalCount()).isEqualTo(1);
+        assertThat(snapshot.dropped()).isZero();
+    }
+
+    @Test
+    @DisplayName("키마다 .hgrm/.hlog 파일 저장")
+    void write_파일저장(@TempDir Path dir) throws Exception {
+        // given
+        LatencyReport report = new LatencyReport();
+        report.record("POST /api/payments/approve", "400 PG_APPROVAL_FAILED", 3_000_000);
+
+        // when
+        report.snapshot().write(dir);
+
+        // then
+        assertThat(dir.resolve("POST_api_payments_approve_400_PG_APPROVAL_FAILED.hgrm")).exists();
+        assertThat(dir.resolve("POST_api_payments_approve.hlog")).exists();
+        assertThat(Files.readString(dir.resolve("POST_api_payments_approve.hgrm"))).contains("Percentile");
+    }
+
+    @Test
+    @DisplayName("결과 분류: 상태 코드와 에러 코드, 클라이언트 측 타임아웃")
+    void outcome_분류() throws Exception {
+        // given
+        ObjectMapper objectMapper = new ObjectMapper();
+        ApiClient.ApiResponse created = new ApiClient.ApiResponse(201, objectMapper.readTree("{\"orderId\":\"ORD-1\"}"));
+        ApiClient.ApiResponse outOfStock = new ApiClient.ApiResponse(400, objectMapper.readTree("{\"code\":\"OUT_OF_STOCK\"}"));
+
+        // when & then
+        assertThat(OrderPaymentFlow.outcome(created, null)).isEqualTo("201");
+        assertThat(OrderPaymentFlow.outcome(outOfStock, null)).isEqualTo("400 OUT_OF_STOCK");
+        assertThat(OrderPaymentFlow.outcome(null, new CompletionException(new HttpTimeoutException("timeout"))))
+                .isEqualTo("TIMEOUT");
+    }
+}
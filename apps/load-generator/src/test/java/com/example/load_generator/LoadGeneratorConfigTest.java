@@ -0,0 +1,57 @@
+package com.example.load_generator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("LoadGeneratorConfig 테스트")
+class LoadGeneratorConfigTest {
+
+    @Test
+    @DisplayName("인자를 지정하지 않으면 기본값 사용")
+    void fromArgs_기본값() {
+        // when
+        LoadGeneratorConfig config = LoadGeneratorConfig.fromArgs();
+
+        // then
+        assertThat(config.baseUrl()).isEqualTo("http://localhost:8080");
+        assertThat(config.mode()).isEqualTo(LoadMode.CLOSED);
+        assertThat(config.concurrency()).isEqualTo(32);
+        assertThat(config.duration()).isEqualTo(Duration.ofSeconds(60));
+        assertThat(config.productIds()).isEmpty();
+        assertThat(config.outputDir()).isNull();
+    }
+
+    @Test
+    @DisplayName("--name=value 인자 파싱")
+    void fromArgs_파싱() {
+        // when
+        LoadGeneratorConfig config = LoadGeneratorConfig.fromArgs(
+                "--base-url=http://api:8080/", "--mode=open", "--rate=500", "--duration=2m",
+                "--warmup=500ms", "--product-ids=1, 2,3", "--skew=1.2", "--pg-failure-ratio=0.05");
+
+        // then
+        assertThat(config.baseUrl()).isEqualTo("http://api:8080");
+        assertThat(config.mode()).isEqualTo(LoadMode.OPEN);
+        assertThat(config.rate()).isEqualTo(500);
+        assertThat(config.duration()).isEqualTo(Duration.ofMinutes(2));
+        assertThat(config.warmup()).isEqualTo(Duration.ofMillis(500));
+        assertThat(config.productIds()).containsExactly(1L, 2L, 3L);
+        assertThat(config.skew()).isEqualTo(1.2);
+        assertThat(config.pgFailureRatio()).isEqualTo(0.05);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 인자나 범위를 벗어난 값은 예외 발생")
+    void fromArgs_실패() {
+        assertThatThrownBy(() -> LoadGeneratorConfig.fromArgs("mode=open"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LoadGeneratorConfig.fromArgs("--rate=0"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LoadGeneratorConfig.fromArgs("--pg-failure-ratio=0.7", "--out-of-stock-ratio=0.7"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
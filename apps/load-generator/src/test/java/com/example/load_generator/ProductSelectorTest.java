@@ -0,0 +1,64 @@
+package com.example.load_generator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ProductSelector 테스트")
+class ProductSelectorTest {
+
+    @Test
+    @DisplayName("skew=0이면 모든 상품이 균등하게 선택됨")
+    void next_균등분포() {
+        // given
+        ProductSelector selector = new ProductSelector(List.of(1L, 2L, 3L, 4L), 0);
+
+        // when
+        Map<Long, Integer> counts = sample(selector, 40_000);
+
+        // then
+        assertThat(counts.keySet()).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+        counts.values().forEach(count -> assertThat(count).isBetween(9_000, 11_000));
+        assertThat(selector.probability(0)).isCloseTo(0.25, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("skew=1.0이면 첫 상품이 Zipf 비율(상품 100개 기준 약 19%)만큼 선택됨")
+    void next_Zipf분포() {
+        // given
+        List<Long> productIds = LongStream.rangeClosed(1, 100).boxed().toList();
+        ProductSelector selector = new ProductSelector(productIds, 1.0);
+
+        // when
+        Map<Long, Integer> counts = sample(selector, 100_000);
+
+        // then
+        assertThat(selector.probability(0)).isCloseTo(0.193, within(0.001));
+        assertThat(counts.get(1L)).isBetween(18_000, 20_600);
+        assertThat(counts.get(1L)).isGreaterThan(counts.get(2L));
+        assertThat(counts.get(2L)).isGreaterThan(counts.getOrDefault(100L, 0));
+    }
+
+    @Test
+    @DisplayName("상품 목록이 비어 있으면 예외 발생")
+    void create_실패_상품없음() {
+        assertThatThrownBy(() -> new ProductSelector(List.of(), 1.0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Map<Long, Integer> sample(ProductSelector selector, int samples) {
+        Random random = new Random(42);
+        Map<Long, Integer> counts = new HashMap<>();
+        for (int i = 0; i < samples; i++) {
+            counts.merge(selector.next(random.nextDouble()), 1, Integer::sum);
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.load_generator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ScenarioMix 테스트")
+class ScenarioMixTest {
+
+    @Test
+    @DisplayName("난수 구간에 따라 실패 시나리오를 고르고 나머지는 NORMAL")
+    void next_구간선택() {
+        // given
+        ScenarioMix mix = new ScenarioMix(0.1, 0.2, 0.3);
+
+        // when & then
+        assertThat(mix.next(0.05)).isEqualTo(Scenario.PG_FAILURE);
+        assertThat(mix.next(0.15)).isEqualTo(Scenario.AMOUNT_MISMATCH);
+        assertThat(mix.next(0.45)).isEqualTo(Scenario.OUT_OF_STOCK);
+        assertThat(mix.next(0.7)).isEqualTo(Scenario.NORMAL);
+        assertThat(mix.next(0.99)).isEqualTo(Scenario.NORMAL);
+    }
+
+    @Test
+    @DisplayName("실패 비율이 모두 0이면 항상 NORMAL")
+    void next_실패없음() {
+        ScenarioMix mix = new ScenarioMix(0, 0, 0);
+
+        assertThat(mix.next(0.0)).isEqualTo(Scenario.NORMAL);
+    }
+
+    @Test
+    @DisplayName("실패 비율 합계가 1을 넘으면 예외 발생")
+    void create_실패_비율초과() {
+        assertThatThrownBy(() -> new ScenarioMix(0.5, 0.4, 0.2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("must not exceed 1.0");
+    }
+}